@@ -279,7 +279,7 @@ public class CloneWorkspace extends WorkspaceAllocateTestScriptBase {
     cloneResult =
         ClientTestUtils.pollWhileRunning(
             cloneResult,
-            () -> cloningUserWorkspaceApi.getCloneWorkspaceResult(getWorkspaceId(), jobId),
+            () -> cloningUserWorkspaceApi.getCloneWorkspaceResult(getWorkspaceId(), jobId, null),
             CloneWorkspaceResult::getJobReport,
             Duration.ofSeconds(10));
     logger.info("Completed clone result: {}", cloneResult);
@@ -393,7 +393,9 @@ public class ControlledBigQueryDatasetLifecycle extends GcpWorkspaceCloneTestScr
             cloneResult,
             () ->
                 cloningUserResourceApi.getCloneBigQueryDatasetResult(
-                    cloneRequest.getDestinationWorkspaceId(), cloneRequest.getJobControl().getId()),
+                    cloneRequest.getDestinationWorkspaceId(),
+                    cloneRequest.getJobControl().getId(),
+                    null),
             CloneControlledGcpBigQueryDatasetResult::getJobReport,
             Duration.ofSeconds(5));
 
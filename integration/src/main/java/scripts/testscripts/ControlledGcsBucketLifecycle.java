@@ -354,7 +354,9 @@ public class ControlledGcsBucketLifecycle extends GcpWorkspaceCloneTestScriptBas
             cloneResult,
             () ->
                 resourceApi.getCloneGcsBucketResult(
-                    cloneRequest.getDestinationWorkspaceId(), cloneRequest.getJobControl().getId()),
+                    cloneRequest.getDestinationWorkspaceId(),
+                    cloneRequest.getJobControl().getId(),
+                    null),
             CloneControlledGcpGcsBucketResult::getJobReport,
             Duration.ofSeconds(5));
 
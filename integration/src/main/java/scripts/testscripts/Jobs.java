@@ -56,7 +56,7 @@ public class Jobs extends WorkspaceAllocateTestScriptBase {
 
     while (ClientTestUtils.jobIsRunning(jobReport)) {
       TimeUnit.SECONDS.sleep(10);
-      jobReport = jobsApi.retrieveJob(contextJobId);
+      jobReport = jobsApi.retrieveJob(contextJobId, null);
     }
     logger.info("Create GCP context status is {}", jobReport.getStatus().toString());
   }
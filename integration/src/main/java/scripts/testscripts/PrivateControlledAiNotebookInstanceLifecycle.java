@@ -193,7 +193,9 @@ public class PrivateControlledAiNotebookInstanceLifecycle extends WorkspaceAlloc
     deleteResult =
         ClientTestUtils.pollWhileRunning(
             deleteResult,
-            () -> resourceUserApi.getDeleteAiNotebookInstanceResult(getWorkspaceId(), deleteJobId),
+            () ->
+                resourceUserApi.getDeleteAiNotebookInstanceResult(
+                    getWorkspaceId(), deleteJobId, null),
             DeleteControlledGcpAiNotebookInstanceResult::getJobReport,
             Duration.ofSeconds(10));
 
@@ -229,7 +229,7 @@ public class PrivateControlledGcsBucketLifecycle extends WorkspaceAllocateTestSc
         resourceApi.deleteBucket(deleteRequest, getWorkspaceId(), resourceId);
     while (ClientTestUtils.jobIsRunning(result.getJobReport())) {
       TimeUnit.SECONDS.sleep(DELETE_BUCKET_POLL_SECONDS);
-      result = resourceApi.getDeleteBucketResult(getWorkspaceId(), deleteJobId);
+      result = resourceApi.getDeleteBucketResult(getWorkspaceId(), deleteJobId, null);
     }
     return result;
   }
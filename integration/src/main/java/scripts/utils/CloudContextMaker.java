@@ -33,7 +33,7 @@ public class CloudContextMaker {
         workspaceApi.createCloudContext(createContext, workspaceUuid);
     while (ClientTestUtils.jobIsRunning(contextResult.getJobReport())) {
       Thread.sleep(CREATE_CONTEXT_POLL_INTERVAL.toMillis());
-      contextResult = workspaceApi.getCreateCloudContextResult(workspaceUuid, contextJobId);
+      contextResult = workspaceApi.getCreateCloudContextResult(workspaceUuid, contextJobId, null);
     }
     logger.info(
         "Create GCP context status is {}", contextResult.getJobReport().getStatus().toString());
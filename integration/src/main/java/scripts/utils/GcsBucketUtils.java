@@ -214,7 +214,7 @@ public class GcsBucketUtils {
         resourceApi.deleteBucket(deleteRequest, workspaceUuid, resourceId);
     while (ClientTestUtils.jobIsRunning(result.getJobReport())) {
       TimeUnit.SECONDS.sleep(DELETE_BUCKET_POLL_SECONDS);
-      result = resourceApi.getDeleteBucketResult(workspaceUuid, deleteJobId);
+      result = resourceApi.getDeleteBucketResult(workspaceUuid, deleteJobId, null);
     }
     logger.info("Delete bucket status is {}", result.getJobReport().getStatus().toString());
     if (result.getJobReport().getStatus() != JobReport.StatusEnum.SUCCEEDED) {
@@ -73,7 +73,7 @@ public class NotebookUtils {
     creationResult =
         ClientTestUtils.pollWhileRunning(
             creationResult,
-            () -> resourceApi.getCreateAiNotebookInstanceResult(workspaceUuid, creationJobId),
+            () -> resourceApi.getCreateAiNotebookInstanceResult(workspaceUuid, creationJobId, null),
             CreatedControlledGcpAiNotebookInstanceResult::getJobReport,
             Duration.ofSeconds(10));
     ClientTestUtils.assertJobSuccess(
@@ -97,7 +97,9 @@ public class NotebookUtils {
     deletionResult =
         ClientTestUtils.pollWhileRunning(
             deletionResult,
-            () -> resourceApi.getDeleteAiNotebookInstanceResult(workspaceUuid, deletionJobId),
+            () ->
+                resourceApi.getDeleteAiNotebookInstanceResult(
+                    workspaceUuid, deletionJobId, null),
             DeleteControlledGcpAiNotebookInstanceResult::getJobReport,
             Duration.ofSeconds(10));
     ClientTestUtils.assertJobSuccess(
@@ -0,0 +1,119 @@
+package bio.terra.workspace.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Decides with a single query whether the database schema is current, so startup can skip a
+ * Liquibase upgrade that would do nothing. Liquibase parses the whole changelog and validates the
+ * checksum of every applied changeset, which is most of its cost when nothing needs applying.
+ *
+ * <p>The schema is current if, for every file included by the changelog, the number of changesets
+ * Liquibase has recorded as applied equals the number of changesets in the file. Any doubt, such as
+ * a missing changelog table or an unreadable file, means not current, and Liquibase runs as usual.
+ * Checksums are not compared, so an edit to an already-applied changeset is only reported by a
+ * full upgrade; such edits are not allowed anyway.
+ */
+final class SchemaVersionCheck {
+  private static final Logger logger = LoggerFactory.getLogger(SchemaVersionCheck.class);
+  private static final Pattern INCLUDE_PATTERN = Pattern.compile("<include\\s+file=\"([^\"]+)\"");
+  private static final Pattern CHANGESET_PATTERN =
+      Pattern.compile("^\\s*-\\s*changeSet:", Pattern.MULTILINE);
+  private static final String APPLIED_CHANGESETS_SQL =
+      "SELECT filename, COUNT(*) AS changesets FROM databasechangelog GROUP BY filename";
+
+  private SchemaVersionCheck() {}
+
+  /**
+   * Check whether every changeset in a changelog has been applied.
+   *
+   * @param changelogPath classpath location of the changelog
+   * @param dataSource database the changelog is applied to
+   * @return true if there is nothing for Liquibase to apply
+   */
+  static boolean isCurrent(String changelogPath, DataSource dataSource) {
+    Map<String, Integer> expected;
+    try {
+      expected = expectedChangeSets(changelogPath);
+    } catch (IOException e) {
+      logger.warn("Unable to read changelog {}", changelogPath, e);
+      return false;
+    }
+
+    Map<String, Integer> applied = new HashMap<>();
+    try {
+      List<Map<String, Object>> rows =
+          new JdbcTemplate(dataSource).queryForList(APPLIED_CHANGESETS_SQL);
+      for (Map<String, Object> row : rows) {
+        applied.put((String) row.get("filename"), ((Number) row.get("changesets")).intValue());
+      }
+    } catch (DataAccessException e) {
+      logger.info("Unable to read applied changesets; assuming the schema is not current", e);
+      return false;
+    }
+
+    for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+      // Depending on how it was resolved, Liquibase may record the file with a prefix such as the
+      // changelog directory or classpath:, so match on the path as written in the changelog
+      int appliedCount =
+          applied.entrySet().stream()
+              .filter(a -> a.getKey().endsWith(entry.getKey()))
+              .mapToInt(Map.Entry::getValue)
+              .sum();
+      if (appliedCount != entry.getValue()) {
+        logger.info(
+            "Changelog file {} has {} changesets and {} are applied",
+            entry.getKey(),
+            entry.getValue(),
+            appliedCount);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Map each file included by the changelog, as written there, to its number of changesets. */
+  private static Map<String, Integer> expectedChangeSets(String changelogPath) throws IOException {
+    String directory = changelogPath.substring(0, changelogPath.lastIndexOf('/') + 1);
+    Map<String, Integer> expected = new LinkedHashMap<>();
+    Matcher includes = INCLUDE_PATTERN.matcher(readResource(changelogPath));
+    while (includes.find()) {
+      String file = includes.group(1);
+      String path = directory + file;
+      Matcher changeSets = CHANGESET_PATTERN.matcher(readResource(path));
+      int count = 0;
+      while (changeSets.find()) {
+        count++;
+      }
+      // A file whose changesets we cannot count, such as one in another format, is never current
+      if (count == 0) {
+        throw new IOException("No changesets found in " + path);
+      }
+      expected.put(file, count);
+    }
+    if (expected.isEmpty()) {
+      throw new IOException("No included files found in " + changelogPath);
+    }
+    return expected;
+  }
+
+  private static String readResource(String path) throws IOException {
+    try (InputStream stream = new ClassPathResource(path).getInputStream()) {
+      return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+    }
+  }
+}
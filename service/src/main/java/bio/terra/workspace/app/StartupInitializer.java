@@ -3,13 +3,21 @@ package bio.terra.workspace.app;
 import bio.terra.common.db.DataSourceInitializer;
 import bio.terra.common.migrate.LiquibaseMigrator;
 import bio.terra.workspace.app.configuration.external.FeatureConfiguration;
+import bio.terra.workspace.app.configuration.external.StartupConfiguration;
 import bio.terra.workspace.app.configuration.external.WorkspaceDatabaseConfiguration;
 import bio.terra.workspace.service.job.JobService;
 import bio.terra.workspace.service.workspace.WsmApplicationService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 
 public final class StartupInitializer {
+  private static final Logger logger = LoggerFactory.getLogger(StartupInitializer.class);
   private static final String changelogPath = "db/changelog.xml";
 
   public static void initialize(ApplicationContext applicationContext) {
@@ -21,28 +29,54 @@ public final class StartupInitializer {
     WsmApplicationService appService = applicationContext.getBean(WsmApplicationService.class);
     FeatureConfiguration featureConfiguration =
         applicationContext.getBean(FeatureConfiguration.class);
+    StartupConfiguration startupConfiguration =
+        applicationContext.getBean(StartupConfiguration.class);
 
     // Log the state of the feature flags
     featureConfiguration.logFeatures();
 
+    // Time each phase so slow startups can be attributed
+    Map<String, Long> phaseMillis = new LinkedHashMap<>();
+
     // Migrate the database
+    long phaseStart = System.nanoTime();
     DataSource workspaceDataSource =
         DataSourceInitializer.initializeDataSource(workspaceDatabaseConfiguration);
     if (workspaceDatabaseConfiguration.isInitializeOnStart()) {
       migrateService.initialize(changelogPath, workspaceDataSource);
     } else if (workspaceDatabaseConfiguration.isUpgradeOnStart()) {
-      migrateService.upgrade(changelogPath, workspaceDataSource);
+      if (startupConfiguration.isFastStart()
+          && SchemaVersionCheck.isCurrent(changelogPath, workspaceDataSource)) {
+        logger.info("Database schema is current; skipping the Liquibase upgrade");
+      } else {
+        migrateService.upgrade(changelogPath, workspaceDataSource);
+      }
     }
+    phaseStart = endPhase(phaseMillis, "database", phaseStart);
 
     // The JobService initialization also handles Stairway initialization.
     jobService.initialize();
+    phaseStart = endPhase(phaseMillis, "stairway", phaseStart);
 
     // Process the WSM application configuration
     appService.configure();
+    endPhase(phaseMillis, "applications", phaseStart);
 
     // TODO: Fill in this method with any other initialization that needs to happen
     //  between the point of having the entire application initialized and
     //  the point of opening the port to start accepting REST requests.
 
+    logger.info(
+        "Startup initialization phases: {}",
+        phaseMillis.entrySet().stream()
+            .map(e -> e.getKey() + "=" + e.getValue() + "ms")
+            .collect(Collectors.joining(", ")));
+  }
+
+  /** Record the duration of a phase and return the start time of the next one. */
+  private static long endPhase(Map<String, Long> phaseMillis, String phase, long phaseStart) {
+    long now = System.nanoTime();
+    phaseMillis.put(phase, TimeUnit.NANOSECONDS.toMillis(now - phaseStart));
+    return now;
   }
 }
@@ -0,0 +1,42 @@
+package bio.terra.workspace.app;
+
+import bio.terra.workspace.app.configuration.external.StartupConfiguration;
+import java.lang.management.ManagementFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports how long the service took to become ready. The phases inside startup initialization are
+ * reported by {@link StartupInitializer}; the remainder is JVM startup and Spring context creation.
+ *
+ * <p>When configured to exit after startup, this ends the training run that records the class data
+ * sharing archive; see the cdsArchive Gradle task.
+ */
+@Component
+public class StartupListener {
+  private static final Logger logger = LoggerFactory.getLogger(StartupListener.class);
+
+  private final StartupConfiguration startupConfiguration;
+
+  @Autowired
+  public StartupListener(StartupConfiguration startupConfiguration) {
+    this.startupConfiguration = startupConfiguration;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady(ApplicationReadyEvent event) {
+    logger.info(
+        "Ready to accept requests {}ms after JVM start (fast start {})",
+        ManagementFactory.getRuntimeMXBean().getUptime(),
+        startupConfiguration.isFastStart() ? "enabled" : "disabled");
+    if (startupConfiguration.isExitAfterStartup()) {
+      logger.info("Exiting after startup as configured");
+      System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+  }
+}
@@ -14,6 +14,8 @@ public class AzureConfiguration {
   private String managedAppTenantId;
   private Long sasTokenStartTimeMinutesOffset;
   private Long sasTokenExpiryTimeMinutesOffset;
+  // Number of controlled resources deleted at once when deleting an Azure cloud context
+  private int maxConcurrentResourceDeletions = 8;
 
   public String getManagedAppClientId() {
     return managedAppClientId;
@@ -54,4 +56,12 @@ public class AzureConfiguration {
   public void setSasTokenExpiryTimeMinutesOffset(Long sasTokenExpiryTimeMinutesOffset) {
     this.sasTokenExpiryTimeMinutesOffset = sasTokenExpiryTimeMinutesOffset;
   }
+
+  public int getMaxConcurrentResourceDeletions() {
+    return maxConcurrentResourceDeletions;
+  }
+
+  public void setMaxConcurrentResourceDeletions(int maxConcurrentResourceDeletions) {
+    this.maxConcurrentResourceDeletions = maxConcurrentResourceDeletions;
+  }
 }
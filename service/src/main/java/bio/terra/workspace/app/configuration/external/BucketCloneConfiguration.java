@@ -0,0 +1,47 @@
+package bio.terra.workspace.app.configuration.external;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.bucket-clone")
+public class BucketCloneConfiguration {
+  /**
+   * Source buckets with at most this many objects, and at most direct-copy-max-size in total, are
+   * cloned by copying their objects directly rather than with a Storage Transfer Service job
+   */
+  private int directCopyMaxObjects;
+
+  /** Maximum total size of the objects in a source bucket that is copied directly */
+  private DataSize directCopyMaxSize;
+
+  /** Number of objects copied at once when a bucket is copied directly */
+  private int directCopyThreads;
+
+  public int getDirectCopyMaxObjects() {
+    return directCopyMaxObjects;
+  }
+
+  public void setDirectCopyMaxObjects(int directCopyMaxObjects) {
+    this.directCopyMaxObjects = directCopyMaxObjects;
+  }
+
+  public DataSize getDirectCopyMaxSize() {
+    return directCopyMaxSize;
+  }
+
+  public void setDirectCopyMaxSize(DataSize directCopyMaxSize) {
+    this.directCopyMaxSize = directCopyMaxSize;
+  }
+
+  public int getDirectCopyThreads() {
+    return directCopyThreads;
+  }
+
+  public void setDirectCopyThreads(int directCopyThreads) {
+    this.directCopyThreads = directCopyThreads;
+  }
+}
@@ -0,0 +1,104 @@
+package bio.terra.workspace.app.configuration.external;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.cache")
+public class CacheConfiguration {
+  /** Maximum number of cloud contexts to keep per cloud platform */
+  private long cloudContextMaxSize;
+
+  /**
+   * How long a cached cloud context may be served. Changes made by any instance invalidate the
+   * cache through the CacheInvalidationBus; this is a backstop should an invalidation be lost.
+   */
+  private Duration cloudContextTtl;
+
+  /**
+   * Maximum number of entries to keep in each cache of GCP network settings: zone to region, and
+   * region to network and subnetwork, per project
+   */
+  private long gcpNetworkMaxSize;
+
+  /**
+   * How long cached GCP network settings may be served. Workspace projects are provisioned with
+   * their network, so these only change if a project is reconfigured by hand.
+   */
+  private Duration gcpNetworkTtl;
+
+  /**
+   * Maximum number of entries to keep in each cache of Sam identity mappings: user to subject ID,
+   * user to proxy group, and user and project to pet service account. These never change once
+   * created, so entries do not expire.
+   */
+  private long identityMaxSize;
+
+  /**
+   * How long the cache invalidation listener waits for notifications before checking that its
+   * connection is still alive
+   */
+  private Duration invalidationPollInterval;
+
+  /** How long the cache invalidation listener waits before reconnecting after an error */
+  private Duration invalidationReconnectDelay;
+
+  public long getCloudContextMaxSize() {
+    return cloudContextMaxSize;
+  }
+
+  public void setCloudContextMaxSize(long cloudContextMaxSize) {
+    this.cloudContextMaxSize = cloudContextMaxSize;
+  }
+
+  public Duration getCloudContextTtl() {
+    return cloudContextTtl;
+  }
+
+  public void setCloudContextTtl(Duration cloudContextTtl) {
+    this.cloudContextTtl = cloudContextTtl;
+  }
+
+  public long getGcpNetworkMaxSize() {
+    return gcpNetworkMaxSize;
+  }
+
+  public void setGcpNetworkMaxSize(long gcpNetworkMaxSize) {
+    this.gcpNetworkMaxSize = gcpNetworkMaxSize;
+  }
+
+  public Duration getGcpNetworkTtl() {
+    return gcpNetworkTtl;
+  }
+
+  public void setGcpNetworkTtl(Duration gcpNetworkTtl) {
+    this.gcpNetworkTtl = gcpNetworkTtl;
+  }
+
+  public long getIdentityMaxSize() {
+    return identityMaxSize;
+  }
+
+  public void setIdentityMaxSize(long identityMaxSize) {
+    this.identityMaxSize = identityMaxSize;
+  }
+
+  public Duration getInvalidationPollInterval() {
+    return invalidationPollInterval;
+  }
+
+  public void setInvalidationPollInterval(Duration invalidationPollInterval) {
+    this.invalidationPollInterval = invalidationPollInterval;
+  }
+
+  public Duration getInvalidationReconnectDelay() {
+    return invalidationReconnectDelay;
+  }
+
+  public void setInvalidationReconnectDelay(Duration invalidationReconnectDelay) {
+    this.invalidationReconnectDelay = invalidationReconnectDelay;
+  }
+}
@@ -0,0 +1,171 @@
+package bio.terra.workspace.app.configuration.external;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.downstream-guard")
+public class DownstreamGuardConfiguration {
+  /** Settings for any downstream service without its own entry in downstreams */
+  private GuardSettings defaults = new GuardSettings();
+
+  /** Settings for each downstream service, keyed by name: sam, datarepo, buffer, google */
+  private Map<String, GuardSettings> downstreams = new HashMap<>();
+
+  public GuardSettings getDefaults() {
+    return defaults;
+  }
+
+  public void setDefaults(GuardSettings defaults) {
+    this.defaults = defaults;
+  }
+
+  public Map<String, GuardSettings> getDownstreams() {
+    return downstreams;
+  }
+
+  public void setDownstreams(Map<String, GuardSettings> downstreams) {
+    this.downstreams = downstreams;
+  }
+
+  /**
+   * Get the settings for a downstream service. Settings the service does not configure itself are
+   * taken from the defaults.
+   *
+   * @param name name of the downstream service
+   * @return guard settings
+   */
+  public GuardSettings getSettings(String name) {
+    GuardSettings settings = downstreams.get(name);
+    return settings == null ? defaults : settings.mergeWith(defaults);
+  }
+
+  public static class GuardSettings {
+    private static final boolean DEFAULT_ENABLED = true;
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 50;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(1);
+    private static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_CALLS = 20;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int DEFAULT_HALF_OPEN_CALLS = 5;
+
+    /** Whether calls are limited and the circuit breaker is active */
+    @Nullable private Boolean enabled;
+
+    /** Maximum number of concurrent calls to the downstream service */
+    @Nullable private Integer maxConcurrentCalls;
+
+    /** How long a call waits for a free slot before failing */
+    @Nullable private Duration maxWait;
+
+    /** Fraction of failed calls in the window at which the circuit opens */
+    @Nullable private Double failureRateThreshold;
+
+    /** Number of recent calls the failure rate is computed over */
+    @Nullable private Integer slidingWindowSize;
+
+    /** Minimum number of calls in the window before the failure rate is evaluated */
+    @Nullable private Integer minimumCalls;
+
+    /** How long the circuit stays open before probing the downstream service */
+    @Nullable private Duration openDuration;
+
+    /** Number of successful probe calls needed to close the circuit again */
+    @Nullable private Integer halfOpenCalls;
+
+    public boolean isEnabled() {
+      return Objects.requireNonNullElse(enabled, DEFAULT_ENABLED);
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMaxConcurrentCalls() {
+      return Objects.requireNonNullElse(maxConcurrentCalls, DEFAULT_MAX_CONCURRENT_CALLS);
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Duration getMaxWait() {
+      return Objects.requireNonNullElse(maxWait, DEFAULT_MAX_WAIT);
+    }
+
+    public void setMaxWait(Duration maxWait) {
+      this.maxWait = maxWait;
+    }
+
+    public double getFailureRateThreshold() {
+      return Objects.requireNonNullElse(failureRateThreshold, DEFAULT_FAILURE_RATE_THRESHOLD);
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+      return Objects.requireNonNullElse(slidingWindowSize, DEFAULT_SLIDING_WINDOW_SIZE);
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+      this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumCalls() {
+      return Objects.requireNonNullElse(minimumCalls, DEFAULT_MINIMUM_CALLS);
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+      this.minimumCalls = minimumCalls;
+    }
+
+    public Duration getOpenDuration() {
+      return Objects.requireNonNullElse(openDuration, DEFAULT_OPEN_DURATION);
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+      this.openDuration = openDuration;
+    }
+
+    public int getHalfOpenCalls() {
+      return Objects.requireNonNullElse(halfOpenCalls, DEFAULT_HALF_OPEN_CALLS);
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+      this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * Merge these settings onto a set of defaults. Any setting not configured here takes the value
+     * from the defaults.
+     *
+     * @param defaults settings to fall back to
+     * @return merged settings
+     */
+    private GuardSettings mergeWith(GuardSettings defaults) {
+      GuardSettings merged = new GuardSettings();
+      merged.enabled = Objects.requireNonNullElse(enabled, defaults.isEnabled());
+      merged.maxConcurrentCalls =
+          Objects.requireNonNullElse(maxConcurrentCalls, defaults.getMaxConcurrentCalls());
+      merged.maxWait = Objects.requireNonNullElse(maxWait, defaults.getMaxWait());
+      merged.failureRateThreshold =
+          Objects.requireNonNullElse(failureRateThreshold, defaults.getFailureRateThreshold());
+      merged.slidingWindowSize =
+          Objects.requireNonNullElse(slidingWindowSize, defaults.getSlidingWindowSize());
+      merged.minimumCalls = Objects.requireNonNullElse(minimumCalls, defaults.getMinimumCalls());
+      merged.openDuration = Objects.requireNonNullElse(openDuration, defaults.getOpenDuration());
+      merged.halfOpenCalls = Objects.requireNonNullElse(halfOpenCalls, defaults.getHalfOpenCalls());
+      return merged;
+    }
+  }
+}
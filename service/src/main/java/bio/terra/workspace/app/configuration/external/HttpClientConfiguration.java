@@ -0,0 +1,131 @@
+package bio.terra.workspace.app.configuration.external;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.http-client")
+public class HttpClientConfiguration {
+  /** Settings for any downstream service without its own entry in clients */
+  private ClientSettings defaults = new ClientSettings();
+
+  /** Settings for each downstream service, keyed by name: sam, datarepo, buffer, azure, google */
+  private Map<String, ClientSettings> clients = new HashMap<>();
+
+  public ClientSettings getDefaults() {
+    return defaults;
+  }
+
+  public void setDefaults(ClientSettings defaults) {
+    this.defaults = defaults;
+  }
+
+  public Map<String, ClientSettings> getClients() {
+    return clients;
+  }
+
+  public void setClients(Map<String, ClientSettings> clients) {
+    this.clients = clients;
+  }
+
+  /**
+   * Get the settings for a downstream service. Settings the service does not configure itself are
+   * taken from the defaults.
+   *
+   * @param name name of the downstream service
+   * @return client settings
+   */
+  public ClientSettings getSettings(String name) {
+    ClientSettings settings = clients.get(name);
+    return settings == null ? defaults : settings.mergeWith(defaults);
+  }
+
+  public static class ClientSettings {
+    private static final int DEFAULT_MAX_CONNECTIONS = 50;
+    private static final Duration DEFAULT_KEEP_ALIVE = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(60);
+    private static final boolean DEFAULT_HTTP2 = true;
+
+    /** Maximum number of pooled connections to the downstream service */
+    @Nullable private Integer maxConnections;
+
+    /** How long an idle pooled connection is kept open */
+    @Nullable private Duration keepAlive;
+
+    /** Timeout for establishing a connection */
+    @Nullable private Duration connectTimeout;
+
+    /** Timeout for reading a response */
+    @Nullable private Duration readTimeout;
+
+    /** Whether to negotiate HTTP/2, for clients that support it */
+    @Nullable private Boolean http2;
+
+    public int getMaxConnections() {
+      return Objects.requireNonNullElse(maxConnections, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public void setMaxConnections(int maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public Duration getKeepAlive() {
+      return Objects.requireNonNullElse(keepAlive, DEFAULT_KEEP_ALIVE);
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+
+    public Duration getConnectTimeout() {
+      return Objects.requireNonNullElse(connectTimeout, DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+      this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+      return Objects.requireNonNullElse(readTimeout, DEFAULT_READ_TIMEOUT);
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+      this.readTimeout = readTimeout;
+    }
+
+    public boolean isHttp2() {
+      return Objects.requireNonNullElse(http2, DEFAULT_HTTP2);
+    }
+
+    public void setHttp2(boolean http2) {
+      this.http2 = http2;
+    }
+
+    /**
+     * Merge these settings onto a set of defaults. Any setting not configured here takes the value
+     * from the defaults.
+     *
+     * @param defaults settings to fall back to
+     * @return merged settings
+     */
+    private ClientSettings mergeWith(ClientSettings defaults) {
+      ClientSettings merged = new ClientSettings();
+      merged.maxConnections =
+          Objects.requireNonNullElse(maxConnections, defaults.getMaxConnections());
+      merged.keepAlive = Objects.requireNonNullElse(keepAlive, defaults.getKeepAlive());
+      merged.connectTimeout =
+          Objects.requireNonNullElse(connectTimeout, defaults.getConnectTimeout());
+      merged.readTimeout = Objects.requireNonNullElse(readTimeout, defaults.getReadTimeout());
+      merged.http2 = Objects.requireNonNullElse(http2, defaults.isHttp2());
+      return merged;
+    }
+  }
+}
@@ -8,14 +8,26 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties
 @ConfigurationProperties(prefix = "workspace.job")
 public class JobConfiguration {
-  /** Number of threads to keep available */
+  /** Number of threads for polling jobs and resuming waiting flights */
   private int maxThreads;
+  /** Number of threads for building responses once the jobs they waited on complete */
+  private int responseThreads;
   /** Timeout in seconds */
   private int timeoutSeconds;
   /** Polling interval in seconds */
   private int pollingIntervalSeconds;
   /** For identifying the application to SAM */
   private String resourceId;
+  /** Upper bound in seconds on how long a result request may wait for a running job */
+  private int maxWaitSeconds;
+  /** Number of completed flight states to keep in memory */
+  private int completedFlightCacheSize;
+  /** Interval in seconds between sweeps that resume flights left in the waiting state */
+  private int waitingFlightSweepSeconds;
+  /** Number of long-running flights, such as clones, that may run at once across all instances */
+  private int longRunningMaxParallelFlights;
+  /** Interval in seconds at which a flight waiting for admission rechecks its queue */
+  private int admissionRecheckSeconds;
 
   public int getTimeoutSeconds() {
     return timeoutSeconds;
@@ -48,4 +60,52 @@ public class JobConfiguration {
   public void setResourceId(String resourceId) {
     this.resourceId = resourceId;
   }
+
+  public int getMaxWaitSeconds() {
+    return maxWaitSeconds;
+  }
+
+  public void setMaxWaitSeconds(int maxWaitSeconds) {
+    this.maxWaitSeconds = maxWaitSeconds;
+  }
+
+  public int getCompletedFlightCacheSize() {
+    return completedFlightCacheSize;
+  }
+
+  public void setCompletedFlightCacheSize(int completedFlightCacheSize) {
+    this.completedFlightCacheSize = completedFlightCacheSize;
+  }
+
+  public int getWaitingFlightSweepSeconds() {
+    return waitingFlightSweepSeconds;
+  }
+
+  public void setWaitingFlightSweepSeconds(int waitingFlightSweepSeconds) {
+    this.waitingFlightSweepSeconds = waitingFlightSweepSeconds;
+  }
+
+  public int getLongRunningMaxParallelFlights() {
+    return longRunningMaxParallelFlights;
+  }
+
+  public void setLongRunningMaxParallelFlights(int longRunningMaxParallelFlights) {
+    this.longRunningMaxParallelFlights = longRunningMaxParallelFlights;
+  }
+
+  public int getAdmissionRecheckSeconds() {
+    return admissionRecheckSeconds;
+  }
+
+  public void setAdmissionRecheckSeconds(int admissionRecheckSeconds) {
+    this.admissionRecheckSeconds = admissionRecheckSeconds;
+  }
+
+  public int getResponseThreads() {
+    return responseThreads;
+  }
+
+  public void setResponseThreads(int responseThreads) {
+    this.responseThreads = responseThreads;
+  }
 }
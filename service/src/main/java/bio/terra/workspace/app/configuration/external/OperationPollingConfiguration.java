@@ -0,0 +1,44 @@
+package bio.terra.workspace.app.configuration.external;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.operation-polling")
+public class OperationPollingConfiguration {
+  /** How often to look for outstanding cloud operations that are due to be polled */
+  private Duration tickInterval;
+
+  /** Maximum number of operations polled in a single tick */
+  private int batchSize;
+
+  /** Number of threads used to poll operations */
+  private int threads;
+
+  public Duration getTickInterval() {
+    return tickInterval;
+  }
+
+  public void setTickInterval(Duration tickInterval) {
+    this.tickInterval = tickInterval;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+}
@@ -1,5 +1,6 @@
 package bio.terra.workspace.app.configuration.external;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,9 @@ public class SamConfiguration {
   /** URL of the SAM instance */
   private String basePath;
 
+  /** Hedging of idempotent authorization reads */
+  private HedgingSettings hedging = new HedgingSettings();
+
   public String getBasePath() {
     return basePath;
   }
@@ -18,4 +22,102 @@ public class SamConfiguration {
   public void setBasePath(String basePath) {
     this.basePath = basePath;
   }
+
+  public HedgingSettings getHedging() {
+    return hedging;
+  }
+
+  public void setHedging(HedgingSettings hedging) {
+    this.hedging = hedging;
+  }
+
+  public static class HedgingSettings {
+    /** Whether a second call is made when the first is slow */
+    private boolean enabled = false;
+
+    /** Percentile of recent call latencies after which the second call is made */
+    private double delayPercentile = 95.0;
+
+    /** Lower bound on the delay, so fast calls are not hedged on noise */
+    private Duration minDelay = Duration.ofMillis(50);
+
+    /** Upper bound on the delay, also used until enough latencies have been seen */
+    private Duration maxDelay = Duration.ofSeconds(1);
+
+    /** Number of recent call latencies the percentile is computed over */
+    private int latencyWindowSize = 500;
+
+    /** Hedges allowed per call, as a fraction; 0.05 allows at most 5% extra calls */
+    private double budgetRatio = 0.05;
+
+    /** Maximum number of hedges that can be saved up for a burst of slow calls */
+    private int maxBudget = 10;
+
+    /** Maximum number of threads making hedged calls; calls run unhedged when all are busy */
+    private int maxThreads = 32;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double getDelayPercentile() {
+      return delayPercentile;
+    }
+
+    public void setDelayPercentile(double delayPercentile) {
+      this.delayPercentile = delayPercentile;
+    }
+
+    public Duration getMinDelay() {
+      return minDelay;
+    }
+
+    public void setMinDelay(Duration minDelay) {
+      this.minDelay = minDelay;
+    }
+
+    public Duration getMaxDelay() {
+      return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+      this.maxDelay = maxDelay;
+    }
+
+    public int getLatencyWindowSize() {
+      return latencyWindowSize;
+    }
+
+    public void setLatencyWindowSize(int latencyWindowSize) {
+      this.latencyWindowSize = latencyWindowSize;
+    }
+
+    public double getBudgetRatio() {
+      return budgetRatio;
+    }
+
+    public void setBudgetRatio(double budgetRatio) {
+      this.budgetRatio = budgetRatio;
+    }
+
+    public int getMaxBudget() {
+      return maxBudget;
+    }
+
+    public void setMaxBudget(int maxBudget) {
+      this.maxBudget = maxBudget;
+    }
+
+    public int getMaxThreads() {
+      return maxThreads;
+    }
+
+    public void setMaxThreads(int maxThreads) {
+      this.maxThreads = maxThreads;
+    }
+  }
 }
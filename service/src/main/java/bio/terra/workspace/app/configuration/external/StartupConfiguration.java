@@ -0,0 +1,39 @@
+package bio.terra.workspace.app.configuration.external;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties
+@ConfigurationProperties(prefix = "workspace.startup")
+public class StartupConfiguration {
+  /**
+   * If true, skip the Liquibase upgrade when every changeset is already applied, and start the
+   * status and private resource cleanup schedulers once the application is ready rather than
+   * while beans are constructed.
+   */
+  private boolean fastStart;
+
+  /**
+   * If true, exit as soon as the application is ready. This is for the training run that records
+   * the class data sharing archive.
+   */
+  private boolean exitAfterStartup;
+
+  public boolean isFastStart() {
+    return fastStart;
+  }
+
+  public void setFastStart(boolean fastStart) {
+    this.fastStart = fastStart;
+  }
+
+  public boolean isExitAfterStartup() {
+    return exitAfterStartup;
+  }
+
+  public void setExitAfterStartup(boolean exitAfterStartup) {
+    this.exitAfterStartup = exitAfterStartup;
+  }
+}
@@ -2,6 +2,8 @@ package bio.terra.workspace.app.configuration.external;
 
 import bio.terra.common.db.BaseDatabaseProperties;
 import bio.terra.common.db.DataSourceInitializer;
+import bio.terra.workspace.db.InstrumentedDataSource;
+import java.time.Duration;
 import javax.sql.DataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -26,6 +28,8 @@ public class WorkspaceDatabaseConfiguration extends BaseDatabaseProperties {
   private boolean initializeOnStart;
   /** If true, primary database will have changesets applied */
   private boolean upgradeOnStart;
+  /** Statements taking at least this long are logged; zero disables the slow statement log */
+  private Duration slowQueryThreshold = Duration.ofMillis(500);
 
   public boolean isInitializeOnStart() {
     return initializeOnStart;
@@ -43,13 +47,23 @@ public class WorkspaceDatabaseConfiguration extends BaseDatabaseProperties {
     this.upgradeOnStart = upgradeOnStart;
   }
 
+  public Duration getSlowQueryThreshold() {
+    return slowQueryThreshold;
+  }
+
+  public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+    this.slowQueryThreshold = slowQueryThreshold;
+  }
+
   // Not a property
   private DataSource dataSource;
 
   public DataSource getDataSource() {
-    // Lazy allocation of the data source
+    // Lazy allocation of the data source, measured for DbMetrics
     if (dataSource == null) {
-      dataSource = DataSourceInitializer.initializeDataSource(this);
+      dataSource =
+          new InstrumentedDataSource(
+              DataSourceInitializer.initializeDataSource(this), slowQueryThreshold);
     }
     return dataSource;
   }
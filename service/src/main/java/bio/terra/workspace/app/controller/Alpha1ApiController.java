@@ -2,12 +2,12 @@ package bio.terra.workspace.app.controller;
 
 import bio.terra.workspace.app.configuration.external.FeatureConfiguration;
 import bio.terra.workspace.common.utils.ControllerValidationUtils;
-import bio.terra.workspace.common.utils.ErrorReportUtils;
+import bio.terra.workspace.db.model.DbJobSummary;
 import bio.terra.workspace.generated.controller.Alpha1Api;
 import bio.terra.workspace.generated.model.ApiEnumerateJobsResult;
 import bio.terra.workspace.generated.model.ApiEnumeratedJob;
-import bio.terra.workspace.generated.model.ApiJobReport;
 import bio.terra.workspace.generated.model.ApiJobStateFilter;
+import bio.terra.workspace.generated.model.ApiResourceMetadata;
 import bio.terra.workspace.generated.model.ApiResourceType;
 import bio.terra.workspace.generated.model.ApiStewardshipType;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
@@ -16,19 +16,18 @@ import bio.terra.workspace.service.iam.model.SamConstants.SamWorkspaceAction;
 import bio.terra.workspace.service.job.JobService;
 import bio.terra.workspace.service.resource.ResourceValidationUtils;
 import bio.terra.workspace.service.resource.model.StewardshipType;
-import bio.terra.workspace.service.resource.model.WsmResource;
 import bio.terra.workspace.service.resource.model.WsmResourceFamily;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.workspace.Alpha1Service;
 import bio.terra.workspace.service.workspace.WorkspaceService;
-import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
-import bio.terra.workspace.service.workspace.model.EnumeratedJob;
 import bio.terra.workspace.service.workspace.model.EnumeratedJobs;
 import bio.terra.workspace.service.workspace.model.JobStateFilter;
+import bio.terra.workspace.service.workspace.model.OperationType;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import javax.servlet.http.HttpServletRequest;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,33 +97,18 @@ public class Alpha1ApiController implements Alpha1Api {
 
     // Convert the result to API-speak
     List<ApiEnumeratedJob> apiJobList = new ArrayList<>();
-    for (EnumeratedJob enumeratedJob : enumeratedJobs.getResults()) {
-      ApiJobReport jobReport =
-          jobService.mapFlightStateToApiJobReport(enumeratedJob.getFlightState());
-      Optional<WsmResource> optResource = enumeratedJob.getResource();
-
-      Optional<UUID> destinationResourceIdMaybe =
-          Optional.ofNullable(
-              enumeratedJob
-                  .getFlightState()
-                  .getInputParameters()
-                  .get(ControlledResourceKeys.DESTINATION_RESOURCE_ID, UUID.class));
-
+    for (DbJobSummary jobSummary : enumeratedJobs.getResults()) {
       ApiEnumeratedJob apiJob =
           new ApiEnumeratedJob()
-              .jobReport(jobReport)
-              .errorReport(
-                  enumeratedJob
-                      .getFlightState()
-                      .getException()
-                      .map(ErrorReportUtils::buildApiErrorReport)
-                      .orElse(null))
-              .jobDescription(enumeratedJob.getJobDescription())
-              .operationType(enumeratedJob.getOperationType().toApiModel())
-              .resourceType(optResource.map(r -> r.getResourceType().toApiModel()).orElse(null))
-              .metadata(optResource.map(WsmResource::toApiMetadata).orElse(null))
-              .resourceAttributes(optResource.map(WsmResource::toApiAttributesUnion).orElse(null))
-              .destinationResourceId(destinationResourceIdMaybe.orElse(null));
+              .jobReport(jobService.mapJobSummaryToApiJobReport(jobSummary))
+              .errorReport(jobService.mapJobSummaryToApiErrorReport(jobSummary).orElse(null))
+              .jobDescription(jobSummary.getDescription().orElse(StringUtils.EMPTY))
+              .operationType(
+                  jobSummary.getOperationType().orElse(OperationType.UNKNOWN).toApiModel())
+              .resourceType(
+                  jobSummary.getResourceType().map(WsmResourceType::toApiModel).orElse(null))
+              .metadata(jobSummary.getResourceId().isPresent() ? toApiMetadata(jobSummary) : null)
+              .destinationResourceId(jobSummary.getDestinationResourceId().orElse(null));
       apiJobList.add(apiJob);
     }
 
@@ -137,6 +121,25 @@ public class Alpha1ApiController implements Alpha1Api {
     return new ResponseEntity<>(result, HttpStatus.OK);
   }
 
+  /**
+   * Build the metadata of the resource a job operates on from the job summary. Only the fields the
+   * summary keeps are filled in.
+   */
+  private static ApiResourceMetadata toApiMetadata(DbJobSummary jobSummary) {
+    return new ApiResourceMetadata()
+        .workspaceId(jobSummary.getWorkspaceId())
+        .resourceId(jobSummary.getResourceId().orElse(null))
+        .name(jobSummary.getResourceName().orElse(null))
+        .resourceType(jobSummary.getResourceType().map(WsmResourceType::toApiModel).orElse(null))
+        .stewardshipType(
+            jobSummary.getStewardshipType().map(StewardshipType::toApiModel).orElse(null))
+        .cloudPlatform(
+            jobSummary
+                .getResourceType()
+                .map(resourceType -> resourceType.getCloudPlatform().toApiModel())
+                .orElse(null));
+  }
+
   private AuthenticatedUserRequest getAuthenticatedInfo() {
     return authenticatedUserRequestFactory.from(request);
   }
@@ -104,17 +104,18 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
             .build();
 
     // TODO: make createDisk call async once we have things working e2e
-    final ControlledAzureDiskResource createdDisk =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getAzureDisk())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK);
-
-    var response =
-        new ApiCreatedControlledAzureDisk()
-            .resourceId(createdDisk.getResourceId())
-            .azureDisk(createdDisk.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getAzureDisk()),
+        created -> {
+          final ControlledAzureDiskResource createdDisk =
+              created.castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK);
+          var response =
+              new ApiCreatedControlledAzureDisk()
+                  .resourceId(createdDisk.getResourceId())
+                  .azureDisk(createdDisk.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -133,17 +134,18 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
             .region(body.getAzureIp().getRegion())
             .build();
 
-    final ControlledAzureIpResource createdIp =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getAzureIp())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_IP);
-
-    var response =
-        new ApiCreatedControlledAzureIp()
-            .resourceId(createdIp.getResourceId())
-            .azureIp(createdIp.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getAzureIp()),
+        created -> {
+          final ControlledAzureIpResource createdIp =
+              created.castByEnum(WsmResourceType.CONTROLLED_AZURE_IP);
+          var response =
+              new ApiCreatedControlledAzureIp()
+                  .resourceId(createdIp.getResourceId())
+                  .azureIp(createdIp.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -179,13 +181,19 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
 
   @Override
   public ResponseEntity<ApiCreateControlledAzureRelayNamespaceResult>
-      getCreateAzureRelayNamespaceResult(UUID workspaceUuid, String jobId) throws ApiException {
+      getCreateAzureRelayNamespaceResult(UUID workspaceUuid, String jobId, Integer wait)
+          throws ApiException {
     features.azureEnabledCheck();
 
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCreateControlledAzureRelayNamespaceResult result =
-        fetchCreateControlledAzureRelayNamespaceResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ControlledAzureRelayNamespaceResource.class, userRequest, wait),
+        jobResult -> {
+          ApiCreateControlledAzureRelayNamespaceResult result =
+              buildCreateControlledAzureRelayNamespaceResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   @Override
@@ -193,11 +201,12 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
       UUID workspaceId, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     features.azureEnabledCheck();
+    final long version = controlledResourceService.getResourceVersion(workspaceId, resourceId);
     final ControlledAzureRelayNamespaceResource resource =
         controlledResourceService
             .getControlledResource(workspaceId, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_RELAY_NAMESPACE);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
@@ -251,16 +260,18 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
             .region(body.getAzureStorage().getRegion())
             .build();
 
-    final ControlledAzureStorageResource createdStorage =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getAzureStorage())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_STORAGE_ACCOUNT);
-    var response =
-        new ApiCreatedControlledAzureStorage()
-            .resourceId(createdStorage.getResourceId())
-            .azureStorage(createdStorage.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getAzureStorage()),
+        created -> {
+          final ControlledAzureStorageResource createdStorage =
+              created.castByEnum(WsmResourceType.CONTROLLED_AZURE_STORAGE_ACCOUNT);
+          var response =
+              new ApiCreatedControlledAzureStorage()
+                  .resourceId(createdStorage.getResourceId())
+                  .azureStorage(createdStorage.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -279,16 +290,18 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
             .storageContainerName(body.getAzureStorageContainer().getStorageContainerName())
             .build();
 
-    final ControlledAzureStorageContainerResource createdStorageContainer =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getAzureStorageContainer())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_STORAGE_CONTAINER);
-    var response =
-        new ApiCreatedControlledAzureStorageContainer()
-            .resourceId(createdStorageContainer.getResourceId())
-            .azureStorageContainer(createdStorageContainer.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getAzureStorageContainer()),
+        created -> {
+          final ControlledAzureStorageContainerResource createdStorageContainer =
+              created.castByEnum(WsmResourceType.CONTROLLED_AZURE_STORAGE_CONTAINER);
+          var response =
+              new ApiCreatedControlledAzureStorageContainer()
+                  .resourceId(createdStorageContainer.getResourceId())
+                  .azureStorageContainer(createdStorageContainer.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -330,13 +343,17 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
 
   @Override
   public ResponseEntity<ApiCreatedControlledAzureVmResult> getCreateAzureVmResult(
-      UUID workspaceUuid, String jobId) throws ApiException {
+      UUID workspaceUuid, String jobId, Integer wait) throws ApiException {
     features.azureEnabledCheck();
 
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCreatedControlledAzureVmResult result =
-        fetchCreateControlledAzureVmResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ControlledAzureVmResource.class, userRequest, wait),
+        jobResult -> {
+          ApiCreatedControlledAzureVmResult result = buildCreateControlledAzureVmResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   @Override
@@ -358,16 +375,18 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
             .region(body.getAzureNetwork().getRegion())
             .build();
 
-    final ControlledAzureNetworkResource createdNetwork =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getAzureNetwork())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_NETWORK);
-    var response =
-        new ApiCreatedControlledAzureNetwork()
-            .resourceId(createdNetwork.getResourceId())
-            .azureNetwork(createdNetwork.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getAzureNetwork()),
+        created -> {
+          final ControlledAzureNetworkResource createdNetwork =
+              created.castByEnum(WsmResourceType.CONTROLLED_AZURE_NETWORK);
+          var response =
+              new ApiCreatedControlledAzureNetwork()
+                  .resourceId(createdNetwork.getResourceId())
+                  .azureNetwork(createdNetwork.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -404,33 +423,36 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
   public ResponseEntity<ApiAzureIpResource> getAzureIp(UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     features.azureEnabledCheck();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     final ControlledAzureIpResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_IP);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
   public ResponseEntity<ApiAzureDiskResource> getAzureDisk(UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     features.azureEnabledCheck();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     final ControlledAzureDiskResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
   public ResponseEntity<ApiAzureVmResource> getAzureVm(UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     features.azureEnabledCheck();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     final ControlledAzureVmResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_VM);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
@@ -438,58 +460,69 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
       UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     features.azureEnabledCheck();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     final ControlledAzureNetworkResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_NETWORK);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
   public ResponseEntity<ApiDeleteControlledAzureResourceResult> getDeleteAzureDiskResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     features.azureEnabledCheck();
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getJobDeleteResult(jobId, userRequest);
+    return getJobDeleteResult(jobId, userRequest, wait);
   }
 
   @Override
   public ResponseEntity<ApiDeleteControlledAzureResourceResult> getDeleteAzureIpResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     features.azureEnabledCheck();
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getJobDeleteResult(jobId, userRequest);
+    return getJobDeleteResult(jobId, userRequest, wait);
   }
 
   @Override
   public ResponseEntity<ApiDeleteControlledAzureResourceResult> getDeleteAzureVmResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     features.azureEnabledCheck();
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getJobDeleteResult(jobId, userRequest);
+    return getJobDeleteResult(jobId, userRequest, wait);
   }
 
   @Override
   public ResponseEntity<ApiDeleteControlledAzureResourceResult> getDeleteAzureNetworkResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     features.azureEnabledCheck();
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getJobDeleteResult(jobId, userRequest);
+    return getJobDeleteResult(jobId, userRequest, wait);
   }
 
   @Override
   public ResponseEntity<ApiDeleteControlledAzureResourceResult> getDeleteAzureRelayNamespaceResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     features.azureEnabledCheck();
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getJobDeleteResult(jobId, userRequest);
+    return getJobDeleteResult(jobId, userRequest, wait);
   }
 
   private ResponseEntity<ApiDeleteControlledAzureResourceResult> getJobDeleteResult(
       String jobId, AuthenticatedUserRequest userRequest) {
+    return buildJobDeleteResponse(
+        jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest));
+  }
+
+  private ResponseEntity<ApiDeleteControlledAzureResourceResult> getJobDeleteResult(
+      String jobId, AuthenticatedUserRequest userRequest, Integer wait) {
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(jobId, Void.class, userRequest, wait),
+        this::buildJobDeleteResponse);
+  }
 
-    final JobService.AsyncJobResult<Void> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest);
+  private ResponseEntity<ApiDeleteControlledAzureResourceResult> buildJobDeleteResponse(
+      JobService.AsyncJobResult<Void> jobResult) {
     var response =
         new ApiDeleteControlledAzureResourceResult()
             .jobReport(jobResult.getJobReport())
@@ -524,9 +557,12 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
 
   private ApiCreatedControlledAzureVmResult fetchCreateControlledAzureVmResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final JobService.AsyncJobResult<ControlledAzureVmResource> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, ControlledAzureVmResource.class, userRequest);
+    return buildCreateControlledAzureVmResult(
+        jobService.retrieveAsyncJobResult(jobId, ControlledAzureVmResource.class, userRequest));
+  }
 
+  private ApiCreatedControlledAzureVmResult buildCreateControlledAzureVmResult(
+      JobService.AsyncJobResult<ControlledAzureVmResource> jobResult) {
     ApiAzureVmResource apiResource = null;
     if (jobResult.getJobReport().getStatus().equals(ApiJobReport.StatusEnum.SUCCEEDED)) {
       ControlledAzureVmResource resource = jobResult.getResult();
@@ -541,10 +577,14 @@ public class ControlledAzureResourceApiController extends ControlledResourceCont
   private ApiCreateControlledAzureRelayNamespaceResult
       fetchCreateControlledAzureRelayNamespaceResult(
           String jobId, AuthenticatedUserRequest userRequest) {
-    final JobService.AsyncJobResult<ControlledAzureRelayNamespaceResource> jobResult =
+    return buildCreateControlledAzureRelayNamespaceResult(
         jobService.retrieveAsyncJobResult(
-            jobId, ControlledAzureRelayNamespaceResource.class, userRequest);
+            jobId, ControlledAzureRelayNamespaceResource.class, userRequest));
+  }
 
+  private ApiCreateControlledAzureRelayNamespaceResult
+      buildCreateControlledAzureRelayNamespaceResult(
+          JobService.AsyncJobResult<ControlledAzureRelayNamespaceResource> jobResult) {
     ApiAzureRelayNamespaceResource apiResource = null;
     if (jobResult.getJobReport().getStatus().equals(ApiJobReport.StatusEnum.SUCCEEDED)) {
       ControlledAzureRelayNamespaceResource resource = jobResult.getResult();
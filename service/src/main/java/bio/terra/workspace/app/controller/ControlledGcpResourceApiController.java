@@ -68,17 +68,18 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
             .common(commonFields)
             .build();
 
-    final ControlledGcsBucketResource createdBucket =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getGcsBucket())
-            .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
-
-    var response =
-        new ApiCreatedControlledGcpGcsBucket()
-            .resourceId(createdBucket.getResourceId())
-            .gcpBucket(createdBucket.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getGcsBucket()),
+        created -> {
+          final ControlledGcsBucketResource createdBucket =
+              created.castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
+          var response =
+              new ApiCreatedControlledGcpGcsBucket()
+                  .resourceId(createdBucket.getResourceId())
+                  .gcpBucket(createdBucket.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -101,15 +102,20 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   @Override
   public ResponseEntity<ApiDeleteControlledGcpGcsBucketResult> getDeleteBucketResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    return getDeleteResult(jobId, userRequest);
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(jobId, Void.class, userRequest, wait),
+        this::buildDeleteResponse);
   }
 
   private ResponseEntity<ApiDeleteControlledGcpGcsBucketResult> getDeleteResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final AsyncJobResult<Void> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest);
+    return buildDeleteResponse(jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest));
+  }
+
+  private ResponseEntity<ApiDeleteControlledGcpGcsBucketResult> buildDeleteResponse(
+      AsyncJobResult<Void> jobResult) {
     var response =
         new ApiDeleteControlledGcpGcsBucketResult()
             .jobReport(jobResult.getJobReport())
@@ -120,11 +126,12 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
   @Override
   public ResponseEntity<ApiGcpGcsBucketResource> getBucket(UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     ControlledGcsBucketResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
@@ -140,19 +147,21 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
     }
     final ControlledGcsBucketResource bucketResource =
         resource.castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
-    controlledResourceService.updateGcsBucket(
-        bucketResource,
-        body.getUpdateParameters(),
-        userRequest,
-        body.getName(),
-        body.getDescription());
-
-    // Retrieve and cast response to ApiGcpGcsBucketResource
-    final ControlledGcsBucketResource updatedResource =
-        controlledResourceService
-            .getControlledResource(workspaceUuid, resourceId, userRequest)
-            .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
-    return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.updateGcsBucketNonBlocking(
+            bucketResource,
+            body.getUpdateParameters(),
+            userRequest,
+            body.getName(),
+            body.getDescription()),
+        unused -> {
+          // Retrieve and cast response to ApiGcpGcsBucketResource
+          final ControlledGcsBucketResource updatedResource =
+              controlledResourceService
+                  .getControlledResource(workspaceUuid, resourceId, userRequest)
+                  .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
+          return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
@@ -182,9 +191,13 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   private ApiCloneControlledGcpGcsBucketResult fetchCloneGcsBucketResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final AsyncJobResult<ApiClonedControlledGcpGcsBucket> jobResult =
+    return buildCloneGcsBucketResult(
         jobService.retrieveAsyncJobResult(
-            jobId, ApiClonedControlledGcpGcsBucket.class, userRequest);
+            jobId, ApiClonedControlledGcpGcsBucket.class, userRequest));
+  }
+
+  private ApiCloneControlledGcpGcsBucketResult buildCloneGcsBucketResult(
+      AsyncJobResult<ApiClonedControlledGcpGcsBucket> jobResult) {
     return new ApiCloneControlledGcpGcsBucketResult()
         .jobReport(jobResult.getJobReport())
         .errorReport(jobResult.getApiErrorReport())
@@ -193,22 +206,77 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   @Override
   public ResponseEntity<ApiCloneControlledGcpGcsBucketResult> getCloneGcsBucketResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     // TODO: validate correct workspace ID. PF-859
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCloneControlledGcpGcsBucketResult result = fetchCloneGcsBucketResult(jobId, userRequest);
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ApiClonedControlledGcpGcsBucket.class, userRequest, wait),
+        jobResult -> {
+          ApiCloneControlledGcpGcsBucketResult result = buildCloneGcsBucketResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
+  }
+
+  @Override
+  public ResponseEntity<ApiSyncControlledGcpGcsBucketResult> syncGcsBucket(
+      UUID workspaceUuid, UUID resourceId, @Valid ApiSyncControlledGcpGcsBucketRequest body) {
+    logger.info(
+        "Syncing GCS bucket resourceId {} workspaceUuid {} from resourceId {}",
+        resourceId,
+        workspaceUuid,
+        body.getSourceResourceId());
+    final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    final String jobId =
+        controlledResourceService.syncGcsBucket(
+            workspaceUuid,
+            resourceId,
+            body.getSourceWorkspaceId(),
+            body.getSourceResourceId(),
+            body.getJobControl(),
+            userRequest);
+    final ApiSyncControlledGcpGcsBucketResult result = fetchSyncGcsBucketResult(jobId, userRequest);
     return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
   }
 
+  private ApiSyncControlledGcpGcsBucketResult fetchSyncGcsBucketResult(
+      String jobId, AuthenticatedUserRequest userRequest) {
+    return buildSyncGcsBucketResult(
+        jobService.retrieveAsyncJobResult(
+            jobId, ApiSyncedControlledGcpGcsBucket.class, userRequest));
+  }
+
+  private ApiSyncControlledGcpGcsBucketResult buildSyncGcsBucketResult(
+      AsyncJobResult<ApiSyncedControlledGcpGcsBucket> jobResult) {
+    return new ApiSyncControlledGcpGcsBucketResult()
+        .jobReport(jobResult.getJobReport())
+        .errorReport(jobResult.getApiErrorReport())
+        .sync(jobResult.getResult());
+  }
+
+  @Override
+  public ResponseEntity<ApiSyncControlledGcpGcsBucketResult> getSyncGcsBucketResult(
+      UUID workspaceUuid, String jobId, Integer wait) {
+    AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ApiSyncedControlledGcpGcsBucket.class, userRequest, wait),
+        jobResult -> {
+          ApiSyncControlledGcpGcsBucketResult result = buildSyncGcsBucketResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
+  }
+
   @Override
   public ResponseEntity<ApiGcpBigQueryDatasetResource> getBigQueryDataset(
       UUID workspaceUuid, UUID resourceId) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     ControlledResource controlledResource =
         controlledResourceService.getControlledResource(workspaceUuid, resourceId, userRequest);
     ControlledBigQueryDatasetResource resource =
         controlledResource.castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
@@ -220,14 +288,20 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
-    controlledResourceService.updateBqDataset(
-        resource, body.getUpdateParameters(), userRequest, body.getName(), body.getDescription());
-
-    final ControlledBigQueryDatasetResource updatedResource =
-        controlledResourceService
-            .getControlledResource(workspaceUuid, resourceId, userRequest)
-            .castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
-    return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.updateBqDatasetNonBlocking(
+            resource,
+            body.getUpdateParameters(),
+            userRequest,
+            body.getName(),
+            body.getDescription()),
+        unused -> {
+          final ControlledBigQueryDatasetResource updatedResource =
+              controlledResourceService
+                  .getControlledResource(workspaceUuid, resourceId, userRequest)
+                  .castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
+          return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
@@ -249,17 +323,18 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
             .common(commonFields)
             .build();
 
-    final ControlledBigQueryDatasetResource createdDataset =
-        controlledResourceService
-            .createControlledResourceSync(
-                resource, commonFields.getIamRole(), userRequest, body.getDataset())
-            .castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
-
-    var response =
-        new ApiCreatedControlledGcpBigQueryDataset()
-            .resourceId(createdDataset.getResourceId())
-            .bigQueryDataset(createdDataset.toApiResource());
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.createControlledResourceNonBlocking(
+            resource, commonFields.getIamRole(), userRequest, body.getDataset()),
+        created -> {
+          final ControlledBigQueryDatasetResource createdDataset =
+              created.castByEnum(WsmResourceType.CONTROLLED_GCP_BIG_QUERY_DATASET);
+          var response =
+              new ApiCreatedControlledGcpBigQueryDataset()
+                  .resourceId(createdDataset.getResourceId())
+                  .bigQueryDataset(createdDataset.toApiResource());
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -269,9 +344,10 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
         "Deleting controlled BQ dataset resource {} in workspace {}",
         resourceId.toString(),
         workspaceUuid.toString());
-    controlledResourceService.deleteControlledResourceSync(
-        workspaceUuid, resourceId, userRequest, true);
-    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    return respondWhenDone(
+        controlledResourceService.deleteControlledResourceNonBlocking(
+            workspaceUuid, resourceId, userRequest, true),
+        unused -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
   }
 
   @Override
@@ -318,36 +394,45 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_GCP_AI_NOTEBOOK_INSTANCE);
-    controlledResourceService.updateAiNotebookInstance(
-        resource,
-        requestBody.getUpdateParameters(),
-        requestBody.getName(),
-        requestBody.getDescription(),
-        userRequest);
-
-    final ControlledAiNotebookInstanceResource updatedResource =
-        controlledResourceService
-            .getControlledResource(workspaceUuid, resourceId, userRequest)
-            .castByEnum(WsmResourceType.CONTROLLED_GCP_AI_NOTEBOOK_INSTANCE);
-
-    return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+    return respondWhenDone(
+        controlledResourceService.updateAiNotebookInstanceNonBlocking(
+            resource,
+            requestBody.getUpdateParameters(),
+            requestBody.getName(),
+            requestBody.getDescription(),
+            userRequest),
+        unused -> {
+          final ControlledAiNotebookInstanceResource updatedResource =
+              controlledResourceService
+                  .getControlledResource(workspaceUuid, resourceId, userRequest)
+                  .castByEnum(WsmResourceType.CONTROLLED_GCP_AI_NOTEBOOK_INSTANCE);
+          return new ResponseEntity<>(updatedResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiCreatedControlledGcpAiNotebookInstanceResult>
-      getCreateAiNotebookInstanceResult(UUID workspaceUuid, String jobId) {
+      getCreateAiNotebookInstanceResult(UUID workspaceUuid, String jobId, Integer wait) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCreatedControlledGcpAiNotebookInstanceResult result =
-        fetchNotebookInstanceCreateResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ControlledAiNotebookInstanceResource.class, userRequest, wait),
+        jobResult -> {
+          ApiCreatedControlledGcpAiNotebookInstanceResult result =
+              buildNotebookInstanceCreateResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   private ApiCreatedControlledGcpAiNotebookInstanceResult fetchNotebookInstanceCreateResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    AsyncJobResult<ControlledAiNotebookInstanceResource> jobResult =
+    return buildNotebookInstanceCreateResult(
         jobService.retrieveAsyncJobResult(
-            jobId, ControlledAiNotebookInstanceResource.class, userRequest);
+            jobId, ControlledAiNotebookInstanceResource.class, userRequest));
+  }
 
+  private ApiCreatedControlledGcpAiNotebookInstanceResult buildNotebookInstanceCreateResult(
+      AsyncJobResult<ControlledAiNotebookInstanceResource> jobResult) {
     ApiGcpAiNotebookInstanceResource apiResource = null;
     if (jobResult.getJobReport().getStatus().equals(ApiJobReport.StatusEnum.SUCCEEDED)) {
       ControlledAiNotebookInstanceResource resource = jobResult.getResult();
@@ -385,17 +470,25 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   @Override
   public ResponseEntity<ApiDeleteControlledGcpAiNotebookInstanceResult>
-      getDeleteAiNotebookInstanceResult(UUID workspaceUuid, String jobId) {
+      getDeleteAiNotebookInstanceResult(UUID workspaceUuid, String jobId, Integer wait) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiDeleteControlledGcpAiNotebookInstanceResult result =
-        fetchNotebookInstanceDeleteResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(jobId, Void.class, userRequest, wait),
+        jobResult -> {
+          ApiDeleteControlledGcpAiNotebookInstanceResult result =
+              buildNotebookInstanceDeleteResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   private ApiDeleteControlledGcpAiNotebookInstanceResult fetchNotebookInstanceDeleteResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    AsyncJobResult<Void> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest);
+    return buildNotebookInstanceDeleteResult(
+        jobService.retrieveAsyncJobResult(jobId, Void.class, userRequest));
+  }
+
+  private ApiDeleteControlledGcpAiNotebookInstanceResult buildNotebookInstanceDeleteResult(
+      AsyncJobResult<Void> jobResult) {
     return new ApiDeleteControlledGcpAiNotebookInstanceResult()
         .jobReport(jobResult.getJobReport())
         .errorReport(jobResult.getApiErrorReport());
@@ -405,13 +498,14 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
   public ResponseEntity<ApiGcpAiNotebookInstanceResource> getAiNotebookInstance(
       UUID workspaceUuid, UUID resourceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    final long version = controlledResourceService.getResourceVersion(workspaceUuid, resourceId);
     ControlledAiNotebookInstanceResource resource =
         controlledResourceService
             .getControlledResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.CONTROLLED_GCP_AI_NOTEBOOK_INSTANCE);
     // TODO: security check for: workspaceService.getAuthorizedRequiredGcpProject(workspaceUuid,
     //  userRequest));
-    return new ResponseEntity<>(resource.toApiResource(), HttpStatus.OK);
+    return versionedResponse(version, resource::toApiResource);
   }
 
   @Override
@@ -441,9 +535,13 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   private ApiCloneControlledGcpBigQueryDatasetResult fetchCloneBigQueryDatasetResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final AsyncJobResult<ApiClonedControlledGcpBigQueryDataset> jobResult =
+    return buildCloneBigQueryDatasetResult(
         jobService.retrieveAsyncJobResult(
-            jobId, ApiClonedControlledGcpBigQueryDataset.class, userRequest);
+            jobId, ApiClonedControlledGcpBigQueryDataset.class, userRequest));
+  }
+
+  private ApiCloneControlledGcpBigQueryDatasetResult buildCloneBigQueryDatasetResult(
+      AsyncJobResult<ApiClonedControlledGcpBigQueryDataset> jobResult) {
     return new ApiCloneControlledGcpBigQueryDatasetResult()
         .jobReport(jobResult.getJobReport())
         .errorReport(jobResult.getApiErrorReport())
@@ -452,12 +550,17 @@ public class ControlledGcpResourceApiController extends ControlledResourceContro
 
   @Override
   public ResponseEntity<ApiCloneControlledGcpBigQueryDatasetResult> getCloneBigQueryDatasetResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     // TODO: validate correct workspace ID. PF-859
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCloneControlledGcpBigQueryDatasetResult result =
-        fetchCloneBigQueryDatasetResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ApiClonedControlledGcpBigQueryDataset.class, userRequest, wait),
+        jobResult -> {
+          ApiCloneControlledGcpBigQueryDatasetResult result =
+              buildCloneBigQueryDatasetResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   private AuthenticatedUserRequest getPetRequest(UUID workspaceUuid) {
@@ -17,19 +17,31 @@ import bio.terra.workspace.service.iam.model.SamConstants;
 import bio.terra.workspace.service.resource.controlled.model.AccessScopeType;
 import bio.terra.workspace.service.resource.controlled.model.ManagedByType;
 import bio.terra.workspace.service.resource.controlled.model.PrivateUserRole;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 
 /**
  * Super class for controllers containing common code. The code in here requires the @Autowired
  * beans from the @Controller classes, so it is better as a superclass rather than static methods.
  */
 public class ControllerBase {
+  // An async timeout of zero means none
+  private static final long NO_ASYNC_TIMEOUT = 0;
+
   private final AuthenticatedUserRequestFactory authenticatedUserRequestFactory;
   private final HttpServletRequest request;
   private final SamService samService;
@@ -88,6 +100,87 @@ public class ControllerBase {
     return jobReport.getStatus() == StatusEnum.RUNNING ? HttpStatus.ACCEPTED : HttpStatus.OK;
   }
 
+  /**
+   * Respond to a GET of a versioned object with its version as a strong entity tag. If the
+   * request's If-None-Match already names that version, respond 304 without building the body.
+   *
+   * <p>Read the version before the object. A concurrent change then leaves the tag older than the
+   * body, costing the client one extra fetch, rather than newer, which would hide the change.
+   *
+   * @param version current version of the object
+   * @param body builds the response body
+   */
+  public <T> ResponseEntity<T> versionedResponse(long version, Supplier<T> body) {
+    return versionedResponse(request, version, body);
+  }
+
+  /** Like {@link #versionedResponse(long, Supplier)}, for controllers not based on this class. */
+  public static <T> ResponseEntity<T> versionedResponse(
+      HttpServletRequest request, long version, Supplier<T> body) {
+    String eTag = "\"" + version + "\"";
+    if (matchesIfNoneMatch(request, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+    return ResponseEntity.ok().eTag(eTag).body(body.get());
+  }
+
+  /** If-None-Match uses the weak comparison, so a weak form of the tag also matches. */
+  private static boolean matchesIfNoneMatch(HttpServletRequest request, String eTag) {
+    for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+      for (String candidate : header.split(",")) {
+        String tag = StringUtils.removeStart(candidate.trim(), "W/");
+        if (tag.equals("*") || tag.equals(eTag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Respond once a job finishes without holding the request thread while it runs. The request is
+   * switched to asynchronous processing and this returns null; Spring writes the response when the
+   * job completes. A job failure goes through the usual exception handlers, so clients see the same
+   * responses as when the request waited for the job.
+   *
+   * <p>Build the response from values captured before the call: it runs on a job thread, where the
+   * request is no longer available.
+   *
+   * @param job future from JobBuilder#submitAndGetFuture
+   * @param response builds the response from the job result
+   */
+  public <T, R> ResponseEntity<R> respondWhenDone(
+      CompletableFuture<T> job, Function<T, ResponseEntity<R>> response) {
+    return respondWhenDone(request, job, response);
+  }
+
+  /** Like {@link #respondWhenDone(CompletableFuture, Function)}, for other controllers. */
+  public static <T, R> ResponseEntity<R> respondWhenDone(
+      HttpServletRequest request,
+      CompletableFuture<T> job,
+      Function<T, ResponseEntity<R>> response) {
+    // The job enforces its own timeout, so the request must not time out first
+    DeferredResult<ResponseEntity<R>> deferredResult = new DeferredResult<>(NO_ASYNC_TIMEOUT);
+    job.thenApply(response)
+        .whenComplete(
+            (result, exception) -> {
+              if (exception == null) {
+                deferredResult.setResult(result);
+              } else if (exception instanceof CompletionException
+                  && exception.getCause() != null) {
+                deferredResult.setErrorResult(exception.getCause());
+              } else {
+                deferredResult.setErrorResult(exception);
+              }
+            });
+    try {
+      WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(deferredResult);
+    } catch (Exception e) {
+      throw new InternalLogicException("Unable to start asynchronous response", e);
+    }
+    return null;
+  }
+
   /**
    * Validate and provide defaulting for the private resource user. The property is never required.
    * The only time it is allowed is for application-private resources. If it is populated, we
@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 public class JobsApiController implements JobsApi {
@@ -34,9 +35,14 @@ public class JobsApiController implements JobsApi {
   }
 
   @Override
-  public ResponseEntity<ApiJobReport> retrieveJob(@PathVariable("jobId") String jobId) {
+  public ResponseEntity<ApiJobReport> retrieveJob(
+      @PathVariable("jobId") String jobId,
+      @RequestParam(value = "wait", required = false) Integer wait) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiJobReport jobReport = jobService.retrieveJob(jobId, userRequest);
-    return new ResponseEntity<>(jobReport, HttpStatus.valueOf(jobReport.getStatusCode()));
+    return ControllerBase.respondWhenDone(
+        request,
+        jobService.retrieveJobNonBlocking(jobId, userRequest, wait),
+        jobReport ->
+            new ResponseEntity<>(jobReport, HttpStatus.valueOf(jobReport.getStatusCode())));
   }
 }
@@ -103,22 +103,27 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .fileName(body.getFile().getFileName())
             .build();
 
-    ReferencedGcsObjectResource referencedResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_GCP_GCS_OBJECT);
-    return new ResponseEntity<>(referencedResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedGcsObjectResource referencedResource =
+              created.castByEnum(WsmResourceType.REFERENCED_GCP_GCS_OBJECT);
+          return new ResponseEntity<>(referencedResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiGcpGcsObjectResource> getGcsObjectReference(
       UUID uuid, UUID referenceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version = referenceResourceService.getResourceVersion(uuid, referenceId, userRequest);
     ReferencedGcsObjectResource referenceResource =
         referenceResourceService
             .getReferenceResource(uuid, referenceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_GCP_GCS_OBJECT);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -165,14 +170,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
       if (null != cloningInstructions) {
         updateBucketObjectResourceBuilder.cloningInstructions(cloningInstructions);
       }
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          referenceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updateBucketObjectResourceBuilder.build(),
-          null); // included in resource arg
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              referenceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updateBucketObjectResourceBuilder.build(),
+              null), // included in resource arg
+          updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
@@ -201,21 +209,26 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .bucketName(body.getBucket().getBucketName())
             .build();
 
-    ReferencedGcsBucketResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_GCP_GCS_BUCKET);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedGcsBucketResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_GCP_GCS_BUCKET);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiGcpGcsBucketResource> getBucketReference(UUID uuid, UUID referenceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version = referenceResourceService.getResourceVersion(uuid, referenceId, userRequest);
     ReferencedGcsBucketResource referenceResource =
         referenceResourceService
             .getReferenceResource(uuid, referenceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_GCP_GCS_BUCKET);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -255,14 +268,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
         // only overwrite if non-null
         updateBucketResourceBuilder.cloningInstructions(cloningInstructions);
       }
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          referenceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updateBucketResourceBuilder.build(),
-          null); // passed in via resource argument
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              referenceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updateBucketResourceBuilder.build(),
+              null), // passed in via resource argument
+          updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
@@ -290,22 +306,27 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .datasetId(body.getDataTable().getDatasetId())
             .dataTableId(body.getDataTable().getDataTableId())
             .build();
-    ReferencedBigQueryDataTableResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATA_TABLE);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedBigQueryDataTableResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATA_TABLE);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiGcpBigQueryDataTableResource> getBigQueryDataTableReference(
       UUID uuid, UUID referenceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version = referenceResourceService.getResourceVersion(uuid, referenceId, userRequest);
     ReferencedBigQueryDataTableResource referenceResource =
         referenceResourceService
             .getReferenceResource(uuid, referenceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATA_TABLE);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -355,14 +376,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
       if (!StringUtils.isEmpty(updatedDataTableId)) {
         updateBqTableResource.dataTableId(updatedDataTableId);
       }
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          referenceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updateBqTableResource.build(),
-          cloningInstructions);
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              referenceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updateBqTableResource.build(),
+              cloningInstructions),
+          updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -398,22 +422,27 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .datasetName(body.getDataset().getDatasetId())
             .build();
 
-    ReferencedBigQueryDatasetResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATASET);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedBigQueryDatasetResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATASET);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiGcpBigQueryDatasetResource> getBigQueryDatasetReference(
       UUID uuid, UUID referenceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version = referenceResourceService.getResourceVersion(uuid, referenceId, userRequest);
     ReferencedBigQueryDatasetResource referenceResource =
         referenceResourceService
             .getReferenceResource(uuid, referenceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_GCP_BIG_QUERY_DATASET);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -459,14 +488,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
       if (!StringUtils.isEmpty(updatedDatasetId)) {
         updatedBqDatasetResourceBuilder.datasetName(updatedDatasetId);
       }
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          resourceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updatedBqDatasetResourceBuilder.build(),
-          cloningInstructions);
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              resourceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updatedBqDatasetResourceBuilder.build(),
+              cloningInstructions),
+          updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
@@ -496,22 +528,27 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .snapshotId(body.getSnapshot().getSnapshot())
             .build();
 
-    ReferencedDataRepoSnapshotResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_ANY_DATA_REPO_SNAPSHOT);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedDataRepoSnapshotResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_ANY_DATA_REPO_SNAPSHOT);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiDataRepoSnapshotResource> getDataRepoSnapshotReference(
       UUID uuid, UUID referenceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version = referenceResourceService.getResourceVersion(uuid, referenceId, userRequest);
     ReferencedDataRepoSnapshotResource referenceResource =
         referenceResourceService
             .getReferenceResource(uuid, referenceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_ANY_DATA_REPO_SNAPSHOT);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -553,14 +590,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
       if (!StringUtils.isEmpty(updatedInstanceName)) {
         updatedResourceBuilder.instanceName(updatedInstanceName);
       }
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          resourceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updatedResourceBuilder.build(),
-          CloningInstructions.fromApiModel(body.getCloningInstructions()));
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              resourceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updatedResourceBuilder.build(),
+              CloningInstructions.fromApiModel(body.getCloningInstructions())),
+          updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
@@ -813,22 +853,28 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .gitRepoUrl(body.getGitrepo().getGitRepoUrl())
             .build();
 
-    ReferencedGitRepoResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_ANY_GIT_REPO);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedGitRepoResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_ANY_GIT_REPO);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiGitRepoResource> getGitRepoReference(
       UUID workspaceUuid, UUID resourceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version =
+        referenceResourceService.getResourceVersion(workspaceUuid, resourceId, userRequest);
     ReferencedGitRepoResource referenceResource =
         referenceResourceService
             .getReferenceResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_ANY_GIT_REPO);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -866,14 +912,17 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
       validationUtils.validateGitRepoUri(gitRepoUrl);
       updateGitRepoResource.gitRepoUrl(gitRepoUrl);
 
-      referenceResourceService.updateReferenceResource(
-          workspaceUuid,
-          referenceId,
-          userRequest,
-          body.getName(),
-          body.getDescription(),
-          updateGitRepoResource.build(),
-          CloningInstructions.fromApiModel(body.getCloningInstructions()));
+      return ControllerBase.respondWhenDone(
+          request,
+          referenceResourceService.updateReferenceResourceNonBlocking(
+              workspaceUuid,
+              referenceId,
+              userRequest,
+              body.getName(),
+              body.getDescription(),
+              updateGitRepoResource.build(),
+              CloningInstructions.fromApiModel(body.getCloningInstructions())),
+          updated -> new ResponseEntity<>(HttpStatus.OK));
     }
     return new ResponseEntity<>(HttpStatus.OK);
   }
@@ -946,22 +995,28 @@ public class ReferencedGcpResourceController implements ReferencedGcpResourceApi
             .referencedWorkspaceId(referencedWorkspaceId)
             .build();
 
-    ReferencedTerraWorkspaceResource referenceResource =
-        referenceResourceService
-            .createReferenceResource(resource, getAuthenticatedInfo())
-            .castByEnum(WsmResourceType.REFERENCED_ANY_TERRA_WORKSPACE);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        referenceResourceService.createReferenceResourceNonBlocking(
+            resource, getAuthenticatedInfo()),
+        created -> {
+          ReferencedTerraWorkspaceResource referenceResource =
+              created.castByEnum(WsmResourceType.REFERENCED_ANY_TERRA_WORKSPACE);
+          return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+        });
   }
 
   @Override
   public ResponseEntity<ApiTerraWorkspaceResource> getTerraWorkspaceReference(
       UUID workspaceUuid, UUID resourceId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    long version =
+        referenceResourceService.getResourceVersion(workspaceUuid, resourceId, userRequest);
     ReferencedTerraWorkspaceResource referenceResource =
         referenceResourceService
             .getReferenceResource(workspaceUuid, resourceId, userRequest)
             .castByEnum(WsmResourceType.REFERENCED_ANY_TERRA_WORKSPACE);
-    return new ResponseEntity<>(referenceResource.toApiResource(), HttpStatus.OK);
+    return ControllerBase.versionedResponse(request, version, referenceResource::toApiResource);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package bio.terra.workspace.app.controller;
 
 import bio.terra.workspace.common.utils.ControllerValidationUtils;
+import bio.terra.workspace.db.model.DbWorkspaceChange;
 import bio.terra.workspace.generated.controller.WorkspaceApi;
 import bio.terra.workspace.generated.model.ApiAzureContext;
 import bio.terra.workspace.generated.model.ApiCloneWorkspaceRequest;
@@ -20,6 +21,8 @@ import bio.terra.workspace.generated.model.ApiProperty;
 import bio.terra.workspace.generated.model.ApiRoleBinding;
 import bio.terra.workspace.generated.model.ApiRoleBindingList;
 import bio.terra.workspace.generated.model.ApiUpdateWorkspaceRequestBody;
+import bio.terra.workspace.generated.model.ApiWorkspaceChange;
+import bio.terra.workspace.generated.model.ApiWorkspaceChangeList;
 import bio.terra.workspace.generated.model.ApiWorkspaceDescription;
 import bio.terra.workspace.generated.model.ApiWorkspaceDescriptionList;
 import bio.terra.workspace.generated.model.ApiWorkspaceStageModel;
@@ -36,6 +39,7 @@ import bio.terra.workspace.service.petserviceaccount.PetSaService;
 import bio.terra.workspace.service.spendprofile.SpendProfileId;
 import bio.terra.workspace.service.workspace.AzureCloudContextService;
 import bio.terra.workspace.service.workspace.GcpCloudContextService;
+import bio.terra.workspace.service.workspace.WorkspaceChangeService;
 import bio.terra.workspace.service.workspace.WorkspaceService;
 import bio.terra.workspace.service.workspace.exceptions.CloudContextRequiredException;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
@@ -43,11 +47,14 @@ import bio.terra.workspace.service.workspace.model.CloudContextHolder;
 import bio.terra.workspace.service.workspace.model.GcpCloudContext;
 import bio.terra.workspace.service.workspace.model.Workspace;
 import bio.terra.workspace.service.workspace.model.WorkspaceStage;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -59,6 +66,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 public class WorkspaceApiController extends ControllerBase implements WorkspaceApi {
@@ -69,6 +77,7 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
   private final AzureCloudContextService azureCloudContextService;
   private final GcpCloudContextService gcpCloudContextService;
   private final PetSaService petSaService;
+  private final WorkspaceChangeService workspaceChangeService;
 
   @Autowired
   public WorkspaceApiController(
@@ -79,7 +88,8 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
       HttpServletRequest request,
       GcpCloudContextService gcpCloudContextService,
       PetSaService petSaService,
-      AzureCloudContextService azureCloudContextService) {
+      AzureCloudContextService azureCloudContextService,
+      WorkspaceChangeService workspaceChangeService) {
     super(authenticatedUserRequestFactory, request, samService);
     this.workspaceService = workspaceService;
     this.jobService = jobService;
@@ -87,6 +97,7 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
     this.azureCloudContextService = azureCloudContextService;
     this.gcpCloudContextService = gcpCloudContextService;
     this.petSaService = petSaService;
+    this.workspaceChangeService = workspaceChangeService;
   }
 
   @Override
@@ -124,12 +135,30 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
             .workspaceStage(internalStage)
             .properties(propertyMapFromApi(body.getProperties()))
             .build();
-    UUID createdId = workspaceService.createWorkspace(workspace, userRequest);
-
-    ApiCreatedWorkspace responseWorkspace = new ApiCreatedWorkspace().id(createdId);
-    logger.info("Created workspace {} for {}", responseWorkspace, userRequest.getEmail());
-
-    return new ResponseEntity<>(responseWorkspace, HttpStatus.OK);
+    if (body.getGcpCloudContext() == null) {
+      // Release the request thread while the workspace is created
+      return respondWhenDone(
+          workspaceService.createWorkspaceNonBlocking(workspace, userRequest),
+          createdId -> {
+            ApiCreatedWorkspace responseWorkspace = new ApiCreatedWorkspace().id(createdId);
+            logger.info("Created workspace {} for {}", responseWorkspace, userRequest.getEmail());
+            return new ResponseEntity<>(responseWorkspace, HttpStatus.OK);
+          });
+    }
+    String jobId = body.getGcpCloudContext().getJobControl().getId();
+    return respondWhenDone(
+        workspaceService.createWorkspaceWithGcpCloudContextNonBlocking(
+            workspace, userRequest, jobId, getAsyncResultEndpoint(jobId)),
+        createdId -> {
+          ApiCreateCloudContextResult contextResult =
+              fetchCreateCloudContextResult(jobId, userRequest);
+          ApiCreatedWorkspace responseWorkspace =
+              new ApiCreatedWorkspace()
+                  .id(createdId)
+                  .gcpCloudContextJob(contextResult.getJobReport());
+          logger.info("Created workspace {} for {}", responseWorkspace, userRequest.getEmail());
+          return new ResponseEntity<>(responseWorkspace, HttpStatus.OK);
+        });
   }
 
   @Override
@@ -184,11 +213,15 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
       @PathVariable("workspaceId") UUID uuid) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     logger.info("Getting workspace {} for {}", uuid, userRequest.getEmail());
-    Workspace workspace = workspaceService.getWorkspace(uuid, userRequest);
-    ApiWorkspaceDescription desc = buildWorkspaceDescription(workspace);
-    logger.info("Got workspace {} for {}", desc, userRequest.getEmail());
-
-    return new ResponseEntity<>(desc, HttpStatus.OK);
+    long version = workspaceService.getWorkspaceVersion(uuid, userRequest);
+    return versionedResponse(
+        version,
+        () -> {
+          Workspace workspace = workspaceService.getWorkspace(uuid, userRequest);
+          ApiWorkspaceDescription desc = buildWorkspaceDescription(workspace);
+          logger.info("Got workspace {} for {}", desc, userRequest.getEmail());
+          return desc;
+        });
   }
 
   @Override
@@ -226,10 +259,54 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
   public ResponseEntity<Void> deleteWorkspace(@PathVariable("workspaceId") UUID uuid) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     logger.info("Deleting workspace {} for {}", uuid, userRequest.getEmail());
-    workspaceService.deleteWorkspace(uuid, userRequest);
-    logger.info("Deleted workspace {} for {}", uuid, userRequest.getEmail());
+    return respondWhenDone(
+        workspaceService.deleteWorkspaceNonBlocking(uuid, userRequest),
+        unused -> {
+          logger.info("Deleted workspace {} for {}", uuid, userRequest.getEmail());
+          return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        });
+  }
 
-    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+  @Override
+  public ResponseEntity<ApiWorkspaceChangeList> listWorkspaceChanges(
+      @PathVariable("workspaceId") UUID workspaceUuid,
+      @RequestParam(value = "after", required = false) Long after,
+      @RequestParam(value = "wait", required = false) Integer wait,
+      @Valid @RequestParam(value = "limit", required = false, defaultValue = "10") Integer limit) {
+    AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
+    ControllerValidationUtils.validatePaginationParams(0, limit);
+    workspaceService.validateWorkspaceAndAction(
+        userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.READ);
+    if (after == null) {
+      var response =
+          new ApiWorkspaceChangeList()
+              .changes(List.of())
+              .lastSequence(workspaceChangeService.getLastChangeId(workspaceUuid));
+      return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+    // Release the request thread while waiting for changes
+    return respondWhenDone(
+        workspaceChangeService.awaitChanges(workspaceUuid, after, limit, wait),
+        changes -> {
+          long lastSequence =
+              changes.isEmpty() ? after : changes.get(changes.size() - 1).getChangeId();
+          var response =
+              new ApiWorkspaceChangeList()
+                  .changes(
+                      changes.stream()
+                          .map(WorkspaceApiController::buildWorkspaceChange)
+                          .collect(Collectors.toList()))
+                  .lastSequence(lastSequence);
+          return new ResponseEntity<>(response, HttpStatus.OK);
+        });
+  }
+
+  private static ApiWorkspaceChange buildWorkspaceChange(DbWorkspaceChange change) {
+    return new ApiWorkspaceChange()
+        .sequence(change.getChangeId())
+        .changeType(change.getChangeType().toApiModel())
+        .objectId(change.getObjectId().orElse(null))
+        .changedDate(OffsetDateTime.ofInstant(change.getChanged(), ZoneOffset.UTC));
   }
 
   @Override
@@ -273,9 +350,10 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
           "Users cannot remove role APPLICATION. Use application registration instead.");
     }
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    workspaceService.removeWorkspaceRoleFromUser(
-        uuid, WsmIamRole.fromApiModel(role), memberEmail, userRequest);
-    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    return respondWhenDone(
+        workspaceService.removeWorkspaceRoleFromUserNonBlocking(
+            uuid, WsmIamRole.fromApiModel(role), memberEmail, userRequest),
+        removed -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
   }
 
   @Override
@@ -319,17 +397,25 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
 
   @Override
   public ResponseEntity<ApiCreateCloudContextResult> getCreateCloudContextResult(
-      UUID uuid, String jobId) {
+      UUID uuid, String jobId, Integer wait) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    ApiCreateCloudContextResult response = fetchCreateCloudContextResult(jobId, userRequest);
-    return new ResponseEntity<>(response, getAsyncResponseCode(response.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, CloudContextHolder.class, userRequest, wait),
+        jobResult -> {
+          ApiCreateCloudContextResult response = buildCreateCloudContextResult(jobResult);
+          return new ResponseEntity<>(response, getAsyncResponseCode(response.getJobReport()));
+        });
   }
 
   private ApiCreateCloudContextResult fetchCreateCloudContextResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final AsyncJobResult<CloudContextHolder> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, CloudContextHolder.class, userRequest);
+    return buildCreateCloudContextResult(
+        jobService.retrieveAsyncJobResult(jobId, CloudContextHolder.class, userRequest));
+  }
 
+  private ApiCreateCloudContextResult buildCreateCloudContextResult(
+      AsyncJobResult<CloudContextHolder> jobResult) {
     ApiGcpContext gcpContext = null;
     ApiAzureContext azureContext = null;
 
@@ -361,12 +447,11 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
   public ResponseEntity<Void> deleteCloudContext(UUID uuid, ApiCloudPlatform cloudPlatform) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
     ControllerValidationUtils.validateCloudPlatform(cloudPlatform);
-    if (cloudPlatform == ApiCloudPlatform.AZURE) {
-      workspaceService.deleteAzureCloudContext(uuid, userRequest);
-    } else {
-      workspaceService.deleteGcpCloudContext(uuid, userRequest);
-    }
-    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    CompletableFuture<Void> deleteJob =
+        (cloudPlatform == ApiCloudPlatform.AZURE)
+            ? workspaceService.deleteAzureCloudContextNonBlocking(uuid, userRequest)
+            : workspaceService.deleteGcpCloudContextNonBlocking(uuid, userRequest);
+    return respondWhenDone(deleteJob, unused -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
   }
 
   @Override
@@ -442,17 +527,26 @@ public class WorkspaceApiController extends ControllerBase implements WorkspaceA
    */
   @Override
   public ResponseEntity<ApiCloneWorkspaceResult> getCloneWorkspaceResult(
-      UUID workspaceUuid, String jobId) {
+      UUID workspaceUuid, String jobId, Integer wait) {
     final AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    final ApiCloneWorkspaceResult result = fetchCloneWorkspaceResult(jobId, userRequest);
-    return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+    return respondWhenDone(
+        jobService.retrieveAsyncJobResultNonBlocking(
+            jobId, ApiClonedWorkspace.class, userRequest, wait),
+        jobResult -> {
+          final ApiCloneWorkspaceResult result = buildCloneWorkspaceResult(jobResult);
+          return new ResponseEntity<>(result, getAsyncResponseCode(result.getJobReport()));
+        });
   }
 
   // Retrieve the async result or progress for clone workspace.
   private ApiCloneWorkspaceResult fetchCloneWorkspaceResult(
       String jobId, AuthenticatedUserRequest userRequest) {
-    final AsyncJobResult<ApiClonedWorkspace> jobResult =
-        jobService.retrieveAsyncJobResult(jobId, ApiClonedWorkspace.class, userRequest);
+    return buildCloneWorkspaceResult(
+        jobService.retrieveAsyncJobResult(jobId, ApiClonedWorkspace.class, userRequest));
+  }
+
+  private ApiCloneWorkspaceResult buildCloneWorkspaceResult(
+      AsyncJobResult<ApiClonedWorkspace> jobResult) {
     return new ApiCloneWorkspaceResult()
         .jobReport(jobResult.getJobReport())
         .errorReport(jobResult.getApiErrorReport())
@@ -49,10 +49,11 @@ public class WorkspaceApplicationApiController implements WorkspaceApplicationAp
       @PathVariable("workspaceId") UUID workspaceUuid,
       @PathVariable("applicationId") String applicationId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    WsmWorkspaceApplication wsmApp =
-        appService.disableWorkspaceApplication(userRequest, workspaceUuid, applicationId);
-    ApiWorkspaceApplicationDescription response = makeApiWorkspaceApplication(wsmApp);
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        appService.disableWorkspaceApplicationNonBlocking(
+            userRequest, workspaceUuid, applicationId),
+        wsmApp -> new ResponseEntity<>(makeApiWorkspaceApplication(wsmApp), HttpStatus.OK));
   }
 
   @Override
@@ -60,10 +61,10 @@ public class WorkspaceApplicationApiController implements WorkspaceApplicationAp
       @PathVariable("workspaceId") UUID workspaceUuid,
       @PathVariable("applicationId") String applicationId) {
     AuthenticatedUserRequest userRequest = getAuthenticatedInfo();
-    WsmWorkspaceApplication wsmApp =
-        appService.enableWorkspaceApplication(userRequest, workspaceUuid, applicationId);
-    ApiWorkspaceApplicationDescription response = makeApiWorkspaceApplication(wsmApp);
-    return new ResponseEntity<>(response, HttpStatus.OK);
+    return ControllerBase.respondWhenDone(
+        request,
+        appService.enableWorkspaceApplicationNonBlocking(userRequest, workspaceUuid, applicationId),
+        wsmApp -> new ResponseEntity<>(makeApiWorkspaceApplication(wsmApp), HttpStatus.OK));
   }
 
   @Override
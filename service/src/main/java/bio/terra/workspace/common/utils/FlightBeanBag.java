@@ -1,17 +1,22 @@
 package bio.terra.workspace.common.utils;
 
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
+import bio.terra.workspace.app.configuration.external.BucketCloneConfiguration;
 import bio.terra.workspace.app.configuration.external.CliConfiguration;
 import bio.terra.workspace.db.ApplicationDao;
+import bio.terra.workspace.db.BucketSyncDao;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.db.WorkspaceDao;
 import bio.terra.workspace.service.buffer.BufferService;
 import bio.terra.workspace.service.crl.CrlService;
 import bio.terra.workspace.service.datarepo.DataRepoService;
 import bio.terra.workspace.service.iam.SamService;
+import bio.terra.workspace.service.job.FlightAdmission;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.petserviceaccount.PetSaService;
 import bio.terra.workspace.service.resource.controlled.ControlledResourceMetadataManager;
 import bio.terra.workspace.service.resource.controlled.ControlledResourceService;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.GcpNetworkService;
 import bio.terra.workspace.service.resource.controlled.flight.clone.bucket.BucketCloneRolesService;
 import bio.terra.workspace.service.resource.referenced.cloud.gcp.ReferencedResourceService;
 import bio.terra.workspace.service.spendprofile.SpendProfileService;
@@ -35,14 +40,19 @@ public class FlightBeanBag {
   private final ApplicationDao applicationDao;
   private final AzureCloudContextService azureCloudContextService;
   private final AzureConfiguration azureConfig;
+  private final BucketCloneConfiguration bucketCloneConfiguration;
   private final BucketCloneRolesService bucketCloneRolesService;
+  private final BucketSyncDao bucketSyncDao;
   private final BufferService bufferService;
   private final CliConfiguration cliConfiguration;
+  private final CloudOperationService cloudOperationService;
   private final ControlledResourceMetadataManager controlledResourceMetadataManager;
   private final ControlledResourceService controlledResourceService;
   private final CrlService crlService;
   private final DataRepoService dataRepoService;
+  private final FlightAdmission flightAdmission;
   private final GcpCloudContextService gcpCloudContextService;
+  private final GcpNetworkService gcpNetworkService;
   private final PetSaService petSaService;
   private final ReferencedResourceService referencedResourceService;
   private final ResourceDao resourceDao;
@@ -58,14 +68,19 @@ public class FlightBeanBag {
       ApplicationDao applicationDao,
       AzureCloudContextService azureCloudContextService,
       AzureConfiguration azureConfig,
+      BucketCloneConfiguration bucketCloneConfiguration,
       BucketCloneRolesService bucketCloneRolesService,
+      BucketSyncDao bucketSyncDao,
       BufferService bufferService,
       CliConfiguration cliConfiguration,
+      CloudOperationService cloudOperationService,
       ControlledResourceMetadataManager controlledResourceMetadataManager,
       ControlledResourceService controlledResourceService,
       CrlService crlService,
       DataRepoService dataRepoService,
+      FlightAdmission flightAdmission,
       GcpCloudContextService gcpCloudContextService,
+      GcpNetworkService gcpNetworkService,
       PetSaService petSaService,
       ReferencedResourceService referencedResourceService,
       ResourceDao resourceDao,
@@ -77,14 +92,19 @@ public class FlightBeanBag {
     this.applicationDao = applicationDao;
     this.azureCloudContextService = azureCloudContextService;
     this.azureConfig = azureConfig;
+    this.bucketCloneConfiguration = bucketCloneConfiguration;
     this.bucketCloneRolesService = bucketCloneRolesService;
+    this.bucketSyncDao = bucketSyncDao;
     this.bufferService = bufferService;
     this.cliConfiguration = cliConfiguration;
+    this.cloudOperationService = cloudOperationService;
     this.controlledResourceMetadataManager = controlledResourceMetadataManager;
     this.controlledResourceService = controlledResourceService;
     this.crlService = crlService;
     this.dataRepoService = dataRepoService;
+    this.flightAdmission = flightAdmission;
     this.gcpCloudContextService = gcpCloudContextService;
+    this.gcpNetworkService = gcpNetworkService;
     this.petSaService = petSaService;
     this.referencedResourceService = referencedResourceService;
     this.resourceDao = resourceDao;
@@ -107,14 +127,26 @@ public class FlightBeanBag {
     return azureCloudContextService;
   }
 
+  public BucketCloneConfiguration getBucketCloneConfiguration() {
+    return bucketCloneConfiguration;
+  }
+
   public BucketCloneRolesService getBucketCloneRolesService() {
     return bucketCloneRolesService;
   }
 
+  public BucketSyncDao getBucketSyncDao() {
+    return bucketSyncDao;
+  }
+
   public BufferService getBufferService() {
     return bufferService;
   }
 
+  public CloudOperationService getCloudOperationService() {
+    return cloudOperationService;
+  }
+
   public ControlledResourceMetadataManager getControlledResourceMetadataManager() {
     return controlledResourceMetadataManager;
   }
@@ -131,10 +163,18 @@ public class FlightBeanBag {
     return dataRepoService;
   }
 
+  public FlightAdmission getFlightAdmission() {
+    return flightAdmission;
+  }
+
   public GcpCloudContextService getGcpCloudContextService() {
     return gcpCloudContextService;
   }
 
+  public GcpNetworkService getGcpNetworkService() {
+    return gcpNetworkService;
+  }
+
   public PetSaService getPetSaService() {
     return petSaService;
   }
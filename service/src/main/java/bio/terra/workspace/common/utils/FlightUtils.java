@@ -24,6 +24,8 @@ public final class FlightUtils {
 
   public static final int FLIGHT_POLL_SECONDS = 1;
   public static final int FLIGHT_POLL_CYCLES = 360;
+  private static final Duration SUBFLIGHT_MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+  private static final String SUBFLIGHT_DEADLINE_KEY_PREFIX = "subflightDeadline/";
 
   public static final Map<String, Class<?>> COMMON_FLIGHT_INPUTS =
       Map.of(
@@ -194,4 +196,51 @@ public final class FlightUtils {
     } while (Instant.now().isBefore(endTime));
     throw new FlightWaitTimedOutException("Timed out waiting for flight to complete.");
   }
+
+  /**
+   * Check on a subflight on behalf of a step of its parent, without holding the parent's Stairway
+   * thread. If the subflight is still running, the next check is scheduled with {@link
+   * JobMapKeys#RESUME_TIME} and the caller should return STEP_RESULT_WAIT. Checks back off from
+   * FLIGHT_POLL_SECONDS up to SUBFLIGHT_MAX_POLL_INTERVAL. The deadline of the wait is kept in the
+   * working map, so that it survives the parent being resumed or recovered.
+   *
+   * @param context context of the parent flight
+   * @param subflightId subflight to check on
+   * @return final state of the subflight, or empty if the step should wait
+   * @throws FlightWaitTimedOutException if the subflight has not completed within
+   *     FLIGHT_POLL_SECONDS * FLIGHT_POLL_CYCLES; a retry of the step starts a new wait
+   */
+  public static Optional<FlightState> awaitSubflight(FlightContext context, String subflightId)
+      throws InterruptedException {
+    final FlightMap workingMap = context.getWorkingMap();
+    final String deadlineKey = SUBFLIGHT_DEADLINE_KEY_PREFIX + subflightId;
+    final Instant now = Instant.now();
+    final Duration maxWait = Duration.ofSeconds((long) FLIGHT_POLL_SECONDS * FLIGHT_POLL_CYCLES);
+    Long deadlineMillis = workingMap.get(deadlineKey, Long.class);
+    if (deadlineMillis == null) {
+      deadlineMillis = now.plus(maxWait).toEpochMilli();
+      workingMap.put(deadlineKey, deadlineMillis);
+    }
+
+    FlightState subflightState = context.getStairway().getFlightState(subflightId);
+    if (subflightState.getCompleted().isPresent()) {
+      workingMap.put(deadlineKey, null);
+      return Optional.of(subflightState);
+    }
+    final Instant deadline = Instant.ofEpochMilli(deadlineMillis);
+    if (now.isAfter(deadline)) {
+      workingMap.put(deadlineKey, null);
+      throw new FlightWaitTimedOutException("Timed out waiting for flight to complete.");
+    }
+    // Check about four times as often as the subflight has been running so far
+    final Duration elapsed = Duration.between(deadline.minus(maxWait), now);
+    Duration pollInterval = elapsed.dividedBy(4);
+    if (pollInterval.compareTo(Duration.ofSeconds(FLIGHT_POLL_SECONDS)) < 0) {
+      pollInterval = Duration.ofSeconds(FLIGHT_POLL_SECONDS);
+    } else if (pollInterval.compareTo(SUBFLIGHT_MAX_POLL_INTERVAL) > 0) {
+      pollInterval = SUBFLIGHT_MAX_POLL_INTERVAL;
+    }
+    workingMap.put(JobMapKeys.RESUME_TIME.getKeyName(), now.plus(pollInterval).toEpochMilli());
+    return Optional.empty();
+  }
 }
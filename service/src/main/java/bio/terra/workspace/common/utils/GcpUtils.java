@@ -25,22 +25,32 @@ public class GcpUtils {
   /** Try to delete the Project associated with {@code projectId}. */
   public static void deleteProject(String projectId, CloudResourceManagerCow resourceManager)
       throws IOException, InterruptedException, RetryException {
+    Optional<OperationCow<?>> deleteOperation = startProjectDeletion(projectId, resourceManager);
+    if (deleteOperation.isPresent()) {
+      pollUntilSuccess(deleteOperation.get(), Duration.ofSeconds(5), Duration.ofMinutes(5));
+    }
+  }
+
+  /**
+   * Start deleting the Project associated with {@code projectId}. Returns the delete operation, or
+   * empty if the project does not exist or is already being deleted.
+   */
+  public static Optional<OperationCow<?>> startProjectDeletion(
+      String projectId, CloudResourceManagerCow resourceManager) throws IOException {
     Optional<Project> project = retrieveProject(projectId, resourceManager);
     if (project.isEmpty()) {
       // The project does not exist.
-      return;
+      return Optional.empty();
     }
     if (project.get().getState().equals("DELETE_REQUESTED")
         || project.get().getState().equals("DELETE_IN_PROGRESS")) {
       // The project is already being deleted.
-      return;
+      return Optional.empty();
     }
-    pollUntilSuccess(
+    return Optional.of(
         resourceManager
             .operations()
-            .operationCow(resourceManager.projects().delete(projectId).execute()),
-        Duration.ofSeconds(5),
-        Duration.ofMinutes(5));
+            .operationCow(resourceManager.projects().delete(projectId).execute()));
   }
 
   /**
@@ -70,6 +80,11 @@ public class GcpUtils {
       OperationCow<?> operation, Duration pollingInterval, Duration timeout)
       throws RetryException, IOException, InterruptedException {
     operation = OperationUtils.pollUntilComplete(operation, pollingInterval, timeout);
+    checkOperationSucceeded(operation);
+  }
+
+  /** Throws a {@link RetryException} if the completed Google Service API operation has an error. */
+  public static void checkOperationSucceeded(OperationCow<?> operation) throws RetryException {
     if (operation.getOperationAdapter().getError() != null) {
       throw new RetryException(
           String.format(
@@ -0,0 +1,90 @@
+package bio.terra.workspace.common.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes lookups for the lifetime of one HTTP request. A single request often loads the same
+ * workspace and checks the same permission several times as it passes through the controller and
+ * the services; with this, only the first lookup reaches the database or Sam.
+ *
+ * <p>The memo is opened by {@link RequestMemoFilter} and lives in the request's attributes, so it
+ * is discarded when the request completes and nothing is shared between requests. Outside of a
+ * request thread, such as in flights, every lookup is passed through. Callers that change a
+ * memoized value must invalidate it.
+ */
+public class RequestMemo {
+  private static final String ATTRIBUTE_NAME = RequestMemo.class.getName();
+
+  private RequestMemo() {}
+
+  /** Open an empty memo for the request. */
+  static void open(ServletRequest request) {
+    request.setAttribute(ATTRIBUTE_NAME, new ConcurrentHashMap<Object, Object>());
+  }
+
+  /**
+   * A lookup to memoize.
+   *
+   * @param <T> type of the value
+   * @param <E> exception thrown by the lookup
+   */
+  @FunctionalInterface
+  public interface Loader<T, E extends Exception> {
+    T load() throws E;
+  }
+
+  /**
+   * Build a memo key.
+   *
+   * @param kind kind of lookup, such as "workspace"
+   * @param parts arguments of the lookup
+   */
+  public static Object key(String kind, Object... parts) {
+    return List.of(kind, Arrays.asList(parts));
+  }
+
+  /**
+   * Return the memoized value for the key, loading and memoizing it if there is none. Null values
+   * and exceptions are not memoized.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, E extends Exception> T get(Object key, Loader<T, E> loader) throws E {
+    Map<Object, Object> memo = currentMemo();
+    if (memo == null) {
+      return loader.load();
+    }
+    T value = (T) memo.get(key);
+    if (value == null) {
+      value = loader.load();
+      if (value != null) {
+        memo.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /** Forget the memoized value for the key, if any. */
+  public static void invalidate(Object key) {
+    Map<Object, Object> memo = currentMemo();
+    if (memo != null) {
+      memo.remove(key);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static @Nullable Map<Object, Object> currentMemo() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    return (Map<Object, Object>)
+        attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+  }
+}
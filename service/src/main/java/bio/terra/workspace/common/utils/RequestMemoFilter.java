@@ -0,0 +1,21 @@
+package bio.terra.workspace.common.utils;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** Opens a {@link RequestMemo} for each HTTP request. */
+@Component
+public class RequestMemoFilter extends OncePerRequestFilter {
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestMemo.open(request);
+    filterChain.doFilter(request, response);
+  }
+}
@@ -2,6 +2,7 @@ package bio.terra.workspace.db;
 
 import bio.terra.common.db.ReadTransaction;
 import bio.terra.common.db.WriteTransaction;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
 import bio.terra.workspace.db.exception.ApplicationInUseException;
 import bio.terra.workspace.db.exception.ApplicationNotFoundException;
 import bio.terra.workspace.db.exception.InvalidApplicationStateException;
@@ -9,7 +10,9 @@ import bio.terra.workspace.service.workspace.model.WsmApplication;
 import bio.terra.workspace.service.workspace.model.WsmApplicationState;
 import bio.terra.workspace.service.workspace.model.WsmWorkspaceApplication;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -106,6 +109,7 @@ public class ApplicationDao {
             .addValue("state", app.getState().toDb());
 
     jdbcTemplate.update(sql, params);
+    CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, app.getApplicationId());
   }
 
   /**
@@ -146,6 +150,7 @@ public class ApplicationDao {
 
     int rowCount = jdbcTemplate.update(sql, params);
     if (rowCount > 0) {
+      CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, applicationId);
       logger.info(
           "Deleted record enabling application {} for workspace {}", applicationId, workspaceUuid);
     } else {
@@ -211,6 +216,7 @@ public class ApplicationDao {
 
     try {
       jdbcTemplate.update(sql, params);
+      CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, applicationId);
       logger.info(
           "Inserted record enabling application {} for workspace {}", applicationId, workspaceUuid);
     } catch (DuplicateKeyException e) {
@@ -256,6 +262,45 @@ public class ApplicationDao {
     return resultList;
   }
 
+  /**
+   * Check whether an application is enabled in a workspace. Unlike {@link
+   * #getWorkspaceApplication}, this does not read the application table, so it does not validate
+   * that the application exists.
+   *
+   * @param workspaceUuid workspace of interest
+   * @param applicationId application of interest
+   * @return true if the application is enabled in the workspace
+   */
+  @ReadTransaction
+  public boolean isApplicationEnabled(UUID workspaceUuid, String applicationId) {
+    final String sql =
+        "SELECT COUNT(*) FROM enabled_application"
+            + " WHERE workspace_id = :workspace_id AND application_id = :application_id";
+
+    var params =
+        new MapSqlParameterSource()
+            .addValue("workspace_id", workspaceUuid.toString())
+            .addValue("application_id", applicationId);
+
+    Integer count = jdbcTemplate.queryForObject(sql, params, Integer.class);
+    return (count != null && count > 0);
+  }
+
+  /**
+   * @param workspaceUuid workspace of interest
+   * @return ids of the applications enabled in the workspace
+   */
+  @ReadTransaction
+  public Set<String> listEnabledApplicationIds(UUID workspaceUuid) {
+    final String sql =
+        "SELECT application_id FROM enabled_application WHERE workspace_id = :workspace_id";
+
+    var params = new MapSqlParameterSource().addValue("workspace_id", workspaceUuid.toString());
+
+    return new HashSet<>(
+        jdbcTemplate.query(sql, params, (rs, rowNum) -> rs.getString("application_id")));
+  }
+
   // internal workspace application lookup
   private WsmWorkspaceApplication getWorkspaceApplicationWorker(
       UUID workspaceUuid, String applicationId) {
@@ -351,5 +396,6 @@ public class ApplicationDao {
             .addValue("state", app.getState().toDb());
 
     jdbcTemplate.update(sql, params);
+    CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, app.getApplicationId());
   }
 }
@@ -0,0 +1,71 @@
+package bio.terra.workspace.db;
+
+import bio.terra.common.db.ReadTransaction;
+import bio.terra.common.db.WriteTransaction;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data Access Object for the bucket_sync table, which holds the watermark of the last completed
+ * sync of each controlled bucket. The watermark of a bucket is deleted with its resource.
+ */
+@Component
+public class BucketSyncDao {
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public BucketSyncDao(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Get the watermark of the last sync of a bucket from a source bucket.
+   *
+   * @param resourceId resource ID of the destination bucket
+   * @param sourceBucketName name of the source bucket
+   * @return time before which every source object has been copied; empty if the bucket has never
+   *     been synced, or was last synced from a different bucket
+   */
+  @ReadTransaction
+  public Optional<Instant> getLastSyncTime(UUID resourceId, String sourceBucketName) {
+    final String sql =
+        "SELECT last_sync_time FROM bucket_sync"
+            + " WHERE resource_id = :resource_id AND source_bucket_name = :source_bucket_name";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("resource_id", resourceId.toString())
+            .addValue("source_bucket_name", sourceBucketName);
+    List<Timestamp> lastSyncTimes = jdbcTemplate.queryForList(sql, params, Timestamp.class);
+    return lastSyncTimes.stream().findFirst().map(Timestamp::toInstant);
+  }
+
+  /**
+   * Record a completed sync of a bucket, replacing any earlier watermark.
+   *
+   * @param resourceId resource ID of the destination bucket
+   * @param sourceBucketName name of the source bucket
+   * @param lastSyncTime time before which every source object has been copied
+   */
+  @WriteTransaction
+  public void recordSync(UUID resourceId, String sourceBucketName, Instant lastSyncTime) {
+    final String sql =
+        "INSERT INTO bucket_sync (resource_id, source_bucket_name, last_sync_time)"
+            + " VALUES (:resource_id, :source_bucket_name, :last_sync_time)"
+            + " ON CONFLICT (resource_id) DO UPDATE SET"
+            + " source_bucket_name = EXCLUDED.source_bucket_name,"
+            + " last_sync_time = EXCLUDED.last_sync_time";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("resource_id", resourceId.toString())
+            .addValue("source_bucket_name", sourceBucketName)
+            .addValue("last_sync_time", Timestamp.from(lastSyncTime));
+    jdbcTemplate.update(sql, params);
+  }
+}
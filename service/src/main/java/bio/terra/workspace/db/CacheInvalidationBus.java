@@ -0,0 +1,204 @@
+package bio.terra.workspace.db;
+
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.app.configuration.external.WorkspaceDatabaseConfiguration;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates in-memory caches on every instance of WSM when the rows behind them change.
+ *
+ * <p>DAO methods that change cached data, such as cloud contexts or applications, call {@link
+ * #publish} inside their transaction. That sends a Postgres NOTIFY, which the database delivers to
+ * every listener if and only if the transaction commits. Each instance holds one dedicated
+ * connection that LISTENs on the channel and hands each notification to the caches subscribed to
+ * its region.
+ *
+ * <p>Notifications sent while an instance is not listening are lost, so subscribed caches are
+ * flushed whenever the listener loses its connection and again once it has reconnected.
+ */
+@Component
+public class CacheInvalidationBus {
+  /** Kinds of cached data. Each region documents what its keys identify. */
+  public enum Region {
+    /** Cloud contexts, keyed by workspace id */
+    CLOUD_CONTEXT,
+    /** Applications and their enablement in workspaces, keyed by application id */
+    APPLICATION,
+    /** Listeners waiting on the change feed of a workspace, keyed by workspace id */
+    WORKSPACE_CHANGE
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+  private static final String CHANNEL = "wsm_cache_invalidation";
+  private static final String SEPARATOR = ":";
+
+  private final WorkspaceDatabaseConfiguration databaseConfiguration;
+  private final Duration pollInterval;
+  private final Duration reconnectDelay;
+  private final Map<Region, List<Subscriber>> subscribers = new EnumMap<>(Region.class);
+  private final ExecutorService listener =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("cache-invalidation-listener")
+              .setDaemon(true)
+              .build());
+  private volatile boolean running;
+
+  @Autowired
+  public CacheInvalidationBus(
+      WorkspaceDatabaseConfiguration databaseConfiguration, CacheConfiguration cacheConfiguration) {
+    this.databaseConfiguration = databaseConfiguration;
+    this.pollInterval = cacheConfiguration.getInvalidationPollInterval();
+    this.reconnectDelay = cacheConfiguration.getInvalidationReconnectDelay();
+    for (Region region : Region.values()) {
+      subscribers.put(region, new CopyOnWriteArrayList<>());
+    }
+  }
+
+  /**
+   * Announce a change to every instance. Call this within the transaction making the change: the
+   * notification is sent only if the transaction commits.
+   *
+   * @param jdbcTemplate template of the calling DAO
+   * @param region region of the changed data
+   * @param key key of the changed data within the region
+   */
+  public static void publish(NamedParameterJdbcTemplate jdbcTemplate, Region region, Object key) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("channel", CHANNEL)
+            .addValue("payload", region.name() + SEPARATOR + key);
+    jdbcTemplate.execute(
+        "SELECT pg_notify(:channel, :payload)", params, PreparedStatement::execute);
+  }
+
+  /**
+   * Subscribe a cache to changes in a region.
+   *
+   * @param region region the cache holds
+   * @param invalidate drops the entry for a key; called from the listener thread
+   * @param invalidateAll drops every entry, when notifications may have been missed
+   */
+  public void subscribe(Region region, Consumer<String> invalidate, Runnable invalidateAll) {
+    subscribers.get(region).add(new Subscriber(invalidate, invalidateAll));
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    listener.execute(this::listen);
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+    listener.shutdownNow();
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection =
+              DriverManager.getConnection(
+                  databaseConfiguration.getUri(),
+                  databaseConfiguration.getUsername(),
+                  databaseConfiguration.getPassword());
+          Statement statement = connection.createStatement()) {
+        statement.execute("LISTEN " + CHANNEL);
+        // Changes made before we were listening may not have been seen
+        invalidateAll();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications =
+              pgConnection.getNotifications((int) pollInterval.toMillis());
+          if (notifications == null || notifications.length == 0) {
+            // A dead connection is only noticed when we use it, so check it while idle
+            statement.execute("SELECT 1");
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            dispatch(notification.getParameter());
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        // Keep listening whatever went wrong; a dead listener would leave caches stale until TTL
+        logger.warn("Cache invalidation listener lost its connection; flushing caches", e);
+        invalidateAll();
+      }
+      if (running) {
+        try {
+          TimeUnit.MILLISECONDS.sleep(reconnectDelay.toMillis());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void dispatch(String payload) {
+    int separator = payload.indexOf(SEPARATOR);
+    Region region;
+    try {
+      region = Region.valueOf(payload.substring(0, Math.max(separator, 0)));
+    } catch (IllegalArgumentException e) {
+      // Another version of WSM may publish regions we do not know about
+      logger.debug("Ignoring cache invalidation for unknown region: {}", payload);
+      return;
+    }
+    String key = payload.substring(separator + 1);
+    for (Subscriber subscriber : subscribers.get(region)) {
+      try {
+        subscriber.invalidate.accept(key);
+      } catch (RuntimeException e) {
+        logger.warn("Failed to invalidate {} in region {}", key, region, e);
+      }
+    }
+  }
+
+  private void invalidateAll() {
+    subscribers.values().stream()
+        .flatMap(List::stream)
+        .forEach(
+            subscriber -> {
+              try {
+                subscriber.invalidateAll.run();
+              } catch (RuntimeException e) {
+                logger.warn("Failed to flush a cache", e);
+              }
+            });
+  }
+
+  private static class Subscriber {
+    private final Consumer<String> invalidate;
+    private final Runnable invalidateAll;
+
+    private Subscriber(Consumer<String> invalidate, Runnable invalidateAll) {
+      this.invalidate = invalidate;
+      this.invalidateAll = invalidateAll;
+    }
+  }
+}
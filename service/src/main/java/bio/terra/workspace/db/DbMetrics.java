@@ -0,0 +1,142 @@
+package bio.terra.workspace.db;
+
+import io.opencensus.metrics.DerivedLongGauge;
+import io.opencensus.metrics.MetricOptions;
+import io.opencensus.metrics.MetricRegistry;
+import io.opencensus.metrics.Metrics;
+import io.opencensus.stats.Aggregation;
+import io.opencensus.stats.BucketBoundaries;
+import io.opencensus.stats.Measure.MeasureDouble;
+import io.opencensus.stats.Measure.MeasureLong;
+import io.opencensus.stats.Stats;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.stats.View;
+import io.opencensus.stats.ViewManager;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import io.opencensus.tags.Tags;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics for the workspace database: statement latency and row counts tagged by the DAO method
+ * that ran the statement, the time spent waiting for a connection, and the connections in use.
+ * Statement latency rising with connection wait points at pool starvation; rising alone, at the
+ * query or the database.
+ *
+ * <p>The views and gauges are process-wide, so they are registered once regardless of how many
+ * application contexts are created.
+ */
+public class DbMetrics {
+  private static final String METRICS_PREFIX = "terra/workspace/db/";
+  private static final TagKey DAO_METHOD_TAG = TagKey.create("dao_method");
+
+  private static final MeasureDouble LATENCY =
+      MeasureDouble.create(
+          METRICS_PREFIX + "latency",
+          "Latency of a database statement, from execution until its results are read",
+          "ms");
+  private static final MeasureLong ROWS =
+      MeasureLong.create(
+          METRICS_PREFIX + "rows", "Rows returned or changed by a database statement", "1");
+  private static final MeasureDouble CONNECTION_WAIT =
+      MeasureDouble.create(
+          METRICS_PREFIX + "connection_wait",
+          "Time spent waiting for a database connection from the pool",
+          "ms");
+
+  private static final BucketBoundaries LATENCY_BUCKETS =
+      BucketBoundaries.create(
+          List.of(
+              0.0, 1.0, 2.0, 5.0, 10.0, 25.0, 50.0, 100.0, 250.0, 500.0, 1000.0, 2500.0, 5000.0,
+              10000.0));
+  private static final BucketBoundaries ROW_BUCKETS =
+      BucketBoundaries.create(
+          List.of(0.0, 1.0, 2.0, 5.0, 10.0, 25.0, 100.0, 250.0, 1000.0, 5000.0, 10000.0));
+
+  private static final StatsRecorder statsRecorder = Stats.getStatsRecorder();
+  private static final Tagger tagger = Tags.getTagger();
+  private static final DerivedLongGauge activeConnectionsGauge;
+
+  static {
+    ViewManager viewManager = Stats.getViewManager();
+    viewManager.registerView(
+        View.create(
+            View.Name.create(LATENCY.getName()),
+            LATENCY.getDescription(),
+            LATENCY,
+            Aggregation.Distribution.create(LATENCY_BUCKETS),
+            List.of(DAO_METHOD_TAG)));
+    viewManager.registerView(
+        View.create(
+            View.Name.create(ROWS.getName()),
+            ROWS.getDescription(),
+            ROWS,
+            Aggregation.Distribution.create(ROW_BUCKETS),
+            List.of(DAO_METHOD_TAG)));
+    viewManager.registerView(
+        View.create(
+            View.Name.create(CONNECTION_WAIT.getName()),
+            CONNECTION_WAIT.getDescription(),
+            CONNECTION_WAIT,
+            Aggregation.Distribution.create(LATENCY_BUCKETS),
+            List.of()));
+
+    MetricRegistry metricRegistry = Metrics.getMetricRegistry();
+    activeConnectionsGauge =
+        metricRegistry.addDerivedLongGauge(
+            METRICS_PREFIX + "active_connections",
+            MetricOptions.builder()
+                .setDescription("Database connections checked out of the pool")
+                .setUnit("1")
+                .build());
+  }
+
+  private DbMetrics() {}
+
+  /**
+   * Record a completed statement.
+   *
+   * @param daoMethod DAO method that ran the statement
+   * @param elapsedNanos time from execution until the results were read
+   * @param rows rows returned or changed
+   */
+  public static void recordStatement(String daoMethod, long elapsedNanos, long rows) {
+    TagContext tags =
+        tagger.emptyBuilder().putLocal(DAO_METHOD_TAG, TagValue.create(daoMethod)).build();
+    statsRecorder
+        .newMeasureMap()
+        .put(LATENCY, toMillis(elapsedNanos))
+        .put(ROWS, rows)
+        .record(tags);
+  }
+
+  /**
+   * Record the time taken to get a connection.
+   *
+   * @param elapsedNanos time spent waiting
+   */
+  public static void recordConnectionWait(long elapsedNanos) {
+    statsRecorder.newMeasureMap().put(CONNECTION_WAIT, toMillis(elapsedNanos)).record();
+  }
+
+  /**
+   * Report the connections in use. Registering again replaces the previous supplier.
+   *
+   * @param activeConnections supplier of the number of connections checked out
+   */
+  public static void registerActiveConnections(LongSupplier activeConnections) {
+    synchronized (activeConnectionsGauge) {
+      activeConnectionsGauge.removeTimeSeries(List.of());
+      activeConnectionsGauge.createTimeSeries(
+          List.of(), activeConnections, LongSupplier::getAsLong);
+    }
+  }
+
+  private static double toMillis(long nanos) {
+    return (double) TimeUnit.NANOSECONDS.toMicros(nanos) / 1000;
+  }
+}
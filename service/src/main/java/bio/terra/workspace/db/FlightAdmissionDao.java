@@ -0,0 +1,238 @@
+package bio.terra.workspace.db;
+
+import bio.terra.common.db.ReadTransaction;
+import bio.terra.common.db.WriteTransaction;
+import bio.terra.workspace.service.job.FlightPriority;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data Access Object for the flight_admission table, which holds the admission queue and slots of
+ * each limited priority class for all instances. Slots are granted with the table locked, so a
+ * class budget holds across the cluster.
+ *
+ * <p>A flight is QUEUED until it is granted a slot, GRANTED until it takes up the slot, and then
+ * ADMITTED. When a flight holding a slot ends, its row is kept as RELEASED for a while so that the
+ * time its share key was last granted a slot is remembered for fair ordering.
+ */
+@Component
+public class FlightAdmissionDao {
+  private static final String QUEUED = "QUEUED";
+  private static final String GRANTED = "GRANTED";
+  private static final String ADMITTED = "ADMITTED";
+  private static final String RELEASED = "RELEASED";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public FlightAdmissionDao(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Ask to admit a flight. A flight that has been granted a slot takes it up; any other flight is
+   * queued, keeping its place if it is already queued.
+   *
+   * @param flightId flight asking to run
+   * @param priority priority class of the flight
+   * @param shareKey fair share key of the flight
+   * @return true if the flight holds a slot and may run
+   */
+  @WriteTransaction
+  public boolean admit(String flightId, FlightPriority priority, String shareKey) {
+    final String insertSql =
+        "INSERT INTO flight_admission (flight_id, priority, share_key, state, queued_time)"
+            + " VALUES (:flight_id, :priority, :share_key, :queued, :now)"
+            + " ON CONFLICT (flight_id) DO UPDATE SET state = :queued, queued_time = :now,"
+            + " granted_time = NULL WHERE flight_admission.state = :released";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("flight_id", flightId)
+            .addValue("priority", priority.name())
+            .addValue("share_key", shareKey)
+            .addValue("queued", QUEUED)
+            .addValue("released", RELEASED)
+            .addValue("now", Timestamp.from(Instant.now()));
+    jdbcTemplate.update(insertSql, params);
+
+    final String admitSql =
+        "UPDATE flight_admission SET state = :admitted"
+            + " WHERE flight_id = :flight_id AND state IN (:granted, :admitted)";
+    params.addValue("granted", GRANTED).addValue("admitted", ADMITTED);
+    return jdbcTemplate.update(admitSql, params) > 0;
+  }
+
+  /**
+   * Grant free slots of a priority class to queued flights. The next slot goes to the share key
+   * holding the fewest slots, then to the one granted a slot least recently, and within a share key
+   * to its longest queued flight.
+   *
+   * @param priority priority class
+   * @param budget number of flights of the class that may hold a slot at once
+   * @return flights granted a slot, with the time each was queued, in order of grant
+   */
+  @WriteTransaction
+  public Map<String, Instant> grantSlots(FlightPriority priority, int budget) {
+    // Serialize grants across instances; reads of the table are not blocked
+    jdbcTemplate.update(
+        "LOCK TABLE flight_admission IN EXCLUSIVE MODE", new MapSqlParameterSource());
+
+    Map<String, Instant> granted = new LinkedHashMap<>();
+    int holding = countInStates(priority, List.of(GRANTED, ADMITTED));
+    final String nextSql =
+        "SELECT q.flight_id, q.queued_time FROM flight_admission q"
+            + " WHERE q.priority = :priority AND q.state = :queued"
+            + " ORDER BY (SELECT COUNT(*) FROM flight_admission h"
+            + " WHERE h.priority = q.priority AND h.share_key = q.share_key"
+            + " AND h.state IN (:granted, :admitted)),"
+            + " (SELECT MAX(h.granted_time) FROM flight_admission h"
+            + " WHERE h.priority = q.priority AND h.share_key = q.share_key) NULLS FIRST,"
+            + " q.queued_time, q.flight_id"
+            + " LIMIT 1";
+    final String grantSql =
+        "UPDATE flight_admission SET state = :granted, granted_time = :now"
+            + " WHERE flight_id = :flight_id";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("priority", priority.name())
+            .addValue("queued", QUEUED)
+            .addValue("granted", GRANTED)
+            .addValue("admitted", ADMITTED);
+    while (holding < budget) {
+      List<Map.Entry<String, Instant>> next =
+          jdbcTemplate.query(
+              nextSql,
+              params,
+              (rs, rowNum) ->
+                  Map.entry(
+                      rs.getString("flight_id"), rs.getTimestamp("queued_time").toInstant()));
+      if (next.isEmpty()) {
+        break;
+      }
+      String flightId = next.get(0).getKey();
+      params.addValue("flight_id", flightId).addValue("now", Timestamp.from(Instant.now()));
+      jdbcTemplate.update(grantSql, params);
+      granted.put(flightId, next.get(0).getValue());
+      holding++;
+    }
+    return granted;
+  }
+
+  /**
+   * Release the slot or queue place of a flight that has ended. Releasing a flight that holds
+   * neither does nothing.
+   *
+   * @param flightId flight that has ended
+   * @return priority class of the released slot, if the flight held one
+   */
+  @WriteTransaction
+  public Optional<FlightPriority> release(String flightId) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("flight_id", flightId)
+            .addValue("queued", QUEUED)
+            .addValue("granted", GRANTED)
+            .addValue("admitted", ADMITTED)
+            .addValue("released", RELEASED);
+    jdbcTemplate.update(
+        "DELETE FROM flight_admission WHERE flight_id = :flight_id AND state = :queued", params);
+
+    final String sql =
+        "UPDATE flight_admission SET state = :released"
+            + " WHERE flight_id = :flight_id AND state IN (:granted, :admitted)";
+    return jdbcTemplate.queryForList(sql + " RETURNING priority", params, String.class).stream()
+        .findFirst()
+        .map(FlightPriority::valueOf);
+  }
+
+  /**
+   * Count the flights of a priority class waiting for a slot.
+   *
+   * @param priority priority class
+   * @return number of queued flights
+   */
+  @ReadTransaction
+  public int countQueued(FlightPriority priority) {
+    return countInStates(priority, List.of(QUEUED));
+  }
+
+  /**
+   * Count the flights of a priority class holding a slot, whether admitted or granted and not yet
+   * resumed.
+   *
+   * @param priority priority class
+   * @return number of flights holding a slot
+   */
+  @ReadTransaction
+  public int countHoldingSlot(FlightPriority priority) {
+    return countInStates(priority, List.of(GRANTED, ADMITTED));
+  }
+
+  /**
+   * Get flights granted a slot before a given time that have not taken it up.
+   *
+   * @param grantedBefore latest grant time to include
+   * @return IDs of the granted flights
+   */
+  @ReadTransaction
+  public List<String> getGrantedFlightIds(Instant grantedBefore) {
+    return getFlightIdsGrantedBefore(GRANTED, grantedBefore);
+  }
+
+  /**
+   * Get flights granted a slot before a given time that have taken it up.
+   *
+   * @param grantedBefore latest grant time to include
+   * @return IDs of the admitted flights
+   */
+  @ReadTransaction
+  public List<String> getAdmittedFlightIds(Instant grantedBefore) {
+    return getFlightIdsGrantedBefore(ADMITTED, grantedBefore);
+  }
+
+  /**
+   * Forget released slots granted before a given time.
+   *
+   * @param grantedBefore latest grant time to delete
+   * @return number of rows deleted
+   */
+  @WriteTransaction
+  public int deleteReleased(Instant grantedBefore) {
+    final String sql =
+        "DELETE FROM flight_admission WHERE state = :released AND granted_time < :granted_before";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("released", RELEASED)
+            .addValue("granted_before", Timestamp.from(grantedBefore));
+    return jdbcTemplate.update(sql, params);
+  }
+
+  private int countInStates(FlightPriority priority, List<String> states) {
+    final String sql =
+        "SELECT COUNT(*) FROM flight_admission WHERE priority = :priority AND state IN (:states)";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("priority", priority.name())
+            .addValue("states", states);
+    return jdbcTemplate.queryForObject(sql, params, Integer.class);
+  }
+
+  private List<String> getFlightIdsGrantedBefore(String state, Instant grantedBefore) {
+    final String sql =
+        "SELECT flight_id FROM flight_admission"
+            + " WHERE state = :state AND granted_time < :granted_before";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("state", state)
+            .addValue("granted_before", Timestamp.from(grantedBefore));
+    return jdbcTemplate.queryForList(sql, params, String.class);
+  }
+}
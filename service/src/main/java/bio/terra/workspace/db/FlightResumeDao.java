@@ -0,0 +1,75 @@
+package bio.terra.workspace.db;
+
+import bio.terra.common.db.ReadTransaction;
+import bio.terra.common.db.WriteTransaction;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data Access Object for the flight_resume table, which holds the time each paused flight is due
+ * to be resumed. Rows are written by JobService as flights pause and end, and read by its periodic
+ * sweep to find flights whose resume was lost.
+ */
+@Component
+public class FlightResumeDao {
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public FlightResumeDao(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Record the time a paused flight is due to be resumed, replacing any earlier time.
+   *
+   * @param flightId flight that paused
+   * @param resumeTime time at which the flight should be resumed
+   */
+  @WriteTransaction
+  public void scheduleResume(String flightId, Instant resumeTime) {
+    final String sql =
+        "INSERT INTO flight_resume (flight_id, resume_time) VALUES (:flight_id, :resume_time)"
+            + " ON CONFLICT (flight_id) DO UPDATE SET resume_time = EXCLUDED.resume_time";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("flight_id", flightId)
+            .addValue("resume_time", Timestamp.from(resumeTime));
+    jdbcTemplate.update(sql, params);
+  }
+
+  /**
+   * Forget the resume time of a flight, because it is running again, has ended, or is waiting on
+   * something other than a timer.
+   *
+   * @param flightId flight to forget
+   */
+  @WriteTransaction
+  public void clearResume(String flightId) {
+    final String sql = "DELETE FROM flight_resume WHERE flight_id = :flight_id";
+    jdbcTemplate.update(sql, new MapSqlParameterSource("flight_id", flightId));
+  }
+
+  /**
+   * Get flights that were due to be resumed by a given time, earliest first.
+   *
+   * @param dueBy latest resume time to include
+   * @param limit maximum number of flights to return
+   * @return IDs of the due flights
+   */
+  @ReadTransaction
+  public List<String> getDueFlightIds(Instant dueBy, int limit) {
+    final String sql =
+        "SELECT flight_id FROM flight_resume WHERE resume_time <= :due_by"
+            + " ORDER BY resume_time LIMIT :limit";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("due_by", Timestamp.from(dueBy))
+            .addValue("limit", limit);
+    return jdbcTemplate.queryForList(sql, params, String.class);
+  }
+}
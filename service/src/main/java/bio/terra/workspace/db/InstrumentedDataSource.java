@@ -0,0 +1,250 @@
+package bio.terra.workspace.db;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * A data source that measures the statements run through it and the connections it hands out.
+ *
+ * <p>Each prepared statement is attributed to the DAO method that prepared it: the first method on
+ * the stack in a DAO class, so private helpers such as uniqueness checks are reported on their
+ * own. Its latency, from execution until its results are closed, and its row count are recorded
+ * in {@link DbMetrics}. Statements at or above the slow query threshold are logged with the shape
+ * of their SQL and their number of parameters, never the parameter values.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+  private static final Logger logger = LoggerFactory.getLogger(InstrumentedDataSource.class);
+  private static final String DAO_PACKAGE = "bio.terra.workspace.db.";
+  private static final String DAO_SUFFIX = "Dao";
+  private static final String UNATTRIBUTED = "other";
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+  private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+  private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+  private static final StackWalker stackWalker = StackWalker.getInstance();
+
+  private final Duration slowQueryThreshold;
+  private final AtomicInteger activeConnections = new AtomicInteger();
+
+  /**
+   * @param targetDataSource data source to measure
+   * @param slowQueryThreshold statements taking at least this long are logged; zero disables the
+   *     log
+   */
+  public InstrumentedDataSource(DataSource targetDataSource, Duration slowQueryThreshold) {
+    super(targetDataSource);
+    this.slowQueryThreshold = slowQueryThreshold;
+    DbMetrics.registerActiveConnections(activeConnections::get);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    Connection connection = super.getConnection();
+    DbMetrics.recordConnectionWait(System.nanoTime() - start);
+    return trackConnection(connection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    long start = System.nanoTime();
+    Connection connection = super.getConnection(username, password);
+    DbMetrics.recordConnectionWait(System.nanoTime() - start);
+    return trackConnection(connection);
+  }
+
+  /** Connections checked out and not yet closed. */
+  public int getActiveConnections() {
+    return activeConnections.get();
+  }
+
+  private Connection trackConnection(Connection connection) {
+    activeConnections.incrementAndGet();
+    AtomicBoolean closed = new AtomicBoolean();
+    return proxy(
+        Connection.class,
+        connection,
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (name.equals("close") && closed.compareAndSet(false, true)) {
+            activeConnections.decrementAndGet();
+          }
+          Object result = invoke(connection, method, args);
+          if (name.equals("prepareStatement")) {
+            return measureStatement((PreparedStatement) result, (String) args[0]);
+          }
+          return result;
+        });
+  }
+
+  private PreparedStatement measureStatement(PreparedStatement statement, String sql) {
+    String daoMethod = callingDaoMethod();
+    return proxy(
+        PreparedStatement.class,
+        statement,
+        (proxy, method, args) -> {
+          String name = method.getName();
+          if (!name.startsWith("execute")) {
+            return invoke(statement, method, args);
+          }
+          long start = System.nanoTime();
+          Object result;
+          try {
+            result = invoke(statement, method, args);
+          } catch (Throwable e) {
+            record(daoMethod, sql, start, 0);
+            throw e;
+          }
+          if (result instanceof ResultSet) {
+            // The statement is measured until its results have been read
+            return measureResults((ResultSet) result, daoMethod, sql, start);
+          }
+          record(daoMethod, sql, start, rowCount(result));
+          return result;
+        });
+  }
+
+  /** Rows changed, from the result of an update or batch. */
+  private static long rowCount(Object result) {
+    if (result instanceof Number) {
+      return ((Number) result).longValue();
+    }
+    long rows = 0;
+    if (result instanceof int[]) {
+      for (int count : (int[]) result) {
+        // Batches may report SUCCESS_NO_INFO (-2) rather than a count
+        rows += Math.max(count, 0);
+      }
+    }
+    return rows;
+  }
+
+  private ResultSet measureResults(ResultSet resultSet, String daoMethod, String sql, long start) {
+    AtomicBoolean closed = new AtomicBoolean();
+    long[] rows = new long[1];
+    return proxy(
+        ResultSet.class,
+        resultSet,
+        (proxy, method, args) -> {
+          String name = method.getName();
+          Object result = invoke(resultSet, method, args);
+          if (name.equals("next") && Boolean.TRUE.equals(result)) {
+            rows[0]++;
+          } else if (name.equals("close") && closed.compareAndSet(false, true)) {
+            record(daoMethod, sql, start, rows[0]);
+          }
+          return result;
+        });
+  }
+
+  private void record(String daoMethod, String sql, long startNanos, long rows) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    DbMetrics.recordStatement(daoMethod, elapsedNanos, rows);
+    if (!slowQueryThreshold.isZero() && elapsedNanos >= slowQueryThreshold.toNanos()) {
+      logger.warn(
+          "Slow statement in {} took {}ms for {} rows with {} parameters: {}",
+          daoMethod,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          rows,
+          countParameters(sql),
+          sqlShape(sql));
+    }
+  }
+
+  /** The first DAO method on the stack, as Class.method, or "other" if there is none. */
+  private static String callingDaoMethod() {
+    return stackWalker.walk(
+        frames ->
+            frames
+                .filter(
+                    frame ->
+                        frame.getClassName().startsWith(DAO_PACKAGE)
+                            && frame.getClassName().endsWith(DAO_SUFFIX))
+                .findFirst()
+                .map(
+                    frame ->
+                        frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                            + "."
+                            + enclosingMethodName(frame.getMethodName()))
+                .orElse(UNATTRIBUTED));
+  }
+
+  /** The method a lambda was declared in, given the name of its synthetic method. */
+  private static String enclosingMethodName(String methodName) {
+    if (methodName.startsWith("lambda$")) {
+      int end = methodName.indexOf('$', "lambda$".length());
+      return end < 0
+          ? methodName.substring("lambda$".length())
+          : methodName.substring("lambda$".length(), end);
+    }
+    return methodName;
+  }
+
+  /**
+   * SQL reduced to its shape for logging: whitespace collapsed, lists of parameters such as
+   * expanded IN clauses shortened, and the result truncated.
+   */
+  @VisibleForTesting
+  static String sqlShape(String sql) {
+    String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+    shape = PARAMETER_LIST.matcher(shape).replaceAll("?, ...");
+    return shape.length() > MAX_LOGGED_SQL_LENGTH
+        ? shape.substring(0, MAX_LOGGED_SQL_LENGTH) + "..."
+        : shape;
+  }
+
+  @VisibleForTesting
+  static int countParameters(String sql) {
+    int count = 0;
+    for (int i = 0; i < sql.length(); i++) {
+      if (sql.charAt(i) == '?') {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+    return (T)
+        Proxy.newProxyInstance(
+            InstrumentedDataSource.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              // Identity is the proxy's own, so that holders comparing connections still match
+              switch (method.getName()) {
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "toString":
+                  return target.toString();
+                default:
+                  return handler.invoke(proxy, method, args);
+              }
+            });
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
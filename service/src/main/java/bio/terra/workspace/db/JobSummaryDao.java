@@ -0,0 +1,322 @@
+package bio.terra.workspace.db;
+
+import bio.terra.common.db.ReadTransaction;
+import bio.terra.common.db.WriteTransaction;
+import bio.terra.common.exception.ValidationException;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.workspace.db.model.DbJobSummary;
+import bio.terra.workspace.service.resource.model.StewardshipType;
+import bio.terra.workspace.service.resource.model.WsmResourceFamily;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.model.JobStateFilter;
+import bio.terra.workspace.service.workspace.model.OperationType;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data Access Object for the job_summary table. Rows are written by the JobSummaryHook as flights
+ * start and end, and read to enumerate the jobs of a workspace.
+ *
+ * <p>Enumeration uses keyset pagination on (submitted, flight_id), so each page is a range scan of
+ * the workspace index regardless of how deep into the list it is.
+ */
+@Component
+public class JobSummaryDao {
+  private static final String PAGE_TOKEN_SEPARATOR = "|";
+  private static final String JOB_SUMMARY_COLUMNS =
+      "flight_id, workspace_id, operation_type, resource_type, stewardship_type, resource_id,"
+          + " resource_name, flight_status, submitted, completed, description, result_path,"
+          + " destination_resource_id, status_code, error_message, error_causes";
+
+  private static final RowMapper<DbJobSummary> JOB_SUMMARY_ROW_MAPPER =
+      (rs, rowNum) ->
+          new DbJobSummary()
+              .flightId(rs.getString("flight_id"))
+              .workspaceUuid(UUID.fromString(rs.getString("workspace_id")))
+              .operationType(
+                  Optional.ofNullable(rs.getString("operation_type"))
+                      .map(OperationType::valueOf)
+                      .orElse(null))
+              .resourceType(
+                  Optional.ofNullable(rs.getString("resource_type"))
+                      .map(WsmResourceType::fromSql)
+                      .orElse(null))
+              .stewardshipType(
+                  Optional.ofNullable(rs.getString("stewardship_type"))
+                      .map(StewardshipType::fromSql)
+                      .orElse(null))
+              .resourceId(
+                  Optional.ofNullable(rs.getString("resource_id"))
+                      .map(UUID::fromString)
+                      .orElse(null))
+              .resourceName(rs.getString("resource_name"))
+              .flightStatus(FlightStatus.valueOf(rs.getString("flight_status")))
+              .submitted(rs.getTimestamp("submitted").toInstant())
+              .completed(
+                  Optional.ofNullable(rs.getTimestamp("completed"))
+                      .map(Timestamp::toInstant)
+                      .orElse(null))
+              .description(rs.getString("description"))
+              .resultPath(rs.getString("result_path"))
+              .destinationResourceId(
+                  Optional.ofNullable(rs.getString("destination_resource_id"))
+                      .map(UUID::fromString)
+                      .orElse(null))
+              .statusCode((Integer) rs.getObject("status_code"))
+              .errorMessage(rs.getString("error_message"))
+              .errorCauses(
+                  Optional.ofNullable(rs.getString("error_causes"))
+                      .map(json -> List.of(DbSerDes.fromJson(json, String[].class)))
+                      .orElse(null));
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public JobSummaryDao(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Record that a flight is running. The first time a flight starts, the summary row is created;
+   * when a waiting flight is resumed, only its status is updated.
+   *
+   * @param jobSummary summary of the flight
+   */
+  @WriteTransaction
+  public void startJob(DbJobSummary jobSummary) {
+    final String sql =
+        "INSERT INTO job_summary (flight_id, workspace_id, operation_type, resource_type,"
+            + " stewardship_type, resource_id, resource_name, flight_status, submitted,"
+            + " description, result_path, destination_resource_id)"
+            + " VALUES (:flight_id, :workspace_id, :operation_type, :resource_type,"
+            + " :stewardship_type, :resource_id, :resource_name, :flight_status, :submitted,"
+            + " :description, :result_path, :destination_resource_id)"
+            + " ON CONFLICT (flight_id) DO UPDATE SET flight_status = EXCLUDED.flight_status";
+    jdbcTemplate.update(sql, jobSummaryParams(jobSummary));
+  }
+
+  /**
+   * Record a flight that was submitted before job summaries were kept. Does nothing if the flight
+   * already has a summary.
+   *
+   * @param jobSummary summary of the flight, including its completion time if it has completed
+   */
+  @WriteTransaction
+  public void backfillJob(DbJobSummary jobSummary) {
+    final String sql =
+        "INSERT INTO job_summary ("
+            + JOB_SUMMARY_COLUMNS
+            + ") VALUES (:flight_id, :workspace_id, :operation_type, :resource_type,"
+            + " :stewardship_type, :resource_id, :resource_name, :flight_status, :submitted,"
+            + " :completed, :description, :result_path, :destination_resource_id, :status_code,"
+            + " :error_message, :error_causes) ON CONFLICT (flight_id) DO NOTHING";
+    jdbcTemplate.update(sql, jobSummaryParams(jobSummary));
+  }
+
+  /**
+   * Get the submission time of the earliest job with a summary. Jobs submitted before it may
+   * predate the job_summary table.
+   *
+   * @return earliest submission time, or empty if there are no summaries
+   */
+  @ReadTransaction
+  public Optional<Instant> getEarliestSubmitted() {
+    final String sql = "SELECT MIN(submitted) FROM job_summary";
+    return Optional.ofNullable(
+            jdbcTemplate.queryForObject(sql, new MapSqlParameterSource(), Timestamp.class))
+        .map(Timestamp::toInstant);
+  }
+
+  /**
+   * Record the status of a flight that stopped running, either because it completed or because it
+   * is waiting to be resumed. Completions are also recorded in the workspace change feed.
+   *
+   * @param jobResult flight ID, status, completion time and, for completed flights, the status
+   *     code and error report of the result; the completion time is null if the flight is still
+   *     active
+   */
+  @WriteTransaction
+  public void endJob(DbJobSummary jobResult) {
+    final String sql =
+        "UPDATE job_summary SET flight_status = :flight_status, completed = :completed,"
+            + " status_code = :status_code, error_message = :error_message,"
+            + " error_causes = :error_causes WHERE flight_id = :flight_id";
+    MapSqlParameterSource params = jobResultParams(jobResult);
+    List<String> workspaceIds =
+        jdbcTemplate.queryForList(sql + " RETURNING workspace_id", params, String.class);
+    String flightId = jobResult.getFlightId();
+    if (jobResult.getCompleted().isPresent()) {
+      for (String workspaceId : workspaceIds) {
+        WorkspaceChangeDao.recordChange(
+            jdbcTemplate,
+            UUID.fromString(workspaceId),
+            WorkspaceChangeType.JOB_COMPLETED,
+            flightId);
+      }
+    }
+  }
+
+  /**
+   * List the jobs of a workspace in submission order.
+   *
+   * @param workspaceUuid workspace we are listing in
+   * @param limit max number of jobs to return
+   * @param pageToken optional token from a previous page; start at beginning if missing
+   * @param resourceFamily optional filter by resource family
+   * @param stewardshipType optional filter by stewardship type
+   * @param resourceName optional filter by resource name
+   * @param jobStateFilter optional filter by job state
+   * @return up to limit job summaries following the page token
+   */
+  @ReadTransaction
+  public List<DbJobSummary> enumerateJobs(
+      UUID workspaceUuid,
+      int limit,
+      @Nullable String pageToken,
+      @Nullable WsmResourceFamily resourceFamily,
+      @Nullable StewardshipType stewardshipType,
+      @Nullable String resourceName,
+      @Nullable JobStateFilter jobStateFilter) {
+    MapSqlParameterSource params = new MapSqlParameterSource().addValue("limit", limit);
+    StringBuilder sb =
+        new StringBuilder("SELECT " + JOB_SUMMARY_COLUMNS + " FROM job_summary WHERE ");
+    appendFilters(
+        sb, params, workspaceUuid, resourceFamily, stewardshipType, resourceName, jobStateFilter);
+    if (pageToken != null) {
+      PageKey pageKey = decodePageToken(pageToken);
+      sb.append(" AND (submitted, flight_id) > (:page_submitted, :page_flight_id)");
+      params
+          .addValue("page_submitted", Timestamp.from(pageKey.submitted))
+          .addValue("page_flight_id", pageKey.flightId);
+    }
+    sb.append(" ORDER BY submitted, flight_id LIMIT :limit");
+    return jdbcTemplate.query(sb.toString(), params, JOB_SUMMARY_ROW_MAPPER);
+  }
+
+  /** Count the jobs matching the same filters as {@link #enumerateJobs}, ignoring paging. */
+  @ReadTransaction
+  public int countJobs(
+      UUID workspaceUuid,
+      @Nullable WsmResourceFamily resourceFamily,
+      @Nullable StewardshipType stewardshipType,
+      @Nullable String resourceName,
+      @Nullable JobStateFilter jobStateFilter) {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    StringBuilder sb = new StringBuilder("SELECT COUNT(*) FROM job_summary WHERE ");
+    appendFilters(
+        sb, params, workspaceUuid, resourceFamily, stewardshipType, resourceName, jobStateFilter);
+    Integer count = jdbcTemplate.queryForObject(sb.toString(), params, Integer.class);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Build the page token that continues a listing after the given job.
+   *
+   * @param lastJob last job on the current page
+   * @return opaque page token
+   */
+  public static String encodePageToken(DbJobSummary lastJob) {
+    String key = lastJob.getSubmitted().toString() + PAGE_TOKEN_SEPARATOR + lastJob.getFlightId();
+    return Base64.getUrlEncoder().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static PageKey decodePageToken(String pageToken) {
+    try {
+      String key = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+      int separator = key.indexOf(PAGE_TOKEN_SEPARATOR);
+      if (separator < 0) {
+        throw new ValidationException("Invalid page token");
+      }
+      return new PageKey(
+          Instant.parse(key.substring(0, separator)), key.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new ValidationException("Invalid page token", e);
+    }
+  }
+
+  private static MapSqlParameterSource jobSummaryParams(DbJobSummary jobSummary) {
+    return jobResultParams(jobSummary)
+        .addValue("workspace_id", jobSummary.getWorkspaceId().toString())
+        .addValue("operation_type", jobSummary.getOperationType().map(Enum::name).orElse(null))
+        .addValue(
+            "resource_type", jobSummary.getResourceType().map(WsmResourceType::toSql).orElse(null))
+        .addValue(
+            "stewardship_type",
+            jobSummary.getStewardshipType().map(StewardshipType::toSql).orElse(null))
+        .addValue("resource_id", jobSummary.getResourceId().map(UUID::toString).orElse(null))
+        .addValue("resource_name", jobSummary.getResourceName().orElse(null))
+        .addValue("submitted", Timestamp.from(jobSummary.getSubmitted()))
+        .addValue("description", jobSummary.getDescription().orElse(null))
+        .addValue("result_path", jobSummary.getResultPath().orElse(null))
+        .addValue(
+            "destination_resource_id",
+            jobSummary.getDestinationResourceId().map(UUID::toString).orElse(null));
+  }
+
+  private static MapSqlParameterSource jobResultParams(DbJobSummary jobResult) {
+    return new MapSqlParameterSource()
+        .addValue("flight_id", jobResult.getFlightId())
+        .addValue("flight_status", jobResult.getFlightStatus().name())
+        .addValue("completed", jobResult.getCompleted().map(Timestamp::from).orElse(null))
+        .addValue("status_code", jobResult.getStatusCode().orElse(null))
+        .addValue("error_message", jobResult.getErrorMessage().orElse(null))
+        .addValue("error_causes", jobResult.getErrorCauses().map(DbSerDes::toJson).orElse(null));
+  }
+
+  private static void appendFilters(
+      StringBuilder sb,
+      MapSqlParameterSource params,
+      UUID workspaceUuid,
+      @Nullable WsmResourceFamily resourceFamily,
+      @Nullable StewardshipType stewardshipType,
+      @Nullable String resourceName,
+      @Nullable JobStateFilter jobStateFilter) {
+    sb.append("workspace_id = :workspace_id");
+    params.addValue("workspace_id", workspaceUuid.toString());
+    if (resourceFamily != null) {
+      // A family covers the referenced and controlled resource types
+      List<String> resourceTypes = new ArrayList<>();
+      resourceFamily.getReferenceType().map(WsmResourceType::toSql).ifPresent(resourceTypes::add);
+      resourceFamily.getControlledType().map(WsmResourceType::toSql).ifPresent(resourceTypes::add);
+      sb.append(" AND resource_type IN (:resource_types)");
+      params.addValue("resource_types", resourceTypes);
+    }
+    if (stewardshipType != null) {
+      sb.append(" AND stewardship_type = :stewardship_type");
+      params.addValue("stewardship_type", stewardshipType.toSql());
+    }
+    if (resourceName != null) {
+      sb.append(" AND resource_name = :resource_name");
+      params.addValue("resource_name", resourceName);
+    }
+    if (jobStateFilter == JobStateFilter.ACTIVE) {
+      sb.append(" AND completed IS NULL");
+    } else if (jobStateFilter == JobStateFilter.COMPLETED) {
+      sb.append(" AND completed IS NOT NULL");
+    }
+  }
+
+  private static class PageKey {
+    private final Instant submitted;
+    private final String flightId;
+
+    PageKey(Instant submitted, String flightId) {
+      this.submitted = submitted;
+      this.flightId = flightId;
+    }
+  }
+}
@@ -26,9 +26,14 @@ import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.resource.referenced.cloud.gcp.ReferencedResource;
 import bio.terra.workspace.service.workspace.exceptions.CloudContextRequiredException;
 import bio.terra.workspace.service.workspace.model.CloudPlatform;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -85,6 +90,14 @@ public class ResourceDao {
                     .orElse(null));
       };
 
+  private static final String INSERT_RESOURCE_SQL =
+      "INSERT INTO resource (workspace_id, cloud_platform, resource_id, name, description, stewardship_type,"
+          + " exact_resource_type, resource_type, cloning_instructions, attributes,"
+          + " access_scope, managed_by, associated_app, assigned_user, private_resource_state)"
+          + " VALUES (:workspace_id, :cloud_platform, :resource_id, :name, :description, :stewardship_type,"
+          + " :exact_resource_type, :resource_type, :cloning_instructions, cast(:attributes AS jsonb),"
+          + " :access_scope, :managed_by, :associated_app, :assigned_user, :private_resource_state)";
+
   private final NamedParameterJdbcTemplate jdbcTemplate;
 
   // -- Common Resource Methods -- //
@@ -104,6 +117,10 @@ public class ResourceDao {
             .addValue("resource_id", resourceId.toString());
     int rowsAffected = jdbcTemplate.update(sql, params);
     boolean deleted = rowsAffected > 0;
+    if (deleted) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_DELETED, resourceId);
+    }
 
     logger.info(
         "{} record for resource {} in workspace {}",
@@ -127,6 +144,10 @@ public class ResourceDao {
             .addValue("exact_resource_type", resourceType.toSql());
     int rowsAffected = jdbcTemplate.update(sql, params);
     boolean deleted = rowsAffected > 0;
+    if (deleted) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_DELETED, resourceId);
+    }
 
     logger.info(
         "{} record for resource {} of resource type {} in workspace {}",
@@ -341,8 +362,13 @@ public class ResourceDao {
             .addValue("workspace_id", workspaceUuid.toString())
             .addValue("cloud_platform", cloudPlatform.toSql())
             .addValue("controlled_resource", CONTROLLED.toSql());
-    int rowsDeleted = jdbcTemplate.update(sql, params);
-    return rowsDeleted > 0;
+    List<String> deletedIds =
+        jdbcTemplate.queryForList(sql + " RETURNING resource_id", params, String.class);
+    for (String resourceId : deletedIds) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_DELETED, resourceId);
+    }
+    return !deletedIds.isEmpty();
   }
 
   /**
@@ -364,6 +390,62 @@ public class ResourceDao {
     return constructResource(getDbResource(sql, params));
   }
 
+  /**
+   * Retrieve the version of a resource. The version increases whenever the resource description
+   * changes, and is never reused, even by a resource recreated with the same ID. It serves as the
+   * resource's entity tag without reading the description.
+   *
+   * @param workspaceUuid identifier of workspace for the lookup
+   * @param resourceId identifier of the resource for the lookup
+   * @return current version
+   */
+  @ReadTransaction
+  public long getResourceVersion(UUID workspaceUuid, UUID resourceId) {
+    final String sql =
+        "SELECT version FROM resource"
+            + " WHERE workspace_id = :workspace_id AND resource_id = :resource_id";
+    final var params =
+        new MapSqlParameterSource()
+            .addValue("workspace_id", workspaceUuid.toString())
+            .addValue("resource_id", resourceId.toString());
+    try {
+      return jdbcTemplate.queryForObject(sql, params, Long.class);
+    } catch (EmptyResultDataAccessException e) {
+      throw new ResourceNotFoundException("Resource not found.");
+    }
+  }
+
+  /**
+   * Retrieve several resources of a workspace by ID with one query.
+   *
+   * @param workspaceUuid identifier of workspace for the lookup
+   * @param resourceIds identifiers of the resources for the lookup
+   * @return map from resource ID to WsmResource object
+   * @throws ResourceNotFoundException if any of the resources does not exist
+   */
+  @ReadTransaction
+  public Map<UUID, WsmResource> getResources(UUID workspaceUuid, Collection<UUID> resourceIds) {
+    if (resourceIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    final String sql = RESOURCE_SELECT_SQL + " AND resource_id IN (:resource_ids)";
+
+    final var params =
+        new MapSqlParameterSource()
+            .addValue("workspace_id", workspaceUuid.toString())
+            .addValue(
+                "resource_ids", resourceIds.stream().map(UUID::toString).collect(toList()));
+
+    Map<UUID, WsmResource> resources =
+        jdbcTemplate.query(sql, params, DB_RESOURCE_ROW_MAPPER).stream()
+            .map(this::constructResource)
+            .collect(Collectors.toMap(WsmResource::getResourceId, r -> r));
+    if (!resources.keySet().containsAll(resourceIds)) {
+      throw new ResourceNotFoundException("Resource not found.");
+    }
+    return resources;
+  }
+
   /**
    * Retrieve a data reference by name. Names are unique per workspace.
    *
@@ -400,6 +482,71 @@ public class ResourceDao {
     storeResource(resource);
   }
 
+  /**
+   * Create many referenced resource rows in one transaction with a single batched insert. Unlike
+   * {@link #createReferencedResource}, a resource that conflicts with an existing one does not fail
+   * the batch; it is returned so the caller can report it. Rerunning the same batch is safe:
+   * resources inserted by an earlier run are not reported as conflicts, and only rows inserted by
+   * this run are recorded in the change feed.
+   *
+   * @param resources filled in referenced resources
+   * @return IDs of the resources that were not created because a resource with the same name
+   *     already exists in the workspace
+   */
+  @WriteTransaction
+  public Set<UUID> createReferencedResources(List<ReferencedResource> resources) {
+    if (resources.isEmpty()) {
+      return Collections.emptySet();
+    }
+    // Batched update counts are not reliable across drivers, so compare the rows present before
+    // and after the insert
+    Set<Pair<UUID, UUID>> existing = getStoredResourceIds(resources);
+    MapSqlParameterSource[] batchParams =
+        resources.stream()
+            .map(ResourceDao::storeResourceParams)
+            .toArray(MapSqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(INSERT_RESOURCE_SQL + " ON CONFLICT DO NOTHING", batchParams);
+    Set<Pair<UUID, UUID>> stored = getStoredResourceIds(resources);
+
+    Set<UUID> conflicts = new HashSet<>();
+    for (ReferencedResource resource : resources) {
+      Pair<UUID, UUID> ids = Pair.of(resource.getWorkspaceId(), resource.getResourceId());
+      if (!stored.contains(ids)) {
+        conflicts.add(resource.getResourceId());
+      } else if (!existing.contains(ids)) {
+        WorkspaceChangeDao.recordChange(
+            jdbcTemplate,
+            resource.getWorkspaceId(),
+            WorkspaceChangeType.RESOURCE_CREATED,
+            resource.getResourceId());
+      }
+    }
+    logger.info(
+        "Inserted {} referenced resources with {} name conflicts",
+        stored.size() - existing.size(),
+        conflicts.size());
+    return conflicts;
+  }
+
+  /** Get the workspace and resource IDs of those of the given resources that are stored. */
+  private Set<Pair<UUID, UUID>> getStoredResourceIds(List<ReferencedResource> resources) {
+    final String sql =
+        "SELECT workspace_id, resource_id FROM resource WHERE resource_id IN (:resource_ids)";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue(
+                "resource_ids",
+                resources.stream().map(r -> r.getResourceId().toString()).collect(toList()));
+    return new HashSet<>(
+        jdbcTemplate.query(
+            sql,
+            params,
+            (rs, rowNum) ->
+                Pair.of(
+                    UUID.fromString(rs.getString("workspace_id")),
+                    UUID.fromString(rs.getString("resource_id")))));
+  }
+
   private boolean updateResourceWorker(
       UUID workspaceUuid,
       UUID resourceId,
@@ -428,6 +575,7 @@ public class ResourceDao {
     StringBuilder sb = new StringBuilder("UPDATE resource SET ");
 
     sb.append(DbUtils.setColumnsClause(params, "attributes"));
+    sb.append(", version = nextval('object_version_seq')");
 
     sb.append(" WHERE workspace_id = :workspace_id AND resource_id = :resource_id");
 
@@ -437,6 +585,10 @@ public class ResourceDao {
 
     int rowsAffected = jdbcTemplate.update(sb.toString(), params);
     boolean updated = rowsAffected > 0;
+    if (updated) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_UPDATED, resourceId);
+    }
 
     logger.info(
         "{} record for resource {} in workspace {}",
@@ -564,14 +716,20 @@ public class ResourceDao {
   public void setPrivateResourceState(
       ControlledResource resource, PrivateResourceState privateResourceState) {
     final String sql =
-        "UPDATE resource SET private_resource_state = :private_resource_state WHERE workspace_id = :workspace_id AND resource_id = :resource_id AND access_scope = :private_access_scope";
+        "UPDATE resource SET private_resource_state = :private_resource_state, version = nextval('object_version_seq') WHERE workspace_id = :workspace_id AND resource_id = :resource_id AND access_scope = :private_access_scope";
     MapSqlParameterSource params =
         new MapSqlParameterSource()
             .addValue("private_resource_state", privateResourceState.toSql())
             .addValue("workspace_id", resource.getWorkspaceId().toString())
             .addValue("resource_id", resource.getResourceId().toString())
             .addValue("private_access_scope", AccessScopeType.ACCESS_SCOPE_PRIVATE.toSql());
-    jdbcTemplate.update(sql, params);
+    if (jdbcTemplate.update(sql, params) > 0) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate,
+          resource.getWorkspaceId(),
+          WorkspaceChangeType.RESOURCE_UPDATED,
+          resource.getResourceId());
+    }
   }
 
   /**
@@ -583,13 +741,18 @@ public class ResourceDao {
   public void setPrivateResourcesStateForWorkspaceUser(
       UUID workspaceUuid, String userEmail, PrivateResourceState state) {
     final String sql =
-        "UPDATE resource SET private_resource_state = :private_resource_state WHERE workspace_id = :workspace_id AND assigned_user = :user_email";
+        "UPDATE resource SET private_resource_state = :private_resource_state, version = nextval('object_version_seq') WHERE workspace_id = :workspace_id AND assigned_user = :user_email";
     MapSqlParameterSource params =
         new MapSqlParameterSource()
             .addValue("private_resource_state", state.toSql())
             .addValue("workspace_id", workspaceUuid.toString())
             .addValue("user_email", userEmail);
-    jdbcTemplate.update(sql, params);
+    List<String> updatedIds =
+        jdbcTemplate.queryForList(sql + " RETURNING resource_id", params, String.class);
+    for (String resourceId : updatedIds) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_UPDATED, resourceId);
+    }
   }
 
   /**
@@ -632,14 +795,27 @@ public class ResourceDao {
       return;
     }
 
-    final String sql =
-        "INSERT INTO resource (workspace_id, cloud_platform, resource_id, name, description, stewardship_type,"
-            + " exact_resource_type, resource_type, cloning_instructions, attributes,"
-            + " access_scope, managed_by, associated_app, assigned_user, private_resource_state)"
-            + " VALUES (:workspace_id, :cloud_platform, :resource_id, :name, :description, :stewardship_type,"
-            + " :exact_resource_type, :resource_type, :cloning_instructions, cast(:attributes AS jsonb),"
-            + " :access_scope, :managed_by, :associated_app, :assigned_user, :private_resource_state)";
+    final MapSqlParameterSource params = storeResourceParams(resource);
+    try {
+      jdbcTemplate.update(INSERT_RESOURCE_SQL, params);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate,
+          resource.getWorkspaceId(),
+          WorkspaceChangeType.RESOURCE_CREATED,
+          resource.getResourceId());
+      logger.info(
+          "Inserted record for resource {} for workspace {}",
+          resource.getResourceId(),
+          resource.getWorkspaceId());
+    } catch (DuplicateKeyException e) {
+      throw new DuplicateResourceException(
+          String.format(
+              "A resource already exists in the workspace that has the same name (%s) or the same id (%s)",
+              resource.getName(), resource.getResourceId().toString()));
+    }
+  }
 
+  private static MapSqlParameterSource storeResourceParams(WsmResource resource) {
     final var params =
         new MapSqlParameterSource()
             .addValue("workspace_id", resource.getWorkspaceId().toString())
@@ -674,19 +850,7 @@ public class ResourceDao {
           .addValue("assigned_user", null)
           .addValue("private_resource_state", null);
     }
-
-    try {
-      jdbcTemplate.update(sql, params);
-      logger.info(
-          "Inserted record for resource {} for workspace {}",
-          resource.getResourceId(),
-          resource.getWorkspaceId());
-    } catch (DuplicateKeyException e) {
-      throw new DuplicateResourceException(
-          String.format(
-              "A resource already exists in the workspace that has the same name (%s) or the same id (%s)",
-              resource.getName(), resource.getResourceId().toString()));
-    }
+    return params;
   }
 
   /**
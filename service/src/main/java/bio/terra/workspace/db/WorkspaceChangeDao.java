@@ -0,0 +1,125 @@
+package bio.terra.workspace.db;
+
+import bio.terra.common.db.ReadTransaction;
+import bio.terra.common.db.WriteTransaction;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
+import bio.terra.workspace.db.model.DbWorkspaceChange;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Data Access Object for the workspace_change table, the outbox behind the workspace change feed.
+ *
+ * <p>Changes are recorded by the DAOs making them, within the same transaction, so a change is in
+ * the feed if and only if it committed. Writers for a workspace take a transaction-scoped advisory
+ * lock before drawing a sequence number, so within a workspace, sequence numbers are assigned in
+ * commit order and a reader resuming after a sequence number cannot skip a change that commits
+ * later.
+ */
+@Component
+public class WorkspaceChangeDao {
+  private static final RowMapper<DbWorkspaceChange> WORKSPACE_CHANGE_ROW_MAPPER =
+      (rs, rowNum) ->
+          new DbWorkspaceChange()
+              .changeId(rs.getLong("change_id"))
+              .workspaceUuid(UUID.fromString(rs.getString("workspace_id")))
+              .changeType(WorkspaceChangeType.valueOf(rs.getString("change_type")))
+              .objectId(rs.getString("object_id"))
+              .changed(rs.getTimestamp("changed").toInstant());
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public WorkspaceChangeDao(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Record a change in the feed of a workspace and wake its listeners. Must be called within the
+   * transaction making the change.
+   *
+   * @param jdbcTemplate template of the calling DAO
+   * @param workspaceUuid workspace that changed
+   * @param changeType kind of change
+   * @param objectId changed resource ID, job ID or cloud platform, if any
+   */
+  public static void recordChange(
+      NamedParameterJdbcTemplate jdbcTemplate,
+      UUID workspaceUuid,
+      WorkspaceChangeType changeType,
+      @Nullable Object objectId) {
+    // The lock is taken while producing the row, before its change_id default is drawn
+    final String sql =
+        "INSERT INTO workspace_change (workspace_id, change_type, object_id)"
+            + " SELECT :workspace_id, :change_type, CAST(:object_id AS text)"
+            + " FROM (SELECT pg_advisory_xact_lock(hashtext(:workspace_id))) AS workspace_lock";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("workspace_id", workspaceUuid.toString())
+            .addValue("change_type", changeType.name())
+            .addValue("object_id", Objects.toString(objectId, null));
+    jdbcTemplate.update(sql, params);
+    CacheInvalidationBus.publish(jdbcTemplate, Region.WORKSPACE_CHANGE, workspaceUuid);
+  }
+
+  /**
+   * List the changes to a workspace after a sequence number, oldest first.
+   *
+   * @param workspaceUuid workspace of interest
+   * @param afterChangeId sequence number of the last change already seen
+   * @param limit max number of changes to return
+   * @return up to limit changes
+   */
+  @ReadTransaction
+  public List<DbWorkspaceChange> listChanges(UUID workspaceUuid, long afterChangeId, int limit) {
+    final String sql =
+        "SELECT change_id, workspace_id, change_type, object_id, changed FROM workspace_change"
+            + " WHERE workspace_id = :workspace_id AND change_id > :after_change_id"
+            + " ORDER BY change_id LIMIT :limit";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("workspace_id", workspaceUuid.toString())
+            .addValue("after_change_id", afterChangeId)
+            .addValue("limit", limit);
+    return jdbcTemplate.query(sql, params, WORKSPACE_CHANGE_ROW_MAPPER);
+  }
+
+  /**
+   * @param workspaceUuid workspace of interest
+   * @return sequence number of the latest change to the workspace, or 0 if there is none
+   */
+  @ReadTransaction
+  public long getLastChangeId(UUID workspaceUuid) {
+    final String sql =
+        "SELECT COALESCE(MAX(change_id), 0) FROM workspace_change"
+            + " WHERE workspace_id = :workspace_id";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("workspace_id", workspaceUuid.toString());
+    Long lastChangeId = jdbcTemplate.queryForObject(sql, params, Long.class);
+    return lastChangeId == null ? 0 : lastChangeId;
+  }
+
+  /**
+   * Delete changes made before a time.
+   *
+   * @param cutoff changes before this time are deleted
+   * @return number of changes deleted
+   */
+  @WriteTransaction
+  public int deleteChangesBefore(Instant cutoff) {
+    final String sql = "DELETE FROM workspace_change WHERE changed < :cutoff";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("cutoff", Timestamp.from(cutoff));
+    return jdbcTemplate.update(sql, params);
+  }
+}
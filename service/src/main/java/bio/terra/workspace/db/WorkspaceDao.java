@@ -5,6 +5,8 @@ import bio.terra.common.db.WriteTransaction;
 import bio.terra.common.exception.MissingRequiredFieldException;
 import bio.terra.workspace.common.exception.InternalLogicException;
 import bio.terra.workspace.common.utils.ControllerValidationUtils;
+import bio.terra.workspace.common.utils.RequestMemo;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
 import bio.terra.workspace.db.exception.WorkspaceNotFoundException;
 import bio.terra.workspace.service.resource.controlled.model.PrivateResourceState;
 import bio.terra.workspace.service.spendprofile.SpendProfileId;
@@ -13,6 +15,7 @@ import bio.terra.workspace.service.workspace.exceptions.DuplicateUserFacingIdExc
 import bio.terra.workspace.service.workspace.exceptions.DuplicateWorkspaceException;
 import bio.terra.workspace.service.workspace.model.CloudPlatform;
 import bio.terra.workspace.service.workspace.model.Workspace;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
 import bio.terra.workspace.service.workspace.model.WorkspaceStage;
 import java.util.Collections;
 import java.util.List;
@@ -45,6 +48,8 @@ public class WorkspaceDao {
   private static final String WORKSPACE_SELECT_SQL =
       "SELECT workspace_id, user_facing_id, display_name, description, spend_profile, properties, workspace_stage"
           + " FROM workspace";
+  /** Kind of {@link RequestMemo} key for workspace rows */
+  private static final String WORKSPACE_MEMO = "workspace";
 
   private static final RowMapper<Workspace> WORKSPACE_ROW_MAPPER =
       (rs, rowNum) ->
@@ -102,6 +107,8 @@ public class WorkspaceDao {
             .addValue("workspace_stage", workspace.getWorkspaceStage().toString());
     try {
       jdbcTemplate.update(sql, params);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspace.getWorkspaceId(), WorkspaceChangeType.WORKSPACE_CREATED, null);
       logger.info("Inserted record for workspace {}", workspaceUuid);
     } catch (DuplicateKeyException e) {
       if (e.getMessage()
@@ -142,8 +149,13 @@ public class WorkspaceDao {
         new MapSqlParameterSource().addValue("id", workspaceUuid.toString());
     int rowsAffected = jdbcTemplate.update(sql, params);
     boolean deleted = rowsAffected > 0;
+    RequestMemo.invalidate(RequestMemo.key(WORKSPACE_MEMO, workspaceUuid));
 
     if (deleted) {
+      // The delete cascades to the workspace's cloud contexts
+      CacheInvalidationBus.publish(jdbcTemplate, Region.CLOUD_CONTEXT, workspaceUuid);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.WORKSPACE_DELETED, null);
       logger.info("Deleted record for workspace {}", workspaceUuid);
     } else {
       logger.info("No record found for delete workspace {}", workspaceUuid);
@@ -171,17 +183,21 @@ public class WorkspaceDao {
   }
 
   /**
-   * Retrieves a workspace from database by ID.
+   * Retrieves a workspace from database by ID. Within an HTTP request the workspace is read once
+   * and then served from the {@link RequestMemo}.
    *
    * @param uuid unique identifier of the workspace
    * @return workspace value object
    */
   public Workspace getWorkspace(UUID uuid) {
-    return getWorkspaceIfExists(uuid)
-        .orElseThrow(
-            () ->
-                new WorkspaceNotFoundException(
-                    String.format("Workspace %s not found.", uuid.toString())));
+    return RequestMemo.get(
+        RequestMemo.key(WORKSPACE_MEMO, uuid),
+        () ->
+            getWorkspaceIfExists(uuid)
+                .orElseThrow(
+                    () ->
+                        new WorkspaceNotFoundException(
+                            String.format("Workspace %s not found.", uuid))));
   }
 
   /** Retrieves a workspace from database by userFacingId. */
@@ -239,7 +255,8 @@ public class WorkspaceDao {
 
     String sql =
         String.format(
-            "UPDATE workspace SET %s WHERE workspace_id = :workspace_id",
+            "UPDATE workspace SET %s, version = nextval('object_version_seq')"
+                + " WHERE workspace_id = :workspace_id",
             DbUtils.setColumnsClause(params, "properties"));
 
     int rowsAffected;
@@ -260,6 +277,11 @@ public class WorkspaceDao {
     }
 
     boolean updated = rowsAffected > 0;
+    RequestMemo.invalidate(RequestMemo.key(WORKSPACE_MEMO, workspaceUuid));
+    if (updated) {
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.WORKSPACE_UPDATED, null);
+    }
     logger.info(
         "{} record for workspace {}",
         (updated ? "Updated" : "No Update - did not find"),
@@ -312,6 +334,10 @@ public class WorkspaceDao {
             .addValue("creating_flight", flightId);
     try {
       jdbcTemplate.update(sql, params);
+      incrementWorkspaceVersion(workspaceUuid);
+      CacheInvalidationBus.publish(jdbcTemplate, Region.CLOUD_CONTEXT, workspaceUuid);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.CLOUD_CONTEXT_CREATED, cloudPlatform);
       logger.info("Inserted record for {} cloud context for workspace {}", platform, workspaceUuid);
     } catch (DuplicateKeyException e) {
       throw new DuplicateCloudContextException(
@@ -412,7 +438,49 @@ public class WorkspaceDao {
       sql = sql + " AND creating_flight = :creating_flight";
       params.addValue("creating_flight", creatingFlightId);
     }
-    return jdbcTemplate.update(sql, params);
+    int updatedCount = jdbcTemplate.update(sql, params);
+    if (updatedCount > 0) {
+      incrementWorkspaceVersion(workspaceUuid);
+      CacheInvalidationBus.publish(jdbcTemplate, Region.CLOUD_CONTEXT, workspaceUuid);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.CLOUD_CONTEXT_UPDATED, cloudPlatform);
+    }
+    return updatedCount;
+  }
+
+  /**
+   * Increment the version of a workspace, for changes to its description stored outside of the
+   * workspace row, such as its cloud contexts. Must be called within the transaction making the
+   * change.
+   */
+  private void incrementWorkspaceVersion(UUID workspaceUuid) {
+    jdbcTemplate.update(
+        "UPDATE workspace SET version = nextval('object_version_seq')"
+            + " WHERE workspace_id = :workspace_id",
+        new MapSqlParameterSource().addValue("workspace_id", workspaceUuid.toString()));
+  }
+
+  /**
+   * Retrieve the version of a workspace. The version increases whenever the workspace description
+   * changes, and versions are drawn from a sequence shared by all workspaces and resources, so a
+   * version is never reused, even by a workspace recreated with the same ID. It serves as the
+   * workspace's entity tag without reading the description.
+   *
+   * @param workspaceUuid unique identifier of the workspace
+   * @return current version
+   */
+  @ReadTransaction
+  public long getWorkspaceVersion(UUID workspaceUuid) {
+    String sql = "SELECT version FROM workspace WHERE workspace_id = :workspace_id";
+    MapSqlParameterSource params =
+        new MapSqlParameterSource().addValue("workspace_id", workspaceUuid.toString());
+    Long version =
+        DataAccessUtils.singleResult(
+            jdbcTemplate.query(sql, params, (rs, rowNum) -> rs.getLong("version")));
+    if (version == null) {
+      throw new WorkspaceNotFoundException(String.format("Workspace %s not found.", workspaceUuid));
+    }
+    return version;
   }
 
   /**
@@ -471,8 +539,13 @@ public class WorkspaceDao {
 
     int rowsAffected = jdbcTemplate.update(sql, params);
     boolean deleted = rowsAffected > 0;
+    RequestMemo.invalidate(RequestMemo.key(WORKSPACE_MEMO, workspaceUuid));
 
     if (deleted) {
+      incrementWorkspaceVersion(workspaceUuid);
+      CacheInvalidationBus.publish(jdbcTemplate, Region.CLOUD_CONTEXT, workspaceUuid);
+      WorkspaceChangeDao.recordChange(
+          jdbcTemplate, workspaceUuid, WorkspaceChangeType.CLOUD_CONTEXT_DELETED, cloudPlatform);
       logger.info("Deleted {} cloud context for workspace {}", platform, workspaceUuid);
     } else {
       logger.info(
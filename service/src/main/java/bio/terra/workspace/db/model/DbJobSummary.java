@@ -0,0 +1,176 @@
+package bio.terra.workspace.db.model;
+
+import bio.terra.stairway.FlightStatus;
+import bio.terra.workspace.service.resource.model.StewardshipType;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.model.OperationType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/** Database view of a job summary. Maps one-to-one with the job_summary table. */
+public class DbJobSummary {
+  private String flightId;
+  private UUID workspaceUuid;
+  @Nullable private OperationType operationType;
+  @Nullable private WsmResourceType resourceType;
+  @Nullable private StewardshipType stewardshipType;
+  @Nullable private UUID resourceId;
+  @Nullable private String resourceName;
+  private FlightStatus flightStatus;
+  private Instant submitted;
+  @Nullable private Instant completed;
+  @Nullable private String description;
+  @Nullable private String resultPath;
+  @Nullable private UUID destinationResourceId;
+  @Nullable private Integer statusCode;
+  @Nullable private String errorMessage;
+  @Nullable private List<String> errorCauses;
+
+  public String getFlightId() {
+    return flightId;
+  }
+
+  public DbJobSummary flightId(String flightId) {
+    this.flightId = flightId;
+    return this;
+  }
+
+  public UUID getWorkspaceId() {
+    return workspaceUuid;
+  }
+
+  public DbJobSummary workspaceUuid(UUID workspaceUuid) {
+    this.workspaceUuid = workspaceUuid;
+    return this;
+  }
+
+  public Optional<OperationType> getOperationType() {
+    return Optional.ofNullable(operationType);
+  }
+
+  public DbJobSummary operationType(@Nullable OperationType operationType) {
+    this.operationType = operationType;
+    return this;
+  }
+
+  public Optional<WsmResourceType> getResourceType() {
+    return Optional.ofNullable(resourceType);
+  }
+
+  public DbJobSummary resourceType(@Nullable WsmResourceType resourceType) {
+    this.resourceType = resourceType;
+    return this;
+  }
+
+  public Optional<StewardshipType> getStewardshipType() {
+    return Optional.ofNullable(stewardshipType);
+  }
+
+  public DbJobSummary stewardshipType(@Nullable StewardshipType stewardshipType) {
+    this.stewardshipType = stewardshipType;
+    return this;
+  }
+
+  public Optional<UUID> getResourceId() {
+    return Optional.ofNullable(resourceId);
+  }
+
+  public DbJobSummary resourceId(@Nullable UUID resourceId) {
+    this.resourceId = resourceId;
+    return this;
+  }
+
+  public Optional<String> getResourceName() {
+    return Optional.ofNullable(resourceName);
+  }
+
+  public DbJobSummary resourceName(@Nullable String resourceName) {
+    this.resourceName = resourceName;
+    return this;
+  }
+
+  public FlightStatus getFlightStatus() {
+    return flightStatus;
+  }
+
+  public DbJobSummary flightStatus(FlightStatus flightStatus) {
+    this.flightStatus = flightStatus;
+    return this;
+  }
+
+  public Instant getSubmitted() {
+    return submitted;
+  }
+
+  public DbJobSummary submitted(Instant submitted) {
+    this.submitted = submitted;
+    return this;
+  }
+
+  public Optional<Instant> getCompleted() {
+    return Optional.ofNullable(completed);
+  }
+
+  public DbJobSummary completed(@Nullable Instant completed) {
+    this.completed = completed;
+    return this;
+  }
+
+  public Optional<String> getDescription() {
+    return Optional.ofNullable(description);
+  }
+
+  public DbJobSummary description(@Nullable String description) {
+    this.description = description;
+    return this;
+  }
+
+  public Optional<String> getResultPath() {
+    return Optional.ofNullable(resultPath);
+  }
+
+  public DbJobSummary resultPath(@Nullable String resultPath) {
+    this.resultPath = resultPath;
+    return this;
+  }
+
+  public Optional<UUID> getDestinationResourceId() {
+    return Optional.ofNullable(destinationResourceId);
+  }
+
+  public DbJobSummary destinationResourceId(@Nullable UUID destinationResourceId) {
+    this.destinationResourceId = destinationResourceId;
+    return this;
+  }
+
+  /** HTTP status code of the job result; empty while the job is active. */
+  public Optional<Integer> getStatusCode() {
+    return Optional.ofNullable(statusCode);
+  }
+
+  public DbJobSummary statusCode(@Nullable Integer statusCode) {
+    this.statusCode = statusCode;
+    return this;
+  }
+
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  public DbJobSummary errorMessage(@Nullable String errorMessage) {
+    this.errorMessage = errorMessage;
+    return this;
+  }
+
+  public Optional<List<String>> getErrorCauses() {
+    return Optional.ofNullable(errorCauses);
+  }
+
+  public DbJobSummary errorCauses(@Nullable List<String> errorCauses) {
+    this.errorCauses = errorCauses;
+    return this;
+  }
+}
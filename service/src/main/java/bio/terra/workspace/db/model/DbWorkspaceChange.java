@@ -0,0 +1,61 @@
+package bio.terra.workspace.db.model;
+
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/** Database view of a workspace change. Maps one-to-one with the workspace_change table. */
+public class DbWorkspaceChange {
+  private long changeId;
+  private UUID workspaceUuid;
+  private WorkspaceChangeType changeType;
+  @Nullable private String objectId;
+  private Instant changed;
+
+  public long getChangeId() {
+    return changeId;
+  }
+
+  public DbWorkspaceChange changeId(long changeId) {
+    this.changeId = changeId;
+    return this;
+  }
+
+  public UUID getWorkspaceId() {
+    return workspaceUuid;
+  }
+
+  public DbWorkspaceChange workspaceUuid(UUID workspaceUuid) {
+    this.workspaceUuid = workspaceUuid;
+    return this;
+  }
+
+  public WorkspaceChangeType getChangeType() {
+    return changeType;
+  }
+
+  public DbWorkspaceChange changeType(WorkspaceChangeType changeType) {
+    this.changeType = changeType;
+    return this;
+  }
+
+  public Optional<String> getObjectId() {
+    return Optional.ofNullable(objectId);
+  }
+
+  public DbWorkspaceChange objectId(@Nullable String objectId) {
+    this.objectId = objectId;
+    return this;
+  }
+
+  public Instant getChanged() {
+    return changed;
+  }
+
+  public DbWorkspaceChange changed(Instant changed) {
+    this.changed = changed;
+    return this;
+  }
+}
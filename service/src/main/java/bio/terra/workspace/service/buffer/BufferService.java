@@ -9,6 +9,9 @@ import bio.terra.common.logging.RequestIdFilter;
 import bio.terra.workspace.app.configuration.external.BufferServiceConfiguration;
 import bio.terra.workspace.service.buffer.exception.BufferServiceAPIException;
 import bio.terra.workspace.service.buffer.exception.BufferServiceAuthorizationException;
+import bio.terra.workspace.service.http.Downstream;
+import bio.terra.workspace.service.http.DownstreamGuard;
+import bio.terra.workspace.service.http.HttpClientRegistry;
 import java.io.IOException;
 import javax.ws.rs.client.Client;
 import org.slf4j.Logger;
@@ -25,11 +28,16 @@ public class BufferService {
 
   private final BufferServiceConfiguration bufferServiceConfiguration;
   private final Client commonHttpClient;
+  private final DownstreamGuard downstreamGuard;
 
   @Autowired
-  public BufferService(BufferServiceConfiguration bufferServiceConfiguration) {
+  public BufferService(
+      BufferServiceConfiguration bufferServiceConfiguration,
+      HttpClientRegistry httpClientRegistry,
+      DownstreamGuard downstreamGuard) {
     this.bufferServiceConfiguration = bufferServiceConfiguration;
-    this.commonHttpClient = new ApiClient().getHttpClient();
+    this.downstreamGuard = downstreamGuard;
+    this.commonHttpClient = httpClientRegistry.getBufferHttpClient();
   }
 
   private ApiClient getApiClient(String accessToken) {
@@ -58,7 +66,10 @@ public class BufferService {
     try {
       BufferApi bufferApi = bufferApi(bufferServiceConfiguration.getInstanceUrl());
       ResourceInfo info =
-          bufferApi.handoutResource(requestBody, bufferServiceConfiguration.getPoolId());
+          downstreamGuard.call(
+              Downstream.BUFFER,
+              () -> bufferApi.handoutResource(requestBody, bufferServiceConfiguration.getPoolId()),
+              DownstreamGuard.outageOnStatus(ApiException.class, ApiException::getCode));
       logger.info(
           "Retrieved resource from pool {} on Buffer Service instance {}",
           bufferServiceConfiguration.getPoolId(),
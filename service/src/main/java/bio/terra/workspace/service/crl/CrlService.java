@@ -17,6 +17,9 @@ import bio.terra.workspace.app.configuration.external.CrlConfiguration;
 import bio.terra.workspace.service.crl.exception.CrlInternalException;
 import bio.terra.workspace.service.crl.exception.CrlNotInUseException;
 import bio.terra.workspace.service.crl.exception.CrlSecurityException;
+import bio.terra.workspace.service.http.Downstream;
+import bio.terra.workspace.service.http.DownstreamGuard;
+import bio.terra.workspace.service.http.HttpClientRegistry;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
 import bio.terra.workspace.service.resource.referenced.exception.InvalidReferenceException;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
@@ -29,12 +32,21 @@ import com.azure.resourcemanager.relay.RelayManager;
 import com.azure.resourcemanager.resources.ResourceManager;
 import com.azure.resourcemanager.storage.StorageManager;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.services.bigquery.Bigquery;
 import com.google.api.services.bigquery.BigqueryScopes;
 import com.google.api.services.bigquery.model.Dataset;
+import com.google.api.services.cloudresourcemanager.v3.CloudResourceManager;
+import com.google.api.services.cloudresourcemanager.v3.CloudResourceManagerScopes;
+import com.google.api.services.compute.Compute;
+import com.google.api.services.compute.ComputeScopes;
+import com.google.api.services.iam.v1.Iam;
+import com.google.api.services.iam.v1.IamScopes;
+import com.google.api.services.notebooks.v1.AIPlatformNotebooks;
+import com.google.api.services.notebooks.v1.AIPlatformNotebooksScopes;
 import com.google.api.services.storage.Storage;
 import com.google.api.services.storage.StorageScopes;
-import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.AccessToken;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.auth.oauth2.ServiceAccountCredentials;
@@ -47,6 +59,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
@@ -70,20 +83,57 @@ public class CrlService {
   private final CloudComputeCow crlComputeCow;
   private final IamCow crlIamCow;
   private final ServiceUsageCow crlServiceUsageCow;
+  private final HttpClientRegistry httpClientRegistry;
+  private final DownstreamGuard downstreamGuard;
 
   @Autowired
-  public CrlService(CrlConfiguration crlConfig) {
+  public CrlService(
+      CrlConfiguration crlConfig,
+      HttpClientRegistry httpClientRegistry,
+      DownstreamGuard downstreamGuard) {
     this.crlConfig = crlConfig;
+    this.httpClientRegistry = httpClientRegistry;
+    this.downstreamGuard = downstreamGuard;
 
     if (crlConfig.getUseCrl()) {
       GoogleCredentials creds = getApplicationCredentials();
       clientConfig = buildClientConfig();
+      // The WSM SA clients share the registry's pooled transport
+      HttpTransport transport = httpClientRegistry.getGoogleHttpTransport();
       try {
-        this.crlNotebooksCow = AIPlatformNotebooksCow.create(clientConfig, creds);
-        this.crlResourceManagerCow = CloudResourceManagerCow.create(clientConfig, creds);
+        this.crlNotebooksCow =
+            new AIPlatformNotebooksCow(
+                clientConfig,
+                new AIPlatformNotebooks.Builder(
+                        transport,
+                        Defaults.jsonFactory(),
+                        googleRequestInitializer(creds, AIPlatformNotebooksScopes.all()))
+                    .setApplicationName(clientConfig.getClientName()));
+        this.crlResourceManagerCow =
+            new CloudResourceManagerCow(
+                clientConfig,
+                new CloudResourceManager.Builder(
+                        transport,
+                        Defaults.jsonFactory(),
+                        googleRequestInitializer(creds, CloudResourceManagerScopes.all()))
+                    .setApplicationName(clientConfig.getClientName()));
         this.crlBillingClientCow = new CloudBillingClientCow(clientConfig, creds);
-        this.crlComputeCow = CloudComputeCow.create(clientConfig, creds);
-        this.crlIamCow = IamCow.create(clientConfig, creds);
+        this.crlComputeCow =
+            new CloudComputeCow(
+                clientConfig,
+                new Compute.Builder(
+                        transport,
+                        Defaults.jsonFactory(),
+                        googleRequestInitializer(creds, ComputeScopes.all()))
+                    .setApplicationName(clientConfig.getClientName()));
+        this.crlIamCow =
+            new IamCow(
+                clientConfig,
+                new Iam.Builder(
+                        transport,
+                        Defaults.jsonFactory(),
+                        googleRequestInitializer(creds, IamScopes.all()))
+                    .setApplicationName(clientConfig.getClientName()));
         this.crlServiceUsageCow = ServiceUsageCow.create(clientConfig, creds);
 
       } catch (GeneralSecurityException | IOException e) {
@@ -195,13 +245,13 @@ public class CrlService {
     assertCrlInUse();
     try {
       return new Bigquery.Builder(
-              Defaults.httpTransport(),
+              httpClientRegistry.getGoogleHttpTransport(),
               Defaults.jsonFactory(),
-              new HttpCredentialsAdapter(
-                  GoogleCredentials.getApplicationDefault().createScoped(BigqueryScopes.all())))
+              googleRequestInitializer(
+                  GoogleCredentials.getApplicationDefault(), BigqueryScopes.all()))
           .setApplicationName(clientConfig.getClientName())
           .build();
-    } catch (IOException | GeneralSecurityException e) {
+    } catch (IOException e) {
       throw new CrlInternalException("Error creating naked BigQuery client.");
     }
   }
@@ -233,7 +283,8 @@ public class CrlService {
   public boolean canReadBigQueryDataset(
       String projectId, String datasetName, AuthenticatedUserRequest userRequest) {
     try {
-      createBigQueryCow(userRequest).tables().list(projectId, datasetName).execute();
+      BigQueryCow bigQueryCow = createBigQueryCow(userRequest);
+      callGoogle(() -> bigQueryCow.tables().list(projectId, datasetName).execute());
       return true;
     } catch (GoogleJsonResponseException ex) {
       if (ex.getStatusCode() == HttpStatus.SC_NOT_FOUND
@@ -262,7 +313,8 @@ public class CrlService {
       String dataTableName,
       AuthenticatedUserRequest userRequest) {
     try {
-      createBigQueryCow(userRequest).tables().get(projectId, datasetName, dataTableName).execute();
+      BigQueryCow bigQueryCow = createBigQueryCow(userRequest);
+      callGoogle(() -> bigQueryCow.tables().get(projectId, datasetName, dataTableName).execute());
       return true;
     } catch (GoogleJsonResponseException ex) {
       if (ex.getStatusCode() == HttpStatus.SC_NOT_FOUND
@@ -286,7 +338,7 @@ public class CrlService {
    */
   public Dataset getBigQueryDataset(BigQueryCow bigQueryCow, String projectId, String datasetName)
       throws IOException {
-    return bigQueryCow.datasets().get(projectId, datasetName).execute();
+    return callGoogle(() -> bigQueryCow.datasets().get(projectId, datasetName).execute());
   }
 
   /**
@@ -302,7 +354,7 @@ public class CrlService {
       BigQueryCow bigQueryCow, String projectId, String datasetName, Dataset dataset)
       throws IOException {
     try {
-      bigQueryCow.datasets().update(projectId, datasetName, dataset).execute();
+      callGoogle(() -> bigQueryCow.datasets().update(projectId, datasetName, dataset).execute());
     } catch (GoogleJsonResponseException gjEx) {
       if (gjEx.getStatusCode() == HttpStatus.SC_BAD_REQUEST) {
         throw new BadRequestException(
@@ -331,13 +383,13 @@ public class CrlService {
   public Storage createWsmSaNakedStorageClient() {
     try {
       return new Storage.Builder(
-              Defaults.httpTransport(),
+              httpClientRegistry.getGoogleHttpTransport(),
               Defaults.jsonFactory(),
-              new HttpCredentialsAdapter(
-                  GoogleCredentials.getApplicationDefault().createScoped(StorageScopes.all())))
+              googleRequestInitializer(
+                  GoogleCredentials.getApplicationDefault(), StorageScopes.all()))
           .setApplicationName(clientConfig.getClientName())
           .build();
-    } catch (IOException | GeneralSecurityException e) {
+    } catch (IOException e) {
       throw new CrlInternalException("Error creating naked Storage client.");
     }
   }
@@ -387,7 +439,8 @@ public class CrlService {
         ImmutableList.of("storage.objects.get", "storage.objects.list");
     try {
       StorageCow storage = createStorageCow(null, userRequest);
-      List<Boolean> hasPermissionsList = storage.testIamPermissions(bucketName, readPermissions);
+      List<Boolean> hasPermissionsList =
+          callGoogle(() -> storage.testIamPermissions(bucketName, readPermissions));
       return hasPermissionsList.contains(true);
     } catch (StorageException e) {
       throw new InvalidReferenceException(
@@ -400,7 +453,7 @@ public class CrlService {
     try {
       StorageCow storage = createStorageCow(null, userRequest);
       // If successfully get the blob, the user have at least READER access.
-      storage.get(BlobId.of(bucketName, objectName));
+      callGoogle(() -> storage.get(BlobId.of(bucketName, objectName)));
       return true;
     } catch (StorageException e) {
       if (e.getCode() == HttpStatus.SC_FORBIDDEN) {
@@ -436,6 +489,27 @@ public class CrlService {
     return GoogleCredentials.create(accessToken);
   }
 
+  /** Make a Google API call through the Google bulkhead and circuit breaker. */
+  private <T, E extends Exception> T callGoogle(DownstreamGuard.GuardedCall<T, E> call) throws E {
+    return downstreamGuard.call(Downstream.GOOGLE, call, CrlService::isGoogleOutage);
+  }
+
+  /** The JSON API and storage clients report the status of a failed call differently. */
+  private static boolean isGoogleOutage(Exception e) {
+    if (e instanceof GoogleJsonResponseException) {
+      return DownstreamGuard.isOutageStatus(((GoogleJsonResponseException) e).getStatusCode());
+    }
+    if (e instanceof StorageException) {
+      return DownstreamGuard.isOutageStatus(((StorageException) e).getCode());
+    }
+    return e instanceof IOException;
+  }
+
+  private HttpRequestInitializer googleRequestInitializer(
+      GoogleCredentials credentials, Collection<String> scopes) {
+    return httpClientRegistry.getGoogleRequestInitializer(credentials.createScoped(scopes));
+  }
+
   private ClientConfig buildClientConfig() {
     var builder = ClientConfig.Builder.newBuilder().setClient(CLIENT_NAME);
     if (crlConfig.useJanitor()) {
@@ -480,7 +554,10 @@ public class CrlService {
     // We must use FQDN because there are two `Defaults` symbols imported otherwise.
     ResourceManager manager =
         bio.terra.cloudres.azure.resourcemanager.common.Defaults.crlConfigure(
-                clientConfig, ResourceManager.configure())
+                clientConfig,
+                ResourceManager.configure()
+                    .withHttpClient(httpClientRegistry.getAzureHttpClient())
+                    .withPolicy(httpClientRegistry.getAzureMetricsPolicy()))
             .authenticate(azureCreds, azureProfile)
             .withSubscription(azureCloudContext.getAzureSubscriptionId());
 
@@ -500,7 +577,10 @@ public class CrlService {
     // We must use FQDN because there are two `Defaults` symbols imported otherwise.
     ComputeManager manager =
         bio.terra.cloudres.azure.resourcemanager.common.Defaults.crlConfigure(
-                clientConfig, ComputeManager.configure())
+                clientConfig,
+                ComputeManager.configure()
+                    .withHttpClient(httpClientRegistry.getAzureHttpClient())
+                    .withPolicy(httpClientRegistry.getAzureMetricsPolicy()))
             .authenticate(azureCreds, azureProfile);
 
     return manager;
@@ -519,7 +599,10 @@ public class CrlService {
     // We must use FQDN because there are two `Defaults` symbols imported otherwise.
     RelayManager manager =
         bio.terra.cloudres.azure.resourcemanager.relay.Defaults.crlConfigure(
-                clientConfig, RelayManager.configure())
+                clientConfig,
+                RelayManager.configure()
+                    .withHttpClient(httpClientRegistry.getAzureHttpClient())
+                    .withPolicy(httpClientRegistry.getAzureMetricsPolicy()))
             .authenticate(azureCreds, azureProfile);
     return manager;
   }
@@ -537,7 +620,10 @@ public class CrlService {
     // We must use FQDN because there are two `Defaults` symbols imported otherwise.
     StorageManager manager =
         bio.terra.cloudres.azure.resourcemanager.common.Defaults.crlConfigure(
-                clientConfig, StorageManager.configure())
+                clientConfig,
+                StorageManager.configure()
+                    .withHttpClient(httpClientRegistry.getAzureHttpClient())
+                    .withPolicy(httpClientRegistry.getAzureMetricsPolicy()))
             .authenticate(azureCreds, azureProfile);
 
     return manager;
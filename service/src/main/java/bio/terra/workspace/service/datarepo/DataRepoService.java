@@ -6,6 +6,9 @@ import bio.terra.datarepo.client.ApiClient;
 import bio.terra.datarepo.client.ApiException;
 import bio.terra.workspace.app.configuration.external.DataRepoConfiguration;
 import bio.terra.workspace.service.datarepo.exception.DataRepoInternalServerErrorException;
+import bio.terra.workspace.service.http.Downstream;
+import bio.terra.workspace.service.http.DownstreamGuard;
+import bio.terra.workspace.service.http.HttpClientRegistry;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
 import io.opencensus.contrib.spring.aop.Traced;
 import java.util.HashMap;
@@ -21,11 +24,16 @@ public class DataRepoService {
 
   private final DataRepoConfiguration dataRepoConfiguration;
   private final Client commonHttpClient;
+  private final DownstreamGuard downstreamGuard;
 
   @Autowired
-  public DataRepoService(DataRepoConfiguration dataRepoConfiguration) {
+  public DataRepoService(
+      DataRepoConfiguration dataRepoConfiguration,
+      HttpClientRegistry httpClientRegistry,
+      DownstreamGuard downstreamGuard) {
     this.dataRepoConfiguration = dataRepoConfiguration;
-    commonHttpClient = new ApiClient().getHttpClient();
+    this.downstreamGuard = downstreamGuard;
+    commonHttpClient = httpClientRegistry.getDataRepoHttpClient();
   }
 
   private final Logger logger = LoggerFactory.getLogger(DataRepoService.class);
@@ -65,7 +73,10 @@ public class DataRepoService {
     RepositoryApi repositoryApi = repositoryApi(instanceName, userRequest);
 
     try {
-      repositoryApi.retrieveSnapshot(snapshotId);
+      downstreamGuard.call(
+          Downstream.DATA_REPO,
+          () -> repositoryApi.retrieveSnapshot(snapshotId),
+          DownstreamGuard.outageOnStatus(ApiException.class, ApiException::getCode));
       logger.info("Retrieved snapshotId {} on Data Repo instance {}", snapshotId, instanceName);
       return true;
     } catch (ApiException e) {
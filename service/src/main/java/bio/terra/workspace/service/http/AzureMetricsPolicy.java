@@ -0,0 +1,26 @@
+package bio.terra.workspace.service.http;
+
+import com.azure.core.http.HttpPipelineCallContext;
+import com.azure.core.http.HttpPipelineNextPolicy;
+import com.azure.core.http.HttpResponse;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import java.util.concurrent.atomic.AtomicInteger;
+import reactor.core.publisher.Mono;
+
+/** Azure pipeline policy recording {@link HttpClientMetrics} for each attempt of a request. */
+class AzureMetricsPolicy implements HttpPipelinePolicy {
+
+  @Override
+  public Mono<HttpResponse> process(HttpPipelineCallContext context, HttpPipelineNextPolicy next) {
+    return Mono.defer(
+        () -> {
+          long start = HttpClientMetrics.startRequest(Downstream.AZURE);
+          AtomicInteger status = new AtomicInteger();
+          return next.process()
+              .doOnNext(response -> status.set(response.getStatusCode()))
+              .doFinally(
+                  signal ->
+                      HttpClientMetrics.finishRequest(Downstream.AZURE, start, status.get()));
+        });
+  }
+}
@@ -0,0 +1,141 @@
+package bio.terra.workspace.service.http;
+
+import bio.terra.workspace.app.configuration.external.DownstreamGuardConfiguration.GuardSettings;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker for one downstream service.
+ *
+ * <p>While CLOSED, the outcomes of the most recent calls are kept in a fixed-size window. Once the
+ * window has enough calls and the fraction of failures reaches the threshold, the circuit OPENs
+ * and calls are rejected. After the open duration, the circuit goes HALF_OPEN and admits a limited
+ * number of probe calls: if they all succeed the circuit closes, and if any fails it opens again.
+ *
+ * <p>Each permission carries the generation of the state it was granted in, so results of calls
+ * started before a transition do not count against the new state.
+ */
+class CircuitBreaker {
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final Downstream downstream;
+  private final GuardSettings settings;
+  private final Clock clock;
+  // Outcomes of recent calls while closed; true is a failure
+  private final boolean[] window;
+
+  private State state = State.CLOSED;
+  private long generation;
+  private int windowCalls;
+  private int windowFailures;
+  private int windowNext;
+  private Instant openedAt = Instant.MIN;
+  private int probesPermitted;
+  private int probesSucceeded;
+
+  CircuitBreaker(Downstream downstream, GuardSettings settings, Clock clock) {
+    this.downstream = downstream;
+    this.settings = settings;
+    this.clock = clock;
+    this.window = new boolean[settings.getSlidingWindowSize()];
+  }
+
+  /**
+   * Ask to make a call.
+   *
+   * @return the generation to pass to {@link #onResult} or {@link #release}, or empty if the call
+   *     is rejected
+   */
+  synchronized Optional<Long> tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (clock.instant().isBefore(openedAt.plus(settings.getOpenDuration()))) {
+        return Optional.empty();
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (probesPermitted >= settings.getHalfOpenCalls()) {
+        return Optional.empty();
+      }
+      probesPermitted++;
+    }
+    return Optional.of(generation);
+  }
+
+  /** Give back a permission for a call that was not made. */
+  synchronized void release(long permissionGeneration) {
+    if (permissionGeneration == generation && state == State.HALF_OPEN) {
+      probesPermitted--;
+    }
+  }
+
+  /**
+   * Record the outcome of a call.
+   *
+   * @param permissionGeneration generation returned with the permission
+   * @param failed whether the call failed in a way that indicates the downstream is unhealthy
+   */
+  synchronized void onResult(long permissionGeneration, boolean failed) {
+    if (permissionGeneration != generation) {
+      return;
+    }
+    // Calls are not permitted while open, so there is nothing to record in that state
+    if (state == State.CLOSED) {
+      recordInWindow(failed);
+    } else if (state == State.HALF_OPEN) {
+      if (failed) {
+        transitionTo(State.OPEN);
+      } else if (++probesSucceeded >= settings.getHalfOpenCalls()) {
+        transitionTo(State.CLOSED);
+      }
+    }
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  private void recordInWindow(boolean failed) {
+    if (windowCalls == window.length) {
+      if (window[windowNext]) {
+        windowFailures--;
+      }
+    } else {
+      windowCalls++;
+    }
+    window[windowNext] = failed;
+    if (failed) {
+      windowFailures++;
+    }
+    windowNext = (windowNext + 1) % window.length;
+
+    if (windowCalls >= settings.getMinimumCalls()
+        && (double) windowFailures / windowCalls >= settings.getFailureRateThreshold()) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private void transitionTo(State newState) {
+    logger.warn("Circuit for {} changed from {} to {}", downstream.getName(), state, newState);
+    HttpClientMetrics.recordCircuitTransition(downstream, state.name(), newState.name());
+    state = newState;
+    generation++;
+    windowCalls = 0;
+    windowFailures = 0;
+    windowNext = 0;
+    probesPermitted = 0;
+    probesSucceeded = 0;
+    if (newState == State.OPEN) {
+      openedAt = clock.instant();
+    }
+  }
+}
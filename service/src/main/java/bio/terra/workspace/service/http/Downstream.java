@@ -0,0 +1,21 @@
+package bio.terra.workspace.service.http;
+
+/** Downstream services WSM calls over HTTP. Each has its own client settings and metrics. */
+public enum Downstream {
+  SAM("sam"),
+  DATA_REPO("datarepo"),
+  BUFFER("buffer"),
+  AZURE("azure"),
+  GOOGLE("google");
+
+  private final String name;
+
+  Downstream(String name) {
+    this.name = name;
+  }
+
+  /** Name used in configuration and as the metrics tag value. */
+  public String getName() {
+    return name;
+  }
+}
@@ -0,0 +1,180 @@
+package bio.terra.workspace.service.http;
+
+import bio.terra.workspace.app.configuration.external.DownstreamGuardConfiguration;
+import bio.terra.workspace.app.configuration.external.DownstreamGuardConfiguration.GuardSettings;
+import bio.terra.workspace.service.http.exception.DownstreamUnavailableException;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import javax.ws.rs.ProcessingException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkheads and circuit breakers for calls to downstream services.
+ *
+ * <p>Each downstream has a bulkhead limiting how many calls, including their retries, may be in
+ * progress at once, and a {@link CircuitBreaker} that stops calls while the downstream is failing.
+ * A rejected call fails immediately with a {@link DownstreamUnavailableException} (503), so request
+ * threads are not tied up waiting on an unhealthy service and endpoints that do not use it keep
+ * working.
+ *
+ * <p>Callers supply a predicate saying which exceptions indicate an unhealthy downstream, such as
+ * 5xx responses and connection failures; {@link #outageOnStatus} builds one for a generated
+ * client. Other exceptions, like a 404, count as successful calls.
+ */
+@Component
+public class DownstreamGuard {
+
+  /** A guarded call. */
+  @FunctionalInterface
+  public interface GuardedCall<T, E extends Exception> {
+    T call() throws E;
+  }
+
+  /** A guarded call that may be interrupted. */
+  @FunctionalInterface
+  public interface InterruptibleCall<T, E extends Exception> {
+    T call() throws E, InterruptedException;
+  }
+
+  private final Map<Downstream, Guard> guards = new EnumMap<>(Downstream.class);
+
+  @Autowired
+  public DownstreamGuard(DownstreamGuardConfiguration configuration) {
+    this(configuration, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  DownstreamGuard(DownstreamGuardConfiguration configuration, Clock clock) {
+    for (Downstream downstream : Downstream.values()) {
+      GuardSettings settings = configuration.getSettings(downstream.getName());
+      guards.put(downstream, new Guard(downstream, settings, clock));
+    }
+  }
+
+  /**
+   * Make a call to a downstream service through its bulkhead and circuit breaker.
+   *
+   * @param downstream service being called
+   * @param call the call
+   * @param isOutage whether an exception thrown by the call indicates the downstream is unhealthy
+   * @return result of the call
+   * @throws E exception thrown by the call
+   * @throws DownstreamUnavailableException if the call is rejected
+   */
+  public <T, E extends Exception> T call(
+      Downstream downstream, GuardedCall<T, E> call, Predicate<Exception> isOutage) throws E {
+    try {
+      return this.<T, E>callInterruptibly(downstream, call::call, isOutage);
+    } catch (InterruptedException e) {
+      // Only the wait for the bulkhead can be interrupted here
+      Thread.currentThread().interrupt();
+      throw new DownstreamUnavailableException(
+          "Interrupted waiting to call " + downstream.getName());
+    }
+  }
+
+  /**
+   * Like {@link #call}, for calls that may be interrupted.
+   *
+   * @param downstream service being called
+   * @param call the call
+   * @param isOutage whether an exception thrown by the call indicates the downstream is unhealthy
+   * @return result of the call
+   * @throws E exception thrown by the call
+   * @throws InterruptedException if interrupted during the call or waiting for the bulkhead
+   * @throws DownstreamUnavailableException if the call is rejected
+   */
+  public <T, E extends Exception> T callInterruptibly(
+      Downstream downstream, InterruptibleCall<T, E> call, Predicate<Exception> isOutage)
+      throws E, InterruptedException {
+    Guard guard = guards.get(downstream);
+    if (!guard.settings.isEnabled()) {
+      return call.call();
+    }
+
+    Optional<Long> permission = guard.circuitBreaker.tryAcquirePermission();
+    if (permission.isEmpty()) {
+      HttpClientMetrics.recordRejection(downstream, "circuit_open");
+      throw new DownstreamUnavailableException(
+          String.format(
+              "%s is unavailable; calls are suspended after repeated failures. Try again later.",
+              downstream.getName()));
+    }
+    long generation = permission.get();
+    if (!guard.bulkhead.tryAcquire(
+        guard.settings.getMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+      guard.circuitBreaker.release(generation);
+      HttpClientMetrics.recordRejection(downstream, "bulkhead_full");
+      throw new DownstreamUnavailableException(
+          String.format(
+              "Too many calls to %s are in progress. Try again later.", downstream.getName()));
+    }
+
+    boolean failed = false;
+    try {
+      return call.call();
+    } catch (Exception e) {
+      failed = isOutage.test(e);
+      throw e;
+    } finally {
+      guard.bulkhead.release();
+      guard.circuitBreaker.onResult(generation, failed);
+    }
+  }
+
+  /**
+   * Whether the HTTP status of a failed call shows its downstream is unhealthy. A downstream is
+   * unhealthy if it fails with a server error or cannot be reached at all, which generated clients
+   * report as a status of 0.
+   *
+   * @param statusCode HTTP status of the failed call
+   * @return true for a server error or no response
+   */
+  public static boolean isOutageStatus(int statusCode) {
+    return statusCode == 0 || statusCode >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+  }
+
+  /**
+   * Build the outage predicate for a generated client. Its API exceptions are outages according to
+   * {@link #isOutageStatus}; any other exception is one if the client could not reach the
+   * downstream.
+   *
+   * @param apiExceptionType exception the client throws for failed calls
+   * @param getStatusCode reads the HTTP status of such an exception
+   * @return predicate to pass to {@link #call} or {@link #callInterruptibly}
+   */
+  public static <X extends Exception> Predicate<Exception> outageOnStatus(
+      Class<X> apiExceptionType, ToIntFunction<X> getStatusCode) {
+    return e ->
+        apiExceptionType.isInstance(e)
+            ? isOutageStatus(getStatusCode.applyAsInt(apiExceptionType.cast(e)))
+            : e instanceof IOException || e instanceof ProcessingException;
+  }
+
+  @VisibleForTesting
+  CircuitBreaker.State getCircuitState(Downstream downstream) {
+    return guards.get(downstream).circuitBreaker.getState();
+  }
+
+  private static class Guard {
+    private final GuardSettings settings;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    Guard(Downstream downstream, GuardSettings settings, Clock clock) {
+      this.settings = settings;
+      this.bulkhead = new Semaphore(settings.getMaxConcurrentCalls());
+      this.circuitBreaker = new CircuitBreaker(downstream, settings, clock);
+    }
+  }
+}
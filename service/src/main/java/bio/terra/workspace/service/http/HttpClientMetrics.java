@@ -0,0 +1,303 @@
+package bio.terra.workspace.service.http;
+
+import io.opencensus.metrics.DerivedDoubleGauge;
+import io.opencensus.metrics.DerivedLongGauge;
+import io.opencensus.metrics.LabelKey;
+import io.opencensus.metrics.LabelValue;
+import io.opencensus.metrics.MetricOptions;
+import io.opencensus.metrics.MetricRegistry;
+import io.opencensus.metrics.Metrics;
+import io.opencensus.stats.Aggregation;
+import io.opencensus.stats.BucketBoundaries;
+import io.opencensus.stats.Measure.MeasureDouble;
+import io.opencensus.stats.Measure.MeasureLong;
+import io.opencensus.stats.Stats;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.stats.View;
+import io.opencensus.stats.ViewManager;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import io.opencensus.tags.Tags;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Metrics for outbound HTTP calls, tagged by downstream service: request latency by status class,
+ * requests in flight, connection pool utilization, the number of attempts made by retried calls,
+ * hedged calls issued and won, and {@link DownstreamGuard} circuit transitions and rejections.
+ * Comparing latency with pool utilization separates a slow downstream from connection starvation
+ * on our side.
+ *
+ * <p>The views and gauges are process-wide, so they are registered once regardless of how many
+ * application contexts are created.
+ */
+public class HttpClientMetrics {
+  private static final String METRICS_PREFIX = "terra/workspace/http/";
+  private static final TagKey DOWNSTREAM_TAG = TagKey.create("downstream");
+  private static final TagKey STATUS_TAG = TagKey.create("status");
+  private static final TagKey FROM_STATE_TAG = TagKey.create("from_state");
+  private static final TagKey TO_STATE_TAG = TagKey.create("to_state");
+  private static final TagKey REASON_TAG = TagKey.create("reason");
+  private static final LabelKey DOWNSTREAM_LABEL =
+      LabelKey.create("downstream", "Downstream service");
+
+  private static final MeasureDouble LATENCY =
+      MeasureDouble.create(
+          METRICS_PREFIX + "latency", "Latency of outbound HTTP requests", "ms");
+  private static final MeasureLong ATTEMPTS =
+      MeasureLong.create(
+          METRICS_PREFIX + "attempts", "Number of attempts made by a retried call", "1");
+  private static final MeasureLong CIRCUIT_TRANSITIONS =
+      MeasureLong.create(
+          METRICS_PREFIX + "circuit_transitions",
+          "Circuit breaker state transitions for a downstream service",
+          "1");
+  private static final MeasureLong REJECTIONS =
+      MeasureLong.create(
+          METRICS_PREFIX + "rejections",
+          "Calls to a downstream service rejected by its circuit breaker or bulkhead",
+          "1");
+  private static final MeasureLong HEDGES_ISSUED =
+      MeasureLong.create(
+          METRICS_PREFIX + "hedges_issued",
+          "Second calls made because the first call to a downstream service was slow",
+          "1");
+  private static final MeasureLong HEDGES_WON =
+      MeasureLong.create(
+          METRICS_PREFIX + "hedges_won",
+          "Hedged calls where the second call returned first",
+          "1");
+
+  private static final BucketBoundaries LATENCY_BUCKETS =
+      BucketBoundaries.create(
+          List.of(
+              0.0, 5.0, 10.0, 25.0, 50.0, 100.0, 250.0, 500.0, 1000.0, 2500.0, 5000.0, 10000.0,
+              30000.0));
+  private static final BucketBoundaries ATTEMPT_BUCKETS =
+      BucketBoundaries.create(List.of(0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 10.0));
+
+  private static final StatsRecorder statsRecorder = Stats.getStatsRecorder();
+  private static final Tagger tagger = Tags.getTagger();
+  private static final Map<Downstream, AtomicLong> inFlight = new EnumMap<>(Downstream.class);
+  private static final DerivedDoubleGauge poolUtilizationGauge;
+
+  static {
+    ViewManager viewManager = Stats.getViewManager();
+    viewManager.registerView(
+        View.create(
+            View.Name.create(LATENCY.getName()),
+            LATENCY.getDescription(),
+            LATENCY,
+            Aggregation.Distribution.create(LATENCY_BUCKETS),
+            List.of(DOWNSTREAM_TAG, STATUS_TAG)));
+    viewManager.registerView(
+        View.create(
+            View.Name.create(ATTEMPTS.getName()),
+            ATTEMPTS.getDescription(),
+            ATTEMPTS,
+            Aggregation.Distribution.create(ATTEMPT_BUCKETS),
+            List.of(DOWNSTREAM_TAG)));
+    viewManager.registerView(
+        View.create(
+            View.Name.create(CIRCUIT_TRANSITIONS.getName()),
+            CIRCUIT_TRANSITIONS.getDescription(),
+            CIRCUIT_TRANSITIONS,
+            Aggregation.Count.create(),
+            List.of(DOWNSTREAM_TAG, FROM_STATE_TAG, TO_STATE_TAG)));
+    viewManager.registerView(
+        View.create(
+            View.Name.create(REJECTIONS.getName()),
+            REJECTIONS.getDescription(),
+            REJECTIONS,
+            Aggregation.Count.create(),
+            List.of(DOWNSTREAM_TAG, REASON_TAG)));
+    for (MeasureLong hedges : List.of(HEDGES_ISSUED, HEDGES_WON)) {
+      viewManager.registerView(
+          View.create(
+              View.Name.create(hedges.getName()),
+              hedges.getDescription(),
+              hedges,
+              Aggregation.Count.create(),
+              List.of(DOWNSTREAM_TAG)));
+    }
+
+    MetricRegistry metricRegistry = Metrics.getMetricRegistry();
+    DerivedLongGauge inFlightGauge =
+        metricRegistry.addDerivedLongGauge(
+            METRICS_PREFIX + "in_flight",
+            MetricOptions.builder()
+                .setDescription("Outbound HTTP requests in flight")
+                .setUnit("1")
+                .setLabelKeys(List.of(DOWNSTREAM_LABEL))
+                .build());
+    for (Downstream downstream : Downstream.values()) {
+      AtomicLong counter = new AtomicLong();
+      inFlight.put(downstream, counter);
+      inFlightGauge.createTimeSeries(labelValues(downstream), counter, AtomicLong::get);
+    }
+    poolUtilizationGauge =
+        metricRegistry.addDerivedDoubleGauge(
+            METRICS_PREFIX + "pool_utilization",
+            MetricOptions.builder()
+                .setDescription("Fraction of the connection pool in use")
+                .setUnit("1")
+                .setLabelKeys(List.of(DOWNSTREAM_LABEL))
+                .build());
+  }
+
+  private HttpClientMetrics() {}
+
+  /**
+   * Record the start of a request.
+   *
+   * @param downstream service being called
+   * @return start time to pass to {@link #finishRequest}
+   */
+  public static long startRequest(Downstream downstream) {
+    inFlight.get(downstream).incrementAndGet();
+    return System.nanoTime();
+  }
+
+  /**
+   * Record the end of a request started with {@link #startRequest}.
+   *
+   * @param downstream service being called
+   * @param startNanos value returned by startRequest
+   * @param status HTTP status of the response, or 0 if no response was received
+   */
+  public static void finishRequest(Downstream downstream, long startNanos, int status) {
+    inFlight.get(downstream).decrementAndGet();
+    recordLatency(downstream, startNanos, status);
+  }
+
+  /**
+   * Record the latency of a request without tracking it as in flight, for clients that cannot
+   * observe requests that fail without a response.
+   *
+   * @param downstream service being called
+   * @param startNanos {@link System#nanoTime()} when the request started
+   * @param status HTTP status of the response
+   */
+  public static void recordLatency(Downstream downstream, long startNanos, int status) {
+    double latencyMs =
+        (double) TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos) / 1000;
+    TagContext tags =
+        tagger
+            .emptyBuilder()
+            .putLocal(DOWNSTREAM_TAG, TagValue.create(downstream.getName()))
+            .putLocal(STATUS_TAG, TagValue.create(statusClass(status)))
+            .build();
+    statsRecorder.newMeasureMap().put(LATENCY, latencyMs).record(tags);
+  }
+
+  /**
+   * Record the number of attempts a retried call made, including the first.
+   *
+   * @param downstream service being called
+   * @param attempts number of attempts
+   */
+  public static void recordAttempts(Downstream downstream, int attempts) {
+    TagContext tags =
+        tagger
+            .emptyBuilder()
+            .putLocal(DOWNSTREAM_TAG, TagValue.create(downstream.getName()))
+            .build();
+    statsRecorder.newMeasureMap().put(ATTEMPTS, attempts).record(tags);
+  }
+
+  /**
+   * Record a circuit breaker state transition.
+   *
+   * @param downstream service the circuit protects
+   * @param fromState state before the transition
+   * @param toState state after the transition
+   */
+  public static void recordCircuitTransition(
+      Downstream downstream, String fromState, String toState) {
+    TagContext tags =
+        tagger
+            .emptyBuilder()
+            .putLocal(DOWNSTREAM_TAG, TagValue.create(downstream.getName()))
+            .putLocal(FROM_STATE_TAG, TagValue.create(fromState))
+            .putLocal(TO_STATE_TAG, TagValue.create(toState))
+            .build();
+    statsRecorder.newMeasureMap().put(CIRCUIT_TRANSITIONS, 1).record(tags);
+  }
+
+  /**
+   * Record a call rejected without being made.
+   *
+   * @param downstream service that would have been called
+   * @param reason why the call was rejected
+   */
+  public static void recordRejection(Downstream downstream, String reason) {
+    TagContext tags =
+        tagger
+            .emptyBuilder()
+            .putLocal(DOWNSTREAM_TAG, TagValue.create(downstream.getName()))
+            .putLocal(REASON_TAG, TagValue.create(reason))
+            .build();
+    statsRecorder.newMeasureMap().put(REJECTIONS, 1).record(tags);
+  }
+
+  /**
+   * Record a hedge: a second call made because the first was slow.
+   *
+   * @param downstream service being called
+   */
+  public static void recordHedgeIssued(Downstream downstream) {
+    recordCount(downstream, HEDGES_ISSUED);
+  }
+
+  /**
+   * Record a hedge whose second call returned before the first.
+   *
+   * @param downstream service being called
+   */
+  public static void recordHedgeWon(Downstream downstream) {
+    recordCount(downstream, HEDGES_WON);
+  }
+
+  /**
+   * Report the utilization of a downstream's connection pool. Registering again for the same
+   * downstream replaces the previous pool.
+   *
+   * @param downstream service the pool connects to
+   * @param utilization supplier of the fraction of the pool in use
+   */
+  public static void registerPool(Downstream downstream, DoubleSupplier utilization) {
+    synchronized (poolUtilizationGauge) {
+      poolUtilizationGauge.removeTimeSeries(labelValues(downstream));
+      poolUtilizationGauge.createTimeSeries(
+          labelValues(downstream), utilization, DoubleSupplier::getAsDouble);
+    }
+  }
+
+  /** Requests in flight to a downstream service. */
+  public static long getInFlight(Downstream downstream) {
+    return inFlight.get(downstream).get();
+  }
+
+  private static void recordCount(Downstream downstream, MeasureLong measure) {
+    TagContext tags =
+        tagger
+            .emptyBuilder()
+            .putLocal(DOWNSTREAM_TAG, TagValue.create(downstream.getName()))
+            .build();
+    statsRecorder.newMeasureMap().put(measure, 1).record(tags);
+  }
+
+  private static String statusClass(int status) {
+    return status == 0 ? "error" : (status / 100) + "xx";
+  }
+
+  private static List<LabelValue> labelValues(Downstream downstream) {
+    return List.of(LabelValue.create(downstream.getName()));
+  }
+}
@@ -0,0 +1,196 @@
+package bio.terra.workspace.service.http;
+
+import bio.terra.workspace.app.configuration.external.HttpClientConfiguration;
+import bio.terra.workspace.app.configuration.external.HttpClientConfiguration.ClientSettings;
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.policy.HttpPipelinePolicy;
+import com.azure.core.util.HttpClientOptions;
+import com.google.api.client.http.HttpRequestInitializer;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.common.base.Suppliers;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.ws.rs.client.Client;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.glassfish.jersey.client.ClientProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registry of the HTTP clients WSM uses to call downstream services. There is one client per
+ * {@link Downstream}, shared by all callers, with its own connection pool, keep-alive, timeouts
+ * and {@link HttpClientMetrics}. Clients are built on first use.
+ *
+ * <p>Each downstream uses the client library its API client requires, so not every setting applies
+ * everywhere: the Jersey clients used for TDR and Buffer rely on the JDK connection cache, whose
+ * size is process-wide, and only the Sam client negotiates HTTP/2.
+ */
+@Component
+public class HttpClientRegistry {
+  private final HttpClientConfiguration configuration;
+  private final Supplier<OkHttpClient> samHttpClient;
+  private final Supplier<Client> dataRepoHttpClient;
+  private final Supplier<Client> bufferHttpClient;
+  private final Supplier<HttpClient> azureHttpClient;
+  private final Supplier<HttpTransport> googleHttpTransport;
+  private final HttpPipelinePolicy azureMetricsPolicy = new AzureMetricsPolicy();
+
+  @Autowired
+  public HttpClientRegistry(HttpClientConfiguration configuration) {
+    this.configuration = configuration;
+    this.samHttpClient =
+        Suppliers.memoize(
+            () ->
+                buildOkHttpClient(
+                    Downstream.SAM,
+                    new org.broadinstitute.dsde.workbench.client.sam.ApiClient()
+                        .getHttpClient()));
+    this.dataRepoHttpClient =
+        Suppliers.memoize(
+            () ->
+                configureJerseyClient(
+                    Downstream.DATA_REPO,
+                    new bio.terra.datarepo.client.ApiClient().getHttpClient()));
+    this.bufferHttpClient =
+        Suppliers.memoize(
+            () ->
+                configureJerseyClient(
+                    Downstream.BUFFER, new bio.terra.buffer.client.ApiClient().getHttpClient()));
+    this.azureHttpClient = Suppliers.memoize(this::buildAzureHttpClient);
+    this.googleHttpTransport = Suppliers.memoize(this::buildGoogleHttpTransport);
+  }
+
+  /** HTTP client for the Sam API client. */
+  public OkHttpClient getSamHttpClient() {
+    return samHttpClient.get();
+  }
+
+  /** HTTP client for the Data Repo API client. */
+  public Client getDataRepoHttpClient() {
+    return dataRepoHttpClient.get();
+  }
+
+  /** HTTP client for the Buffer Service API client. */
+  public Client getBufferHttpClient() {
+    return bufferHttpClient.get();
+  }
+
+  /** HTTP client for Azure SDK clients. Use with {@link #getAzureMetricsPolicy()}. */
+  public HttpClient getAzureHttpClient() {
+    return azureHttpClient.get();
+  }
+
+  /** Pipeline policy recording metrics for Azure SDK clients. */
+  public HttpPipelinePolicy getAzureMetricsPolicy() {
+    return azureMetricsPolicy;
+  }
+
+  /** HTTP transport for Google API clients. */
+  public HttpTransport getGoogleHttpTransport() {
+    return googleHttpTransport.get();
+  }
+
+  /**
+   * Build a request initializer for Google API clients that authenticates with the given
+   * credentials and applies the configured timeouts.
+   *
+   * @param credentials credentials, already scoped for the API being called
+   * @return request initializer
+   */
+  public HttpRequestInitializer getGoogleRequestInitializer(GoogleCredentials credentials) {
+    ClientSettings settings = getSettings(Downstream.GOOGLE);
+    HttpCredentialsAdapter credentialsAdapter = new HttpCredentialsAdapter(credentials);
+    return request -> {
+      credentialsAdapter.initialize(request);
+      request.setConnectTimeout((int) settings.getConnectTimeout().toMillis());
+      request.setReadTimeout((int) settings.getReadTimeout().toMillis());
+    };
+  }
+
+  private ClientSettings getSettings(Downstream downstream) {
+    return configuration.getSettings(downstream.getName());
+  }
+
+  private OkHttpClient buildOkHttpClient(Downstream downstream, OkHttpClient baseClient) {
+    ClientSettings settings = getSettings(downstream);
+    ConnectionPool connectionPool =
+        new ConnectionPool(
+            settings.getMaxConnections(),
+            settings.getKeepAlive().toMillis(),
+            TimeUnit.MILLISECONDS);
+    HttpClientMetrics.registerPool(
+        downstream,
+        () ->
+            (double) (connectionPool.connectionCount() - connectionPool.idleConnectionCount())
+                / settings.getMaxConnections());
+    // Start from the API client's own client to keep its interceptors
+    return baseClient
+        .newBuilder()
+        .connectionPool(connectionPool)
+        .connectTimeout(settings.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+        .readTimeout(settings.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+        .protocols(
+            settings.isHttp2()
+                ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : List.of(Protocol.HTTP_1_1))
+        .addInterceptor(
+            chain -> {
+              long start = HttpClientMetrics.startRequest(downstream);
+              int status = 0;
+              try {
+                Response response = chain.proceed(chain.request());
+                status = response.code();
+                return response;
+              } finally {
+                HttpClientMetrics.finishRequest(downstream, start, status);
+              }
+            })
+        .build();
+  }
+
+  private Client configureJerseyClient(Downstream downstream, Client client) {
+    ClientSettings settings = getSettings(downstream);
+    return client
+        .property(ClientProperties.CONNECT_TIMEOUT, (int) settings.getConnectTimeout().toMillis())
+        .property(ClientProperties.READ_TIMEOUT, (int) settings.getReadTimeout().toMillis())
+        .register(new JerseyMetricsFilter(downstream));
+  }
+
+  private HttpClient buildAzureHttpClient() {
+    ClientSettings settings = getSettings(Downstream.AZURE);
+    return HttpClient.createDefault(
+        new HttpClientOptions()
+            .setMaximumConnectionPoolSize(settings.getMaxConnections())
+            .setConnectionIdleTimeout(settings.getKeepAlive())
+            .setConnectTimeout(settings.getConnectTimeout())
+            .setReadTimeout(settings.getReadTimeout()));
+  }
+
+  private HttpTransport buildGoogleHttpTransport() {
+    ClientSettings settings = getSettings(Downstream.GOOGLE);
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(settings.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+    HttpClientMetrics.registerPool(
+        Downstream.GOOGLE,
+        () -> {
+          PoolStats stats = connectionManager.getTotalStats();
+          return (double) stats.getLeased() / stats.getMax();
+        });
+    return new ApacheHttpTransport(
+        ApacheHttpTransport.newDefaultHttpClientBuilder()
+            .setConnectionManager(connectionManager)
+            .setRequestExecutor(new MeteredHttpRequestExecutor(Downstream.GOOGLE))
+            .evictIdleConnections(settings.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+            .build());
+  }
+}
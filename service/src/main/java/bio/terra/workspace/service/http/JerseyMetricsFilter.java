@@ -0,0 +1,34 @@
+package bio.terra.workspace.service.http;
+
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+
+/**
+ * Jersey client filter recording the latency of each response. Jersey does not run response
+ * filters for requests that fail without a response, so these requests are not tracked as in
+ * flight.
+ */
+class JerseyMetricsFilter implements ClientRequestFilter, ClientResponseFilter {
+  private static final String START_PROPERTY = JerseyMetricsFilter.class.getName() + ".start";
+
+  private final Downstream downstream;
+
+  JerseyMetricsFilter(Downstream downstream) {
+    this.downstream = downstream;
+  }
+
+  @Override
+  public void filter(ClientRequestContext requestContext) {
+    requestContext.setProperty(START_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+    Object start = requestContext.getProperty(START_PROPERTY);
+    if (start instanceof Long) {
+      HttpClientMetrics.recordLatency(downstream, (Long) start, responseContext.getStatus());
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package bio.terra.workspace.service.http;
+
+import java.io.IOException;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Apache request executor recording {@link HttpClientMetrics} for each request sent on a pooled
+ * connection. Time spent waiting for a connection is not included; it shows up as pool
+ * utilization.
+ */
+class MeteredHttpRequestExecutor extends HttpRequestExecutor {
+  private final Downstream downstream;
+
+  MeteredHttpRequestExecutor(Downstream downstream) {
+    this.downstream = downstream;
+  }
+
+  @Override
+  public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context)
+      throws IOException, HttpException {
+    long start = HttpClientMetrics.startRequest(downstream);
+    int status = 0;
+    try {
+      HttpResponse response = super.execute(request, conn, context);
+      status = response.getStatusLine().getStatusCode();
+      return response;
+    } finally {
+      HttpClientMetrics.finishRequest(downstream, start, status);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package bio.terra.workspace.service.http.exception;
+
+import bio.terra.common.exception.ServiceUnavailableException;
+
+/**
+ * A call to a downstream service was rejected without being made, because the service's circuit
+ * is open or too many calls to it are already in progress.
+ */
+public class DownstreamUnavailableException extends ServiceUnavailableException {
+
+  public DownstreamUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,224 @@
+package bio.terra.workspace.service.iam;
+
+import bio.terra.workspace.app.configuration.external.SamConfiguration;
+import bio.terra.workspace.app.configuration.external.SamConfiguration.HedgingSettings;
+import bio.terra.workspace.service.http.Downstream;
+import bio.terra.workspace.service.http.HttpClientMetrics;
+import bio.terra.workspace.service.iam.SamService.SamCall;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.broadinstitute.dsde.workbench.client.sam.ApiException;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedging for idempotent Sam reads. If the first call has not returned after a delay taken from a
+ * percentile of recent latencies, a second identical call is made and whichever returns first is
+ * used. The call that loses is left to finish and its result is dropped; interrupting it would make
+ * OkHttp fail it, which the Sam circuit breaker would count as an outage.
+ *
+ * <p>Hedges are limited by a budget: each call earns a fraction of a hedge and each hedge spends a
+ * whole one, so hedges never add more than that fraction of extra load on Sam, even while Sam is
+ * slow for everyone.
+ *
+ * <p>Calls are made on a bounded pool of threads. When every thread is busy, calls are made on the
+ * caller's thread without a hedge, so a slow Sam cannot grow the pool without limit.
+ */
+@Component
+class SamHedgingPolicy {
+  private final HedgingSettings settings;
+  private final ExecutorService executor;
+  // Latencies of recent first calls, in nanoseconds
+  private final long[] latencies;
+
+  private int latencyCount;
+  private int latencyNext;
+  private long delayNanos;
+  private double budget;
+
+  @Autowired
+  SamHedgingPolicy(SamConfiguration samConfig) {
+    this(
+        samConfig.getHedging(),
+        new ThreadPoolExecutor(
+            0,
+            samConfig.getHedging().getMaxThreads(),
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("sam-hedging-%d").setDaemon(true).build()));
+  }
+
+  @VisibleForTesting
+  SamHedgingPolicy(HedgingSettings settings, ExecutorService executor) {
+    this.settings = settings;
+    this.executor = executor;
+    this.latencies = new long[settings.getLatencyWindowSize()];
+    this.delayNanos = settings.getMaxDelay().toNanos();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Make a call, hedging it if hedging is enabled and the call is slow.
+   *
+   * @param call an idempotent call, including its retries
+   * @return the result of whichever call returned first
+   * @throws ApiException if every call that was made failed; the first failure is thrown
+   */
+  <T> T call(SamCall<T> call) throws ApiException, InterruptedException {
+    if (!settings.isEnabled()) {
+      return call.apply();
+    }
+    // Without budget for a hedge there is no reason to hand the call to another thread
+    if (!earnBudget()) {
+      return timed(call).apply();
+    }
+
+    CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+    List<Future<T>> futures = new ArrayList<>(2);
+    try {
+      try {
+        futures.add(completionService.submit(withMdc(timed(call))));
+      } catch (RejectedExecutionException e) {
+        // Every hedging thread is busy
+        return timed(call).apply();
+      }
+      Future<T> done = completionService.poll(getDelay().toNanos(), TimeUnit.NANOSECONDS);
+      if (done == null && trySpendBudget()) {
+        try {
+          futures.add(completionService.submit(withMdc(call)));
+          HttpClientMetrics.recordHedgeIssued(Downstream.SAM);
+        } catch (RejectedExecutionException e) {
+          // Every hedging thread is busy, so wait on the first call alone
+        }
+      }
+
+      ExecutionException firstFailure = null;
+      for (int remaining = futures.size(); remaining > 0; remaining--) {
+        if (done == null) {
+          done = completionService.take();
+        }
+        try {
+          T result = done.get();
+          if (futures.size() > 1 && done == futures.get(1)) {
+            HttpClientMetrics.recordHedgeWon(Downstream.SAM);
+          }
+          return result;
+        } catch (ExecutionException e) {
+          if (firstFailure == null) {
+            firstFailure = e;
+          }
+          done = null;
+        }
+      }
+      throw unwrap(firstFailure);
+    } finally {
+      for (Future<T> future : futures) {
+        future.cancel(false);
+      }
+    }
+  }
+
+  /** Current hedging delay: the configured percentile of recent latencies, within bounds. */
+  synchronized Duration getDelay() {
+    return Duration.ofNanos(delayNanos);
+  }
+
+  /** Add this call's share of the budget, returning whether a hedge could be afforded. */
+  private synchronized boolean earnBudget() {
+    budget = Math.min(budget + settings.getBudgetRatio(), settings.getMaxBudget());
+    return budget >= 1.0;
+  }
+
+  private synchronized boolean trySpendBudget() {
+    if (budget < 1.0) {
+      return false;
+    }
+    budget -= 1.0;
+    return true;
+  }
+
+  private synchronized void recordLatency(long nanos) {
+    latencies[latencyNext] = nanos;
+    latencyNext = (latencyNext + 1) % latencies.length;
+    latencyCount = Math.min(latencyCount + 1, latencies.length);
+    // Sorting the window on every call is wasteful; the percentile moves slowly enough to refresh
+    // it every few calls.
+    if (latencyCount >= Math.min(20, latencies.length) && latencyNext % 10 == 0) {
+      long[] sorted = Arrays.copyOf(latencies, latencyCount);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(settings.getDelayPercentile() / 100 * latencyCount) - 1;
+      long percentile = sorted[Math.max(0, Math.min(index, latencyCount - 1))];
+      delayNanos =
+          Math.max(
+              settings.getMinDelay().toNanos(),
+              Math.min(percentile, settings.getMaxDelay().toNanos()));
+    }
+  }
+
+  /** Record the latency of the first call only, so hedging does not pull the delay down. */
+  private <T> SamCall<T> timed(SamCall<T> call) {
+    return () -> {
+      long start = System.nanoTime();
+      try {
+        return call.apply();
+      } finally {
+        recordLatency(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /** Carry the request's logging context to the thread making the call. */
+  private static <T> Callable<T> withMdc(SamCall<T> call) {
+    Map<String, String> context = MDC.getCopyOfContextMap();
+    return () -> {
+      if (context != null) {
+        MDC.setContextMap(context);
+      }
+      try {
+        return call.apply();
+      } finally {
+        MDC.clear();
+      }
+    };
+  }
+
+  /** The ApiException a call failed with, rethrowing anything else it failed with. */
+  private static ApiException unwrap(ExecutionException e) throws InterruptedException {
+    Throwable cause = e.getCause();
+    if (cause instanceof ApiException) {
+      return (ApiException) cause;
+    }
+    if (cause instanceof InterruptedException) {
+      throw (InterruptedException) cause;
+    }
+    if (cause instanceof RuntimeException) {
+      throw (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    throw new IllegalStateException("Unexpected exception from Sam call", cause);
+  }
+}
@@ -0,0 +1,40 @@
+package bio.terra.workspace.service.iam;
+
+import bio.terra.workspace.service.iam.SamService.SamCall;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import javax.annotation.Nullable;
+import org.broadinstitute.dsde.workbench.client.sam.ApiException;
+
+/**
+ * Cache of a Sam identity mapping, such as a user's proxy group, that never changes once created.
+ * Only values Sam returned are cached; a failed or empty lookup calls Sam again next time.
+ */
+class SamIdentityCache {
+  private final Cache<String, String> cache;
+
+  SamIdentityCache(long maximumSize) {
+    this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Get the value for a key, calling Sam if it is not cached.
+   *
+   * @param key key of the mapping
+   * @param call Sam call looking up the value
+   * @return the value, or null if Sam returned none
+   * @throws ApiException if the Sam call failed
+   */
+  @Nullable
+  String get(String key, SamCall<String> call) throws ApiException, InterruptedException {
+    String cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    String value = call.apply();
+    if (value != null) {
+      cache.put(key, value);
+    }
+    return value;
+  }
+}
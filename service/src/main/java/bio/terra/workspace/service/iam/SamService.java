@@ -5,9 +5,15 @@ import bio.terra.common.exception.ForbiddenException;
 import bio.terra.common.exception.InternalServerErrorException;
 import bio.terra.common.sam.SamRetry;
 import bio.terra.common.sam.exception.SamExceptionFactory;
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
 import bio.terra.workspace.app.configuration.external.SamConfiguration;
 import bio.terra.workspace.common.exception.InternalLogicException;
 import bio.terra.workspace.common.utils.GcpUtils;
+import bio.terra.workspace.common.utils.RequestMemo;
+import bio.terra.workspace.service.http.Downstream;
+import bio.terra.workspace.service.http.DownstreamGuard;
+import bio.terra.workspace.service.http.HttpClientMetrics;
+import bio.terra.workspace.service.http.HttpClientRegistry;
 import bio.terra.workspace.service.iam.model.ControlledResourceIamRole;
 import bio.terra.workspace.service.iam.model.RoleBinding;
 import bio.terra.workspace.service.iam.model.SamConstants;
@@ -29,6 +35,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import okhttp3.OkHttpClient;
@@ -64,6 +71,12 @@ public class SamService {
   private final SamConfiguration samConfig;
   private final StageService stageService;
   private final OkHttpClient commonHttpClient;
+  private final DownstreamGuard downstreamGuard;
+  private final SamHedgingPolicy hedgingPolicy;
+  // Sam identity mappings never change once created, so they are cached without expiry
+  private final SamIdentityCache subjectIdCache;
+  private final SamIdentityCache proxyGroupCache;
+  private final SamIdentityCache petSaEmailCache;
 
   private final Set<String> SAM_OAUTH_SCOPES = ImmutableSet.of("openid", "email", "profile");
   private final List<String> PET_SA_OAUTH_SCOPES =
@@ -73,11 +86,72 @@ public class SamService {
   private boolean wsmServiceAccountInitialized;
 
   @Autowired
-  public SamService(SamConfiguration samConfig, StageService stageService) {
+  public SamService(
+      SamConfiguration samConfig,
+      StageService stageService,
+      HttpClientRegistry httpClientRegistry,
+      DownstreamGuard downstreamGuard,
+      SamHedgingPolicy hedgingPolicy,
+      CacheConfiguration cacheConfiguration) {
     this.samConfig = samConfig;
     this.stageService = stageService;
+    this.downstreamGuard = downstreamGuard;
     this.wsmServiceAccountInitialized = false;
-    this.commonHttpClient = new ApiClient().getHttpClient();
+    this.commonHttpClient = httpClientRegistry.getSamHttpClient();
+    this.hedgingPolicy = hedgingPolicy;
+    this.subjectIdCache = new SamIdentityCache(cacheConfiguration.getIdentityMaxSize());
+    this.proxyGroupCache = new SamIdentityCache(cacheConfiguration.getIdentityMaxSize());
+    this.petSaEmailCache = new SamIdentityCache(cacheConfiguration.getIdentityMaxSize());
+  }
+
+  /** A Sam call that returns a value, for use with {@link #retry(SamCall)}. */
+  @FunctionalInterface
+  interface SamCall<T> {
+    T apply() throws ApiException, InterruptedException;
+  }
+
+  /** A Sam call that returns nothing, for use with {@link #retry(SamVoidCall)}. */
+  @FunctionalInterface
+  private interface SamVoidCall {
+    void apply() throws ApiException, InterruptedException;
+  }
+
+  /**
+   * Run a call with {@link SamRetry}, recording the number of attempts it took. The call, with its
+   * retries, goes through the Sam bulkhead and circuit breaker.
+   */
+  private <T> T retry(SamCall<T> call) throws ApiException, InterruptedException {
+    AtomicInteger attempts = new AtomicInteger();
+    try {
+      return downstreamGuard.callInterruptibly(
+          Downstream.SAM,
+          () ->
+              SamRetry.retry(
+                  () -> {
+                    attempts.incrementAndGet();
+                    return call.apply();
+                  }),
+          DownstreamGuard.outageOnStatus(ApiException.class, ApiException::getCode));
+    } finally {
+      HttpClientMetrics.recordAttempts(Downstream.SAM, attempts.get());
+    }
+  }
+
+  /** Like {@link #retry(SamCall)}, for calls that return nothing. */
+  private void retry(SamVoidCall call) throws ApiException, InterruptedException {
+    retry(
+        () -> {
+          call.apply();
+          return null;
+        });
+  }
+
+  /**
+   * Like {@link #retry(SamCall)}, hedging the call if Sam is slow to answer. Only use this for
+   * idempotent reads.
+   */
+  private <T> T hedgedRetry(SamCall<T> call) throws ApiException, InterruptedException {
+    return hedgingPolicy.call(() -> retry(call));
   }
 
   private ApiClient getApiClient(String accessToken) {
@@ -122,12 +196,17 @@ public class SamService {
    */
   public String getUserEmailFromSam(AuthenticatedUserRequest userRequest)
       throws InterruptedException {
-    UsersApi usersApi = samUsersApi(userRequest.getRequiredToken());
-    try {
-      return SamRetry.retry(() -> usersApi.getUserStatusInfo().getUserEmail());
-    } catch (ApiException apiException) {
-      throw SamExceptionFactory.create("Error getting user email from Sam", apiException);
-    }
+    String accessToken = userRequest.getRequiredToken();
+    return RequestMemo.get(
+        RequestMemo.key("userEmail", accessToken),
+        () -> {
+          UsersApi usersApi = samUsersApi(accessToken);
+          try {
+            return hedgedRetry(() -> usersApi.getUserStatusInfo().getUserEmail());
+          } catch (ApiException apiException) {
+            throw SamExceptionFactory.create("Error getting user email from Sam", apiException);
+          }
+        });
   }
 
   /**
@@ -136,11 +215,13 @@ public class SamService {
    * <p>This takes in userEmail instead of AuthenticatedUserRequest because of
    * WorkspaceService.removeWorkspaceRoleFromUser(). When User A removes User B from workspace, we
    * want to get B's proxy group, not A's.
+   *
+   * <p>A user's proxy group never changes, so it is cached.
    */
   public String getProxyGroupEmail(String userEmail, String token) throws InterruptedException {
-    GoogleApi googleApi = samGoogleApi(token);
     try {
-      return SamRetry.retry(() -> googleApi.getProxyGroup(userEmail));
+      return proxyGroupCache.get(
+          userEmail, () -> retry(() -> samGoogleApi(token).getProxyGroup(userEmail)));
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create("Error getting proxy group from Sam", apiException);
     }
@@ -177,7 +258,7 @@ public class SamService {
     try {
       // getUserStatusInfo throws a 404 if the calling user is not registered, which will happen
       // the first time WSM is run in each environment.
-      SamRetry.retry(usersApi::getUserStatusInfo);
+      retry(usersApi::getUserStatusInfo);
       logger.info("WSM service account already registered in Sam");
       return true;
     } catch (ApiException apiException) {
@@ -194,7 +275,7 @@ public class SamService {
 
   private void registerWsmServiceAccount(UsersApi usersApi) throws InterruptedException {
     try {
-      SamRetry.retry(usersApi::createUserV2);
+      retry(usersApi::createUserV2);
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create(
           "Error registering WSM service account with Sam", apiException);
@@ -225,7 +306,7 @@ public class SamService {
             .resourceId(uuid.toString())
             .policies(defaultWorkspacePolicies(humanUserEmail));
     try {
-      SamRetry.retry(
+      retry(
           () -> resourceApi.createResourceV2(SamConstants.SamResource.WORKSPACE, workspaceRequest));
       logger.info("Created Sam resource for workspace {}", uuid);
     } catch (ApiException apiException) {
@@ -246,7 +327,7 @@ public class SamService {
     List<UUID> workspaceIds = new ArrayList<>();
     try {
       List<ResourceAndAccessPolicy> resourceAndPolicies =
-          SamRetry.retry(
+          retry(
               () -> resourceApi.listResourcesAndPolicies(SamConstants.SamResource.WORKSPACE));
       for (var resourceAndPolicy : resourceAndPolicies) {
         try {
@@ -270,7 +351,7 @@ public class SamService {
     String authToken = userRequest.getRequiredToken();
     ResourcesApi resourceApi = samResourcesApi(authToken);
     try {
-      SamRetry.retry(
+      retry(
           () -> resourceApi.deleteResource(SamConstants.SamResource.WORKSPACE, uuid.toString()));
       logger.info("Deleted Sam resource for workspace {}", uuid);
     } catch (ApiException apiException) {
@@ -294,7 +375,7 @@ public class SamService {
     String authToken = userRequest.getRequiredToken();
     ResourcesApi resourceApi = samResourcesApi(authToken);
     try {
-      return SamRetry.retry(() -> resourceApi.resourceActions(resourceType, resourceId));
+      return hedgedRetry(() -> resourceApi.resourceActions(resourceType, resourceId));
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create("Error listing resources actions in Sam", apiException);
     }
@@ -308,13 +389,20 @@ public class SamService {
       String action)
       throws InterruptedException {
     String accessToken = userRequest.getRequiredToken();
-    ResourcesApi resourceApi = samResourcesApi(accessToken);
-    try {
-      return SamRetry.retry(
-          () -> resourceApi.resourcePermissionV2(iamResourceType, resourceId, action));
-    } catch (ApiException apiException) {
-      throw SamExceptionFactory.create("Error checking resource permission in Sam", apiException);
-    }
+    // Decisions are memoized for the rest of the request, which checks the same permission as it
+    // passes through the controller and the services
+    return RequestMemo.get(
+        RequestMemo.key("isAuthorized", accessToken, iamResourceType, resourceId, action),
+        () -> {
+          ResourcesApi resourceApi = samResourcesApi(accessToken);
+          try {
+            return hedgedRetry(
+                () -> resourceApi.resourcePermissionV2(iamResourceType, resourceId, action));
+          } catch (ApiException apiException) {
+            throw SamExceptionFactory.create(
+                "Error checking resource permission in Sam", apiException);
+          }
+        });
   }
 
   /**
@@ -341,7 +429,7 @@ public class SamService {
       throws InterruptedException {
     ResourcesApi resourceApi = samResourcesApi(userRequest.getRequiredToken());
     try {
-      return SamRetry.retry(
+      return hedgedRetry(
           () -> resourceApi.resourceActionV2(iamResourceType, resourceId, action, userToCheck));
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create("Error checking resource permission in Sam", apiException);
@@ -417,7 +505,7 @@ public class SamService {
     ResourcesApi resourceApi = samResourcesApi(userRequest.getRequiredToken());
     try {
       // GCP always uses lowercase email identifiers, so we do the same here for consistency.
-      SamRetry.retry(
+      retry(
           () ->
               resourceApi.addUserToPolicy(
                   SamConstants.SamResource.WORKSPACE,
@@ -451,7 +539,7 @@ public class SamService {
 
     ResourcesApi resourceApi = samResourcesApi(userRequest.getRequiredToken());
     try {
-      SamRetry.retry(
+      retry(
           () ->
               resourceApi.removeUserFromPolicy(
                   SamConstants.SamResource.WORKSPACE,
@@ -500,7 +588,7 @@ public class SamService {
 
     try {
       ResourcesApi wsmSaResourceApi = samResourcesApi(getWsmServiceAccountToken());
-      SamRetry.retry(
+      retry(
           () ->
               wsmSaResourceApi.removeUserFromPolicyV2(
                   resource.getCategory().getSamResourceName(),
@@ -551,7 +639,7 @@ public class SamService {
 
     try {
       ResourcesApi wsmSaResourceApi = samResourcesApi(getWsmServiceAccountToken());
-      SamRetry.retry(
+      retry(
           () ->
               wsmSaResourceApi.addUserToPolicyV2(
                   resource.getCategory().getSamResourceName(),
@@ -587,7 +675,7 @@ public class SamService {
     ResourcesApi resourceApi = samResourcesApi(userRequest.getRequiredToken());
     try {
       List<AccessPolicyResponseEntry> samResult =
-          SamRetry.retry(
+          retry(
               () ->
                   resourceApi.listResourcePolicies(
                       SamConstants.SamResource.WORKSPACE, workspaceUuid.toString()));
@@ -630,7 +718,7 @@ public class SamService {
     ResourcesApi resourceApi = samResourcesApi(token);
     try {
       List<AccessPolicyResponseEntryV2> samResult =
-          SamRetry.retry(() -> resourceApi.listResourcePoliciesV2(samResourceType, resourceId));
+          retry(() -> resourceApi.listResourcePoliciesV2(samResourceType, resourceId));
       for (AccessPolicyResponseEntryV2 entry : samResult) {
         logger.debug("  samPolicy: {}", entry);
       }
@@ -696,7 +784,7 @@ public class SamService {
       throws InterruptedException {
     GoogleApi googleApi = samGoogleApi(userRequest.getRequiredToken());
     try {
-      return SamRetry.retry(
+      return retry(
               () ->
                   googleApi.syncStatus(
                       SamConstants.SamResource.WORKSPACE,
@@ -769,8 +857,8 @@ public class SamService {
     try {
       // Sam makes no guarantees about what values are returned from the POST call, so we instead
       // fetch the group in a separate call after syncing.
-      SamRetry.retry(() -> googleApi.syncPolicy(resourceTypeName, resourceId, policyName));
-      return SamRetry.retry(() -> googleApi.syncStatus(resourceTypeName, resourceId, policyName))
+      retry(() -> googleApi.syncPolicy(resourceTypeName, resourceId, policyName));
+      return retry(() -> googleApi.syncStatus(resourceTypeName, resourceId, policyName))
           .getEmail();
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create("Error syncing policy in Sam", apiException);
@@ -820,7 +908,7 @@ public class SamService {
       // We use the user request for the create, but could equally well use the WSM SA.
       // The creating token has no effect on the resource policies.
       ResourcesApi resourceApi = samResourcesApi(userRequest.getRequiredToken());
-      SamRetry.retry(
+      retry(
           () ->
               resourceApi.createResourceV2(
                   resource.getCategory().getSamResourceName(), resourceRequest));
@@ -861,7 +949,7 @@ public class SamService {
 
     ResourcesApi resourceApi = samResourcesApi(token);
     try {
-      SamRetry.retry(
+      retry(
           () ->
               resourceApi.deleteResourceV2(
                   resource.getCategory().getSamResourceName(),
@@ -941,7 +1029,7 @@ public class SamService {
     // No access token needed since this is an unauthenticated API.
     StatusApi statusApi = new StatusApi(getApiClient(null));
     try {
-      SystemStatus samStatus = SamRetry.retry(statusApi::getSystemStatus);
+      SystemStatus samStatus = retry(statusApi::getSystemStatus);
       return samStatus.getOk();
     } catch (ApiException | InterruptedException e) {
       //  If any exception was thrown during the status check, return that the system is not OK.
@@ -989,11 +1077,19 @@ public class SamService {
   /**
    * Fetch the email of a user's pet service account in a given project. This request to Sam will
    * create the pet SA if it doesn't already exist.
+   *
+   * <p>Once created, a pet SA keeps its email, so the result is cached by user subject ID and
+   * project. Requests without a subject ID always call Sam.
    */
-  public String getOrCreatePetSaEmail(String projectId, String token) throws InterruptedException {
-    GoogleApi googleApi = samGoogleApi(token);
+  public String getOrCreatePetSaEmail(String projectId, AuthenticatedUserRequest userRequest)
+      throws InterruptedException {
+    String token = userRequest.getRequiredToken();
+    SamCall<String> call = () -> retry(() -> samGoogleApi(token).getPetServiceAccount(projectId));
     try {
-      return SamRetry.retry(() -> googleApi.getPetServiceAccount(projectId));
+      String subjectId = userRequest.getSubjectId();
+      return subjectId == null
+          ? call.apply()
+          : petSaEmailCache.get(subjectId + "/" + projectId, call);
     } catch (ApiException apiException) {
       throw SamExceptionFactory.create("Error getting pet service account from Sam", apiException);
     }
@@ -1007,9 +1103,9 @@ public class SamService {
       String projectId, AuthenticatedUserRequest userRequest) throws InterruptedException {
     GoogleApi samGoogleApi = samGoogleApi(userRequest.getRequiredToken());
     try {
-      String petEmail = getOrCreatePetSaEmail(projectId, userRequest.getRequiredToken());
+      String petEmail = getOrCreatePetSaEmail(projectId, userRequest);
       String petToken =
-          SamRetry.retry(
+          retry(
               () -> samGoogleApi.getPetServiceAccountToken(projectId, PET_SA_OAUTH_SCOPES));
       // This should never happen, but it's more informative than an NPE from Optional.of
       if (petToken == null) {
@@ -1026,13 +1122,17 @@ public class SamService {
    * Construct the email of an arbitrary user's pet service account in a given project. Unlike
    * {@code getOrCreatePetSaEmail}, this will not create the underlying service account. It may
    * return the email of a service account which does not exist.
+   *
+   * <p>A user's subject ID never changes, so it is cached.
    */
   public ServiceAccountName constructUserPetSaEmail(
       String projectId, String userEmail, AuthenticatedUserRequest userRequest)
       throws InterruptedException {
     UsersApi usersApi = samUsersApi(userRequest.getRequiredToken());
     try {
-      String subjectId = SamRetry.retry(() -> usersApi.getUserIds(userEmail).getUserSubjectId());
+      String subjectId =
+          subjectIdCache.get(
+              userEmail, () -> retry(() -> usersApi.getUserIds(userEmail).getUserSubjectId()));
       String saEmail = String.format("pet-%s@%s.iam.gserviceaccount.com", subjectId, projectId);
       return ServiceAccountName.builder().email(saEmail).projectId(projectId).build();
     } catch (ApiException apiException) {
@@ -0,0 +1,58 @@
+package bio.terra.workspace.service.job;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys;
+import java.util.Optional;
+
+/**
+ * First step of a flight that is subject to {@link FlightAdmission}. It passes once the flight is
+ * admitted under its priority class budget. Until then the flight waits without holding a Stairway
+ * thread; it is resumed when it is granted a slot, and also rechecks at an interval in case that
+ * resume is lost.
+ *
+ * <p>Flights submitted without a priority, such as subflights of an admitted flight, pass
+ * immediately; gating them could deadlock their parent.
+ */
+public class AwaitFlightAdmissionStep implements Step {
+  private final FlightAdmission flightAdmission;
+
+  public AwaitFlightAdmissionStep(FlightAdmission flightAdmission) {
+    this.flightAdmission = flightAdmission;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext context) throws InterruptedException {
+    FlightMap inputParameters = context.getInputParameters();
+    FlightPriority priority =
+        inputParameters.get(JobMapKeys.PRIORITY.getKeyName(), FlightPriority.class);
+    if (priority == null) {
+      return StepResult.getStepResultSuccess();
+    }
+    // Share fairly between users; flights without a user share by workspace
+    String shareKey =
+        Optional.ofNullable(inputParameters.get(JobMapKeys.SUBJECT_ID.getKeyName(), String.class))
+            .orElseGet(
+                () -> inputParameters.get(WorkspaceFlightMapKeys.WORKSPACE_ID, String.class));
+    FlightMap workingMap = context.getWorkingMap();
+    boolean admitted = flightAdmission.admit(context.getFlightId(), priority, shareKey);
+    // The JobService sweep leaves flights queued here to FlightAdmission
+    workingMap.put(JobMapKeys.ADMISSION_QUEUED.getKeyName(), !admitted);
+    if (admitted) {
+      return StepResult.getStepResultSuccess();
+    }
+    workingMap.put(
+        JobMapKeys.RESUME_TIME.getKeyName(),
+        System.currentTimeMillis() + flightAdmission.getRecheckInterval().toMillis());
+    return new StepResult(StepStatus.STEP_RESULT_WAIT);
+  }
+
+  // The slot is released by FlightAdmission when the flight ends
+  @Override
+  public StepResult undoStep(FlightContext context) throws InterruptedException {
+    return StepResult.getStepResultSuccess();
+  }
+}
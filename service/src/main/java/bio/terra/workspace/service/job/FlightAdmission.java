@@ -0,0 +1,267 @@
+package bio.terra.workspace.service.job;
+
+import bio.terra.common.stairway.StairwayComponent;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+import bio.terra.stairway.exception.FlightNotFoundException;
+import bio.terra.workspace.app.configuration.external.JobConfiguration;
+import bio.terra.workspace.db.CronjobDao;
+import bio.terra.workspace.db.FlightAdmissionDao;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admission control for long-running flights. Each limited {@link FlightPriority} has a budget of
+ * flights that may run at once across all instances; interactive flights are not limited here and
+ * use whatever Stairway threads the long-running budget leaves.
+ *
+ * <p>A flight asks for admission from {@link AwaitFlightAdmissionStep}. When its class is over
+ * budget, the flight is queued and the step returns STEP_RESULT_WAIT, so a queued flight holds no
+ * Stairway thread and survives a restart as a waiting flight. The queue and slots are kept in the
+ * database by {@link FlightAdmissionDao}, so any instance may grant a slot and resume the flight.
+ * Slots go first to the fair share key, the submitting user or else the workspace, holding the
+ * fewest of them, so that one user's burst of clones cannot delay everyone else's. A granted
+ * flight is resumed and passes the step on its next run.
+ *
+ * <p>As a Stairway hook, this releases a flight's slot when the flight completes and grants it to
+ * the next queued flight. A periodic check releases the slots of flights that ended without
+ * releasing them, such as those of an instance that went away, and resumes granted flights whose
+ * resume was lost.
+ */
+@Component
+public class FlightAdmission implements StairwayHook {
+  private static final Logger logger = LoggerFactory.getLogger(FlightAdmission.class);
+  private static final int RESUME_RETRIES = 3;
+  private static final long RESUME_RETRY_SECONDS = 2;
+  private static final String RECONCILE_JOB_NAME = "flight_admission_reconcile_job";
+  // How long a released slot is remembered for fair ordering
+  private static final Duration RELEASED_RETENTION = Duration.ofHours(1);
+
+  private final StairwayComponent stairwayComponent;
+  private final FlightAdmissionDao flightAdmissionDao;
+  private final CronjobDao cronjobDao;
+  private final Duration recheckInterval;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("flight-admission-%d").setDaemon(true).build());
+  // Budgets of the limited classes; other classes are admitted at once
+  private final Map<FlightPriority, Integer> budgets = new EnumMap<>(FlightPriority.class);
+
+  @Autowired
+  public FlightAdmission(
+      JobConfiguration jobConfig,
+      StairwayComponent stairwayComponent,
+      FlightAdmissionDao flightAdmissionDao,
+      CronjobDao cronjobDao) {
+    this.stairwayComponent = stairwayComponent;
+    this.flightAdmissionDao = flightAdmissionDao;
+    this.cronjobDao = cronjobDao;
+    this.recheckInterval = Duration.ofSeconds(jobConfig.getAdmissionRecheckSeconds());
+    budgets.put(FlightPriority.LONG_RUNNING, jobConfig.getLongRunningMaxParallelFlights());
+    for (FlightPriority priority : budgets.keySet()) {
+      JobMetrics.registerQueue(priority, () -> getQueued(priority), () -> getAdmitted(priority));
+    }
+  }
+
+  @PostConstruct
+  public void startReconcile() {
+    long intervalSeconds = recheckInterval.toSeconds();
+    executor.scheduleWithFixedDelay(
+        this::reconcileSuppressExceptions, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Ask to run a flight. If the flight's class is over budget, the flight is queued and is resumed
+   * once it is granted a slot. Asking again for a queued flight keeps its place in the queue.
+   *
+   * @param flightId flight asking to run
+   * @param priority priority class of the flight
+   * @param shareKey fair share key of the flight
+   * @return true if the flight may run now
+   */
+  public boolean admit(String flightId, FlightPriority priority, String shareKey) {
+    if (!budgets.containsKey(priority)) {
+      return true;
+    }
+    if (flightAdmissionDao.admit(flightId, priority, shareKey)) {
+      return true;
+    }
+    boolean granted = grantSlots(priority, flightId);
+    return granted && flightAdmissionDao.admit(flightId, priority, shareKey);
+  }
+
+  /** Release the slot or queue place of a flight that has ended. */
+  public void release(String flightId) {
+    flightAdmissionDao.release(flightId).ifPresent(priority -> grantSlots(priority, null));
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    // A flight that exits to wait, or to be resumed or recovered, keeps its slot or its place in
+    // the queue; only a flight that is done gives it up
+    FlightStatus flightStatus = context.getFlightStatus();
+    if (flightStatus != FlightStatus.SUCCESS
+        && flightStatus != FlightStatus.ERROR
+        && flightStatus != FlightStatus.FATAL) {
+      return HookAction.CONTINUE;
+    }
+    // Only a flight of a limited class that asked for admission can hold a slot or a queue place
+    FlightPriority priority =
+        context.getInputParameters().get(JobMapKeys.PRIORITY.getKeyName(), FlightPriority.class);
+    if (priority != null
+        && budgets.containsKey(priority)
+        && context.getWorkingMap().containsKey(JobMapKeys.ADMISSION_QUEUED.getKeyName())) {
+      release(context.getFlightId());
+    }
+    return HookAction.CONTINUE;
+  }
+
+  /** Interval at which a queued flight rechecks its queue, in case its resume is lost. */
+  public Duration getRecheckInterval() {
+    return recheckInterval;
+  }
+
+  /** Flights of a class waiting for admission, across all instances. */
+  public int getQueued(FlightPriority priority) {
+    return budgets.containsKey(priority) ? flightAdmissionDao.countQueued(priority) : 0;
+  }
+
+  /**
+   * Flights of a class holding a slot, whether admitted or granted and not yet resumed, across all
+   * instances.
+   */
+  public int getAdmitted(FlightPriority priority) {
+    return budgets.containsKey(priority) ? flightAdmissionDao.countHoldingSlot(priority) : 0;
+  }
+
+  /**
+   * Release the slots of flights that have ended without releasing them, and resume flights granted
+   * a slot a while ago that have not taken it up.
+   */
+  @VisibleForTesting
+  void reconcile() throws InterruptedException {
+    Instant grantedBefore = Instant.now().minus(recheckInterval);
+    for (String flightId : flightAdmissionDao.getGrantedFlightIds(grantedBefore)) {
+      FlightStatus status = getActiveStatus(flightId);
+      if (status == null) {
+        release(flightId);
+      } else if (status == FlightStatus.WAITING) {
+        resumeGranted(flightId, 0);
+      }
+    }
+    for (String flightId : flightAdmissionDao.getAdmittedFlightIds(grantedBefore)) {
+      if (getActiveStatus(flightId) == null) {
+        release(flightId);
+      }
+    }
+    flightAdmissionDao.deleteReleased(Instant.now().minus(RELEASED_RETENTION));
+  }
+
+  /** Reconcile in one instance per recheck interval. */
+  private void reconcileSuppressExceptions() {
+    try {
+      if (cronjobDao.claimJob(RECONCILE_JOB_NAME, recheckInterval)) {
+        reconcile();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      // Never let an exception escape; it would cancel the periodic task
+      logger.warn("Failed to reconcile flight admission", e);
+    }
+  }
+
+  /**
+   * Grant free slots of a class and resume the flights granted them, other than the one asking.
+   *
+   * @param priority priority class
+   * @param askingFlightId flight asking for admission, which takes up its slot itself; may be null
+   * @return true if the asking flight was granted a slot
+   */
+  private boolean grantSlots(FlightPriority priority, @Nullable String askingFlightId) {
+    Map<String, Instant> granted = flightAdmissionDao.grantSlots(priority, budgets.get(priority));
+    long now = System.currentTimeMillis();
+    granted.forEach(
+        (flightId, queuedTime) -> {
+          JobMetrics.recordAdmissionWait(priority, now - queuedTime.toEpochMilli());
+          if (!flightId.equals(askingFlightId)) {
+            resumeGranted(flightId, RESUME_RETRIES);
+          }
+        });
+    return granted.containsKey(askingFlightId);
+  }
+
+  /**
+   * Resume a flight granted a slot. The flight may not have finished moving into the waiting state,
+   * so we retry a few times. If the flight has ended by then, its grant is released; otherwise it
+   * keeps its slot and takes it up when its admission step next runs.
+   */
+  private void resumeGranted(String flightId, int retriesLeft) {
+    executor.execute(
+        () -> {
+          try {
+            if (stairwayComponent.get().resume(flightId)) {
+              return;
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          } catch (RuntimeException e) {
+            logger.warn("Failed to resume admitted flight {}", flightId, e);
+          }
+          if (retriesLeft > 0) {
+            executor.schedule(
+                () -> resumeGranted(flightId, retriesLeft - 1),
+                RESUME_RETRY_SECONDS,
+                TimeUnit.SECONDS);
+          } else {
+            releaseIfEnded(flightId);
+          }
+        });
+  }
+
+  /** Release the slot of a flight that has ended or is gone. */
+  private void releaseIfEnded(String flightId) {
+    try {
+      if (getActiveStatus(flightId) == null) {
+        release(flightId);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      logger.warn("Failed to check admitted flight {}", flightId, e);
+    }
+  }
+
+  /** Status of a flight that has not ended, or null if the flight has ended or is gone. */
+  private @Nullable FlightStatus getActiveStatus(String flightId) throws InterruptedException {
+    try {
+      FlightState flightState = stairwayComponent.get().getFlightState(flightId);
+      return flightState.isActive() ? flightState.getFlightStatus() : null;
+    } catch (FlightNotFoundException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package bio.terra.workspace.service.job;
+
+/**
+ * Priority class of a job. Interactive jobs, which a user is usually waiting on, start as soon as
+ * Stairway has a thread for them. Long-running jobs, such as clones that can hold a thread for
+ * hours, are admitted by {@link FlightAdmission} under a budget of their own so that a burst of
+ * them cannot starve interactive jobs.
+ */
+public enum FlightPriority {
+  INTERACTIVE,
+  LONG_RUNNING
+}
@@ -16,6 +16,7 @@ import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ResourceKeys;
 import bio.terra.workspace.service.workspace.model.OperationType;
 import io.opencensus.contrib.spring.aop.Traced;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
 import org.apache.commons.lang3.StringUtils;
 
@@ -37,6 +38,7 @@ public class JobBuilder {
   @Nullable private String resourceName;
   @Nullable private StewardshipType stewardshipType;
   @Nullable private OperationType operationType;
+  private FlightPriority priority = FlightPriority.INTERACTIVE;
 
   public JobBuilder(JobService jobService, StairwayComponent stairwayComponent, MdcHook mdcHook) {
     this.jobService = jobService;
@@ -104,6 +106,11 @@ public class JobBuilder {
     return this;
   }
 
+  public JobBuilder priority(FlightPriority priority) {
+    this.priority = priority;
+    return this;
+  }
+
   public JobBuilder addParameter(String keyName, @Nullable Object val) {
     if (StringUtils.isBlank(keyName)) {
       throw new InvalidJobParameterException("Parameter name cannot be null or blanks.");
@@ -141,6 +148,23 @@ public class JobBuilder {
     return submitAndWait(resultClass, true);
   }
 
+  /**
+   * Submit a job to stairway and return a future completed with the job result, so that the caller
+   * need not hold a thread while the job runs.
+   *
+   * @param resultClass Class of the job's result
+   * @return Future of the result of the finished job.
+   */
+  public <T> CompletableFuture<T> submitAndGetFuture(Class<T> resultClass, boolean doAccessCheck) {
+    populateInputParams();
+    return jobService.submitAndGetFuture(
+        flightClass, jobParameterMap, resultClass, jobId, doAccessCheck);
+  }
+
+  public <T> CompletableFuture<T> submitAndGetFuture(Class<T> resultClass) {
+    return submitAndGetFuture(resultClass, true);
+  }
+
   // Check the inputs, supply defaults and finalize the input parameter map
   private void populateInputParams() {
     if (flightClass == null) {
@@ -179,6 +203,10 @@ public class JobBuilder {
     if (shouldInsert(ResourceKeys.RESOURCE, resource)) {
       addParameter(ResourceKeys.RESOURCE, resource);
     }
+    // The resource ID is kept separately so readers need not deserialize the whole resource
+    if (resource != null && shouldInsert(ResourceKeys.RESOURCE_ID, resource.getResourceId())) {
+      addParameter(ResourceKeys.RESOURCE_ID, resource.getResourceId());
+    }
     if (shouldInsert(ResourceKeys.RESOURCE_TYPE, resourceType)) {
       addParameter(ResourceKeys.RESOURCE_TYPE, resourceType);
     }
@@ -191,6 +219,9 @@ public class JobBuilder {
     if (shouldInsert(WorkspaceFlightMapKeys.OPERATION_TYPE, operationType)) {
       addParameter(WorkspaceFlightMapKeys.OPERATION_TYPE, operationType);
     }
+    if (shouldInsert(JobMapKeys.PRIORITY, priority)) {
+      addParameter(JobMapKeys.PRIORITY.getKeyName(), priority);
+    }
   }
 
   private boolean shouldInsert(String mapKey, @Nullable Object value) {
@@ -9,6 +9,12 @@ public enum JobMapKeys {
   AUTH_USER_INFO("auth_user_info"),
   SUBJECT_ID("subjectId"),
   RESULT_PATH("resultPath"),
+  // epoch millis at which a flight that returned STEP_RESULT_WAIT should be resumed
+  RESUME_TIME("resumeTime"),
+  // true while a flight is waiting in the FlightAdmission queue
+  ADMISSION_QUEUED("admissionQueued"),
+  // FlightPriority of the job; absent means INTERACTIVE
+  PRIORITY("priority"),
 
   // parameter for the job
   FLIGHT_CLASS("flight_class");
@@ -0,0 +1,112 @@
+package bio.terra.workspace.service.job;
+
+import io.opencensus.metrics.DerivedLongGauge;
+import io.opencensus.metrics.LabelKey;
+import io.opencensus.metrics.LabelValue;
+import io.opencensus.metrics.MetricOptions;
+import io.opencensus.metrics.MetricRegistry;
+import io.opencensus.metrics.Metrics;
+import io.opencensus.stats.Aggregation;
+import io.opencensus.stats.BucketBoundaries;
+import io.opencensus.stats.Measure.MeasureDouble;
+import io.opencensus.stats.Stats;
+import io.opencensus.stats.StatsRecorder;
+import io.opencensus.stats.View;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.TagValue;
+import io.opencensus.tags.Tagger;
+import io.opencensus.tags.Tags;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics for {@link FlightAdmission}, tagged by priority class: the time flights wait to be
+ * admitted, and the flights queued and running under each budget.
+ *
+ * <p>The views and gauges are process-wide, so they are registered once regardless of how many
+ * application contexts are created.
+ */
+public class JobMetrics {
+  private static final String METRICS_PREFIX = "terra/workspace/job/";
+  private static final TagKey PRIORITY_TAG = TagKey.create("priority");
+  private static final LabelKey PRIORITY_LABEL = LabelKey.create("priority", "Flight priority");
+
+  private static final MeasureDouble ADMISSION_WAIT =
+      MeasureDouble.create(
+          METRICS_PREFIX + "admission_wait",
+          "Time a flight waited in its priority class queue before it was admitted",
+          "ms");
+
+  private static final BucketBoundaries WAIT_BUCKETS =
+      BucketBoundaries.create(
+          List.of(
+              0.0, 100.0, 1000.0, 10000.0, 30000.0, 60000.0, 300000.0, 900000.0, 1800000.0,
+              3600000.0, 7200000.0, 14400000.0));
+
+  private static final StatsRecorder statsRecorder = Stats.getStatsRecorder();
+  private static final Tagger tagger = Tags.getTagger();
+  private static final DerivedLongGauge queuedGauge;
+  private static final DerivedLongGauge runningGauge;
+
+  static {
+    Stats.getViewManager()
+        .registerView(
+            View.create(
+                View.Name.create(ADMISSION_WAIT.getName()),
+                ADMISSION_WAIT.getDescription(),
+                ADMISSION_WAIT,
+                Aggregation.Distribution.create(WAIT_BUCKETS),
+                List.of(PRIORITY_TAG)));
+
+    MetricRegistry metricRegistry = Metrics.getMetricRegistry();
+    queuedGauge =
+        metricRegistry.addDerivedLongGauge(
+            METRICS_PREFIX + "queued_flights",
+            MetricOptions.builder()
+                .setDescription("Flights waiting to be admitted")
+                .setUnit("1")
+                .setLabelKeys(List.of(PRIORITY_LABEL))
+                .build());
+    runningGauge =
+        metricRegistry.addDerivedLongGauge(
+            METRICS_PREFIX + "admitted_flights",
+            MetricOptions.builder()
+                .setDescription("Flights admitted and not yet ended")
+                .setUnit("1")
+                .setLabelKeys(List.of(PRIORITY_LABEL))
+                .build());
+  }
+
+  private JobMetrics() {}
+
+  /**
+   * Record the time a flight waited for admission.
+   *
+   * @param priority priority class of the flight
+   * @param waitMillis time from when the flight first asked for admission until it was granted
+   */
+  public static void recordAdmissionWait(FlightPriority priority, long waitMillis) {
+    TagContext tags =
+        tagger.emptyBuilder().putLocal(PRIORITY_TAG, TagValue.create(priority.name())).build();
+    statsRecorder.newMeasureMap().put(ADMISSION_WAIT, (double) waitMillis).record(tags);
+  }
+
+  /**
+   * Report the queue of a priority class. Registering again replaces the previous suppliers.
+   *
+   * @param priority priority class
+   * @param queued supplier of the number of flights waiting for admission
+   * @param running supplier of the number of admitted flights
+   */
+  public static void registerQueue(
+      FlightPriority priority, LongSupplier queued, LongSupplier running) {
+    List<LabelValue> labelValues = List.of(LabelValue.create(priority.name()));
+    synchronized (queuedGauge) {
+      queuedGauge.removeTimeSeries(labelValues);
+      queuedGauge.createTimeSeries(labelValues, queued, LongSupplier::getAsLong);
+      runningGauge.removeTimeSeries(labelValues);
+      runningGauge.createTimeSeries(labelValues, running, LongSupplier::getAsLong);
+    }
+  }
+}
@@ -5,13 +5,16 @@ import bio.terra.common.logging.LoggingUtils;
 import bio.terra.common.stairway.StairwayComponent;
 import bio.terra.common.stairway.TracingHook;
 import bio.terra.stairway.Flight;
+import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.FlightDebugInfo;
 import bio.terra.stairway.FlightFilter;
 import bio.terra.stairway.FlightFilterOp;
 import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.FlightState;
 import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.HookAction;
 import bio.terra.stairway.Stairway;
+import bio.terra.stairway.StairwayHook;
 import bio.terra.stairway.exception.DatabaseOperationException;
 import bio.terra.stairway.exception.DuplicateFlightIdException;
 import bio.terra.stairway.exception.FlightNotFoundException;
@@ -22,6 +25,10 @@ import bio.terra.workspace.app.configuration.external.StairwayDatabaseConfigurat
 import bio.terra.workspace.common.utils.ErrorReportUtils;
 import bio.terra.workspace.common.utils.FlightBeanBag;
 import bio.terra.workspace.common.utils.MdcHook;
+import bio.terra.workspace.db.CronjobDao;
+import bio.terra.workspace.db.FlightResumeDao;
+import bio.terra.workspace.db.JobSummaryDao;
+import bio.terra.workspace.db.model.DbJobSummary;
 import bio.terra.workspace.generated.model.ApiErrorReport;
 import bio.terra.workspace.generated.model.ApiJobReport;
 import bio.terra.workspace.generated.model.ApiJobReport.StatusEnum;
@@ -36,18 +43,31 @@ import bio.terra.workspace.service.job.exception.JobResponseException;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.opencensus.contrib.spring.aop.Traced;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,12 +80,35 @@ public class JobService {
   private final JobConfiguration jobConfig;
   private final IngressConfiguration ingressConfig;
   private final StairwayDatabaseConfiguration stairwayDatabaseConfiguration;
+  // Polls jobs and resumes waiting flights; tasks on it only read or resume a single flight
   private final ScheduledExecutorService executor;
+  // Runs the periodic sweep of waiting flights, which may resume many flights at once
+  private final ScheduledExecutorService sweepExecutor;
+  // Builds responses and results once the job they waited on completes
+  private final ExecutorService responseExecutor;
   private final MdcHook mdcHook;
   private final StairwayComponent stairwayComponent;
   private final FlightBeanBag flightBeanBag;
+  private final FlightAdmission flightAdmission;
+  private final JobSummaryDao jobSummaryDao;
+  private final FlightResumeDao flightResumeDao;
+  private final CronjobDao cronjobDao;
+  private static final int WAITING_FLIGHT_SWEEP_LIMIT = 1000;
+  private static final int RESUME_RETRIES = 3;
+  private static final long RESUME_RETRY_SECONDS = 2;
+  // The backfill only needs to run once per deployment, so it is claimed for a century
+  private static final String JOB_SUMMARY_BACKFILL_JOB_NAME = "job_summary_backfill_job";
+  private static final Duration JOB_SUMMARY_BACKFILL_CLAIM = Duration.ofDays(36500);
+  private static final int JOB_SUMMARY_BACKFILL_PAGE_SIZE = 100;
   private final Logger logger = LoggerFactory.getLogger(JobService.class);
   private final ObjectMapper objectMapper;
+  // Terminal flight states never change, so we keep recently read ones to avoid re-reading and
+  // re-deserializing them from Stairway on every poll of a result endpoint.
+  private final Cache<String, FlightState> completedFlightStates;
+  // Requests waiting on a running flight. Completed by the JobWaitHook when a flight running in
+  // this instance ends.
+  private final ConcurrentHashMap<String, CompletableFuture<Void>> flightWaiters =
+      new ConcurrentHashMap<>();
   private FlightDebugInfo flightDebugInfo;
 
   @Autowired
@@ -76,15 +119,38 @@ public class JobService {
       MdcHook mdcHook,
       StairwayComponent stairwayComponent,
       FlightBeanBag flightBeanBag,
+      FlightAdmission flightAdmission,
+      JobSummaryDao jobSummaryDao,
+      FlightResumeDao flightResumeDao,
+      CronjobDao cronjobDao,
       ObjectMapper objectMapper) {
     this.jobConfig = jobConfig;
     this.ingressConfig = ingressConfig;
     this.stairwayDatabaseConfiguration = stairwayDatabaseConfiguration;
-    this.executor = Executors.newScheduledThreadPool(jobConfig.getMaxThreads());
+    this.executor =
+        Executors.newScheduledThreadPool(
+            jobConfig.getMaxThreads(),
+            new ThreadFactoryBuilder().setNameFormat("job-poll-%d").setDaemon(true).build());
+    this.responseExecutor =
+        Executors.newFixedThreadPool(
+            jobConfig.getResponseThreads(),
+            new ThreadFactoryBuilder().setNameFormat("job-response-%d").setDaemon(true).build());
+    this.sweepExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("job-resume-sweep-%d")
+                .setDaemon(true)
+                .build());
     this.mdcHook = mdcHook;
     this.stairwayComponent = stairwayComponent;
     this.flightBeanBag = flightBeanBag;
+    this.flightAdmission = flightAdmission;
+    this.jobSummaryDao = jobSummaryDao;
+    this.flightResumeDao = flightResumeDao;
+    this.cronjobDao = cronjobDao;
     this.objectMapper = objectMapper;
+    this.completedFlightStates =
+        CacheBuilder.newBuilder().maximumSize(jobConfig.getCompletedFlightCacheSize()).build();
   }
 
   // Fully fluent style of JobBuilder
@@ -135,28 +201,88 @@ public class JobService {
     return resultOrException.getResult();
   }
 
-  public void waitForJob(String jobId) {
+  /**
+   * Submit a new job to stairway and return a future completed with its result once it finishes.
+   * Unlike {@link #submitAndWait}, no thread is held while the flight runs. The future completes
+   * exceptionally with any exception raised by the flight.
+   */
+  // protected method intended to be called only from JobBuilder
+  protected <T> CompletableFuture<T> submitAndGetFuture(
+      Class<? extends Flight> flightClass,
+      FlightMap parameterMap,
+      Class<T> resultClass,
+      String jobId,
+      boolean doAccessCheck) {
+    submit(flightClass, parameterMap, jobId);
+    AuthenticatedUserRequest userRequest =
+        parameterMap.get(JobMapKeys.AUTH_USER_INFO.getKeyName(), AuthenticatedUserRequest.class);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    long deadlineNanos =
+        System.nanoTime() + TimeUnit.SECONDS.toNanos(jobConfig.getTimeoutSeconds());
+    pollJob(jobId, done, deadlineNanos, /*failOnTimeout=*/ true);
+    return thenBuild(
+        done,
+        () -> {
+          JobResultOrException<T> resultOrException =
+              retrieveJobResult(jobId, resultClass, userRequest, doAccessCheck);
+          if (resultOrException.getException() != null) {
+            throw resultOrException.getException();
+          }
+          return resultOrException.getResult();
+        });
+  }
+
+  /**
+   * Build a value once a wait completes. A wait that completed before it was returned, because
+   * there was nothing to wait for or the job had already finished, is built on the calling thread.
+   * Otherwise the value is built on the response executor, rather than on the thread that noticed
+   * the job end, and so is the response built from it by ControllerBase#respondWhenDone.
+   */
+  private <T> CompletableFuture<T> thenBuild(CompletableFuture<Void> done, Supplier<T> build) {
+    if (done.isDone()) {
+      return done.thenApply(unused -> build.get());
+    }
+    return done.thenApplyAsync(unused -> build.get(), responseExecutor);
+  }
+
+  /**
+   * Wait for a future from {@link JobBuilder#submitAndGetFuture}, throwing any exception raised by
+   * the flight as is.
+   */
+  public static <T> T awaitResult(CompletableFuture<T> future) {
     try {
-      int pollSeconds = jobConfig.getPollingIntervalSeconds();
-      int pollCycles = jobConfig.getTimeoutSeconds() / jobConfig.getPollingIntervalSeconds();
-      for (int i = 0; i < pollCycles; i++) {
-        ScheduledFuture<FlightState> futureState =
-            executor.schedule(
-                new PollFlightTask(stairwayComponent.get(), jobId), pollSeconds, TimeUnit.SECONDS);
-        FlightState state = futureState.get();
-        if (state != null) {
-          // Indicates job has completed, though not necessarily successfully.
-          return;
-        } else {
-          // Indicates job has not completed yet, continue polling
-          continue;
-        }
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
       }
-    } catch (InterruptedException | ExecutionException stairwayEx) {
-      throw new InternalStairwayException(stairwayEx);
+      throw e;
     }
-    // Indicates we timed out waiting for completion, throw exception
-    throw new InternalStairwayException("Flight did not complete in the allowed wait time");
+  }
+
+  /**
+   * Complete the future once the job is no longer active. Flights that end in this instance wake
+   * us through the {@link JobWaitHook}. Flights running in another instance, for example after a
+   * resume, are noticed by re-reading the flight state at the polling interval.
+   *
+   * @param failOnTimeout if true, the future completes exceptionally when the deadline passes;
+   *     otherwise it completes normally, leaving the caller to report the job as running
+   */
+  private void pollJob(
+      String jobId, CompletableFuture<Void> done, long deadlineNanos, boolean failOnTimeout) {
+    new JobPoller(jobId, done, deadlineNanos, failOnTimeout).start();
+  }
+
+  /**
+   * Block until the job is no longer active. Throws InternalStairwayException if it does not
+   * complete in the configured timeout.
+   */
+  public void waitForJob(String jobId) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    long deadlineNanos =
+        System.nanoTime() + TimeUnit.SECONDS.toNanos(jobConfig.getTimeoutSeconds());
+    pollJob(jobId, done, deadlineNanos, /*failOnTimeout=*/ true);
+    awaitResult(done);
   }
 
   /**
@@ -172,7 +298,117 @@ public class JobService {
             .context(flightBeanBag)
             .addHook(mdcHook)
             .addHook(new TracingHook())
+            .addHook(new JobWaitHook(flightWaiters))
+            .addHook(new FlightResumeHook())
+            .addHook(new JobSummaryHook(jobSummaryDao))
+            .addHook(flightAdmission)
             .exceptionSerializer(new StairwayExceptionSerializer(objectMapper)));
+    // Waiting flights are not recovered by Stairway, and a resume scheduled by an instance that
+    // went away is lost. Periodically resume any flight that is past due.
+    long sweepSeconds = jobConfig.getWaitingFlightSweepSeconds();
+    sweepExecutor.scheduleWithFixedDelay(
+        this::resumeWaitingFlights, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+    // The backfill reads every old flight, so it gets its own thread rather than holding up polls
+    Thread backfillThread = new Thread(this::backfillJobSummaries, "job-summary-backfill");
+    backfillThread.setDaemon(true);
+    backfillThread.start();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+    responseExecutor.shutdownNow();
+    sweepExecutor.shutdownNow();
+  }
+
+  /**
+   * Add job summaries for flights submitted before the job_summary table was populated, so they
+   * are still enumerated. The flights live in the Stairway database, which the WSM database
+   * migration cannot read, so this runs once, in one instance, after Stairway is up.
+   */
+  private void backfillJobSummaries() {
+    try {
+      if (!cronjobDao.claimJob(JOB_SUMMARY_BACKFILL_JOB_NAME, JOB_SUMMARY_BACKFILL_CLAIM)) {
+        return;
+      }
+      // Every flight submitted since the table was populated already has a summary
+      Instant cutoff = jobSummaryDao.getEarliestSubmitted().orElse(Instant.now());
+      FlightFilter filter = new FlightFilter();
+      filter.addFilterSubmitTime(FlightFilterOp.LESS_THAN, cutoff);
+      int backfilled = 0;
+      for (int offset = 0; ; offset += JOB_SUMMARY_BACKFILL_PAGE_SIZE) {
+        List<FlightState> flightStates =
+            stairwayComponent.get().getFlights(offset, JOB_SUMMARY_BACKFILL_PAGE_SIZE, filter);
+        for (FlightState flightState : flightStates) {
+          Optional<DbJobSummary> jobSummary = JobSummaryHook.summarizeExistingFlight(flightState);
+          if (jobSummary.isPresent()) {
+            jobSummaryDao.backfillJob(jobSummary.get());
+            backfilled++;
+          }
+        }
+        if (flightStates.size() < JOB_SUMMARY_BACKFILL_PAGE_SIZE) {
+          break;
+        }
+      }
+      logger.info("Backfilled {} job summaries submitted before {}", backfilled, cutoff);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to backfill job summaries", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Resume waiting flights whose resume time has passed, in this or any other instance. The
+   * instance that ran a flight gets the first chance to resume it; the sweep picks up flights whose
+   * resume was lost, for example because that instance went away. Flights queued for admission
+   * have no resume time recorded and are left to {@link FlightAdmission}.
+   */
+  private void resumeWaitingFlights() {
+    try {
+      Instant dueBy = Instant.now().minusSeconds(RESUME_RETRIES * RESUME_RETRY_SECONDS);
+      for (String flightId : flightResumeDao.getDueFlightIds(dueBy, WAITING_FLIGHT_SWEEP_LIMIT)) {
+        resumeDueFlight(flightId);
+      }
+    } catch (RuntimeException e) {
+      // Never let an exception escape; it would cancel the periodic task
+      logger.warn("Failed to resume waiting flights", e);
+    }
+  }
+
+  /**
+   * Resume a flight found by the sweep. A flight that is running clears its resume time when it
+   * next ends; one that is gone or has already ended is cleared here.
+   */
+  private void resumeDueFlight(String flightId) {
+    try {
+      Stairway stairway = stairwayComponent.get();
+      if (!stairway.resume(flightId) && !stairway.getFlightState(flightId).isActive()) {
+        flightResumeDao.clearResume(flightId);
+      }
+    } catch (FlightNotFoundException e) {
+      flightResumeDao.clearResume(flightId);
+    } catch (InterruptedException | RuntimeException e) {
+      logger.warn("Failed to resume flight {}", flightId, e);
+    }
+  }
+
+  /**
+   * Resume a waiting flight. Stairway may not have finished moving the flight into the waiting
+   * state when the resume runs, so we retry a few times before leaving it to the periodic sweep.
+   */
+  private void resumeFlight(String flightId, int retriesLeft) {
+    try {
+      if (stairwayComponent.get().resume(flightId)) {
+        return;
+      }
+    } catch (InterruptedException | RuntimeException e) {
+      logger.warn("Failed to resume flight {}", flightId, e);
+    }
+    if (retriesLeft > 0) {
+      executor.schedule(
+          () -> resumeFlight(flightId, retriesLeft - 1), RESUME_RETRY_SECONDS, TimeUnit.SECONDS);
+    }
   }
 
   public ApiJobReport mapFlightStateToApiJobReport(FlightState flightState) {
@@ -228,9 +464,60 @@ public class JobService {
     return jobReport;
   }
 
+  /**
+   * Build the job report of a job from its summary, without reading Stairway. Summaries recorded
+   * before the status code was kept report the default code of their status.
+   *
+   * @param jobSummary summary of the job
+   * @return job report
+   */
+  public ApiJobReport mapJobSummaryToApiJobReport(DbJobSummary jobSummary) {
+    ApiJobReport.StatusEnum jobStatus = getJobStatus(jobSummary.getFlightStatus());
+    int statusCode;
+    switch (jobStatus) {
+      case SUCCEEDED:
+        statusCode = jobSummary.getStatusCode().orElse(HttpStatus.OK.value());
+        break;
+      case FAILED:
+        statusCode = jobSummary.getStatusCode().orElse(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        break;
+      default:
+        statusCode = HttpStatus.ACCEPTED.value();
+    }
+    return new ApiJobReport()
+        .id(jobSummary.getFlightId())
+        .description(jobSummary.getDescription().orElse(null))
+        .status(jobStatus)
+        .statusCode(statusCode)
+        .submitted(jobSummary.getSubmitted().toString())
+        .completed(jobSummary.getCompleted().map(Instant::toString).orElse(null))
+        .resultURL(resultUrl(jobSummary.getResultPath().orElse(null)));
+  }
+
+  /**
+   * Build the error report of a failed job from its summary, without reading Stairway.
+   *
+   * @param jobSummary summary of the job
+   * @return error report, or empty if the job has not failed
+   */
+  public Optional<ApiErrorReport> mapJobSummaryToApiErrorReport(DbJobSummary jobSummary) {
+    if (getJobStatus(jobSummary.getFlightStatus()) != StatusEnum.FAILED) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new ApiErrorReport()
+            .message(jobSummary.getErrorMessage().orElse(null))
+            .statusCode(
+                jobSummary.getStatusCode().orElse(HttpStatus.INTERNAL_SERVER_ERROR.value()))
+            .causes(jobSummary.getErrorCauses().orElse(null)));
+  }
+
   private String resultUrlFromFlightState(FlightState flightState) {
-    String resultPath =
-        flightState.getInputParameters().get(JobMapKeys.RESULT_PATH.getKeyName(), String.class);
+    return resultUrl(
+        flightState.getInputParameters().get(JobMapKeys.RESULT_PATH.getKeyName(), String.class));
+  }
+
+  private String resultUrl(@Nullable String resultPath) {
     if (resultPath == null) {
       resultPath = "";
     }
@@ -244,6 +531,9 @@ public class JobService {
   private ApiJobReport.StatusEnum getJobStatus(FlightStatus flightStatus) {
     switch (flightStatus) {
       case RUNNING:
+      case WAITING:
+      case READY:
+      case QUEUED:
         return ApiJobReport.StatusEnum.RUNNING;
       case SUCCESS:
         return ApiJobReport.StatusEnum.SUCCEEDED;
@@ -277,11 +567,30 @@ public class JobService {
 
   @Traced
   public ApiJobReport retrieveJob(String jobId, AuthenticatedUserRequest userRequest) {
+    verifyUserAccess(jobId, userRequest); // jobId=flightId
+    return buildJobReport(jobId);
+  }
 
+  /**
+   * Retrieve the job report, optionally once the job is no longer running. No thread is held
+   * while waiting; respond with ControllerBase#respondWhenDone.
+   *
+   * @param jobId job to retrieve
+   * @param userRequest user making the request
+   * @param waitSeconds if present and positive, wait up to this many seconds (capped by
+   *     configuration) for the job to complete before building the report
+   * @return future of the job report
+   */
+  @Traced
+  public CompletableFuture<ApiJobReport> retrieveJobNonBlocking(
+      String jobId, AuthenticatedUserRequest userRequest, @Nullable Integer waitSeconds) {
+    verifyUserAccess(jobId, userRequest); // jobId=flightId
+    return thenBuild(awaitJobStateChange(jobId, waitSeconds), () -> buildJobReport(jobId));
+  }
+
+  private ApiJobReport buildJobReport(String jobId) {
     try {
-      verifyUserAccess(jobId, userRequest); // jobId=flightId
-      FlightState flightState = stairwayComponent.get().getFlightState(jobId);
-      return mapFlightStateToApiJobReport(flightState);
+      return mapFlightStateToApiJobReport(getFlightState(jobId));
     } catch (StairwayException | InterruptedException stairwayEx) {
       throw new InternalStairwayException(stairwayEx);
     }
@@ -342,9 +651,28 @@ public class JobService {
    */
   public <T> AsyncJobResult<T> retrieveAsyncJobResult(
       String jobId, Class<T> resultClass, AuthenticatedUserRequest userRequest) {
+    verifyUserAccess(jobId, userRequest); // jobId=flightId
+    return buildAsyncJobResult(jobId, resultClass);
+  }
+
+  /**
+   * Same as {@link #retrieveAsyncJobResult(String, Class, AuthenticatedUserRequest)}, but if
+   * waitSeconds is present and positive, the future completes once the job is no longer running
+   * or after that many seconds (capped by configuration). No thread is held while waiting.
+   */
+  public <T> CompletableFuture<AsyncJobResult<T>> retrieveAsyncJobResultNonBlocking(
+      String jobId,
+      Class<T> resultClass,
+      AuthenticatedUserRequest userRequest,
+      @Nullable Integer waitSeconds) {
+    verifyUserAccess(jobId, userRequest); // jobId=flightId
+    return thenBuild(
+        awaitJobStateChange(jobId, waitSeconds), () -> buildAsyncJobResult(jobId, resultClass));
+  }
+
+  private <T> AsyncJobResult<T> buildAsyncJobResult(String jobId, Class<T> resultClass) {
     try {
-      verifyUserAccess(jobId, userRequest); // jobId=flightId
-      ApiJobReport jobReport = retrieveJob(jobId, userRequest);
+      ApiJobReport jobReport = mapFlightStateToApiJobReport(getFlightState(jobId));
       if (jobReport.getStatus().equals(StatusEnum.RUNNING)) {
         return new AsyncJobResult<T>().jobReport(jobReport);
       }
@@ -367,7 +695,7 @@ public class JobService {
 
   private <T> JobResultOrException<T> retrieveJobResultWorker(String jobId, Class<T> resultClass)
       throws StairwayException, InterruptedException {
-    FlightState flightState = stairwayComponent.get().getFlightState(jobId);
+    FlightState flightState = getFlightState(jobId);
     FlightMap resultMap = flightState.getResultMap().orElse(null);
     if (resultMap == null) {
       throw new InvalidResultStateException("No result map returned from flight");
@@ -389,6 +717,9 @@ public class JobService {
             .result(resultMap.get(JobMapKeys.RESPONSE.getKeyName(), resultClass));
 
       case RUNNING:
+      case WAITING:
+      case READY:
+      case QUEUED:
         throw new JobNotCompleteException(
             "Attempt to retrieve job result before job is complete; job id: "
                 + flightState.getFlightId());
@@ -415,6 +746,39 @@ public class JobService {
     throw new InvalidResultStateException("Failed operation with no exception reported.");
   }
 
+  /**
+   * Get the flight state, serving completed flights from the in-memory cache. Running flights are
+   * always read from Stairway.
+   */
+  private FlightState getFlightState(String jobId) throws StairwayException, InterruptedException {
+    FlightState flightState = completedFlightStates.getIfPresent(jobId);
+    if (flightState != null) {
+      return flightState;
+    }
+    flightState = stairwayComponent.get().getFlightState(jobId);
+    if (!flightState.isActive()) {
+      completedFlightStates.put(jobId, flightState);
+    }
+    return flightState;
+  }
+
+  /**
+   * Complete the future once the job is no longer active or the wait expires. Completes at once if
+   * there is no wait.
+   */
+  private CompletableFuture<Void> awaitJobStateChange(String jobId, @Nullable Integer waitSeconds) {
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (waitSeconds == null || waitSeconds <= 0) {
+      done.complete(null);
+      return done;
+    }
+    long deadlineNanos =
+        System.nanoTime()
+            + TimeUnit.SECONDS.toNanos(Math.min(waitSeconds, jobConfig.getMaxWaitSeconds()));
+    pollJob(jobId, done, deadlineNanos, /*failOnTimeout=*/ false);
+    return done;
+  }
+
   private FlightMap getResultMap(FlightState flightState) {
     FlightMap resultMap = flightState.getResultMap().orElse(null);
     if (resultMap == null) {
@@ -432,7 +796,7 @@ public class JobService {
    */
   private void verifyUserAccess(String jobId, AuthenticatedUserRequest userRequest) {
     try {
-      FlightState flightState = stairwayComponent.get().getFlightState(jobId);
+      FlightState flightState = getFlightState(jobId);
       FlightMap inputParameters = flightState.getInputParameters();
       UUID workspaceUuid = inputParameters.get(WorkspaceFlightMapKeys.WORKSPACE_ID, UUID.class);
 
@@ -443,6 +807,8 @@ public class JobService {
       throw new InternalStairwayException("Stairway exception looking up the job", ex);
     } catch (FlightNotFoundException ex) {
       throw new JobNotFoundException("Job not found", ex);
+    } catch (StairwayException ex) {
+      throw new InternalStairwayException(ex);
     }
   }
 
@@ -520,23 +886,146 @@ public class JobService {
     }
   }
 
-  private static class PollFlightTask implements Callable<FlightState> {
-    private final Stairway stairway;
-    private final String flightId;
+  /**
+   * Stairway hook that schedules a resume for flights that exit in the waiting state. The step
+   * that returned STEP_RESULT_WAIT stores the resume time in {@link JobMapKeys#RESUME_TIME}. The
+   * time is also recorded in the database for the periodic sweep, unless the flight is queued for
+   * admission, and forgotten when the flight ends.
+   */
+  private class FlightResumeHook implements StairwayHook {
+    @Override
+    public HookAction endFlight(FlightContext context) {
+      FlightMap workingMap = context.getWorkingMap();
+      Long resumeTime = workingMap.get(JobMapKeys.RESUME_TIME.getKeyName(), Long.class);
+      if (resumeTime == null) {
+        return HookAction.CONTINUE;
+      }
+      String flightId = context.getFlightId();
+      try {
+        if (context.getFlightStatus() != FlightStatus.WAITING
+            || Boolean.TRUE.equals(
+                workingMap.get(JobMapKeys.ADMISSION_QUEUED.getKeyName(), Boolean.class))) {
+          flightResumeDao.clearResume(flightId);
+        } else {
+          flightResumeDao.scheduleResume(flightId, Instant.ofEpochMilli(resumeTime));
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Failed to record resume time of flight {}", flightId, e);
+      }
+      if (context.getFlightStatus() == FlightStatus.WAITING) {
+        long delayMillis = Math.max(0, resumeTime - System.currentTimeMillis());
+        executor.schedule(
+            () -> resumeFlight(flightId, RESUME_RETRIES), delayMillis, TimeUnit.MILLISECONDS);
+      }
+      return HookAction.CONTINUE;
+    }
+  }
 
-    public PollFlightTask(Stairway stairway, String flightId) {
-      this.stairway = stairway;
-      this.flightId = flightId;
+  /**
+   * Stairway hook that wakes any requests waiting on a flight when that flight ends. Flights that
+   * exit to wait for a resume are still running from the caller's point of view.
+   */
+  private static class JobWaitHook implements StairwayHook {
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> flightWaiters;
+
+    public JobWaitHook(ConcurrentHashMap<String, CompletableFuture<Void>> flightWaiters) {
+      this.flightWaiters = flightWaiters;
     }
 
     @Override
-    public FlightState call() throws Exception {
-      FlightState state = stairway.getFlightState(flightId);
-      if (!state.isActive()) {
-        return state;
-      } else {
-        return null;
+    public HookAction endFlight(FlightContext context) {
+      if (context.getFlightStatus() == FlightStatus.WAITING) {
+        return HookAction.CONTINUE;
+      }
+      CompletableFuture<Void> waiter = flightWaiters.remove(context.getFlightId());
+      if (waiter != null) {
+        waiter.complete(null);
+      }
+      return HookAction.CONTINUE;
+    }
+  }
+
+  /**
+   * Polls a job for {@link #pollJob}. The wake-up callback is registered once per wait, and wakes
+   * at most one poll ahead of schedule, so a long wait does not pile up callbacks and a flight
+   * that is woken but still active does not spin.
+   */
+  private class JobPoller implements Runnable {
+    private final String jobId;
+    private final CompletableFuture<Void> done;
+    private final long deadlineNanos;
+    private final boolean failOnTimeout;
+    private final CompletableFuture<Void> waiter;
+    private final AtomicReference<ScheduledFuture<?>> nextPoll = new AtomicReference<>();
+    private final AtomicBoolean woken = new AtomicBoolean();
+
+    JobPoller(
+        String jobId, CompletableFuture<Void> done, long deadlineNanos, boolean failOnTimeout) {
+      this.jobId = jobId;
+      this.done = done;
+      this.deadlineNanos = deadlineNanos;
+      this.failOnTimeout = failOnTimeout;
+      // Register before reading the state so that a flight ending in between still wakes us
+      this.waiter = flightWaiters.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+    }
+
+    void start() {
+      waiter.thenRun(this::pollOnWake);
+      run();
+    }
+
+    @Override
+    public void run() {
+      if (!checkJob()) {
+        return;
+      }
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      long pollNanos = TimeUnit.SECONDS.toNanos(jobConfig.getPollingIntervalSeconds());
+      nextPoll.set(
+          executor.schedule(this, Math.min(remainingNanos, pollNanos), TimeUnit.NANOSECONDS));
+      // A wake-up that came before the poll was scheduled had nothing to bring forward
+      if (waiter.isDone()) {
+        pollOnWake();
+      }
+    }
+
+    /** Poll now instead of at the scheduled time, unless that poll has already started. */
+    private void pollOnWake() {
+      ScheduledFuture<?> scheduled = nextPoll.get();
+      if (scheduled != null && !woken.get() && scheduled.cancel(false)) {
+        woken.set(true);
+        executor.execute(this);
+      }
+    }
+
+    /**
+     * Complete the future if the job is no longer active or the deadline has passed.
+     *
+     * @return true if the job should be polled again
+     */
+    private boolean checkJob() {
+      try {
+        if (!getFlightState(jobId).isActive()) {
+          flightWaiters.remove(jobId, waiter);
+          done.complete(null);
+          return false;
+        }
+      } catch (InterruptedException | RuntimeException e) {
+        flightWaiters.remove(jobId, waiter);
+        done.completeExceptionally(new InternalStairwayException(e));
+        return false;
+      }
+      if (deadlineNanos - System.nanoTime() <= 0) {
+        flightWaiters.remove(jobId, waiter);
+        if (failOnTimeout) {
+          done.completeExceptionally(
+              new InternalStairwayException("Flight did not complete in the allowed wait time"));
+        } else {
+          done.complete(null);
+        }
+        return false;
       }
+      return true;
     }
   }
 }
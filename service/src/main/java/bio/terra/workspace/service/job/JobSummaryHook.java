@@ -0,0 +1,174 @@
+package bio.terra.workspace.service.job;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.HookAction;
+import bio.terra.stairway.StairwayHook;
+import bio.terra.workspace.common.utils.ErrorReportUtils;
+import bio.terra.workspace.db.JobSummaryDao;
+import bio.terra.workspace.db.model.DbJobSummary;
+import bio.terra.workspace.generated.model.ApiErrorReport;
+import bio.terra.workspace.service.resource.model.StewardshipType;
+import bio.terra.workspace.service.resource.model.WsmResource;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ResourceKeys;
+import bio.terra.workspace.service.workspace.model.OperationType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Stairway hook that maintains the job_summary table, which backs workspace job enumeration. The
+ * summary holds everything the enumeration reports, including the status code and error report of
+ * completed jobs, so that listing jobs does not read Stairway. The summary is best effort: failures
+ * are logged and never affect the flight.
+ */
+public class JobSummaryHook implements StairwayHook {
+  private static final Logger logger = LoggerFactory.getLogger(JobSummaryHook.class);
+
+  private final JobSummaryDao jobSummaryDao;
+
+  public JobSummaryHook(JobSummaryDao jobSummaryDao) {
+    this.jobSummaryDao = jobSummaryDao;
+  }
+
+  @Override
+  public HookAction startFlight(FlightContext context) {
+    FlightMap inputParameters = context.getInputParameters();
+    // Only flights operating on a workspace are enumerated
+    if (!inputParameters.containsKey(WorkspaceFlightMapKeys.WORKSPACE_ID)) {
+      return HookAction.CONTINUE;
+    }
+    try {
+      jobSummaryDao.startJob(
+          summarize(context.getFlightId(), inputParameters)
+              .resourceId(inputParameters.get(ResourceKeys.RESOURCE_ID, UUID.class))
+              .flightStatus(FlightStatus.RUNNING)
+              .submitted(Instant.now()));
+    } catch (RuntimeException e) {
+      logger.warn("Failed to record job summary for flight {}", context.getFlightId(), e);
+    }
+    return HookAction.CONTINUE;
+  }
+
+  @Override
+  public HookAction endFlight(FlightContext context) {
+    if (!context.getInputParameters().containsKey(WorkspaceFlightMapKeys.WORKSPACE_ID)) {
+      return HookAction.CONTINUE;
+    }
+    FlightStatus flightStatus = context.getFlightStatus();
+    // Waiting and ready flights will run again; only terminal states are completions
+    boolean isTerminal =
+        flightStatus == FlightStatus.SUCCESS
+            || flightStatus == FlightStatus.ERROR
+            || flightStatus == FlightStatus.FATAL;
+    try {
+      DbJobSummary jobResult =
+          new DbJobSummary().flightId(context.getFlightId()).flightStatus(flightStatus);
+      if (isTerminal) {
+        summarizeResult(
+            jobResult, flightStatus, context.getResult().getException(), context.getWorkingMap());
+        jobResult.completed(Instant.now());
+      }
+      jobSummaryDao.endJob(jobResult);
+    } catch (RuntimeException e) {
+      logger.warn("Failed to update job summary for flight {}", context.getFlightId(), e);
+    }
+    return HookAction.CONTINUE;
+  }
+
+  /**
+   * Build the summary of a flight submitted before job summaries were kept. Such flights predate
+   * the resource ID input parameter, so the ID is read from the resource when there is one.
+   *
+   * @param flightState state of the flight
+   * @return summary, or empty if the flight does not operate on a workspace
+   */
+  static Optional<DbJobSummary> summarizeExistingFlight(FlightState flightState) {
+    FlightMap inputParameters = flightState.getInputParameters();
+    if (!inputParameters.containsKey(WorkspaceFlightMapKeys.WORKSPACE_ID)) {
+      return Optional.empty();
+    }
+    UUID resourceId = inputParameters.get(ResourceKeys.RESOURCE_ID, UUID.class);
+    if (resourceId == null && inputParameters.containsKey(ResourceKeys.RESOURCE)) {
+      resourceId =
+          inputParameters
+              .get(ResourceKeys.RESOURCE, new TypeReference<WsmResource>() {})
+              .getResourceId();
+    }
+    DbJobSummary jobSummary =
+        summarize(flightState.getFlightId(), inputParameters)
+            .resourceId(resourceId)
+            .flightStatus(flightState.getFlightStatus())
+            .submitted(flightState.getSubmitted())
+            .completed(flightState.getCompleted().orElse(null));
+    if (!flightState.isActive()) {
+      summarizeResult(
+          jobSummary,
+          flightState.getFlightStatus(),
+          flightState.getException(),
+          flightState.getResultMap().orElse(null));
+    }
+    return Optional.of(jobSummary);
+  }
+
+  /**
+   * Fill in the status code and error report of a completed flight, the same way the job report
+   * of the flight is built from its state.
+   *
+   * @param jobSummary summary to fill in
+   * @param flightStatus terminal status of the flight
+   * @param exception exception the flight failed with, if any
+   * @param resultMap result map of the flight, if it has one
+   */
+  private static void summarizeResult(
+      DbJobSummary jobSummary,
+      FlightStatus flightStatus,
+      Optional<Exception> exception,
+      @Nullable FlightMap resultMap) {
+    if (flightStatus != FlightStatus.SUCCESS) {
+      ApiErrorReport errorReport =
+          exception
+              .map(ErrorReportUtils::buildApiErrorReport)
+              .orElseGet(
+                  () ->
+                      new ApiErrorReport()
+                          .message("Flight failed with no exception reported")
+                          .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.value()));
+      jobSummary
+          .statusCode(errorReport.getStatusCode())
+          .errorMessage(errorReport.getMessage())
+          .errorCauses(errorReport.getCauses());
+      return;
+    }
+    HttpStatus statusCode =
+        Optional.ofNullable(resultMap)
+            .map(map -> map.get(JobMapKeys.STATUS_CODE.getKeyName(), HttpStatus.class))
+            .orElse(HttpStatus.OK);
+    jobSummary.statusCode(statusCode.value());
+  }
+
+  private static DbJobSummary summarize(String flightId, FlightMap inputParameters) {
+    return new DbJobSummary()
+        .flightId(flightId)
+        .workspaceUuid(inputParameters.get(WorkspaceFlightMapKeys.WORKSPACE_ID, UUID.class))
+        .operationType(
+            inputParameters.get(WorkspaceFlightMapKeys.OPERATION_TYPE, OperationType.class))
+        .resourceType(inputParameters.get(ResourceKeys.RESOURCE_TYPE, WsmResourceType.class))
+        .stewardshipType(inputParameters.get(ResourceKeys.STEWARDSHIP_TYPE, StewardshipType.class))
+        .resourceName(inputParameters.get(ResourceKeys.RESOURCE_NAME, String.class))
+        .description(inputParameters.get(JobMapKeys.DESCRIPTION.getKeyName(), String.class))
+        .resultPath(inputParameters.get(JobMapKeys.RESULT_PATH.getKeyName(), String.class))
+        .destinationResourceId(
+            inputParameters.get(ControlledResourceKeys.DESTINATION_RESOURCE_ID, UUID.class));
+  }
+}
@@ -0,0 +1,406 @@
+package bio.terra.workspace.service.operation;
+
+import bio.terra.cloudres.google.api.services.common.OperationCow;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Stairway;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.app.configuration.external.OperationPollingConfiguration;
+import bio.terra.workspace.common.utils.GcpUtils;
+import bio.terra.workspace.service.job.JobMapKeys;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tracks outstanding long-running cloud operations and polls them in batches on a small, fixed set
+ * of threads, so the number of threads stays flat as the number of operations in progress grows.
+ *
+ * <p>Each tracked operation has a future that completes with the finished operation, or
+ * exceptionally with a {@link TimeoutException} if it does not finish in time. Flight steps use
+ * {@link #awaitOperation} and return STEP_RESULT_WAIT instead of sleeping; the flight is resumed
+ * when the operation completes and the step re-runs to collect the result. Azure operations, which
+ * the Azure SDK runs asynchronously for us, are awaited the same way with {@link
+ * #awaitAzureOperation}.
+ *
+ * <p>Tracking is in memory, but the deadline of each wait is kept in the flight's working map. The
+ * step also asks to be re-run at RECHECK_INTERVAL through {@link JobMapKeys#RESUME_TIME}, so if an
+ * instance restarts, the JobService sweep resumes its waiting flights and their steps register the
+ * operation again.
+ */
+@Component
+public class CloudOperationService {
+  private static final Logger logger = LoggerFactory.getLogger(CloudOperationService.class);
+  private static final String GCP_KEY_PREFIX = "gcp/";
+  private static final String AZURE_KEY_PREFIX = "azure/";
+  private static final String DEADLINE_KEY_PREFIX = "cloudOperationDeadline/";
+  private static final String SUCCEEDED_KEY_PREFIX = "cloudOperationSucceeded/";
+  private static final Duration RECHECK_INTERVAL = Duration.ofMinutes(1);
+  private static final int RESUME_RETRIES = 3;
+  private static final Duration RESUME_RETRY_INTERVAL = Duration.ofSeconds(2);
+  // Completed operations are kept until their step collects them, or until this expires.
+  private static final Duration COMPLETED_RETENTION = Duration.ofHours(1);
+
+  private final OperationPollingConfiguration configuration;
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService pollExecutor;
+  // Outstanding and recently completed operations, keyed by cloud and operation name
+  private final Map<String, TrackedOperation> operations = new ConcurrentHashMap<>();
+  // Outstanding and recently completed Azure operations, keyed by the caller's operation key
+  private final Map<String, AzureOperation> azureOperations = new ConcurrentHashMap<>();
+
+  @Autowired
+  public CloudOperationService(OperationPollingConfiguration configuration) {
+    this.configuration = configuration;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("cloud-operation-scheduler-%d")
+                .setDaemon(true)
+                .build());
+    this.pollExecutor =
+        Executors.newFixedThreadPool(
+            configuration.getThreads(),
+            new ThreadFactoryBuilder()
+                .setNameFormat("cloud-operation-poll-%d")
+                .setDaemon(true)
+                .build());
+  }
+
+  @PostConstruct
+  public void startPolling() {
+    long tickMillis = configuration.getTickInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(
+        this::pollOperationsSuppressExceptions, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stopPolling() {
+    scheduler.shutdownNow();
+    pollExecutor.shutdownNow();
+  }
+
+  /**
+   * Track a GCP operation until it completes or times out. Tracking the same operation again
+   * returns the existing future.
+   *
+   * @param operation operation to poll
+   * @param pollInterval time between polls of this operation
+   * @param timeout time after which the future completes with a {@link TimeoutException}
+   * @return future completed with the finished operation
+   */
+  public CompletableFuture<OperationCow<?>> trackOperation(
+      OperationCow<?> operation, Duration pollInterval, Duration timeout) {
+    return track(operation, pollInterval, Instant.now().plus(timeout)).future;
+  }
+
+  /**
+   * Check on a GCP operation on behalf of a flight step. If the operation is done, returns it. If
+   * not, tracks it and arranges for the flight to be resumed when it completes; the caller should
+   * return STEP_RESULT_WAIT and call this again with a freshly read operation when re-run.
+   *
+   * @param flightContext context of the flight running the step
+   * @param operation current state of the operation
+   * @param pollInterval time between polls of this operation
+   * @param timeout time after which waiting on the operation fails, counted from the first call
+   * @return the completed operation, or empty if the step should wait
+   * @throws RetryException if the operation failed or timed out, matching {@link
+   *     GcpUtils#pollUntilSuccess}
+   */
+  public Optional<OperationCow<?>> awaitOperation(
+      FlightContext flightContext,
+      OperationCow<?> operation,
+      Duration pollInterval,
+      Duration timeout)
+      throws RetryException {
+    String key = gcpKey(operation);
+    FlightMap workingMap = flightContext.getWorkingMap();
+    Instant deadline = getDeadline(workingMap, key, timeout);
+    TrackedOperation tracked = operations.get(key);
+    if (!isDone(operation)
+        && tracked != null
+        && tracked.future.isDone()
+        && !tracked.future.isCompletedExceptionally()) {
+      // Completed since the step read it
+      operation = tracked.operation;
+    }
+    if (isDone(operation)) {
+      operations.remove(key);
+      clearDeadline(workingMap, key);
+      GcpUtils.checkOperationSucceeded(operation);
+      return Optional.of(operation);
+    }
+    if (Instant.now().isAfter(deadline)
+        || (tracked != null && tracked.future.isCompletedExceptionally())) {
+      operations.remove(key);
+      clearDeadline(workingMap, key);
+      throw new RetryException(
+          String.format(
+              "Timed out polling operation. name [%s]",
+              operation.getOperationAdapter().getName()));
+    }
+    tracked = track(operation, pollInterval, deadline);
+    resumeOnCompletion(flightContext, tracked.flightIds, tracked.future);
+    scheduleRecheck(workingMap, deadline);
+    return Optional.empty();
+  }
+
+  /**
+   * Run an Azure operation on behalf of a flight step. On the first call, the operation is started
+   * and the flight is resumed when it completes; the caller should return STEP_RESULT_WAIT and call
+   * this again with the same key when re-run. Once the operation has succeeded, later calls with
+   * the same key return true without starting it again. If the flight is resumed on another
+   * instance before then, the operation is started again there, so it must be safe to repeat.
+   *
+   * @param flightContext context of the flight running the step
+   * @param operationKey key of the operation, such as a verb and the Azure resource ID
+   * @param operation supplies the operation; it is started when subscribed
+   * @param timeout time after which waiting on the operation fails, counted from the first call
+   * @return true if the operation has succeeded, or false if the step should wait
+   * @throws RetryException if the operation timed out
+   * @throws RuntimeException the failure of the operation, such as a ManagementException
+   */
+  public boolean awaitAzureOperation(
+      FlightContext flightContext,
+      String operationKey,
+      Supplier<Mono<?>> operation,
+      Duration timeout)
+      throws RetryException {
+    String key = AZURE_KEY_PREFIX + operationKey;
+    FlightMap workingMap = flightContext.getWorkingMap();
+    if (Boolean.TRUE.equals(workingMap.get(SUCCEEDED_KEY_PREFIX + key, Boolean.class))) {
+      return true;
+    }
+    Instant deadline = getDeadline(workingMap, key, timeout);
+    AzureOperation tracked = azureOperations.get(key);
+    if (tracked != null && tracked.future.isDone()) {
+      azureOperations.remove(key);
+      clearDeadline(workingMap, key);
+      try {
+        tracked.future.join();
+        workingMap.put(SUCCEEDED_KEY_PREFIX + key, true);
+        return true;
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+    if (Instant.now().isAfter(deadline)) {
+      azureOperations.remove(key);
+      clearDeadline(workingMap, key);
+      throw new RetryException(
+          String.format("Timed out waiting for Azure operation [%s]", operationKey));
+    }
+    tracked = azureOperations.computeIfAbsent(key, k -> new AzureOperation(operation.get()));
+    resumeOnCompletion(flightContext, tracked.flightIds, tracked.future);
+    scheduleRecheck(workingMap, deadline);
+    return false;
+  }
+
+  private TrackedOperation track(
+      OperationCow<?> operation, Duration pollInterval, Instant deadline) {
+    return operations.computeIfAbsent(
+        gcpKey(operation), key -> new TrackedOperation(operation, pollInterval, deadline));
+  }
+
+  /**
+   * Resume the flight when the operation completes. The resume always runs on the scheduler, never
+   * inline in the calling step, since the flight cannot be resumed before it has exited.
+   */
+  private void resumeOnCompletion(
+      FlightContext flightContext, Set<String> flightIds, CompletableFuture<?> future) {
+    if (flightIds.add(flightContext.getFlightId())) {
+      Stairway stairway = flightContext.getStairway();
+      String flightId = flightContext.getFlightId();
+      future.whenCompleteAsync(
+          (result, exception) -> resumeFlight(stairway, flightId, RESUME_RETRIES), scheduler);
+    }
+  }
+
+  /** Get the deadline of a wait from the working map, starting the wait if there is none. */
+  private static Instant getDeadline(FlightMap workingMap, String key, Duration timeout) {
+    String deadlineKey = DEADLINE_KEY_PREFIX + key;
+    Long deadlineMillis = workingMap.get(deadlineKey, Long.class);
+    if (deadlineMillis == null) {
+      deadlineMillis = Instant.now().plus(timeout).toEpochMilli();
+      workingMap.put(deadlineKey, deadlineMillis);
+    }
+    return Instant.ofEpochMilli(deadlineMillis);
+  }
+
+  /** End a wait, so that a retry of the step starts a new one. */
+  private static void clearDeadline(FlightMap workingMap, String key) {
+    workingMap.put(DEADLINE_KEY_PREFIX + key, null);
+  }
+
+  /** Re-run the step by the deadline in any case, in case this instance goes away. */
+  private static void scheduleRecheck(FlightMap workingMap, Instant deadline) {
+    Instant recheck = Instant.now().plus(RECHECK_INTERVAL);
+    workingMap.put(
+        JobMapKeys.RESUME_TIME.getKeyName(),
+        (recheck.isBefore(deadline) ? recheck : deadline).toEpochMilli());
+  }
+
+  /**
+   * Run {@code pollOperations}, suppressing all thrown exceptions so that the scheduled task keeps
+   * running if a single run fails.
+   */
+  private void pollOperationsSuppressExceptions() {
+    try {
+      pollOperations();
+    } catch (Exception e) {
+      logger.error("Unexpected error polling cloud operations", e);
+    }
+  }
+
+  /** Hand up to a batch of operations that are due for a poll to the poll executor. */
+  private void pollOperations() {
+    Instant now = Instant.now();
+    List<TrackedOperation> due = new ArrayList<>();
+    for (Map.Entry<String, TrackedOperation> entry : operations.entrySet()) {
+      TrackedOperation tracked = entry.getValue();
+      if (tracked.future.isDone()) {
+        if (now.isAfter(tracked.completedAt.plus(COMPLETED_RETENTION))) {
+          operations.remove(entry.getKey(), tracked);
+        }
+      } else if (!tracked.polling && !now.isBefore(tracked.nextPoll)) {
+        due.add(tracked);
+        if (due.size() >= configuration.getBatchSize()) {
+          break;
+        }
+      }
+    }
+    azureOperations
+        .values()
+        .removeIf(
+            tracked ->
+                tracked.completedAt != null
+                    && now.isAfter(tracked.completedAt.plus(COMPLETED_RETENTION)));
+    for (TrackedOperation tracked : due) {
+      tracked.polling = true;
+      pollExecutor.execute(() -> poll(tracked));
+    }
+  }
+
+  private void poll(TrackedOperation tracked) {
+    try {
+      try {
+        OperationCow<?> operation = tracked.operation.getOperation();
+        tracked.operation = operation;
+        if (isDone(operation)) {
+          tracked.complete(operation, null);
+          return;
+        }
+      } catch (IOException e) {
+        logger.warn(
+            "Failed to poll operation {}; will try again",
+            tracked.operation.getOperationAdapter().getName(),
+            e);
+      }
+      Instant now = Instant.now();
+      if (now.isAfter(tracked.deadline)) {
+        tracked.complete(
+            null,
+            new TimeoutException(
+                "Timed out polling operation "
+                    + tracked.operation.getOperationAdapter().getName()));
+      } else {
+        tracked.nextPoll = now.plus(tracked.pollInterval);
+      }
+    } finally {
+      tracked.polling = false;
+    }
+  }
+
+  /**
+   * Resume a flight waiting on an operation. The flight may not have finished moving into the
+   * waiting state yet, so retry a few times before leaving it to the JobService sweep.
+   */
+  private void resumeFlight(Stairway stairway, String flightId, int retriesLeft) {
+    try {
+      if (stairway.resume(flightId)) {
+        return;
+      }
+    } catch (InterruptedException | RuntimeException e) {
+      logger.warn("Failed to resume flight {}", flightId, e);
+    }
+    if (retriesLeft > 0) {
+      scheduler.schedule(
+          () -> resumeFlight(stairway, flightId, retriesLeft - 1),
+          RESUME_RETRY_INTERVAL.toMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private static boolean isDone(OperationCow<?> operation) {
+    return Boolean.TRUE.equals(operation.getOperationAdapter().getDone());
+  }
+
+  private static String gcpKey(OperationCow<?> operation) {
+    return GCP_KEY_PREFIX + operation.getOperationAdapter().getName();
+  }
+
+  private static class TrackedOperation {
+    private final CompletableFuture<OperationCow<?>> future = new CompletableFuture<>();
+    private final Duration pollInterval;
+    private final Instant deadline;
+    // Flights to resume when the operation completes
+    private final Set<String> flightIds = ConcurrentHashMap.newKeySet();
+    private volatile OperationCow<?> operation;
+    private volatile Instant nextPoll;
+    private volatile Instant completedAt;
+    private volatile boolean polling;
+
+    TrackedOperation(OperationCow<?> operation, Duration pollInterval, Instant deadline) {
+      this.operation = operation;
+      this.pollInterval = pollInterval;
+      this.deadline = deadline;
+      this.nextPoll = Instant.now().plus(pollInterval);
+    }
+
+    void complete(OperationCow<?> result, Exception exception) {
+      completedAt = Instant.now();
+      if (exception == null) {
+        future.complete(result);
+      } else {
+        future.completeExceptionally(exception);
+      }
+    }
+  }
+
+  private static class AzureOperation {
+    private final CompletableFuture<Void> future;
+    // Flights to resume when the operation completes
+    private final Set<String> flightIds = ConcurrentHashMap.newKeySet();
+    private volatile Instant completedAt;
+
+    AzureOperation(Mono<?> operation) {
+      this.future = operation.then().toFuture();
+      future.whenComplete((result, exception) -> completedAt = Instant.now());
+    }
+  }
+}
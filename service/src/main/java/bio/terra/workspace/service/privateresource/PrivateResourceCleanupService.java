@@ -3,6 +3,7 @@ package bio.terra.workspace.service.privateresource;
 import bio.terra.common.logging.LoggingUtils;
 import bio.terra.common.sam.exception.SamNotFoundException;
 import bio.terra.workspace.app.configuration.external.PrivateResourceCleanupConfiguration;
+import bio.terra.workspace.app.configuration.external.StartupConfiguration;
 import bio.terra.workspace.db.CronjobDao;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.db.WorkspaceDao;
@@ -27,6 +28,8 @@ import javax.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -42,6 +45,7 @@ public class PrivateResourceCleanupService {
   private final SamService samService;
   private final JobService jobService;
   private final ScheduledExecutorService scheduler;
+  private final boolean deferUntilReady;
 
   @Autowired
   public PrivateResourceCleanupService(
@@ -50,7 +54,8 @@ public class PrivateResourceCleanupService {
       ResourceDao resourceDao,
       CronjobDao cronjobDao,
       SamService samService,
-      JobService jobService) {
+      JobService jobService,
+      StartupConfiguration startupConfiguration) {
     this.configuration = configuration;
     this.workspaceDao = workspaceDao;
     this.resourceDao = resourceDao;
@@ -58,10 +63,25 @@ public class PrivateResourceCleanupService {
     this.samService = samService;
     this.jobService = jobService;
     this.scheduler = Executors.newScheduledThreadPool(1);
+    this.deferUntilReady = startupConfiguration.isFastStart();
   }
 
   @PostConstruct
   public void startStatusChecking() {
+    if (!deferUntilReady) {
+      scheduleCleanup();
+    }
+  }
+
+  /** In fast start mode, the cleanup job is not scheduled until the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startDeferredCleanup() {
+    if (deferUntilReady) {
+      scheduleCleanup();
+    }
+  }
+
+  private void scheduleCleanup() {
     if (configuration.isEnabled()) {
       // Per scheduleAtFixedRate documentation, if a single execution runs longer than the polling
       // interval, subsequent executions may start late but will not concurrently execute.
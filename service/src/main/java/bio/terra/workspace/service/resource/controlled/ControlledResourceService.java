@@ -5,7 +5,6 @@ import bio.terra.common.exception.ServiceUnavailableException;
 import bio.terra.stairway.FlightState;
 import bio.terra.workspace.app.configuration.external.FeatureConfiguration;
 import bio.terra.workspace.common.exception.InternalLogicException;
-import bio.terra.workspace.db.ApplicationDao;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.generated.model.ApiAzureRelayNamespaceCreationParameters;
 import bio.terra.workspace.generated.model.ApiAzureVmCreationParameters;
@@ -20,6 +19,7 @@ import bio.terra.workspace.service.iam.SamRethrow;
 import bio.terra.workspace.service.iam.SamService;
 import bio.terra.workspace.service.iam.model.ControlledResourceIamRole;
 import bio.terra.workspace.service.iam.model.SamConstants.SamControlledResourceActions;
+import bio.terra.workspace.service.job.FlightPriority;
 import bio.terra.workspace.service.job.JobBuilder;
 import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.job.JobService;
@@ -35,6 +35,7 @@ import bio.terra.workspace.service.resource.controlled.cloud.gcp.bqdataset.Updat
 import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
 import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.UpdateControlledGcsBucketResourceFlight;
 import bio.terra.workspace.service.resource.controlled.flight.clone.bucket.CloneControlledGcsBucketResourceFlight;
+import bio.terra.workspace.service.resource.controlled.flight.clone.bucket.SyncControlledGcsBucketResourceFlight;
 import bio.terra.workspace.service.resource.controlled.flight.clone.dataset.CloneControlledGcpBigQueryDatasetResourceFlight;
 import bio.terra.workspace.service.resource.controlled.flight.create.CreateControlledResourceFlight;
 import bio.terra.workspace.service.resource.controlled.flight.delete.DeleteControlledResourceFlight;
@@ -43,9 +44,11 @@ import bio.terra.workspace.service.resource.controlled.model.ManagedByType;
 import bio.terra.workspace.service.resource.model.CloningInstructions;
 import bio.terra.workspace.service.resource.model.StewardshipType;
 import bio.terra.workspace.service.resource.model.WsmResource;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.stage.StageService;
 import bio.terra.workspace.service.workspace.GcpCloudContextService;
 import bio.terra.workspace.service.workspace.WorkspaceService;
+import bio.terra.workspace.service.workspace.WsmApplicationRegistry;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ResourceKeys;
 import bio.terra.workspace.service.workspace.model.CloudPlatform;
@@ -58,6 +61,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -76,7 +80,7 @@ public class ControlledResourceService {
   private final JobService jobService;
   private final WorkspaceService workspaceService;
   private final ResourceDao resourceDao;
-  private final ApplicationDao applicationDao;
+  private final WsmApplicationRegistry applicationRegistry;
   private final StageService stageService;
   private final SamService samService;
   private final GcpCloudContextService gcpCloudContextService;
@@ -88,7 +92,7 @@ public class ControlledResourceService {
       JobService jobService,
       WorkspaceService workspaceService,
       ResourceDao resourceDao,
-      ApplicationDao applicationDao,
+      WsmApplicationRegistry applicationRegistry,
       StageService stageService,
       SamService samService,
       GcpCloudContextService gcpCloudContextService,
@@ -97,7 +101,7 @@ public class ControlledResourceService {
     this.jobService = jobService;
     this.workspaceService = workspaceService;
     this.resourceDao = resourceDao;
-    this.applicationDao = applicationDao;
+    this.applicationRegistry = applicationRegistry;
     this.stageService = stageService;
     this.samService = samService;
     this.gcpCloudContextService = gcpCloudContextService;
@@ -149,6 +153,18 @@ public class ControlledResourceService {
       AuthenticatedUserRequest userRequest,
       @Nullable String resourceName,
       @Nullable String resourceDescription) {
+    return JobService.awaitResult(
+        updateGcsBucketNonBlocking(
+            resource, updateParameters, userRequest, resourceName, resourceDescription));
+  }
+
+  /** Starts an update controlled GCS bucket resource, returning a future of the updated bucket. */
+  public CompletableFuture<ControlledGcsBucketResource> updateGcsBucketNonBlocking(
+      ControlledGcsBucketResource resource,
+      @Nullable ApiGcpGcsBucketUpdateParameters updateParameters,
+      AuthenticatedUserRequest userRequest,
+      @Nullable String resourceName,
+      @Nullable String resourceDescription) {
     controlledResourceMetadataManager.validateControlledResourceAndAction(
         userRequest,
         resource.getWorkspaceId(),
@@ -178,7 +194,7 @@ public class ControlledResourceService {
             .addParameter(ControlledResourceKeys.UPDATE_PARAMETERS, updateParameters)
             .addParameter(ResourceKeys.RESOURCE_NAME, resourceName)
             .addParameter(ResourceKeys.RESOURCE_DESCRIPTION, resourceDescription);
-    return jobBuilder.submitAndWait(ControlledGcsBucketResource.class);
+    return jobBuilder.submitAndGetFuture(ControlledGcsBucketResource.class);
   }
 
   /**
@@ -238,6 +254,7 @@ public class ControlledResourceService {
             .userRequest(userRequest)
             .workspaceId(sourceWorkspaceId.toString())
             .operationType(OperationType.CLONE)
+            .priority(FlightPriority.LONG_RUNNING)
             .addParameter(ControlledResourceKeys.DESTINATION_WORKSPACE_ID, destinationWorkspaceId)
             .addParameter(ControlledResourceKeys.DESTINATION_RESOURCE_ID, destinationResourceId)
             .addParameter(ResourceKeys.RESOURCE_NAME, destinationResourceName)
@@ -252,11 +269,74 @@ public class ControlledResourceService {
     return jobBuilder.submit();
   }
 
+  /**
+   * Start a job copying the objects that are new or changed in a source bucket since the last
+   * sync into an existing destination bucket. The first sync from a source copies every object.
+   * Objects deleted from the source are not deleted from the destination.
+   *
+   * @return ID of the sync job
+   */
+  public String syncGcsBucket(
+      UUID destinationWorkspaceId,
+      UUID destinationResourceId,
+      UUID sourceWorkspaceId,
+      UUID sourceResourceId,
+      ApiJobControl jobControl,
+      AuthenticatedUserRequest userRequest) {
+    stageService.assertMcWorkspace(destinationWorkspaceId, "syncGcsBucket");
+    if (destinationResourceId.equals(sourceResourceId)) {
+      throw new BadRequestException("Cannot sync a bucket from itself");
+    }
+    final ControlledGcsBucketResource sourceBucket =
+        getControlledResource(sourceWorkspaceId, sourceResourceId, userRequest)
+            .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
+    final ControlledGcsBucketResource destinationBucket =
+        controlledResourceMetadataManager
+            .validateControlledResourceAndAction(
+                userRequest,
+                destinationWorkspaceId,
+                destinationResourceId,
+                SamControlledResourceActions.WRITE_ACTION)
+            .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
+
+    final String jobDescription =
+        String.format(
+            "Sync controlled bucket %s from %s",
+            destinationBucket.getBucketName(), sourceBucket.getBucketName());
+    final JobBuilder jobBuilder =
+        jobService
+            .newJob()
+            .description(jobDescription)
+            .jobId(jobControl.getId())
+            .flightClass(SyncControlledGcsBucketResourceFlight.class)
+            .resource(sourceBucket)
+            .userRequest(userRequest)
+            .workspaceId(destinationWorkspaceId.toString())
+            .operationType(OperationType.UPDATE)
+            .priority(FlightPriority.LONG_RUNNING)
+            .addParameter(ControlledResourceKeys.DESTINATION_WORKSPACE_ID, destinationWorkspaceId)
+            .addParameter(ControlledResourceKeys.DESTINATION_RESOURCE_ID, destinationResourceId)
+            .addParameter(
+                ControlledResourceKeys.DESTINATION_BUCKET_NAME, destinationBucket.getBucketName());
+    return jobBuilder.submit();
+  }
+
   public <T> ControlledResource createControlledResourceSync(
       ControlledResource resource,
       ControlledResourceIamRole privateResourceIamRole,
       AuthenticatedUserRequest userRequest,
       T creationParameters) {
+    return JobService.awaitResult(
+        createControlledResourceNonBlocking(
+            resource, privateResourceIamRole, userRequest, creationParameters));
+  }
+
+  /** Starts creating a controlled resource, returning a future of the created resource. */
+  public <T> CompletableFuture<ControlledResource> createControlledResourceNonBlocking(
+      ControlledResource resource,
+      ControlledResourceIamRole privateResourceIamRole,
+      AuthenticatedUserRequest userRequest,
+      T creationParameters) {
 
     if (resource.getResourceType().getCloudPlatform() == CloudPlatform.AZURE) {
       features.azureEnabledCheck();
@@ -265,7 +345,7 @@ public class ControlledResourceService {
     JobBuilder jobBuilder =
         commonCreationJobBuilder(resource, privateResourceIamRole, userRequest)
             .addParameter(ControlledResourceKeys.CREATION_PARAMETERS, creationParameters);
-    return jobBuilder.submitAndWait(ControlledResource.class);
+    return jobBuilder.submitAndGetFuture(ControlledResource.class);
   }
 
   /** Starts an update controlled BigQuery dataset resource, blocking until its job is finished. */
@@ -275,6 +355,21 @@ public class ControlledResourceService {
       AuthenticatedUserRequest userRequest,
       @Nullable String resourceName,
       @Nullable String resourceDescription) {
+    return JobService.awaitResult(
+        updateBqDatasetNonBlocking(
+            resource, updateParameters, userRequest, resourceName, resourceDescription));
+  }
+
+  /**
+   * Starts an update controlled BigQuery dataset resource, returning a future of the updated
+   * dataset.
+   */
+  public CompletableFuture<ControlledBigQueryDatasetResource> updateBqDatasetNonBlocking(
+      ControlledBigQueryDatasetResource resource,
+      @Nullable ApiGcpBigQueryDatasetUpdateParameters updateParameters,
+      AuthenticatedUserRequest userRequest,
+      @Nullable String resourceName,
+      @Nullable String resourceDescription) {
     controlledResourceMetadataManager.validateControlledResourceAndAction(
         userRequest,
         resource.getWorkspaceId(),
@@ -304,7 +399,7 @@ public class ControlledResourceService {
             .addParameter(ControlledResourceKeys.UPDATE_PARAMETERS, updateParameters)
             .addParameter(ResourceKeys.RESOURCE_NAME, resourceName)
             .addParameter(ResourceKeys.RESOURCE_DESCRIPTION, resourceDescription);
-    return jobBuilder.submitAndWait(ControlledBigQueryDatasetResource.class);
+    return jobBuilder.submitAndGetFuture(ControlledBigQueryDatasetResource.class);
   }
 
   /**
@@ -358,6 +453,7 @@ public class ControlledResourceService {
             .resource(sourceDatasetResource)
             .userRequest(userRequest)
             .operationType(OperationType.CLONE)
+            .priority(FlightPriority.LONG_RUNNING)
             // TODO: fix resource name key for this case
             .resourceType(sourceDatasetResource.getResourceType())
             .stewardshipType(sourceDatasetResource.getStewardshipType())
@@ -400,7 +496,7 @@ public class ControlledResourceService {
             () ->
                 samService.getOrCreatePetSaEmail(
                     gcpCloudContextService.getRequiredGcpProject(resource.getWorkspaceId()),
-                    userRequest.getRequiredToken()),
+                    userRequest),
             "enablePet");
     jobBuilder.addParameter(ControlledResourceKeys.CREATE_NOTEBOOK_PARAMETERS, creationParameters);
     jobBuilder.addParameter(ControlledResourceKeys.NOTEBOOK_PET_SERVICE_ACCOUNT, petSaEmail);
@@ -415,6 +511,19 @@ public class ControlledResourceService {
       @Nullable String newName,
       @Nullable String newDescription,
       AuthenticatedUserRequest userRequest) {
+    return JobService.awaitResult(
+        updateAiNotebookInstanceNonBlocking(
+            resource, updateParameters, newName, newDescription, userRequest));
+  }
+
+  /** Starts an update controlled AI notebook resource, returning a future of the notebook. */
+  public CompletableFuture<ControlledAiNotebookInstanceResource>
+      updateAiNotebookInstanceNonBlocking(
+          ControlledAiNotebookInstanceResource resource,
+          @Nullable ApiGcpAiNotebookUpdateParameters updateParameters,
+          @Nullable String newName,
+          @Nullable String newDescription,
+          AuthenticatedUserRequest userRequest) {
     controlledResourceMetadataManager.validateControlledResourceAndAction(
         userRequest,
         resource.getWorkspaceId(),
@@ -438,7 +547,7 @@ public class ControlledResourceService {
             .addParameter(ControlledResourceKeys.UPDATE_PARAMETERS, updateParameters)
             .addParameter(ResourceKeys.RESOURCE_NAME, newName)
             .addParameter(ResourceKeys.RESOURCE_DESCRIPTION, newDescription);
-    return jobBuilder.submitAndWait(ControlledAiNotebookInstanceResource.class);
+    return jobBuilder.submitAndGetFuture(ControlledAiNotebookInstanceResource.class);
   }
 
   /** Simpler interface for synchronous controlled resource creation */
@@ -511,7 +620,7 @@ public class ControlledResourceService {
         SamRethrow.onInterrupted(
             () -> samService.getUserEmailFromSam(userRequest), "get application email");
 
-    WsmApplication application = applicationDao.getApplicationByEmail(applicationEmail);
+    WsmApplication application = applicationRegistry.getApplicationByEmail(applicationEmail);
     return application.getApplicationId();
   }
 
@@ -523,12 +632,34 @@ public class ControlledResourceService {
     return resourceDao.getResource(workspaceUuid, resourceId).castToControlledResource();
   }
 
+  /**
+   * Version of a controlled resource, for use as its entity tag. No authorization is checked, so
+   * read it before {@link #getControlledResource} and respond only once that has succeeded.
+   */
+  public long getResourceVersion(UUID workspaceUuid, UUID resourceId) {
+    return resourceDao.getResourceVersion(workspaceUuid, resourceId);
+  }
+
   /** Synchronously delete a controlled resource. */
   public void deleteControlledResourceSync(
       UUID workspaceUuid,
       UUID resourceId,
       AuthenticatedUserRequest userRequest,
       Boolean withValidations) {
+    JobService.awaitResult(
+        deleteControlledResourceNonBlocking(
+            workspaceUuid, resourceId, userRequest, withValidations));
+  }
+
+  /**
+   * Delete a controlled resource, returning a future completed when the resource is deleted.
+   * Unlike {@link #deleteControlledResourceAsync}, the caller is not given a job to poll.
+   */
+  public CompletableFuture<Void> deleteControlledResourceNonBlocking(
+      UUID workspaceUuid,
+      UUID resourceId,
+      AuthenticatedUserRequest userRequest,
+      Boolean withValidations) {
     JobBuilder deleteJob =
         commonDeletionJobBuilder(
             UUID.randomUUID().toString(),
@@ -538,7 +669,7 @@ public class ControlledResourceService {
             userRequest,
             withValidations);
     // Delete flight does not produce a result, so the resultClass parameter here is never used.
-    deleteJob.submitAndWait(Void.class);
+    return deleteJob.submitAndGetFuture(Void.class);
   }
 
   /**
@@ -4,6 +4,7 @@ import bio.terra.common.exception.ForbiddenException;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
 import bio.terra.workspace.app.configuration.external.FeatureConfiguration;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.http.HttpClientRegistry;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
 import bio.terra.workspace.service.iam.SamRethrow;
 import bio.terra.workspace.service.iam.SamService;
@@ -14,7 +15,6 @@ import bio.terra.workspace.service.resource.controlled.cloud.azure.storageContai
 import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.workspace.AzureCloudContextService;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
-import com.azure.core.http.HttpClient;
 import com.azure.resourcemanager.storage.StorageManager;
 import com.azure.resourcemanager.storage.models.StorageAccount;
 import com.azure.resourcemanager.storage.models.StorageAccountKey;
@@ -40,6 +40,7 @@ public class AzureControlledStorageResourceService {
   private final ControlledResourceService controlledResourceService;
   private final AzureConfiguration azureConfiguration;
   private final FeatureConfiguration features;
+  private final HttpClientRegistry httpClientRegistry;
 
   @Autowired
   public AzureControlledStorageResourceService(
@@ -48,13 +49,15 @@ public class AzureControlledStorageResourceService {
       CrlService crlService,
       ControlledResourceService controlledResourceService,
       AzureConfiguration azureConfiguration,
-      FeatureConfiguration features) {
+      FeatureConfiguration features,
+      HttpClientRegistry httpClientRegistry) {
     this.samService = samService;
     this.azureCloudContextService = azureCloudContextService;
     this.crlService = crlService;
     this.controlledResourceService = controlledResourceService;
     this.azureConfiguration = azureConfiguration;
     this.features = features;
+    this.httpClientRegistry = httpClientRegistry;
   }
 
   private BlobContainerSasPermission getSasTokenPermissions(
@@ -131,7 +134,8 @@ public class AzureControlledStorageResourceService {
         new BlobContainerClientBuilder()
             .credential(storageKey)
             .endpoint(endpoint)
-            .httpClient(HttpClient.createDefault())
+            .httpClient(httpClientRegistry.getAzureHttpClient())
+            .addPolicy(httpClientRegistry.getAzureMetricsPolicy())
             .containerName(storageContainerResource.getStorageContainerName())
             .buildClient();
     BlobServiceSasSignatureValues sasValues =
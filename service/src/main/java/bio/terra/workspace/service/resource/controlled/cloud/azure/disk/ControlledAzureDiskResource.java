@@ -125,7 +125,10 @@ public class ControlledAzureDiskResource extends ControlledResource {
   public void addDeleteSteps(DeleteControlledResourceFlight flight, FlightBeanBag flightBeanBag) {
     flight.addStep(
         new DeleteAzureDiskStep(
-            flightBeanBag.getAzureConfig(), flightBeanBag.getCrlService(), this),
+            flightBeanBag.getAzureConfig(),
+            flightBeanBag.getCrlService(),
+            this,
+            flightBeanBag.getCloudOperationService()),
         RetryRules.cloud());
   }
 
@@ -6,9 +6,11 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
 import com.azure.resourcemanager.compute.ComputeManager;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,15 +20,21 @@ import org.slf4j.LoggerFactory;
  */
 public class DeleteAzureDiskStep implements Step {
   private static final Logger logger = LoggerFactory.getLogger(DeleteAzureDiskStep.class);
+  private static final Duration DELETE_TIMEOUT = Duration.ofMinutes(30);
   private final AzureConfiguration azureConfig;
   private final CrlService crlService;
   private final ControlledAzureDiskResource resource;
+  private final CloudOperationService cloudOperationService;
 
   public DeleteAzureDiskStep(
-      AzureConfiguration azureConfig, CrlService crlService, ControlledAzureDiskResource resource) {
+      AzureConfiguration azureConfig,
+      CrlService crlService,
+      ControlledAzureDiskResource resource,
+      CloudOperationService cloudOperationService) {
     this.crlService = crlService;
     this.azureConfig = azureConfig;
     this.resource = resource;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -46,7 +54,13 @@ public class DeleteAzureDiskStep implements Step {
     try {
       logger.info("Attempting to delete disk " + azureResourceId);
 
-      computeManager.disks().deleteById(azureResourceId);
+      if (!cloudOperationService.awaitAzureOperation(
+          context,
+          "delete " + azureResourceId,
+          () -> computeManager.disks().deleteByIdAsync(azureResourceId),
+          DELETE_TIMEOUT)) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
       return StepResult.getStepResultSuccess();
     } catch (Exception ex) {
       logger.info("Attempt to delete Azure disk failed on this try: " + azureResourceId, ex);
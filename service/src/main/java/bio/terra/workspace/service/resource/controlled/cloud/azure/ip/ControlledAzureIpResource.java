@@ -117,7 +117,11 @@ public class ControlledAzureIpResource extends ControlledResource {
   @Override
   public void addDeleteSteps(DeleteControlledResourceFlight flight, FlightBeanBag flightBeanBag) {
     flight.addStep(
-        new DeleteAzureIpStep(flightBeanBag.getAzureConfig(), flightBeanBag.getCrlService(), this),
+        new DeleteAzureIpStep(
+            flightBeanBag.getAzureConfig(),
+            flightBeanBag.getCrlService(),
+            this,
+            flightBeanBag.getCloudOperationService()),
         RetryRules.cloud());
   }
 
@@ -138,7 +138,10 @@ public class ControlledAzureNetworkResource extends ControlledResource {
   public void addDeleteSteps(DeleteControlledResourceFlight flight, FlightBeanBag flightBeanBag) {
     flight.addStep(
         new DeleteAzureNetworkStep(
-            flightBeanBag.getAzureConfig(), flightBeanBag.getCrlService(), this),
+            flightBeanBag.getAzureConfig(),
+            flightBeanBag.getCrlService(),
+            this,
+            flightBeanBag.getCloudOperationService()),
         RetryRules.cloud());
   }
 
@@ -6,9 +6,11 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
 import com.azure.resourcemanager.compute.ComputeManager;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,17 +20,21 @@ import org.slf4j.LoggerFactory;
  */
 public class DeleteAzureNetworkStep implements Step {
   private static final Logger logger = LoggerFactory.getLogger(CreateAzureNetworkStep.class);
+  private static final Duration DELETE_TIMEOUT = Duration.ofMinutes(30);
   private final AzureConfiguration azureConfig;
   private final CrlService crlService;
   private final ControlledAzureNetworkResource resource;
+  private final CloudOperationService cloudOperationService;
 
   public DeleteAzureNetworkStep(
       AzureConfiguration azureConfig,
       CrlService crlService,
-      ControlledAzureNetworkResource resource) {
+      ControlledAzureNetworkResource resource,
+      CloudOperationService cloudOperationService) {
     this.crlService = crlService;
     this.azureConfig = azureConfig;
     this.resource = resource;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -56,8 +62,26 @@ public class DeleteAzureNetworkStep implements Step {
       logger.info("Attempting to delete network " + azureNetworkResourceId);
 
       // Delete network first to remove association between subnet and network
-      computeManager.networkManager().networks().deleteById(azureNetworkResourceId);
-      computeManager.networkManager().networkSecurityGroups().deleteById(azureSubnetResourceId);
+      if (!cloudOperationService.awaitAzureOperation(
+              context,
+              "delete " + azureNetworkResourceId,
+              () ->
+                  computeManager
+                      .networkManager()
+                      .networks()
+                      .deleteByIdAsync(azureNetworkResourceId),
+              DELETE_TIMEOUT)
+          || !cloudOperationService.awaitAzureOperation(
+              context,
+              "delete " + azureSubnetResourceId,
+              () ->
+                  computeManager
+                      .networkManager()
+                      .networkSecurityGroups()
+                      .deleteByIdAsync(azureSubnetResourceId),
+              DELETE_TIMEOUT)) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
       return StepResult.getStepResultSuccess();
     } catch (Exception ex) {
       logger.info(
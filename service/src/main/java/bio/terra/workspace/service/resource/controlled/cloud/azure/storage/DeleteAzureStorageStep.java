@@ -6,26 +6,32 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
 import com.azure.resourcemanager.storage.StorageManager;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** A step for deleting a controlled Azure Storage Account resource. */
 public class DeleteAzureStorageStep implements Step {
   private static final Logger logger = LoggerFactory.getLogger(DeleteAzureStorageStep.class);
+  private static final Duration DELETE_TIMEOUT = Duration.ofMinutes(30);
   private final AzureConfiguration azureConfig;
   private final CrlService crlService;
   private final ControlledAzureStorageResource resource;
+  private final CloudOperationService cloudOperationService;
 
   public DeleteAzureStorageStep(
       AzureConfiguration azureConfig,
       CrlService crlService,
-      ControlledAzureStorageResource resource) {
+      ControlledAzureStorageResource resource,
+      CloudOperationService cloudOperationService) {
     this.crlService = crlService;
     this.azureConfig = azureConfig;
     this.resource = resource;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -38,10 +44,21 @@ public class DeleteAzureStorageStep implements Step {
     final StorageManager manager = crlService.getStorageManager(azureCloudContext, azureConfig);
     try {
       logger.info("Attempting to delete storage account: {}", resource.getStorageAccountName());
-      manager
-          .storageAccounts()
-          .deleteByResourceGroup(
-              azureCloudContext.getAzureResourceGroupId(), resource.getStorageAccountName());
+      if (!cloudOperationService.awaitAzureOperation(
+          context,
+          "delete "
+              + azureCloudContext.getAzureResourceGroupId()
+              + "/"
+              + resource.getStorageAccountName(),
+          () ->
+              manager
+                  .storageAccounts()
+                  .deleteByResourceGroupAsync(
+                      azureCloudContext.getAzureResourceGroupId(),
+                      resource.getStorageAccountName()),
+          DELETE_TIMEOUT)) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
       return StepResult.getStepResultSuccess();
     } catch (Exception ex) {
       logger.info(
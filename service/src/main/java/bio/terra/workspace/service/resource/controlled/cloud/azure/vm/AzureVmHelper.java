@@ -13,6 +13,8 @@ import org.slf4j.LoggerFactory;
 
 public final class AzureVmHelper {
   public static final String WORKING_MAP_NETWORK_INTERFACE_KEY = "NetworkInterfaceName";
+  public static final String WORKING_MAP_VM_POLL_START_KEY = "VmCreationPollStart";
+  public static final String WORKING_MAP_VM_POLL_ATTEMPTS_KEY = "VmCreationPollAttempts";
   private static int NIC_RESERVED_FOR_ANOTHER_VM_ERROR_RETRY_SECONDS = 180;
   private static final Logger logger = LoggerFactory.getLogger(AzureVmHelper.class);
 
@@ -152,7 +152,11 @@ public class ControlledAzureVmResource extends ControlledResource {
   @Override
   public void addDeleteSteps(DeleteControlledResourceFlight flight, FlightBeanBag flightBeanBag) {
     flight.addStep(
-        new DeleteAzureVmStep(flightBeanBag.getAzureConfig(), flightBeanBag.getCrlService(), this),
+        new DeleteAzureVmStep(
+            flightBeanBag.getAzureConfig(),
+            flightBeanBag.getCrlService(),
+            this,
+            flightBeanBag.getCloudOperationService()),
         RetryRules.cloud());
     flight.addStep(
         new DeleteAzureNetworkInterfaceStep(
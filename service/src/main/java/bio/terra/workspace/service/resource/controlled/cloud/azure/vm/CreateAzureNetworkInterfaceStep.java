@@ -10,18 +10,26 @@ import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.service.crl.CrlService;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.ip.ControlledAzureIpResource;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.network.ControlledAzureNetworkResource;
+import bio.terra.workspace.service.resource.model.WsmResource;
 import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
 import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.compute.ComputeManager;
+import com.azure.resourcemanager.network.NetworkManager;
 import com.azure.resourcemanager.network.models.Network;
 import com.azure.resourcemanager.network.models.NetworkInterface;
 import com.azure.resourcemanager.network.models.PublicIpAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 public class CreateAzureNetworkInterfaceStep implements Step {
   private static final Logger logger =
@@ -54,34 +62,42 @@ public class CreateAzureNetworkInterfaceStep implements Step {
                 AzureCloudContext.class);
     ComputeManager computeManager = crlService.getComputeManager(azureCloudContext, azureConfig);
 
+    final List<UUID> dependencyIds = new ArrayList<>();
+    dependencyIds.add(resource.getNetworkId());
+    Optional.ofNullable(resource.getIpId()).ifPresent(dependencyIds::add);
+    final Map<UUID, WsmResource> dependencies =
+        resourceDao.getResources(resource.getWorkspaceId(), dependencyIds);
     final Optional<ControlledAzureIpResource> ipResource =
         Optional.ofNullable(resource.getIpId())
-            .map(
-                ipId ->
-                    resourceDao
-                        .getResource(resource.getWorkspaceId(), ipId)
-                        .castByEnum(WsmResourceType.CONTROLLED_AZURE_IP));
+            .map(ipId -> dependencies.get(ipId).castByEnum(WsmResourceType.CONTROLLED_AZURE_IP));
     final ControlledAzureNetworkResource networkResource =
-        resourceDao
-            .getResource(resource.getWorkspaceId(), resource.getNetworkId())
+        dependencies
+            .get(resource.getNetworkId())
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_NETWORK);
 
     String networkInterfaceName = String.format("nic-%s", resource.getVmName());
     try {
-      Optional<PublicIpAddress> existingAzureIp =
-          ipResource.map(
-              ipRes ->
-                  computeManager
-                      .networkManager()
-                      .publicIpAddresses()
-                      .getByResourceGroup(
-                          azureCloudContext.getAzureResourceGroupId(), ipRes.getIpName()));
-      Network existingNetwork =
-          computeManager
-              .networkManager()
-              .networks()
-              .getByResourceGroup(
-                  azureCloudContext.getAzureResourceGroupId(), networkResource.getNetworkName());
+      // The lookups are independent, so issue them together and wait once
+      NetworkManager networkManager = computeManager.networkManager();
+      String resourceGroupId = azureCloudContext.getAzureResourceGroupId();
+      Mono<Optional<PublicIpAddress>> ipLookup =
+          ipResource
+              .map(
+                  ipRes ->
+                      networkManager
+                          .publicIpAddresses()
+                          .getByResourceGroupAsync(resourceGroupId, ipRes.getIpName())
+                          .map(Optional::of))
+              .orElseGet(() -> Mono.just(Optional.empty()));
+      Tuple2<Optional<PublicIpAddress>, Network> existing =
+          Mono.zip(
+                  ipLookup,
+                  networkManager
+                      .networks()
+                      .getByResourceGroupAsync(resourceGroupId, networkResource.getNetworkName()))
+              .block();
+      Optional<PublicIpAddress> existingAzureIp = existing.getT1();
+      Network existingNetwork = existing.getT2();
 
       NetworkInterface networkInterface =
           createNetworkInterface(
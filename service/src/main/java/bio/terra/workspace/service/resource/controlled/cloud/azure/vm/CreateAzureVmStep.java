@@ -11,10 +11,13 @@ import bio.terra.workspace.common.utils.ManagementExceptionUtils;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.generated.model.ApiAzureVmCreationParameters;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.disk.ControlledAzureDiskResource;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.ip.ControlledAzureIpResource;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.network.ControlledAzureNetworkResource;
 import bio.terra.workspace.service.resource.controlled.exception.AzureNetworkInterfaceNameNotFoundException;
+import bio.terra.workspace.service.resource.controlled.exception.AzureVmCreationException;
+import bio.terra.workspace.service.resource.model.WsmResource;
 import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
@@ -25,15 +28,42 @@ import com.azure.resourcemanager.compute.models.Disk;
 import com.azure.resourcemanager.compute.models.ImageReference;
 import com.azure.resourcemanager.compute.models.VirtualMachine;
 import com.azure.resourcemanager.compute.models.VirtualMachineSizeTypes;
+import com.azure.resourcemanager.network.NetworkManager;
 import com.azure.resourcemanager.network.models.Network;
 import com.azure.resourcemanager.network.models.NetworkInterface;
 import com.azure.resourcemanager.network.models.PublicIpAddress;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple4;
 
+/**
+ * Creates the Azure VM.
+ *
+ * <p>The VM's disk, network and optional public IP are read from the database with one query, and
+ * they and the network interface are then looked up in ARM concurrently. Creation is started with
+ * beginCreate rather than blocking on the long-running ARM operation. The step records in the
+ * working map that creation has started and checks the VM's provisioning state on an exponential
+ * schedule, returning STEP_RESULT_WAIT between checks to release the Stairway thread. The
+ * JobService resumes the flight at the time stored in {@link JobMapKeys#RESUME_TIME}. Because the
+ * progress is in the working map, a resumed or recovered flight goes on checking instead of
+ * starting the creation again.
+ */
 public class CreateAzureVmStep implements Step {
   private static final Logger logger = LoggerFactory.getLogger(CreateAzureVmStep.class);
+  private static final Duration INITIAL_POLL_INTERVAL = Duration.ofSeconds(5);
+  private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(30);
+  private static final Duration MAX_CREATION_DURATION = Duration.ofMinutes(30);
+  private static final String PROVISIONING_SUCCEEDED = "Succeeded";
+  private static final String PROVISIONING_FAILED = "Failed";
   private final AzureConfiguration azureConfig;
   private final CrlService crlService;
   private final ControlledAzureVmResource resource;
@@ -52,103 +82,119 @@ public class CreateAzureVmStep implements Step {
 
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
+    final FlightMap workingMap = context.getWorkingMap();
+    final AzureCloudContext azureCloudContext =
+        workingMap.get(ControlledResourceKeys.AZURE_CLOUD_CONTEXT, AzureCloudContext.class);
+    ComputeManager computeManager = crlService.getComputeManager(azureCloudContext, azureConfig);
+
+    Long pollStart = workingMap.get(AzureVmHelper.WORKING_MAP_VM_POLL_START_KEY, Long.class);
+    if (pollStart == null) {
+      StepResult startResult = startCreation(context, computeManager, azureCloudContext);
+      if (startResult.getStepStatus() != StepStatus.STEP_RESULT_SUCCESS) {
+        return startResult;
+      }
+      pollStart = Instant.now().toEpochMilli();
+      workingMap.put(AzureVmHelper.WORKING_MAP_VM_POLL_START_KEY, pollStart);
+    }
+    return checkCreation(
+        workingMap, computeManager, azureCloudContext.getAzureResourceGroupId(), pollStart);
+  }
+
+  /** Resolve the VM's dependencies and start creating it, without waiting for it to finish. */
+  private StepResult startCreation(
+      FlightContext context, ComputeManager computeManager, AzureCloudContext azureCloudContext) {
     FlightMap inputMap = context.getInputParameters();
     FlightUtils.validateRequiredEntries(inputMap, ControlledResourceKeys.CREATION_PARAMETERS);
     var creationParameters =
         inputMap.get(
             ControlledResourceKeys.CREATION_PARAMETERS, ApiAzureVmCreationParameters.class);
 
-    final AzureCloudContext azureCloudContext =
-        context
-            .getWorkingMap()
-            .get(ControlledResourceKeys.AZURE_CLOUD_CONTEXT, AzureCloudContext.class);
-    ComputeManager computeManager = crlService.getComputeManager(azureCloudContext, azureConfig);
+    if (!context.getWorkingMap().containsKey(AzureVmHelper.WORKING_MAP_NETWORK_INTERFACE_KEY)) {
+      logger.error(
+          "Azure VM creation flight couldn't be completed. "
+              + "Network interface name not found. FlightId: {}",
+          context.getFlightId());
+      return new StepResult(
+          StepStatus.STEP_RESULT_FAILURE_FATAL,
+          new AzureNetworkInterfaceNameNotFoundException(
+              String.format(
+                  "Azure network interface name not found. " + "FlightId: %s",
+                  context.getFlightId())));
+    }
+    final String networkInterfaceName =
+        context.getWorkingMap().get(AzureVmHelper.WORKING_MAP_NETWORK_INTERFACE_KEY, String.class);
+
+    final List<UUID> dependencyIds = new ArrayList<>();
+    dependencyIds.add(resource.getDiskId());
+    dependencyIds.add(resource.getNetworkId());
+    Optional.ofNullable(resource.getIpId()).ifPresent(dependencyIds::add);
+    final Map<UUID, WsmResource> dependencies =
+        resourceDao.getResources(resource.getWorkspaceId(), dependencyIds);
 
     final Optional<ControlledAzureIpResource> ipResource =
         Optional.ofNullable(resource.getIpId())
-            .map(
-                ipId ->
-                    resourceDao
-                        .getResource(resource.getWorkspaceId(), ipId)
-                        .castByEnum(WsmResourceType.CONTROLLED_AZURE_IP));
-
+            .map(ipId -> dependencies.get(ipId).castByEnum(WsmResourceType.CONTROLLED_AZURE_IP));
     final ControlledAzureDiskResource diskResource =
-        resourceDao
-            .getResource(resource.getWorkspaceId(), resource.getDiskId())
-            .castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK);
-
+        dependencies.get(resource.getDiskId()).castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK);
     final ControlledAzureNetworkResource networkResource =
-        resourceDao
-            .getResource(resource.getWorkspaceId(), resource.getNetworkId())
+        dependencies
+            .get(resource.getNetworkId())
             .castByEnum(WsmResourceType.CONTROLLED_AZURE_NETWORK);
 
+    final String resourceGroupId = azureCloudContext.getAzureResourceGroupId();
     try {
-      Disk existingAzureDisk =
-          computeManager
-              .disks()
-              .getByResourceGroup(
-                  azureCloudContext.getAzureResourceGroupId(), diskResource.getDiskName());
-
-      Optional<PublicIpAddress> existingAzureIp =
-          ipResource.map(
-              ipRes ->
+      // The lookups are independent, so issue them together and wait once
+      NetworkManager networkManager = computeManager.networkManager();
+      Mono<Optional<PublicIpAddress>> ipLookup =
+          ipResource
+              .map(
+                  ipRes ->
+                      networkManager
+                          .publicIpAddresses()
+                          .getByResourceGroupAsync(resourceGroupId, ipRes.getIpName())
+                          .map(Optional::of))
+              .orElseGet(() -> Mono.just(Optional.empty()));
+      Tuple4<Disk, Optional<PublicIpAddress>, Network, NetworkInterface> existing =
+          Mono.zip(
                   computeManager
-                      .networkManager()
-                      .publicIpAddresses()
-                      .getByResourceGroup(
-                          azureCloudContext.getAzureResourceGroupId(), ipRes.getIpName()));
-
-      Network existingNetwork =
-          computeManager
-              .networkManager()
-              .networks()
-              .getByResourceGroup(
-                  azureCloudContext.getAzureResourceGroupId(), networkResource.getNetworkName());
-
-      if (!context.getWorkingMap().containsKey(AzureVmHelper.WORKING_MAP_NETWORK_INTERFACE_KEY)) {
-        logger.error(
-            "Azure VM creation flight couldn't be completed. "
-                + "Network interface name not found. FlightId: {}",
-            context.getFlightId());
-        return new StepResult(
-            StepStatus.STEP_RESULT_FAILURE_FATAL,
-            new AzureNetworkInterfaceNameNotFoundException(
-                String.format(
-                    "Azure network interface name not found. " + "FlightId: %s",
-                    context.getFlightId())));
-      }
-      var networkInterface =
-          computeManager
-              .networkManager()
-              .networkInterfaces()
-              .getByResourceGroup(
-                  azureCloudContext.getAzureResourceGroupId(),
-                  context
-                      .getWorkingMap()
-                      .get(AzureVmHelper.WORKING_MAP_NETWORK_INTERFACE_KEY, String.class));
+                      .disks()
+                      .getByResourceGroupAsync(resourceGroupId, diskResource.getDiskName()),
+                  ipLookup,
+                  networkManager
+                      .networks()
+                      .getByResourceGroupAsync(resourceGroupId, networkResource.getNetworkName()),
+                  networkManager
+                      .networkInterfaces()
+                      .getByResourceGroupAsync(resourceGroupId, networkInterfaceName))
+              .block();
+      Disk existingAzureDisk = existing.getT1();
 
       var virtualMachineDefinition =
           buildVmConfiguration(
               computeManager,
-              networkInterface,
+              existing.getT4(),
               existingAzureDisk,
-              azureCloudContext.getAzureResourceGroupId(),
+              resourceGroupId,
               creationParameters);
 
-      virtualMachineDefinition.create(
+      virtualMachineDefinition.beginCreate(
           Defaults.buildContext(
               CreateVirtualMachineRequestData.builder()
                   .setName(resource.getVmName())
                   .setRegion(Region.fromName(resource.getRegion()))
                   .setTenantId(azureCloudContext.getAzureTenantId())
                   .setSubscriptionId(azureCloudContext.getAzureSubscriptionId())
-                  .setResourceGroupName(azureCloudContext.getAzureResourceGroupId())
-                  .setNetwork(existingNetwork)
+                  .setResourceGroupName(resourceGroupId)
+                  .setNetwork(existing.getT3())
                   .setSubnetName(networkResource.getSubnetName())
                   .setDisk(existingAzureDisk)
-                  .setPublicIpAddress(existingAzureIp.orElse(null))
+                  .setPublicIpAddress(existing.getT2().orElse(null))
                   .setImage(AzureVmUtils.getImageData(creationParameters.getVmImage()))
                   .build()));
+      logger.info(
+          "Started creating Azure VM {} in managed resource group {}",
+          resource.getVmName(),
+          resourceGroupId);
     } catch (ManagementException e) {
       // Stairway steps may run multiple times, so we may already have created this resource. In all
       // other cases, surface the exception and attempt to retry.
@@ -156,7 +202,7 @@ public class CreateAzureVmStep implements Step {
         logger.info(
             "Azure Vm {} in managed resource group {} already exists",
             resource.getVmName(),
-            azureCloudContext.getAzureResourceGroupId());
+            resourceGroupId);
         return StepResult.getStepResultSuccess();
       }
       if (ManagementExceptionUtils.isExceptionCode(
@@ -165,9 +211,9 @@ public class CreateAzureVmStep implements Step {
             "Either the disk, ip, or network passed into this createVm does not exist "
                 + String.format(
                     "%nResource Group: %s%n\tIp Name: %s%n\tNetwork Name: %s%n\tDisk Name: %s",
-                    azureCloudContext.getAzureResourceGroupId(),
+                    resourceGroupId,
                     ipResource.isPresent() ? ipResource.get().getIpName() : "NoPublicIp",
-                    "TODO",
+                    networkResource.getNetworkName(),
                     diskResource.getDiskName()));
         return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
       }
@@ -176,6 +222,70 @@ public class CreateAzureVmStep implements Step {
     return StepResult.getStepResultSuccess();
   }
 
+  /**
+   * Check whether the VM has been provisioned. If it is still being created, schedule the next
+   * check and release the thread.
+   */
+  private StepResult checkCreation(
+      FlightMap workingMap, ComputeManager computeManager, String resourceGroupId, long pollStart) {
+    final Integer previousAttempts =
+        workingMap.get(AzureVmHelper.WORKING_MAP_VM_POLL_ATTEMPTS_KEY, Integer.class);
+    final int attempts = previousAttempts == null ? 0 : previousAttempts;
+    final String provisioningState;
+    try {
+      provisioningState =
+          computeManager
+              .virtualMachines()
+              .getByResourceGroup(resourceGroupId, resource.getVmName())
+              .provisioningState();
+    } catch (ManagementException e) {
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
+    }
+    if (PROVISIONING_SUCCEEDED.equalsIgnoreCase(provisioningState)) {
+      logger.info("Azure VM {} is provisioned after {} checks", resource.getVmName(), attempts);
+      return StepResult.getStepResultSuccess();
+    }
+    if (PROVISIONING_FAILED.equalsIgnoreCase(provisioningState)) {
+      return new StepResult(
+          StepStatus.STEP_RESULT_FAILURE_FATAL,
+          new AzureVmCreationException(
+              String.format("Provisioning Azure VM %s failed", resource.getVmName())));
+    }
+
+    final Duration pollInterval = getPollInterval(attempts);
+    final Instant nextCheck = Instant.now().plus(pollInterval);
+    if (nextCheck.isAfter(Instant.ofEpochMilli(pollStart).plus(MAX_CREATION_DURATION))) {
+      return new StepResult(
+          StepStatus.STEP_RESULT_FAILURE_FATAL,
+          new AzureVmCreationException(
+              String.format(
+                  "Timed out waiting for Azure VM %s in state %s after %d checks",
+                  resource.getVmName(), provisioningState, attempts + 1)));
+    }
+    workingMap.put(AzureVmHelper.WORKING_MAP_VM_POLL_ATTEMPTS_KEY, attempts + 1);
+    workingMap.put(JobMapKeys.RESUME_TIME.getKeyName(), nextCheck.toEpochMilli());
+    logger.debug(
+        "Azure VM {} is in state {}; next check in {}",
+        resource.getVmName(),
+        provisioningState,
+        pollInterval);
+    return new StepResult(StepStatus.STEP_RESULT_WAIT);
+  }
+
+  /**
+   * Interval to wait before the next check, doubling from INITIAL_POLL_INTERVAL up to
+   * MAX_POLL_INTERVAL.
+   *
+   * @param attempts - number of checks made so far
+   * @return interval before the next check
+   */
+  @VisibleForTesting
+  static Duration getPollInterval(int attempts) {
+    final long multiplier = 1L << Math.min(attempts, 6);
+    final Duration interval = INITIAL_POLL_INTERVAL.multipliedBy(multiplier);
+    return interval.compareTo(MAX_POLL_INTERVAL) > 0 ? MAX_POLL_INTERVAL : interval;
+  }
+
   @Override
   public StepResult undoStep(FlightContext context) throws InterruptedException {
     final AzureCloudContext azureCloudContext =
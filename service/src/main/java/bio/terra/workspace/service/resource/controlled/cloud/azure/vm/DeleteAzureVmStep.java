@@ -1,38 +1,100 @@
 package bio.terra.workspace.service.resource.controlled.cloud.azure.vm;
 
 import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
+import bio.terra.workspace.common.utils.ManagementExceptionUtils;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
+import com.azure.core.management.exception.ManagementException;
 import com.azure.resourcemanager.compute.ComputeManager;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Deletes the Azure VM and then its OS disk. The deletes run through the {@link
+ * CloudOperationService}, and the step returns STEP_RESULT_WAIT while each is in progress. The OS
+ * disk ID is read before the VM is deleted and kept in the working map.
+ */
 public class DeleteAzureVmStep implements Step {
   private static final Logger logger = LoggerFactory.getLogger(DeleteAzureVmStep.class);
+  private static final Duration DELETE_TIMEOUT = Duration.ofMinutes(30);
+  private static final String WORKING_MAP_OS_DISK_ID_KEY = "VmOsDiskId";
   private final AzureConfiguration azureConfig;
   private final CrlService crlService;
   private final ControlledAzureVmResource resource;
+  private final CloudOperationService cloudOperationService;
 
   public DeleteAzureVmStep(
-      AzureConfiguration azureConfig, CrlService crlService, ControlledAzureVmResource resource) {
+      AzureConfiguration azureConfig,
+      CrlService crlService,
+      ControlledAzureVmResource resource,
+      CloudOperationService cloudOperationService) {
     this.crlService = crlService;
     this.azureConfig = azureConfig;
     this.resource = resource;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException {
+    final FlightMap workingMap = context.getWorkingMap();
     final AzureCloudContext azureCloudContext =
-        context
-            .getWorkingMap()
-            .get(ControlledResourceKeys.AZURE_CLOUD_CONTEXT, AzureCloudContext.class);
+        workingMap.get(ControlledResourceKeys.AZURE_CLOUD_CONTEXT, AzureCloudContext.class);
+    final String resourceGroupId = azureCloudContext.getAzureResourceGroupId();
 
     ComputeManager computeManager = crlService.getComputeManager(azureCloudContext, azureConfig);
-    return AzureVmHelper.deleteVm(azureCloudContext, computeManager, resource.getVmName());
+    try {
+      if (!workingMap.containsKey(WORKING_MAP_OS_DISK_ID_KEY)) {
+        final String osDiskId;
+        try {
+          osDiskId =
+              computeManager
+                  .virtualMachines()
+                  .getByResourceGroup(resourceGroupId, resource.getVmName())
+                  .osDiskId();
+        } catch (ManagementException e) {
+          // Stairway steps may run multiple times, so we may already have deleted this resource.
+          if (ManagementExceptionUtils.isExceptionCode(
+              e, ManagementExceptionUtils.RESOURCE_NOT_FOUND)) {
+            logger.info(
+                "Azure VM {} in managed resource group {} already deleted",
+                resource.getVmName(),
+                resourceGroupId);
+            return StepResult.getStepResultSuccess();
+          }
+          throw e;
+        }
+        workingMap.put(WORKING_MAP_OS_DISK_ID_KEY, osDiskId);
+      }
+      final String osDiskId = workingMap.get(WORKING_MAP_OS_DISK_ID_KEY, String.class);
+
+      if (!cloudOperationService.awaitAzureOperation(
+              context,
+              "delete " + resourceGroupId + "/" + resource.getVmName(),
+              () ->
+                  computeManager
+                      .virtualMachines()
+                      .deleteByResourceGroupAsync(resourceGroupId, resource.getVmName()),
+              DELETE_TIMEOUT)
+          || !cloudOperationService.awaitAzureOperation(
+              context,
+              "delete " + osDiskId,
+              () -> computeManager.disks().deleteByIdAsync(osDiskId),
+              DELETE_TIMEOUT)) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
+      return StepResult.getStepResultSuccess();
+    } catch (Exception ex) {
+      logger.info("Attempt to delete Azure VM failed on this try: " + resource.getVmName(), ex);
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, ex);
+    }
   }
 
   @Override
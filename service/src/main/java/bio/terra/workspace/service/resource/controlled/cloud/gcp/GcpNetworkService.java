@@ -0,0 +1,176 @@
+package bio.terra.workspace.service.resource.controlled.cloud.gcp;
+
+import bio.terra.common.exception.BadRequestException;
+import bio.terra.common.exception.InternalServerErrorException;
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.service.crl.CrlService;
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import com.google.api.services.compute.model.Subnetwork;
+import com.google.api.services.compute.model.SubnetworkList;
+import com.google.api.services.compute.model.Zone;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the network settings of workspace GCP projects: the region of a zone and the network
+ * and subnetwork to place instances on in a region.
+ *
+ * <p>Workspace projects are provisioned with their network and subnetworks, which do not change
+ * for the life of the project, so lookups are cached in memory. This saves a round trip to the
+ * Compute API, and its quota, for every notebook created. Concurrent lookups of the same key share
+ * one call. Failed lookups are not cached, nor is a region without a subnetwork.
+ */
+@Component
+public class GcpNetworkService {
+  private final CrlService crlService;
+  // Region of a zone, keyed by project and zone
+  private final Cache<String, String> zoneRegionCache;
+  // Network to use in a region, keyed by project and region
+  private final Cache<String, Optional<NetworkNames>> networkCache;
+
+  @Autowired
+  public GcpNetworkService(CrlService crlService, CacheConfiguration cacheConfiguration) {
+    this.crlService = crlService;
+    this.zoneRegionCache = buildCache(cacheConfiguration);
+    this.networkCache = buildCache(cacheConfiguration);
+  }
+
+  private static <V> Cache<String, V> buildCache(CacheConfiguration cacheConfiguration) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(cacheConfiguration.getGcpNetworkMaxSize())
+        .expireAfterWrite(cacheConfiguration.getGcpNetworkTtl())
+        .build();
+  }
+
+  /**
+   * Get the region of a zone in a project.
+   *
+   * @param projectId GCP project id
+   * @param zone name of the zone; an AI notebook location is named like a GCE zone
+   * @return name of the region
+   * @throws BadRequestException if the zone is not known
+   * @throws IOException on failure to reach the Compute API
+   */
+  public String getRegionForZone(String projectId, String zone) throws IOException {
+    return getCached(
+        zoneRegionCache,
+        cacheKey(projectId, zone),
+        () -> extractNameFromUrl(getZone(projectId, zone).getRegion()));
+  }
+
+  /**
+   * Get the network and subnetwork to use in a region of a project.
+   *
+   * @param projectId GCP project id
+   * @param region name of the region
+   * @return names of the network and subnetwork, or empty if the project has no subnetwork in the
+   *     region
+   * @throws IOException on failure to reach the Compute API
+   */
+  public Optional<NetworkNames> getNetworkNames(String projectId, String region)
+      throws IOException {
+    String key = cacheKey(projectId, region);
+    Optional<NetworkNames> networkNames =
+        getCached(networkCache, key, () -> listNetworkNames(projectId, region));
+    if (networkNames.isEmpty()) {
+      // Lookups waiting on this load share the result, but later ones look again
+      networkCache.invalidate(key);
+    }
+    return networkNames;
+  }
+
+  private Optional<NetworkNames> listNetworkNames(String projectId, String region)
+      throws IOException {
+    SubnetworkList subnetworks =
+        crlService.getCloudComputeCow().subnetworks().list(projectId, region).execute();
+    List<Subnetwork> items = subnetworks.getItems();
+    if (items == null || items.isEmpty()) {
+      return Optional.empty();
+    }
+    // Arbitrarily grab the first subnetwork. We don't have a use case for multiple subnetworks or
+    // them mattering yet, so use any available subnetwork.
+    Subnetwork subnetwork = items.get(0);
+    return Optional.of(
+        new NetworkNames(extractNameFromUrl(subnetwork.getNetwork()), subnetwork.getName()));
+  }
+
+  /**
+   * Get a cached value, loading it if it is not cached. Only one load of a key runs at a time, and
+   * lookups of the key made meanwhile wait for its result.
+   */
+  private static <V> V getCached(Cache<String, V> cache, String key, Callable<V> load)
+      throws IOException {
+    try {
+      return cache.get(key, load);
+    } catch (ExecutionException e) {
+      // The loaders only throw IOException
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new InternalServerErrorException("Unexpected error loading " + key, e.getCause());
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private Zone getZone(String projectId, String zone) throws IOException {
+    try {
+      return crlService.getCloudComputeCow().zones().get(projectId, zone).execute();
+    } catch (GoogleJsonResponseException e) {
+      if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+        // Throw a better error message if the location isn't known.
+        throw new BadRequestException(String.format("Unsupported location '%s'", zone));
+      }
+      throw e;
+    }
+  }
+
+  private static String cacheKey(String projectId, String name) {
+    return projectId + "/" + name;
+  }
+
+  /**
+   * Extract the name from a network URL like
+   * "https://www.googleapis.com/compute/v1/projects/{PROJECT_ID}/global/networks/{NAME}" or route
+   * URL like "https://www.googleapis.com/compute/v1/projects/{PROJECT_ID}/regions/{REGION_NAME}"
+   */
+  private static String extractNameFromUrl(String url) {
+    int lastSlashIndex = url.lastIndexOf('/');
+    if (lastSlashIndex == -1) {
+      throw new InternalServerErrorException(
+          String.format("Unable to extract resource name from '%s'", url));
+    }
+    return url.substring(lastSlashIndex + 1);
+  }
+
+  /** Names of a network and of the subnetwork within it to use. */
+  public static class NetworkNames {
+    private final String networkName;
+    private final String subnetworkName;
+
+    public NetworkNames(String networkName, String subnetworkName) {
+      this.networkName = networkName;
+      this.subnetworkName = subnetworkName;
+    }
+
+    public String getNetworkName() {
+      return networkName;
+    }
+
+    public String getSubnetworkName() {
+      return subnetworkName;
+    }
+  }
+}
@@ -144,7 +144,7 @@ public class ControlledAiNotebookInstanceResource extends ControlledResource {
     RetryRule gcpRetryRule = RetryRules.cloud();
     flight.addStep(
         new RetrieveNetworkNameStep(
-            flightBeanBag.getCrlService(), this, flightBeanBag.getGcpCloudContextService()),
+            flightBeanBag.getGcpNetworkService(), this, flightBeanBag.getGcpCloudContextService()),
         gcpRetryRule);
     flight.addStep(
         new GrantPetUsagePermissionStep(
@@ -159,7 +159,8 @@ public class ControlledAiNotebookInstanceResource extends ControlledResource {
             petSaEmail,
             workspaceUserFacingId,
             flightBeanBag.getCrlService(),
-            flightBeanBag.getCliConfiguration()),
+            flightBeanBag.getCliConfiguration(),
+            flightBeanBag.getCloudOperationService()),
         gcpRetryRule);
     flight.addStep(
         new NotebookCloudSyncStep(
@@ -174,7 +175,9 @@ public class ControlledAiNotebookInstanceResource extends ControlledResource {
   @Override
   public void addDeleteSteps(DeleteControlledResourceFlight flight, FlightBeanBag flightBeanBag) {
     flight.addStep(
-        new DeleteAiNotebookInstanceStep(this, flightBeanBag.getCrlService()), RetryRules.cloud());
+        new DeleteAiNotebookInstanceStep(
+            this, flightBeanBag.getCrlService(), flightBeanBag.getCloudOperationService()),
+        RetryRules.cloud());
   }
   /** The user specified id of the notebook instance. */
   public String getInstanceId() {
@@ -4,6 +4,7 @@ import static bio.terra.workspace.service.resource.controlled.cloud.gcp.ainotebo
 import static bio.terra.workspace.service.resource.controlled.cloud.gcp.ainotebook.ControlledAiNotebookInstanceResource.SERVER_ID_METADATA_KEY;
 import static bio.terra.workspace.service.resource.controlled.cloud.gcp.ainotebook.ControlledAiNotebookInstanceResource.WORKSPACE_ID_METADATA_KEY;
 import static bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys.CREATE_NOTEBOOK_NETWORK_NAME;
+import static bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys.CREATE_NOTEBOOK_OPERATION_NAME;
 import static bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys.CREATE_NOTEBOOK_PARAMETERS;
 import static bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys.CREATE_NOTEBOOK_REGION;
 import static bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys.CREATE_NOTEBOOK_SUBNETWORK_NAME;
@@ -24,6 +25,7 @@ import bio.terra.workspace.generated.model.ApiGcpAiNotebookInstanceContainerImag
 import bio.terra.workspace.generated.model.ApiGcpAiNotebookInstanceCreationParameters;
 import bio.terra.workspace.generated.model.ApiGcpAiNotebookInstanceVmImage;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.resource.controlled.exception.ReservedMetadataKeyException;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.GcpCloudContext;
@@ -49,6 +51,9 @@ import org.springframework.http.HttpStatus;
 /**
  * A step for creating the AI Platform notebook instance in the Google cloud.
  *
+ * <p>The step waits for the create operation through the {@link CloudOperationService}, returning
+ * STEP_RESULT_WAIT while the operation runs and re-reading it by name when the flight resumes.
+ *
  * <p>Undo deletes the created notebook instance.
  */
 public class CreateAiNotebookInstanceStep implements Step {
@@ -75,18 +80,21 @@ public class CreateAiNotebookInstanceStep implements Step {
   private final String workspaceUserFacingId;
   private final CrlService crlService;
   private final CliConfiguration cliConfiguration;
+  private final CloudOperationService cloudOperationService;
 
   public CreateAiNotebookInstanceStep(
       ControlledAiNotebookInstanceResource resource,
       String petEmail,
       String workspaceUserFacingId,
       CrlService crlService,
-      CliConfiguration cliConfiguration) {
+      CliConfiguration cliConfiguration,
+      CloudOperationService cloudOperationService) {
     this.petEmail = petEmail;
     this.resource = resource;
     this.workspaceUserFacingId = workspaceUserFacingId;
     this.crlService = crlService;
     this.cliConfiguration = cliConfiguration;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -108,8 +116,18 @@ public class CreateAiNotebookInstanceStep implements Step {
             cliConfiguration.getServerName());
 
     AIPlatformNotebooksCow notebooks = crlService.getAIPlatformNotebooksCow();
+    FlightMap workingMap = flightContext.getWorkingMap();
     try {
       OperationCow<Operation> creationOperation;
+      String operationName = workingMap.get(CREATE_NOTEBOOK_OPERATION_NAME, String.class);
+      if (operationName != null) {
+        // Re-run after waiting on the operation
+        creationOperation =
+            notebooks
+                .operations()
+                .operationCow(notebooks.operations().get(operationName).execute());
+        return awaitCreation(flightContext, creationOperation);
+      }
       try {
         creationOperation =
             notebooks
@@ -128,10 +146,30 @@ public class CreateAiNotebookInstanceStep implements Step {
         return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
       }
 
-      GcpUtils.pollUntilSuccess(creationOperation, Duration.ofSeconds(20), Duration.ofMinutes(12));
+      workingMap.put(
+          CREATE_NOTEBOOK_OPERATION_NAME, creationOperation.getOperationAdapter().getName());
+      return awaitCreation(flightContext, creationOperation);
     } catch (IOException e) {
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
     }
+  }
+
+  /** Wait for the creation operation without holding the flight thread. */
+  private StepResult awaitCreation(
+      FlightContext flightContext, OperationCow<Operation> creationOperation)
+      throws RetryException {
+    try {
+      if (cloudOperationService
+          .awaitOperation(
+              flightContext, creationOperation, Duration.ofSeconds(20), Duration.ofMinutes(12))
+          .isEmpty()) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
+    } catch (RetryException e) {
+      // Create the instance again on the retry rather than re-reading the failed operation
+      flightContext.getWorkingMap().put(CREATE_NOTEBOOK_OPERATION_NAME, null);
+      throw e;
+    }
     return StepResult.getStepResultSuccess();
   }
 
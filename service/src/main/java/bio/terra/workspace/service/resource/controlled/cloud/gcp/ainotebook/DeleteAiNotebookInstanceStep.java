@@ -1,14 +1,16 @@
 package bio.terra.workspace.service.resource.controlled.cloud.gcp.ainotebook;
 
+import bio.terra.cloudres.google.api.services.common.OperationCow;
 import bio.terra.cloudres.google.notebooks.AIPlatformNotebooksCow;
 import bio.terra.cloudres.google.notebooks.InstanceName;
 import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.RetryException;
-import bio.terra.workspace.common.utils.GcpUtils;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import bio.terra.workspace.service.workspace.model.GcpCloudContext;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
@@ -20,17 +22,26 @@ import org.apache.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** A step for deleting a controlled AI Platform notebook instance. */
+/**
+ * A step for deleting a controlled AI Platform notebook instance.
+ *
+ * <p>The step waits for the delete operation through the {@link CloudOperationService}, returning
+ * STEP_RESULT_WAIT while the operation runs and re-reading it by name when the flight resumes.
+ */
 public class DeleteAiNotebookInstanceStep implements Step {
   private final Logger logger = LoggerFactory.getLogger(DeleteAiNotebookInstanceStep.class);
 
   private final ControlledAiNotebookInstanceResource resource;
   private final CrlService crlService;
+  private final CloudOperationService cloudOperationService;
 
   public DeleteAiNotebookInstanceStep(
-      ControlledAiNotebookInstanceResource resource, CrlService crlService) {
+      ControlledAiNotebookInstanceResource resource,
+      CrlService crlService,
+      CloudOperationService cloudOperationService) {
     this.resource = resource;
     this.crlService = crlService;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -43,16 +54,37 @@ public class DeleteAiNotebookInstanceStep implements Step {
 
     InstanceName instanceName = resource.toInstanceName(gcpCloudContext.getGcpProjectId());
     AIPlatformNotebooksCow notebooks = crlService.getAIPlatformNotebooksCow();
+    FlightMap workingMap = flightContext.getWorkingMap();
     try {
-      Optional<Operation> rawOperation = deleteIfFound(instanceName, notebooks);
-      if (rawOperation.isEmpty()) {
-        logger.info("Notebook instance {} already deleted", instanceName.formatName());
-        return StepResult.getStepResultSuccess();
+      OperationCow<Operation> deletionOperation;
+      String operationName =
+          workingMap.get(ControlledResourceKeys.DELETE_NOTEBOOK_OPERATION_NAME, String.class);
+      if (operationName == null) {
+        Optional<Operation> rawOperation = deleteIfFound(instanceName, notebooks);
+        if (rawOperation.isEmpty()) {
+          logger.info("Notebook instance {} already deleted", instanceName.formatName());
+          return StepResult.getStepResultSuccess();
+        }
+        deletionOperation = notebooks.operations().operationCow(rawOperation.get());
+        workingMap.put(
+            ControlledResourceKeys.DELETE_NOTEBOOK_OPERATION_NAME, rawOperation.get().getName());
+      } else {
+        // Re-run after waiting on the operation
+        deletionOperation =
+            notebooks
+                .operations()
+                .operationCow(notebooks.operations().get(operationName).execute());
+      }
+      if (cloudOperationService
+          .awaitOperation(
+              flightContext, deletionOperation, Duration.ofSeconds(20), Duration.ofMinutes(10))
+          .isEmpty()) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
       }
-      GcpUtils.pollUntilSuccess(
-          notebooks.operations().operationCow(rawOperation.get()),
-          Duration.ofSeconds(20),
-          Duration.ofMinutes(10));
+    } catch (RetryException e) {
+      // Delete the instance again on the retry rather than re-reading the failed operation
+      workingMap.put(ControlledResourceKeys.DELETE_NOTEBOOK_OPERATION_NAME, null);
+      throw e;
     } catch (IOException e) {
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
     }
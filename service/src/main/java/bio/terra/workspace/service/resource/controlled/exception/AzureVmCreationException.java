@@ -0,0 +1,9 @@
+package bio.terra.workspace.service.resource.controlled.exception;
+
+import bio.terra.common.exception.InternalServerErrorException;
+
+public class AzureVmCreationException extends InternalServerErrorException {
+  public AzureVmCreationException(String message) {
+    super(message);
+  }
+}
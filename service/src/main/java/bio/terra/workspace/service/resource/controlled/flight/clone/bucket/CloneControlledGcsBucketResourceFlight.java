@@ -6,6 +6,7 @@ import bio.terra.workspace.common.utils.FlightBeanBag;
 import bio.terra.workspace.common.utils.FlightUtils;
 import bio.terra.workspace.common.utils.RetryRules;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
+import bio.terra.workspace.service.job.AwaitFlightAdmissionStep;
 import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
 import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.RetrieveGcsBucketCloudAttributesStep;
@@ -25,12 +26,13 @@ import java.util.Optional;
 // 2. Gather controlled resource metadata for source object
 // 3. Gather creation parameters from existing object
 // 4. Launch sub-flight to create appropriate resource
-// Steps 5-9 are for resource clone only
-// 5. Set bucket roles for cloning service account
-// 6. Create Storage Transfer Service transfer job
-// 7. Listen for running operation in transfer job
-// 8. Delete the storage transfer job
-// 9. Clear bucket roles
+// Steps 5-10 are for resource clone only
+// 5. If the source bucket is small, copy its objects directly and skip steps 6-10
+// 6. Set bucket roles for cloning service account
+// 7. Create Storage Transfer Service transfer job
+// 8. Listen for running operation in transfer job
+// 9. Delete the storage transfer job
+// 10. Clear bucket roles
 public class CloneControlledGcsBucketResourceFlight extends Flight {
 
   public CloneControlledGcsBucketResourceFlight(
@@ -64,6 +66,7 @@ public class CloneControlledGcsBucketResourceFlight extends Flight {
           new CheckControlledResourceAuthStep(
               sourceResource, flightBeanBag.getControlledResourceMetadataManager(), userRequest),
           RetryRules.shortExponential());
+      addStep(new AwaitFlightAdmissionStep(flightBeanBag.getFlightAdmission()));
       addStep(
           new RetrieveControlledResourceMetadataStep(
               flightBeanBag.getResourceDao(),
@@ -84,15 +87,30 @@ public class CloneControlledGcsBucketResourceFlight extends Flight {
 
       if (CloningInstructions.COPY_RESOURCE == resolvedCloningInstructions) {
         addStep(
-            new SetBucketRolesStep(
+            new CopyGcsBucketObjectsStep(
                 sourceBucket,
-                flightBeanBag.getGcpCloudContextService(),
-                flightBeanBag.getBucketCloneRolesService(),
-                flightBeanBag.getStoragetransfer()));
-        addStep(new CreateStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer()));
-        addStep(new CompleteTransferOperationStep(flightBeanBag.getStoragetransfer()));
-        addStep(new DeleteStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer()));
-        addStep(new RemoveBucketRolesStep(flightBeanBag.getBucketCloneRolesService()));
+                flightBeanBag.getCrlService(),
+                flightBeanBag.getBucketCloneConfiguration()),
+            RetryRules.cloud());
+        addStep(
+            new SkipIfObjectsCopiedStep(
+                new SetBucketRolesStep(
+                    sourceBucket,
+                    flightBeanBag.getGcpCloudContextService(),
+                    flightBeanBag.getBucketCloneRolesService(),
+                    flightBeanBag.getStoragetransfer())));
+        addStep(
+            new SkipIfObjectsCopiedStep(
+                new CreateStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer())));
+        addStep(
+            new SkipIfObjectsCopiedStep(
+                new CompleteTransferOperationStep(flightBeanBag.getStoragetransfer())));
+        addStep(
+            new SkipIfObjectsCopiedStep(
+                new DeleteStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer())));
+        addStep(
+            new SkipIfObjectsCopiedStep(
+                new RemoveBucketRolesStep(flightBeanBag.getBucketCloneRolesService())));
       }
     }
   }
@@ -1,20 +1,27 @@
 package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
 
 import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.RetryException;
 import bio.terra.workspace.common.utils.FlightUtils;
 import bio.terra.workspace.generated.model.ApiClonedControlledGcpGcsBucket;
+import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.resource.controlled.exception.StorageTransferServiceTimeoutException;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import com.google.api.services.storagetransfer.v1.Storagetransfer;
 import com.google.api.services.storagetransfer.v1.model.Operation;
 import com.google.api.services.storagetransfer.v1.model.TransferJob;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -27,13 +34,24 @@ import org.springframework.http.HttpStatus;
  * The working map contains STORAGE_TRANSFER_JOB_NAME and CONTROL_PLANE_PROJECT_ID. The operation
  * created is assumed to be the most recent one started for this job.
  *
- * <p>Post conditions: Operation has completed or failed.
+ * <p>Post conditions: Operation has completed or failed. The response contains the number of bytes
+ * and objects the operation copied.
+ *
+ * <p>Transfers range from milliseconds to hours, so the step checks on an exponential schedule:
+ * the first few checks are made inline, after which the step records its progress in the working
+ * map and returns STEP_RESULT_WAIT, releasing the Stairway thread. The JobService resumes the
+ * flight at the time stored in {@link JobMapKeys#RESUME_TIME}, which re-runs this step.
  */
 public class CompleteTransferOperationStep implements Step {
   public static final Logger logger = LoggerFactory.getLogger(CompleteTransferOperationStep.class);
-  private static final Duration JOBS_POLL_INTERVAL = Duration.ofSeconds(10);
-  private static final Duration OPERATIONS_POLL_INTERVAL = Duration.ofSeconds(30);
-  private static final int MAX_ATTEMPTS = 25;
+  private static final Duration INITIAL_POLL_INTERVAL = Duration.ofSeconds(1);
+  private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(60);
+  // Intervals up to this long are slept on the Stairway thread; longer ones release it.
+  private static final Duration MAX_INLINE_POLL_INTERVAL = Duration.ofSeconds(4);
+  private static final Duration MAX_TRANSFER_DURATION = Duration.ofHours(12);
+  private static final String COUNTERS_KEY = "counters";
+  private static final String BYTES_COPIED_KEY = "bytesCopiedToSink";
+  private static final String OBJECTS_COPIED_KEY = "objectsCopiedToSink";
   private final Storagetransfer storagetransfer;
 
   public CompleteTransferOperationStep(Storagetransfer storagetransfer) {
@@ -44,44 +62,86 @@ public class CompleteTransferOperationStep implements Step {
   public StepResult doStep(FlightContext flightContext)
       throws InterruptedException, RetryException {
 
+    final FlightMap workingMap = flightContext.getWorkingMap();
     FlightUtils.validateRequiredEntries(
-        flightContext.getWorkingMap(),
+        workingMap,
         ControlledResourceKeys.STORAGE_TRANSFER_JOB_NAME,
         ControlledResourceKeys.CONTROL_PLANE_PROJECT_ID);
-    try {
-      final String transferJobName =
-          flightContext
-              .getWorkingMap()
-              .get(ControlledResourceKeys.STORAGE_TRANSFER_JOB_NAME, String.class);
-      final String controlPlaneProjectId =
-          flightContext
-              .getWorkingMap()
-              .get(ControlledResourceKeys.CONTROL_PLANE_PROJECT_ID, String.class);
+    final String transferJobName =
+        workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_JOB_NAME, String.class);
+    final String controlPlaneProjectId =
+        workingMap.get(ControlledResourceKeys.CONTROL_PLANE_PROJECT_ID, String.class);
 
-      // Job is now submitted with its schedule. We need to poll the transfer operations API
-      // for completion of the first transfer operation. The trick is going to be setting up a
-      // polling interval that's appropriate for a wide range of bucket sizes. Everything from
-      // milliseconds to hours. The transfer operation won't exist until it starts.
-      final String operationName = getLatestOperationName(transferJobName, controlPlaneProjectId);
+    Long pollStart =
+        workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_POLL_START, Long.class);
+    if (pollStart == null) {
+      pollStart = Instant.now().toEpochMilli();
+      workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_POLL_START, pollStart);
+    }
+    final Integer previousAttempts =
+        workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_POLL_ATTEMPTS, Integer.class);
+    int attempts = previousAttempts == null ? 0 : previousAttempts;
+    final Instant deadline = Instant.ofEpochMilli(pollStart).plus(MAX_TRANSFER_DURATION);
 
-      final StepResult operationResult = getTransferOperationResult(transferJobName, operationName);
+    try {
+      while (true) {
+        // The transfer operation won't exist until it starts. Once we have its server-generated
+        // name, poll the operations endpoint for completion information.
+        String operationName =
+            workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_OPERATION_NAME, String.class);
+        if (operationName == null) {
+          operationName = getLatestOperationName(transferJobName, controlPlaneProjectId);
+          if (operationName != null) {
+            logger.debug("Latest transfer operation name is {}", operationName);
+            workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_OPERATION_NAME, operationName);
+          }
+        }
+        if (operationName != null) {
+          final Operation operation =
+              storagetransfer.transferOperations().get(operationName).execute();
+          if (operation == null) {
+            throw new RuntimeException(
+                String.format("Failed to get transfer operation with name %s", operationName));
+          }
+          if (operation.getDone() != null && operation.getDone()) {
+            return handleCompletedOperation(flightContext, transferJobName, operation);
+          }
+          logger.info(
+              "Transfer operation {} in progress: {} bytes and {} objects copied",
+              operationName,
+              getCounter(operation, BYTES_COPIED_KEY),
+              getCounter(operation, OBJECTS_COPIED_KEY));
+        }
 
-      if (StepStatus.STEP_RESULT_FAILURE_FATAL == operationResult.getStepStatus()) {
-        return operationResult;
+        // Not started or still in progress; schedule the next check
+        final Duration pollInterval = getPollInterval(attempts);
+        attempts++;
+        workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_POLL_ATTEMPTS, attempts);
+        if (Instant.now().plus(pollInterval).isAfter(deadline)) {
+          final String message =
+              String.format(
+                  "Timed out waiting for transfer job %s after %d checks",
+                  transferJobName, attempts);
+          logger.info(message);
+          return new StepResult(
+              StepStatus.STEP_RESULT_FAILURE_FATAL,
+              new StorageTransferServiceTimeoutException(message));
+        }
+        if (pollInterval.compareTo(MAX_INLINE_POLL_INTERVAL) > 0) {
+          workingMap.put(
+              JobMapKeys.RESUME_TIME.getKeyName(),
+              Instant.now().plus(pollInterval).toEpochMilli());
+          logger.debug(
+              "Releasing thread for transfer job {}; next check in {}",
+              transferJobName,
+              pollInterval);
+          return new StepResult(StepStatus.STEP_RESULT_WAIT);
+        }
+        TimeUnit.MILLISECONDS.sleep(pollInterval.toMillis());
       }
     } catch (IOException e) {
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
     }
-
-    final var apiBucketResult =
-        flightContext
-            .getWorkingMap()
-            .get(
-                ControlledResourceKeys.CLONE_DEFINITION_RESULT,
-                ApiClonedControlledGcpGcsBucket.class);
-    FlightUtils.setResponse(flightContext, apiBucketResult, HttpStatus.OK);
-
-    return StepResult.getStepResultSuccess();
   }
 
   // Nothing to undo, as this step has no side effects
@@ -89,77 +149,82 @@ public class CompleteTransferOperationStep implements Step {
   public StepResult undoStep(FlightContext flightContext) throws InterruptedException {
     return StepResult.getStepResultSuccess();
   }
+
+  /**
+   * Interval to wait before the next check, doubling from INITIAL_POLL_INTERVAL up to
+   * MAX_POLL_INTERVAL.
+   *
+   * @param attempts - number of checks made so far
+   * @return interval before the next check
+   */
+  @VisibleForTesting
+  static Duration getPollInterval(int attempts) {
+    // Cap the shift well below overflow; 2^6 seconds already exceeds the maximum interval
+    final long multiplier = 1L << Math.min(attempts, 6);
+    final Duration interval = INITIAL_POLL_INTERVAL.multipliedBy(multiplier);
+    return interval.compareTo(MAX_POLL_INTERVAL) > 0 ? MAX_POLL_INTERVAL : interval;
+  }
+
   /**
-   * Poll for completion of the named transfer operation and return the result.
+   * Inspect a completed operation for success and, if it succeeded, set the flight response.
    *
+   * @param flightContext - context of the running flight
    * @param transferJobName - name of job owning the transfer operation
-   * @param operationName - server-generated name of running operation
+   * @param operation - completed operation
    * @return StepResult indicating success or failure
-   * @throws IOException
-   * @throws InterruptedException
    */
-  private StepResult getTransferOperationResult(String transferJobName, String operationName)
-      throws IOException, InterruptedException {
-    // Now that we have an operation name, we can poll the operations endpoint for completion
-    // information.
-    int attempts = 0;
-    Operation operation;
-    do {
-      operation = storagetransfer.transferOperations().get(operationName).execute();
-      if (operation == null) {
-        throw new RuntimeException(
-            String.format("Failed to get transfer operation with name %s", operationName));
-      } else if (operation.getDone() != null && operation.getDone()) {
-        break;
-      } else {
-        // operation is not started or is in progress
-        TimeUnit.MILLISECONDS.sleep(OPERATIONS_POLL_INTERVAL.toMillis());
-        attempts++;
-        logger.debug("Attempted to get transfer operation {} {} times", operationName, attempts);
-      }
-    } while (attempts < MAX_ATTEMPTS);
-    if (MAX_ATTEMPTS <= attempts) {
-      final String message = "Timed out waiting for operation result.";
-      logger.info(message);
-      return new StepResult(
-          StepStatus.STEP_RESULT_FAILURE_FATAL,
-          new StorageTransferServiceTimeoutException(message));
-    }
-    logger.info("Operation {} in transfer job {} has completed", operationName, transferJobName);
-    // Inspect the completed operation for success
+  private StepResult handleCompletedOperation(
+      FlightContext flightContext, String transferJobName, Operation operation) {
+    logger.info(
+        "Operation {} in transfer job {} has completed", operation.getName(), transferJobName);
     if (operation.getError() != null) {
-      logger.warn("Error in transfer operation {}: {}", operationName, operation.getError());
+      logger.warn("Error in transfer operation {}: {}", operation.getName(), operation.getError());
       final RuntimeException e =
           new RuntimeException("Failed transfer with error " + operation.getError().toString());
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_FATAL, e);
-    } else {
-      logger.debug("Completed operation metadata: {}", operation.getMetadata());
-      return StepResult.getStepResultSuccess();
     }
-  }
+    logger.debug("Completed operation metadata: {}", operation.getMetadata());
 
-  // First, we poll the transfer jobs endpoint until an operation has started so that we can get
-  // its server-generated name. Returns the most recently started operation's name. This is
-  // reasonably safe, because the names are scoped to the transfer job.
-  private String getLatestOperationName(String transferJobName, String projectId)
-      throws InterruptedException, IOException {
-    String operationName = null;
-    for (int numAttempts = 0; numAttempts < MAX_ATTEMPTS; ++numAttempts) {
-      final TransferJob getResponse =
-          storagetransfer.transferJobs().get(transferJobName, projectId).execute();
-      operationName = getResponse.getLatestOperationName();
-      if (null != operationName) {
-        break;
-      } else {
-        TimeUnit.MILLISECONDS.sleep(JOBS_POLL_INTERVAL.toMillis());
-      }
-    }
-    if (null == operationName) {
-      throw new StorageTransferServiceTimeoutException(
-          "Exceeded max attempts to get transfer operation name");
+    final var apiBucketResult =
+        flightContext
+            .getWorkingMap()
+            .get(
+                ControlledResourceKeys.CLONE_DEFINITION_RESULT,
+                ApiClonedControlledGcpGcsBucket.class);
+    if (apiBucketResult != null) {
+      apiBucketResult
+          .bytesCopied(getCounter(operation, BYTES_COPIED_KEY))
+          .objectsCopied(getCounter(operation, OBJECTS_COPIED_KEY));
     }
+    FlightUtils.setResponse(flightContext, apiBucketResult, HttpStatus.OK);
+    return StepResult.getStepResultSuccess();
+  }
 
-    logger.debug("Latest transfer operation name is {}", operationName);
-    return operationName;
+  // Poll the transfer jobs endpoint for the name of the most recently started operation. Returns
+  // null if no operation has started yet. This is reasonably safe, because the names are scoped to
+  // the transfer job.
+  private @Nullable String getLatestOperationName(String transferJobName, String projectId)
+      throws IOException {
+    final TransferJob getResponse =
+        storagetransfer.transferJobs().get(transferJobName, projectId).execute();
+    return getResponse.getLatestOperationName();
+  }
+
+  /**
+   * Read a progress counter from the operation metadata. The metadata is a TransferOperation, whose
+   * int64 counters are serialized as strings.
+   *
+   * @param operation - transfer operation
+   * @param counterName - name of the counter in TransferCounters
+   * @return counter value, or 0 if it has not been reported
+   */
+  @VisibleForTesting
+  static long getCounter(Operation operation, String counterName) {
+    return Optional.ofNullable(operation.getMetadata())
+        .map(metadata -> metadata.get(COUNTERS_KEY))
+        .filter(Map.class::isInstance)
+        .map(counters -> ((Map<?, ?>) counters).get(counterName))
+        .map(value -> Long.parseLong(value.toString()))
+        .orElse(0L);
   }
 }
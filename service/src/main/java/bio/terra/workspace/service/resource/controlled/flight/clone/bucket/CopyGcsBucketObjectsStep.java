@@ -0,0 +1,194 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.app.configuration.external.BucketCloneConfiguration;
+import bio.terra.workspace.common.utils.FlightUtils;
+import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import com.google.api.services.storage.Storage;
+import com.google.api.services.storage.model.RewriteResponse;
+import com.google.api.services.storage.model.StorageObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copy the objects of a small source bucket directly, with server-side rewrites made by the WSM
+ * service account. A Storage Transfer Service job takes minutes to schedule however few objects it
+ * copies, so this is much faster for small buckets, such as the starter buckets of template
+ * workspaces. Larger buckets are left to the transfer job.
+ *
+ * <p>When syncing into an existing bucket, only the objects modified since the epoch millis in
+ * BUCKET_SYNC_MODIFIED_SINCE, if present, are copied. The size limits still apply to the whole
+ * source bucket, so that a large bucket is not listed in full here.
+ *
+ * <p>Preconditions: Cloning instructions are COPY_RESOURCE. The destination bucket is created and
+ * its name is in the working map as DESTINATION_BUCKET_NAME.
+ *
+ * <p>Post conditions: Working map contains BUCKET_OBJECTS_COPIED. If it is true, every object of
+ * the source bucket has been copied to the destination bucket, and the transfer job steps are
+ * skipped.
+ */
+public class CopyGcsBucketObjectsStep implements Step {
+  private static final Logger logger = LoggerFactory.getLogger(CopyGcsBucketObjectsStep.class);
+  // Most objects that GCS returns in one page of a listing
+  private static final int MAX_LIST_PAGE_SIZE = 1000;
+
+  private final ControlledGcsBucketResource sourceBucket;
+  private final CrlService crlService;
+  private final BucketCloneConfiguration configuration;
+
+  public CopyGcsBucketObjectsStep(
+      ControlledGcsBucketResource sourceBucket,
+      CrlService crlService,
+      BucketCloneConfiguration configuration) {
+    this.sourceBucket = sourceBucket;
+    this.crlService = crlService;
+    this.configuration = configuration;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext flightContext)
+      throws InterruptedException, RetryException {
+    final FlightMap workingMap = flightContext.getWorkingMap();
+    FlightUtils.validateRequiredEntries(workingMap, ControlledResourceKeys.DESTINATION_BUCKET_NAME);
+    final String sourceBucketName = sourceBucket.getBucketName();
+    final String destinationBucketName =
+        workingMap.get(ControlledResourceKeys.DESTINATION_BUCKET_NAME, String.class);
+    final Long modifiedSince =
+        workingMap.get(ControlledResourceKeys.BUCKET_SYNC_MODIFIED_SINCE, Long.class);
+    final Storage storage = crlService.createWsmSaNakedStorageClient();
+
+    try {
+      Optional<List<String>> objectNames =
+          listSmallBucket(storage, sourceBucketName, modifiedSince);
+      if (objectNames.isEmpty()) {
+        logger.info("Bucket {} is too large to copy directly", sourceBucketName);
+        workingMap.put(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, false);
+        return StepResult.getStepResultSuccess();
+      }
+      logger.info(
+          "Copying {} objects directly from bucket {} to {}",
+          objectNames.get().size(),
+          sourceBucketName,
+          destinationBucketName);
+      copyObjects(storage, sourceBucketName, destinationBucketName, objectNames.get());
+    } catch (IOException e) {
+      return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
+    }
+    workingMap.put(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, true);
+    return StepResult.getStepResultSuccess();
+  }
+
+  // Copied objects are deleted with the destination bucket by the undo of an earlier step.
+  @Override
+  public StepResult undoStep(FlightContext flightContext) throws InterruptedException {
+    return StepResult.getStepResultSuccess();
+  }
+
+  /**
+   * List the objects of a bucket, giving up as soon as the bucket is seen to be over the limits
+   * for a direct copy.
+   *
+   * @param modifiedSince if present, only list objects modified at or after this epoch millis
+   * @return names of the objects, or empty if the bucket is too large to copy directly
+   */
+  private Optional<List<String>> listSmallBucket(
+      Storage storage, String bucketName, @Nullable Long modifiedSince) throws IOException {
+    final int maxObjects = configuration.getDirectCopyMaxObjects();
+    final long maxBytes = configuration.getDirectCopyMaxSize().toBytes();
+    List<String> objectNames = new ArrayList<>();
+    int totalObjects = 0;
+    long totalBytes = 0;
+    String pageToken = null;
+    do {
+      com.google.api.services.storage.model.Objects page =
+          storage
+              .objects()
+              .list(bucketName)
+              .setFields("items(name,size,updated),nextPageToken")
+              .setMaxResults((long) Math.min(maxObjects + 1, MAX_LIST_PAGE_SIZE))
+              .setPageToken(pageToken)
+              .execute();
+      if (page.getItems() != null) {
+        for (StorageObject object : page.getItems()) {
+          totalObjects++;
+          totalBytes += object.getSize().longValue();
+          if (totalObjects > maxObjects || totalBytes > maxBytes) {
+            return Optional.empty();
+          }
+          if (modifiedSince == null || object.getUpdated().getValue() >= modifiedSince) {
+            objectNames.add(object.getName());
+          }
+        }
+      }
+      pageToken = page.getNextPageToken();
+    } while (pageToken != null);
+    return Optional.of(objectNames);
+  }
+
+  /** Copy objects concurrently, keeping their names. A retry copies every object again. */
+  private void copyObjects(
+      Storage storage,
+      String sourceBucketName,
+      String destinationBucketName,
+      List<String> objectNames)
+      throws IOException, InterruptedException {
+    if (objectNames.isEmpty()) {
+      return;
+    }
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(configuration.getDirectCopyThreads(), objectNames.size()));
+    try {
+      List<Future<Void>> copies = new ArrayList<>();
+      for (String objectName : objectNames) {
+        copies.add(
+            executor.submit(
+                () -> {
+                  rewriteObject(storage, sourceBucketName, destinationBucketName, objectName);
+                  return null;
+                }));
+      }
+      for (Future<Void> copy : copies) {
+        copy.get();
+      }
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new RuntimeException("Failed to copy bucket objects", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void rewriteObject(
+      Storage storage, String sourceBucketName, String destinationBucketName, String objectName)
+      throws IOException {
+    // Without a request body, the copy keeps the metadata of the source object
+    Storage.Objects.Rewrite rewrite =
+        storage
+            .objects()
+            .rewrite(sourceBucketName, objectName, destinationBucketName, objectName, null);
+    RewriteResponse response = rewrite.execute();
+    // Large objects, or copies across locations or storage classes, may take several calls
+    while (!Boolean.TRUE.equals(response.getDone())) {
+      response = rewrite.setRewriteToken(response.getRewriteToken()).execute();
+    }
+  }
+}
@@ -12,14 +12,17 @@ import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import com.google.api.services.storagetransfer.v1.Storagetransfer;
 import com.google.api.services.storagetransfer.v1.model.Date;
 import com.google.api.services.storagetransfer.v1.model.GcsData;
+import com.google.api.services.storagetransfer.v1.model.ObjectConditions;
 import com.google.api.services.storagetransfer.v1.model.Schedule;
 import com.google.api.services.storagetransfer.v1.model.TransferJob;
 import com.google.api.services.storagetransfer.v1.model.TransferOptions;
 import com.google.api.services.storagetransfer.v1.model.TransferSpec;
 import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * for the control plane service account. The working map contains SOURECE_CLONE_INPUTS,
  * DESTINATION_CLONE_INPUTS, CONTROL_PLAN_PROJECT_ID, and STORAGE_TRANSFER_SERVICE_SA_EMAIL.
  *
+ * <p>If the working map contains BUCKET_SYNC_MODIFIED_SINCE, only source objects modified since
+ * those epoch millis are transferred.
+ *
  * <p>Post conditions: A transfer job in the control plane project with a unique name for this
  * flight is created. It is scheduled to run once immediately.
  */
@@ -106,8 +112,11 @@ public final class CreateStorageTransferServiceJobStep implements Step {
         workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_SERVICE_SA_EMAIL, String.class);
     logger.debug("Storage Transfer Service SA: {}", transferServiceSAEmail);
 
+    final Long modifiedSince =
+        workingMap.get(ControlledResourceKeys.BUCKET_SYNC_MODIFIED_SINCE, Long.class);
     try {
-      createTransferJob(sourceInputs, destinationInputs, transferJobName, controlPlaneProjectId);
+      createTransferJob(
+          sourceInputs, destinationInputs, transferJobName, controlPlaneProjectId, modifiedSince);
     } catch (IOException e) {
       return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
     }
@@ -119,7 +128,8 @@ public final class CreateStorageTransferServiceJobStep implements Step {
       BucketCloneInputs sourceInputs,
       BucketCloneInputs destinationInputs,
       String transferJobName,
-      String controlPlaneProjectId)
+      String controlPlaneProjectId,
+      @Nullable Long modifiedSince)
       throws IOException {
     final TransferJob transferJobInput =
         new TransferJob()
@@ -128,7 +138,10 @@ public final class CreateStorageTransferServiceJobStep implements Step {
             .setProjectId(controlPlaneProjectId)
             .setSchedule(createScheduleRunOnceNow())
             .setTransferSpec(
-                createTransferSpec(sourceInputs.getBucketName(), destinationInputs.getBucketName()))
+                createTransferSpec(
+                    sourceInputs.getBucketName(),
+                    destinationInputs.getBucketName(),
+                    modifiedSince))
             .setStatus(ENABLED_STATUS);
     // Create the TransferJob for the associated schedule and spec in the correct project.
     final TransferJob transferJobOutput =
@@ -144,14 +157,23 @@ public final class CreateStorageTransferServiceJobStep implements Step {
     return StorageTransferServiceUtils.deleteTransferJobStepImpl(flightContext, storagetransfer);
   }
 
-  private TransferSpec createTransferSpec(String sourceBucketName, String destinationBucketName) {
-    return new TransferSpec()
-        .setGcsDataSource(new GcsData().setBucketName(sourceBucketName))
-        .setGcsDataSink(new GcsData().setBucketName(destinationBucketName))
-        .setTransferOptions(
-            new TransferOptions()
-                .setDeleteObjectsFromSourceAfterTransfer(false)
-                .setOverwriteObjectsAlreadyExistingInSink(false));
+  private TransferSpec createTransferSpec(
+      String sourceBucketName, String destinationBucketName, @Nullable Long modifiedSince) {
+    // Objects already in the sink are overwritten only if they differ from the source
+    final TransferSpec transferSpec =
+        new TransferSpec()
+            .setGcsDataSource(new GcsData().setBucketName(sourceBucketName))
+            .setGcsDataSink(new GcsData().setBucketName(destinationBucketName))
+            .setTransferOptions(
+                new TransferOptions()
+                    .setDeleteObjectsFromSourceAfterTransfer(false)
+                    .setOverwriteObjectsAlreadyExistingInSink(false));
+    if (modifiedSince != null) {
+      transferSpec.setObjectConditions(
+          new ObjectConditions()
+              .setLastModifiedSince(Instant.ofEpochMilli(modifiedSince).toString()));
+    }
+    return transferSpec;
   }
 
   /**
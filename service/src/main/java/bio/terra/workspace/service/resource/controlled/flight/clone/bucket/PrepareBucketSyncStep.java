@@ -0,0 +1,67 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.common.utils.FlightUtils;
+import bio.terra.workspace.db.BucketSyncDao;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Look up the watermark of the last sync of the destination bucket from the source bucket.
+ *
+ * <p>Preconditions: Input parameters contain DESTINATION_RESOURCE_ID and DESTINATION_BUCKET_NAME.
+ *
+ * <p>Post conditions: Working map contains BUCKET_SYNC_START, the time this sync started, and
+ * DESTINATION_BUCKET_NAME. If the bucket was synced from the same source before, the working map
+ * also contains BUCKET_SYNC_MODIFIED_SINCE, and only objects modified since then are copied.
+ */
+public class PrepareBucketSyncStep implements Step {
+  private final ControlledGcsBucketResource sourceBucket;
+  private final BucketSyncDao bucketSyncDao;
+
+  public PrepareBucketSyncStep(
+      ControlledGcsBucketResource sourceBucket, BucketSyncDao bucketSyncDao) {
+    this.sourceBucket = sourceBucket;
+    this.bucketSyncDao = bucketSyncDao;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext flightContext)
+      throws InterruptedException, RetryException {
+    final FlightMap inputParameters = flightContext.getInputParameters();
+    FlightUtils.validateRequiredEntries(
+        inputParameters,
+        ControlledResourceKeys.DESTINATION_RESOURCE_ID,
+        ControlledResourceKeys.DESTINATION_BUCKET_NAME);
+    final FlightMap workingMap = flightContext.getWorkingMap();
+    // Keep the start time of the first attempt, so that a retry cannot skip objects
+    if (workingMap.get(ControlledResourceKeys.BUCKET_SYNC_START, Long.class) == null) {
+      workingMap.put(ControlledResourceKeys.BUCKET_SYNC_START, Instant.now().toEpochMilli());
+    }
+    workingMap.put(
+        ControlledResourceKeys.DESTINATION_BUCKET_NAME,
+        inputParameters.get(ControlledResourceKeys.DESTINATION_BUCKET_NAME, String.class));
+
+    final UUID destinationResourceId =
+        inputParameters.get(ControlledResourceKeys.DESTINATION_RESOURCE_ID, UUID.class);
+    final Optional<Instant> lastSyncTime =
+        bucketSyncDao.getLastSyncTime(destinationResourceId, sourceBucket.getBucketName());
+    lastSyncTime.ifPresent(
+        time ->
+            workingMap.put(ControlledResourceKeys.BUCKET_SYNC_MODIFIED_SINCE, time.toEpochMilli()));
+    return StepResult.getStepResultSuccess();
+  }
+
+  // Nothing is changed until the objects are copied.
+  @Override
+  public StepResult undoStep(FlightContext flightContext) throws InterruptedException {
+    return StepResult.getStepResultSuccess();
+  }
+}
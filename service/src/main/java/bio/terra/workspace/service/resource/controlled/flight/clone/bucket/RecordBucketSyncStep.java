@@ -0,0 +1,80 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.common.utils.FlightUtils;
+import bio.terra.workspace.db.BucketSyncDao;
+import bio.terra.workspace.generated.model.ApiSyncedControlledGcpGcsBucket;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Record the watermark of a completed sync, so that the next sync from the same source copies only
+ * objects modified since this one started.
+ *
+ * <p>Preconditions: Every source object modified since BUCKET_SYNC_MODIFIED_SINCE, or every source
+ * object if that is absent, has been copied. Working map contains BUCKET_SYNC_START.
+ *
+ * <p>Post conditions: The watermark of the destination bucket is updated. The response contains
+ * the sync result.
+ */
+public class RecordBucketSyncStep implements Step {
+  // Object update times are set by GCS, not by us, so allow for clock skew between the two
+  private static final Duration CLOCK_SKEW_MARGIN = Duration.ofMinutes(5);
+
+  private final ControlledGcsBucketResource sourceBucket;
+  private final BucketSyncDao bucketSyncDao;
+
+  public RecordBucketSyncStep(
+      ControlledGcsBucketResource sourceBucket, BucketSyncDao bucketSyncDao) {
+    this.sourceBucket = sourceBucket;
+    this.bucketSyncDao = bucketSyncDao;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext flightContext)
+      throws InterruptedException, RetryException {
+    final FlightMap workingMap = flightContext.getWorkingMap();
+    FlightUtils.validateRequiredEntries(workingMap, ControlledResourceKeys.BUCKET_SYNC_START);
+    final UUID destinationResourceId =
+        flightContext
+            .getInputParameters()
+            .get(ControlledResourceKeys.DESTINATION_RESOURCE_ID, UUID.class);
+    final Instant syncStart =
+        Instant.ofEpochMilli(workingMap.get(ControlledResourceKeys.BUCKET_SYNC_START, Long.class));
+    final Long modifiedSince =
+        workingMap.get(ControlledResourceKeys.BUCKET_SYNC_MODIFIED_SINCE, Long.class);
+
+    bucketSyncDao.recordSync(
+        destinationResourceId, sourceBucket.getBucketName(), syncStart.minus(CLOCK_SKEW_MARGIN));
+
+    final ApiSyncedControlledGcpGcsBucket result =
+        new ApiSyncedControlledGcpGcsBucket()
+            .sourceWorkspaceId(sourceBucket.getWorkspaceId())
+            .sourceResourceId(sourceBucket.getResourceId())
+            .resourceId(destinationResourceId)
+            .incremental(modifiedSince != null);
+    if (modifiedSince != null) {
+      result.modifiedSince(
+          OffsetDateTime.ofInstant(Instant.ofEpochMilli(modifiedSince), ZoneOffset.UTC));
+    }
+    FlightUtils.setResponse(flightContext, result, HttpStatus.OK);
+    return StepResult.getStepResultSuccess();
+  }
+
+  // This is the last step, so there is nothing after it that could fail and need the earlier
+  // watermark back.
+  @Override
+  public StepResult undoStep(FlightContext flightContext) throws InterruptedException {
+    return StepResult.getStepResultSuccess();
+  }
+}
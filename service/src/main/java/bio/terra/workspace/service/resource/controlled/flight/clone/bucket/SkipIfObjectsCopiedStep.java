@@ -0,0 +1,43 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+
+/**
+ * Run a Storage Transfer Service step of a bucket clone only if {@link CopyGcsBucketObjectsStep}
+ * did not copy the objects directly. Both the step and its undo are skipped otherwise.
+ */
+public class SkipIfObjectsCopiedStep implements Step {
+  private final Step transferStep;
+
+  public SkipIfObjectsCopiedStep(Step transferStep) {
+    this.transferStep = transferStep;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext flightContext)
+      throws InterruptedException, RetryException {
+    if (objectsCopied(flightContext)) {
+      return StepResult.getStepResultSuccess();
+    }
+    return transferStep.doStep(flightContext);
+  }
+
+  @Override
+  public StepResult undoStep(FlightContext flightContext) throws InterruptedException {
+    if (objectsCopied(flightContext)) {
+      return StepResult.getStepResultSuccess();
+    }
+    return transferStep.undoStep(flightContext);
+  }
+
+  private static boolean objectsCopied(FlightContext flightContext) {
+    return Boolean.TRUE.equals(
+        flightContext
+            .getWorkingMap()
+            .get(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, Boolean.class));
+  }
+}
@@ -0,0 +1,76 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import bio.terra.stairway.Flight;
+import bio.terra.stairway.FlightMap;
+import bio.terra.workspace.common.utils.FlightBeanBag;
+import bio.terra.workspace.common.utils.FlightUtils;
+import bio.terra.workspace.common.utils.RetryRules;
+import bio.terra.workspace.service.job.AwaitFlightAdmissionStep;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
+import bio.terra.workspace.service.resource.controlled.model.ControlledResource;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ResourceKeys;
+
+// Flight Plan
+// 1. Look up the watermark of the last sync from the source bucket
+// 2. If the source bucket is small, copy its modified objects directly and skip steps 3-7
+// 3. Set bucket roles for cloning service account
+// 4. Create Storage Transfer Service transfer job for objects modified since the watermark
+// 5. Listen for running operation in transfer job
+// 6. Delete the storage transfer job
+// 7. Clear bucket roles
+// 8. Record the new watermark
+// Authorization is checked before the flight is submitted.
+public class SyncControlledGcsBucketResourceFlight extends Flight {
+
+  public SyncControlledGcsBucketResourceFlight(
+      FlightMap inputParameters, Object applicationContext) {
+    super(inputParameters, applicationContext);
+    FlightUtils.validateRequiredEntries(
+        inputParameters,
+        ResourceKeys.RESOURCE,
+        ControlledResourceKeys.DESTINATION_WORKSPACE_ID,
+        ControlledResourceKeys.DESTINATION_RESOURCE_ID,
+        ControlledResourceKeys.DESTINATION_BUCKET_NAME);
+
+    final FlightBeanBag flightBeanBag = FlightBeanBag.getFromObject(applicationContext);
+    final ControlledGcsBucketResource sourceBucket =
+        inputParameters
+            .get(ResourceKeys.RESOURCE, ControlledResource.class)
+            .castByEnum(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET);
+
+    addStep(new AwaitFlightAdmissionStep(flightBeanBag.getFlightAdmission()));
+    addStep(
+        new PrepareBucketSyncStep(sourceBucket, flightBeanBag.getBucketSyncDao()),
+        RetryRules.shortDatabase());
+    addStep(
+        new CopyGcsBucketObjectsStep(
+            sourceBucket,
+            flightBeanBag.getCrlService(),
+            flightBeanBag.getBucketCloneConfiguration()),
+        RetryRules.cloud());
+    addStep(
+        new SkipIfObjectsCopiedStep(
+            new SetBucketRolesStep(
+                sourceBucket,
+                flightBeanBag.getGcpCloudContextService(),
+                flightBeanBag.getBucketCloneRolesService(),
+                flightBeanBag.getStoragetransfer())));
+    addStep(
+        new SkipIfObjectsCopiedStep(
+            new CreateStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer())));
+    addStep(
+        new SkipIfObjectsCopiedStep(
+            new CompleteTransferOperationStep(flightBeanBag.getStoragetransfer())));
+    addStep(
+        new SkipIfObjectsCopiedStep(
+            new DeleteStorageTransferServiceJobStep(flightBeanBag.getStoragetransfer())));
+    addStep(
+        new SkipIfObjectsCopiedStep(
+            new RemoveBucketRolesStep(flightBeanBag.getBucketCloneRolesService())));
+    addStep(
+        new RecordBucketSyncStep(sourceBucket, flightBeanBag.getBucketSyncDao()),
+        RetryRules.shortDatabase());
+  }
+}
@@ -1,7 +1,5 @@
 package bio.terra.workspace.service.resource.controlled.flight.clone.workspace;
 
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_CYCLES;
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_SECONDS;
 import static bio.terra.workspace.common.utils.FlightUtils.validateRequiredEntries;
 
 import bio.terra.stairway.FlightContext;
@@ -52,11 +50,12 @@ public class AwaitCloneAllResourcesFlightStep implements Step {
         context.getInputParameters().get(JobMapKeys.REQUEST.getKeyName(), Workspace.class);
 
     try {
-      //noinspection deprecation
-      final FlightState subflightState =
-          context
-              .getStairway()
-              .waitForFlight(cloneAllResourcesFlightId, FLIGHT_POLL_SECONDS, FLIGHT_POLL_CYCLES);
+      final Optional<FlightState> completedSubflightState =
+          FlightUtils.awaitSubflight(context, cloneAllResourcesFlightId);
+      if (completedSubflightState.isEmpty()) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
+      final FlightState subflightState = completedSubflightState.get();
       if (FlightStatus.SUCCESS != subflightState.getFlightStatus()) {
         // no point in retrying the await step
         return new StepResult(
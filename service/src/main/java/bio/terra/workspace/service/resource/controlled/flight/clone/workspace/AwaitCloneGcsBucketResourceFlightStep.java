@@ -1,7 +1,5 @@
 package bio.terra.workspace.service.resource.controlled.flight.clone.workspace;
 
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_CYCLES;
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_SECONDS;
 import static bio.terra.workspace.common.utils.FlightUtils.validateRequiredEntries;
 
 import bio.terra.stairway.FlightContext;
@@ -45,8 +43,12 @@ public class AwaitCloneGcsBucketResourceFlightStep implements Step {
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     // wait for the flight
     try {
-      final FlightState subflightState =
-          context.getStairway().waitForFlight(subflightId, FLIGHT_POLL_SECONDS, FLIGHT_POLL_CYCLES);
+      final Optional<FlightState> completedSubflightState =
+          FlightUtils.awaitSubflight(context, subflightId);
+      if (completedSubflightState.isEmpty()) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
+      final FlightState subflightState = completedSubflightState.get();
       final FlightStatus subflightStatus = subflightState.getFlightStatus();
       final WsmCloneResourceResult cloneResult =
           WorkspaceCloneUtils.flightStatusToCloneResult(subflightStatus, resource);
@@ -1,8 +1,5 @@
 package bio.terra.workspace.service.resource.controlled.flight.clone.workspace;
 
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_CYCLES;
-import static bio.terra.workspace.common.utils.FlightUtils.FLIGHT_POLL_SECONDS;
-
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.FlightState;
 import bio.terra.stairway.FlightStatus;
@@ -14,6 +11,7 @@ import bio.terra.stairway.exception.FlightWaitTimedOutException;
 import bio.terra.stairway.exception.RetryException;
 import bio.terra.workspace.common.utils.FlightUtils;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import java.util.Optional;
 
 public class AwaitCreateGcpContextFlightStep implements Step {
 
@@ -28,8 +26,12 @@ public class AwaitCreateGcpContextFlightStep implements Step {
             .getWorkingMap()
             .get(ControlledResourceKeys.CREATE_CLOUD_CONTEXT_FLIGHT_ID, String.class);
     try {
-      final FlightState subflightState =
-          context.getStairway().waitForFlight(jobId, FLIGHT_POLL_SECONDS, FLIGHT_POLL_CYCLES);
+      final Optional<FlightState> completedSubflightState =
+          FlightUtils.awaitSubflight(context, jobId);
+      if (completedSubflightState.isEmpty()) {
+        return new StepResult(StepStatus.STEP_RESULT_WAIT);
+      }
+      final FlightState subflightState = completedSubflightState.get();
       if (FlightStatus.SUCCESS != subflightState.getFlightStatus()) {
         // no point in retrying the await step
         return new StepResult(
@@ -4,17 +4,21 @@ import bio.terra.stairway.Flight;
 import bio.terra.stairway.FlightMap;
 import bio.terra.workspace.common.utils.FlightBeanBag;
 import bio.terra.workspace.common.utils.RetryRules;
+import bio.terra.workspace.service.resource.model.StewardshipType;
 import bio.terra.workspace.service.resource.model.WsmResource;
 import bio.terra.workspace.service.resource.model.WsmResourceType;
 import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This flight uses a dynamic list of steps depending on ControlledResourceKeys.RESOURCES_TO_CLONE
- * in the input parameters list. Each resource type requires a different subflight to be launched.
+ * in the input parameters list. All referenced resources are cloned together by one step, since
+ * that only copies metadata. Each controlled resource type requires a different subflight to be
+ * launched.
  */
 public class CloneAllResourcesFlight extends Flight {
 
@@ -27,9 +31,23 @@ public class CloneAllResourcesFlight extends Flight {
     final List<ResourceCloneInputs> resourceCloneInputsList =
         inputParameters.get(ControlledResourceKeys.RESOURCES_TO_CLONE, new TypeReference<>() {});
 
-    // Each entry in the list corresponds to a new step in this flight
+    final List<ResourceCloneInputs> referencedResourceInputs =
+        resourceCloneInputsList.stream()
+            .filter(
+                inputs -> inputs.getResource().getStewardshipType() == StewardshipType.REFERENCED)
+            .collect(Collectors.toList());
+    if (!referencedResourceInputs.isEmpty()) {
+      addStep(
+          new CloneReferencedResourcesStep(
+              flightBeanBag.getResourceDao(), referencedResourceInputs),
+          RetryRules.shortDatabase());
+    }
+
+    // Each remaining entry in the list corresponds to a new step in this flight
     for (ResourceCloneInputs resourceCloneInputs : resourceCloneInputsList) {
-      addFlightLaunchStepsForResource(resourceCloneInputs, flightBeanBag);
+      if (resourceCloneInputs.getResource().getStewardshipType() != StewardshipType.REFERENCED) {
+        addFlightLaunchStepsForResource(resourceCloneInputs, flightBeanBag);
+      }
     }
   }
 
@@ -38,20 +56,6 @@ public class CloneAllResourcesFlight extends Flight {
     final WsmResource resource = resourceCloneInputs.getResource();
 
     switch (resource.getStewardshipType()) {
-      case REFERENCED:
-        addStep(
-            new LaunchCreateReferenceResourceFlightStep(
-                flightBeanBag.getReferencedResourceService(),
-                resourceCloneInputs.getResource().castToReferencedResource(),
-                resourceCloneInputs.getFlightId(),
-                resourceCloneInputs.getDestinationResourceId()));
-        addStep(
-            new AwaitCreateReferenceResourceFlightStep(
-                resourceCloneInputs.getResource().castToReferencedResource(),
-                resourceCloneInputs.getFlightId(),
-                flightBeanBag.getResourceDao()),
-            RetryRules.cloudLongRunning());
-        break;
       case CONTROLLED:
         switch (resourceCloneInputs.getResource().getResourceType()) {
           case CONTROLLED_GCP_GCS_BUCKET:
@@ -4,6 +4,7 @@ import bio.terra.stairway.Flight;
 import bio.terra.stairway.FlightMap;
 import bio.terra.workspace.common.utils.FlightBeanBag;
 import bio.terra.workspace.common.utils.RetryRules;
+import bio.terra.workspace.service.job.AwaitFlightAdmissionStep;
 
 /** Top-most flight for cloning a GCP workspace. Launches sub-flights for most of the work. */
 public class CloneGcpWorkspaceFlight extends Flight {
@@ -18,6 +19,8 @@ public class CloneGcpWorkspaceFlight extends Flight {
     // 4. Launch a flight to clone all resources on the list
     // 4a. Await the clone all resources flight and build a response
     final var flightBeanBag = FlightBeanBag.getFromObject(applicationContext);
+    // Cloning can take hours, so it first waits for a slot in the long-running budget
+    addStep(new AwaitFlightAdmissionStep(flightBeanBag.getFlightAdmission()));
     addStep(new FindResourcesToCloneStep(flightBeanBag.getResourceDao()), RetryRules.cloud());
 
     addStep(new CreateIdsForFutureStepsStep());
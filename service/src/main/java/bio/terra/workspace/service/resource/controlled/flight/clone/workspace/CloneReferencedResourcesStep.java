@@ -0,0 +1,108 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.workspace;
+
+import static bio.terra.workspace.common.utils.FlightUtils.validateRequiredEntries;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.Step;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.db.ResourceDao;
+import bio.terra.workspace.service.resource.model.CloningInstructions;
+import bio.terra.workspace.service.resource.referenced.cloud.gcp.ReferencedResource;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import bio.terra.workspace.service.workspace.model.WsmCloneResourceResult;
+import bio.terra.workspace.service.workspace.model.WsmResourceCloneDetails;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Clone all referenced resources of a workspace at once. Cloning a reference only copies its
+ * metadata, so rather than a subflight per reference, this step builds every destination reference
+ * and stores them with one batched insert in a single transaction. A reference whose name is
+ * already taken in the destination workspace is reported as failed without failing the others.
+ */
+public class CloneReferencedResourcesStep implements Step {
+
+  private final ResourceDao resourceDao;
+  private final List<ResourceCloneInputs> resourceCloneInputsList;
+
+  public CloneReferencedResourcesStep(
+      ResourceDao resourceDao, List<ResourceCloneInputs> resourceCloneInputsList) {
+    this.resourceDao = resourceDao;
+    this.resourceCloneInputsList = resourceCloneInputsList;
+  }
+
+  @Override
+  public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
+    validateRequiredEntries(
+        context.getInputParameters(), ControlledResourceKeys.DESTINATION_WORKSPACE_ID);
+    final var destinationWorkspaceId =
+        context
+            .getInputParameters()
+            .get(ControlledResourceKeys.DESTINATION_WORKSPACE_ID, UUID.class);
+
+    final List<ReferencedResource> destinationResources = new ArrayList<>();
+    for (ResourceCloneInputs inputs : resourceCloneInputsList) {
+      final ReferencedResource sourceResource = inputs.getResource().castToReferencedResource();
+      if (CloningInstructions.COPY_REFERENCE == sourceResource.getCloningInstructions()) {
+        destinationResources.add(
+            WorkspaceCloneUtils.buildDestinationReferencedResource(
+                sourceResource,
+                destinationWorkspaceId,
+                inputs.getDestinationResourceId(),
+                sourceResource.getName(),
+                sourceResource.getDescription()));
+      }
+    }
+    final Set<UUID> conflicts = resourceDao.createReferencedResources(destinationResources);
+
+    final var resourceIdToResult =
+        Optional.ofNullable(
+                context
+                    .getWorkingMap()
+                    .get(
+                        ControlledResourceKeys.RESOURCE_ID_TO_CLONE_RESULT,
+                        new TypeReference<Map<UUID, WsmResourceCloneDetails>>() {}))
+            .orElseGet(HashMap::new);
+    for (ResourceCloneInputs inputs : resourceCloneInputsList) {
+      final ReferencedResource sourceResource = inputs.getResource().castToReferencedResource();
+      final WsmResourceCloneDetails cloneDetails = new WsmResourceCloneDetails();
+      cloneDetails.setResourceType(sourceResource.getResourceType());
+      cloneDetails.setStewardshipType(sourceResource.getStewardshipType());
+      cloneDetails.setCloningInstructions(sourceResource.getCloningInstructions());
+      cloneDetails.setSourceResourceId(sourceResource.getResourceId());
+      cloneDetails.setName(sourceResource.getName());
+      cloneDetails.setDescription(sourceResource.getDescription());
+      if (CloningInstructions.COPY_REFERENCE != sourceResource.getCloningInstructions()) {
+        cloneDetails.setResult(WsmCloneResourceResult.SKIPPED);
+      } else if (conflicts.contains(inputs.getDestinationResourceId())) {
+        cloneDetails.setResult(WsmCloneResourceResult.FAILED);
+        cloneDetails.setErrorMessage(
+            String.format(
+                "A resource named %s already exists in the destination workspace",
+                sourceResource.getName()));
+      } else {
+        cloneDetails.setResult(WsmCloneResourceResult.SUCCEEDED);
+        cloneDetails.setDestinationResourceId(inputs.getDestinationResourceId());
+      }
+      resourceIdToResult.put(sourceResource.getResourceId(), cloneDetails);
+    }
+    context
+        .getWorkingMap()
+        .put(ControlledResourceKeys.RESOURCE_ID_TO_CLONE_RESULT, resourceIdToResult);
+    return StepResult.getStepResultSuccess();
+  }
+
+  // No need to undo here as entire workspace will be destroyed by earlier undo
+  // method.
+  @Override
+  public StepResult undoStep(FlightContext context) throws InterruptedException {
+    return StepResult.getStepResultSuccess();
+  }
+}
@@ -21,6 +21,7 @@ import bio.terra.workspace.service.workspace.model.OperationType;
 import io.opencensus.contrib.spring.aop.Traced;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +53,12 @@ public class ReferencedResourceService {
   @Traced
   public ReferencedResource createReferenceResource(
       ReferencedResource resource, AuthenticatedUserRequest userRequest) {
+    return JobService.awaitResult(createReferenceResourceNonBlocking(resource, userRequest));
+  }
+
+  /** Start creating a reference, returning a future of the created reference. */
+  public CompletableFuture<ReferencedResource> createReferenceResourceNonBlocking(
+      ReferencedResource resource, AuthenticatedUserRequest userRequest) {
     workspaceService.validateWorkspaceAndAction(
         userRequest, resource.getWorkspaceId(), SamConstants.SamWorkspaceAction.CREATE_REFERENCE);
 
@@ -75,12 +82,16 @@ public class ReferencedResourceService {
             .resourceType(resource.getResourceType())
             .stewardshipType(StewardshipType.REFERENCED);
 
-    UUID resourceIdResult = createJob.submitAndWait(UUID.class);
-    if (!resourceIdResult.equals(resource.getResourceId())) {
-      throw new InvalidMetadataException("Input and output resource ids do not match");
-    }
-
-    return getReferenceResource(resource.getWorkspaceId(), resourceIdResult, userRequest);
+    return createJob
+        .submitAndGetFuture(UUID.class)
+        .thenApply(
+            resourceIdResult -> {
+              if (!resourceIdResult.equals(resource.getResourceId())) {
+                throw new InvalidMetadataException("Input and output resource ids do not match");
+              }
+              return getReferenceResource(
+                  resource.getWorkspaceId(), resourceIdResult, userRequest);
+            });
   }
 
   /**
@@ -128,6 +139,31 @@ public class ReferencedResourceService {
       @Nullable String description,
       @Nullable ReferencedResource resource,
       @Nullable CloningInstructions cloningInstructions) {
+    JobService.awaitResult(
+        updateReferenceResourceNonBlocking(
+            workspaceUuid,
+            resourceId,
+            userRequest,
+            name,
+            description,
+            resource,
+            cloningInstructions));
+  }
+
+  /**
+   * Start updating a reference resource. Returns a future completed when the update is done; an
+   * update that does not change the referencing target is done in the database before returning.
+   * Parameters are as for {@link #updateReferenceResource(UUID, UUID, AuthenticatedUserRequest,
+   * String, String, ReferencedResource, CloningInstructions)}.
+   */
+  public CompletableFuture<Void> updateReferenceResourceNonBlocking(
+      UUID workspaceUuid,
+      UUID resourceId,
+      AuthenticatedUserRequest userRequest,
+      @Nullable String name,
+      @Nullable String description,
+      @Nullable ReferencedResource resource,
+      @Nullable CloningInstructions cloningInstructions) {
     workspaceService.validateWorkspaceAndAction(
         userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.UPDATE_REFERENCE);
     // Name may be null if the user is not updating it in this request.
@@ -136,7 +172,7 @@ public class ReferencedResourceService {
     }
     // Description may also be null, but this validator accepts null descriptions.
     ResourceValidationUtils.validateResourceDescriptionName(description);
-    boolean updated;
+    CompletableFuture<Boolean> updated;
     if (resource != null) {
       JobBuilder updateJob =
           jobService
@@ -150,17 +186,22 @@ public class ReferencedResourceService {
               .resourceType(resource.getResourceType())
               .resourceName(name)
               .addParameter(ResourceKeys.RESOURCE_DESCRIPTION, description);
-      updated = updateJob.submitAndWait(Boolean.class);
+      updated = updateJob.submitAndGetFuture(Boolean.class);
     } else {
       // we are not updating anything on the cloud, just the DB
       updated =
-          resourceDao.updateResource(
-              workspaceUuid, resourceId, name, description, cloningInstructions);
-    }
-    if (!updated) {
-      logger.warn("There's no update to the referenced resource");
+          CompletableFuture.completedFuture(
+              resourceDao.updateResource(
+                  workspaceUuid, resourceId, name, description, cloningInstructions));
     }
+    return updated.thenAccept(
+        isUpdated -> {
+          if (!isUpdated) {
+            logger.warn("There's no update to the referenced resource");
+          }
+        });
   }
+
   /**
    * Delete a reference. The only state we hold for a reference is in the metadata database so we
    * directly delete that.
@@ -202,6 +243,17 @@ public class ReferencedResourceService {
     return resourceDao.getResource(workspaceUuid, resourceId).castToReferencedResource();
   }
 
+  /**
+   * Version of a reference, for use as its entity tag. The caller is authorized as for {@link
+   * #getReferenceResource}, so errors are reported in the same order.
+   */
+  public long getResourceVersion(
+      UUID workspaceUuid, UUID resourceId, AuthenticatedUserRequest userRequest) {
+    workspaceService.validateWorkspaceAndAction(
+        userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.READ);
+    return resourceDao.getResourceVersion(workspaceUuid, resourceId);
+  }
+
   public ReferencedResource getReferenceResourceByName(
       UUID workspaceUuid, String name, AuthenticatedUserRequest userRequest) {
     workspaceService.validateWorkspaceAndAction(
@@ -11,6 +11,8 @@ import java.util.function.Supplier;
 import javax.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 
 /*
  This class is factored out with the idea that it could be moved to Terra Common Library.
@@ -35,11 +37,18 @@ public class BaseStatusService {
   private final ConcurrentHashMap<String, Supplier<Boolean>> statusCheckMap;
   /** scheduler */
   private final ScheduledExecutorService scheduler;
+  /** whether to start checking once the application is ready, rather than on construction */
+  private final boolean deferUntilReady;
   /** last time cache was updated */
   private Instant lastStatusUpdate;
 
   public BaseStatusService(StatusCheckConfiguration configuration) {
+    this(configuration, false);
+  }
+
+  public BaseStatusService(StatusCheckConfiguration configuration, boolean deferUntilReady) {
     this.configuration = configuration;
+    this.deferUntilReady = deferUntilReady;
     this.statusCheckMap = new ConcurrentHashMap<>();
 
     this.statusOk = new AtomicBoolean(false);
@@ -49,10 +58,27 @@ public class BaseStatusService {
 
   @PostConstruct
   public void startStatusChecking() {
+    if (!deferUntilReady) {
+      scheduleStatusChecks(configuration.getStartupWaitSeconds());
+    }
+  }
+
+  /**
+   * When deferred, start checking as soon as the application is ready. Initialization is complete
+   * by then, so there is no startup wait.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startDeferredStatusChecking() {
+    if (deferUntilReady) {
+      scheduleStatusChecks(0);
+    }
+  }
+
+  private void scheduleStatusChecks(long initialDelaySeconds) {
     if (configuration.isEnabled()) {
       scheduler.scheduleAtFixedRate(
           this::checkStatus,
-          configuration.getStartupWaitSeconds(),
+          initialDelaySeconds,
           configuration.getPollingIntervalSeconds(),
           TimeUnit.SECONDS);
     }
@@ -1,5 +1,6 @@
 package bio.terra.workspace.service.status;
 
+import bio.terra.workspace.app.configuration.external.StartupConfiguration;
 import bio.terra.workspace.app.configuration.external.StatusCheckConfiguration;
 import bio.terra.workspace.service.iam.SamService;
 import java.sql.Connection;
@@ -20,8 +21,9 @@ public class WorkspaceManagerStatusService extends BaseStatusService {
   public WorkspaceManagerStatusService(
       NamedParameterJdbcTemplate jdbcTemplate,
       SamService samService,
-      StatusCheckConfiguration configuration) {
-    super(configuration);
+      StatusCheckConfiguration configuration,
+      StartupConfiguration startupConfiguration) {
+    super(configuration, startupConfiguration.isFastStart());
     // Heuristic for database timeout - half of the polling interval
     this.databaseCheckTimeout = configuration.getPollingIntervalSeconds() / 2;
     this.jdbcTemplate = jdbcTemplate;
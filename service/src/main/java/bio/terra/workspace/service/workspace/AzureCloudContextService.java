@@ -1,5 +1,8 @@
 package bio.terra.workspace.service.workspace;
 
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.db.CacheInvalidationBus;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
 import bio.terra.workspace.db.WorkspaceDao;
 import bio.terra.workspace.service.workspace.exceptions.CloudContextRequiredException;
 import bio.terra.workspace.service.workspace.model.AzureCloudContext;
@@ -12,15 +15,26 @@ import org.springframework.stereotype.Component;
 /**
  * This service provides methods for managing Azure cloud context. These methods do not perform any
  * access control and operate directly against the {@link WorkspaceDao}
+ *
+ * <p>Completed cloud contexts are cached in the same way as in {@link GcpCloudContextService}.
  */
 @Component
 public class AzureCloudContextService {
 
   private final WorkspaceDao workspaceDao;
+  private final CloudContextCache<AzureCloudContext> contextCache;
 
   @Autowired
-  public AzureCloudContextService(WorkspaceDao workspaceDao) {
+  public AzureCloudContextService(
+      WorkspaceDao workspaceDao,
+      CacheConfiguration cacheConfiguration,
+      CacheInvalidationBus cacheInvalidationBus) {
     this.workspaceDao = workspaceDao;
+    this.contextCache = new CloudContextCache<>(cacheConfiguration);
+    cacheInvalidationBus.subscribe(
+        Region.CLOUD_CONTEXT,
+        workspaceId -> contextCache.invalidate(UUID.fromString(workspaceId)),
+        contextCache::invalidateAll);
   }
 
   /**
@@ -49,6 +63,7 @@ public class AzureCloudContextService {
       UUID workspaceUuid, AzureCloudContext cloudContext, String flightId) {
     workspaceDao.createCloudContextFinish(
         workspaceUuid, CloudPlatform.AZURE, cloudContext.serialize(), flightId);
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -59,6 +74,7 @@ public class AzureCloudContextService {
    */
   public void deleteAzureCloudContext(UUID workspaceUuid) {
     workspaceDao.deleteCloudContext(workspaceUuid, CloudPlatform.AZURE);
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -71,6 +87,18 @@ public class AzureCloudContextService {
   public void deleteAzureCloudContextWithFlightIdValidation(UUID workspaceUuid, String flightId) {
     workspaceDao.deleteCloudContextWithFlightIdValidation(
         workspaceUuid, CloudPlatform.AZURE, flightId);
+    contextCache.invalidate(workspaceUuid);
+  }
+
+  /**
+   * Drop the cached context of a workspace. Use this when the context is deleted other than through
+   * this service, such as by the cascade of a workspace delete, so that this instance does not
+   * serve it until the invalidation notification arrives.
+   *
+   * @param workspaceUuid workspace of the cloud context
+   */
+  public void invalidateCachedContext(UUID workspaceUuid) {
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -80,9 +108,12 @@ public class AzureCloudContextService {
    * @return optional GCP cloud context
    */
   public Optional<AzureCloudContext> getAzureCloudContext(UUID workspaceUuid) {
-    return workspaceDao
-        .getCloudContext(workspaceUuid, CloudPlatform.AZURE)
-        .map(AzureCloudContext::deserialize);
+    return contextCache.get(
+        workspaceUuid,
+        () ->
+            workspaceDao
+                .getCloudContext(workspaceUuid, CloudPlatform.AZURE)
+                .map(AzureCloudContext::deserialize));
   }
 
   public AzureCloudContext getRequiredAzureCloudContext(UUID workspaceUuid) {
@@ -0,0 +1,77 @@
+package bio.terra.workspace.service.workspace;
+
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Cache of completed cloud contexts, keyed by workspace.
+ *
+ * <p>A context loaded while its workspace is invalidated may be the one the invalidation replaced,
+ * so it must not be cached. Each invalidation bumps a generation for the workspace, and a loaded
+ * context is kept only if the generation did not change while it was loaded. Generations are kept
+ * per stripe of workspaces rather than per workspace, so that they take bounded memory; a clash
+ * only costs an uncached load.
+ */
+class CloudContextCache<T> {
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<UUID, T> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  CloudContextCache(CacheConfiguration cacheConfiguration) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(cacheConfiguration.getCloudContextMaxSize())
+            .expireAfterWrite(cacheConfiguration.getCloudContextTtl())
+            .build();
+  }
+
+  /**
+   * Get the context of a workspace, loading it if it is not cached.
+   *
+   * @param workspaceUuid workspace of the context
+   * @param load reads the completed context from the database
+   * @return the context, if the workspace has a completed one
+   */
+  Optional<T> get(UUID workspaceUuid, Supplier<Optional<T>> load) {
+    T cached = cache.getIfPresent(workspaceUuid);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    int stripe = stripe(workspaceUuid);
+    long generation = generations.get(stripe);
+    Optional<T> context = load.get();
+    if (context.isPresent() && generations.get(stripe) == generation) {
+      cache.put(workspaceUuid, context.get());
+      // An invalidation between the check and the put bumps the generation before it removes
+      // the entry, so either it removes what we put or we see the bump here.
+      if (generations.get(stripe) != generation) {
+        cache.invalidate(workspaceUuid);
+      }
+    }
+    return context;
+  }
+
+  /** Drop the context of a workspace, and keep any load in progress from caching it. */
+  void invalidate(UUID workspaceUuid) {
+    generations.incrementAndGet(stripe(workspaceUuid));
+    cache.invalidate(workspaceUuid);
+  }
+
+  /** Drop every context, and keep any load in progress from caching one. */
+  void invalidateAll() {
+    for (int i = 0; i < GENERATION_STRIPES; i++) {
+      generations.incrementAndGet(i);
+    }
+    cache.invalidateAll();
+  }
+
+  private static int stripe(UUID workspaceUuid) {
+    return Math.floorMod(workspaceUuid.hashCode(), GENERATION_STRIPES);
+  }
+}
@@ -1,5 +1,8 @@
 package bio.terra.workspace.service.workspace;
 
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.db.CacheInvalidationBus;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
 import bio.terra.workspace.db.WorkspaceDao;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
 import bio.terra.workspace.service.iam.SamService;
@@ -16,17 +19,34 @@ import org.springframework.stereotype.Component;
  * This service provides methods for managing GCP cloud context in the WSM database. These methods
  * do not perform any access control and operate directly against the {@link
  * bio.terra.workspace.db.WorkspaceDao}
+ *
+ * <p>Completed cloud contexts are cached in memory, keyed by workspace. Contexts that are still
+ * being created are never cached. Writes through this service invalidate the entry directly, and
+ * writes made by other instances invalidate it through the {@link CacheInvalidationBus}; the TTL
+ * bounds staleness should a notification be lost. A context loaded while its workspace is being
+ * invalidated is not cached; see {@link CloudContextCache}. Cloud contexts are immutable, so cached
+ * ones are shared between callers.
  */
 @Component
 public class GcpCloudContextService {
 
   private final WorkspaceDao workspaceDao;
   private final SamService samService;
+  private final CloudContextCache<GcpCloudContext> contextCache;
 
   @Autowired
-  public GcpCloudContextService(WorkspaceDao workspaceDao, SamService samService) {
+  public GcpCloudContextService(
+      WorkspaceDao workspaceDao,
+      SamService samService,
+      CacheConfiguration cacheConfiguration,
+      CacheInvalidationBus cacheInvalidationBus) {
     this.workspaceDao = workspaceDao;
     this.samService = samService;
+    this.contextCache = new CloudContextCache<>(cacheConfiguration);
+    cacheInvalidationBus.subscribe(
+        Region.CLOUD_CONTEXT,
+        workspaceId -> contextCache.invalidate(UUID.fromString(workspaceId)),
+        contextCache::invalidateAll);
   }
 
   /**
@@ -55,6 +75,7 @@ public class GcpCloudContextService {
       UUID workspaceUuid, GcpCloudContext cloudContext, String flightId) {
     workspaceDao.createCloudContextFinish(
         workspaceUuid, CloudPlatform.GCP, cloudContext.serialize(), flightId);
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -65,6 +86,7 @@ public class GcpCloudContextService {
    */
   public void deleteGcpCloudContext(UUID workspaceUuid) {
     workspaceDao.deleteCloudContext(workspaceUuid, CloudPlatform.GCP);
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -77,6 +99,18 @@ public class GcpCloudContextService {
   public void deleteGcpCloudContextWithCheck(UUID workspaceUuid, String flightId) {
     workspaceDao.deleteCloudContextWithFlightIdValidation(
         workspaceUuid, CloudPlatform.GCP, flightId);
+    contextCache.invalidate(workspaceUuid);
+  }
+
+  /**
+   * Drop the cached context of a workspace. Use this when the context is deleted other than through
+   * this service, such as by the cascade of a workspace delete, so that this instance does not
+   * serve it until the invalidation notification arrives.
+   *
+   * @param workspaceUuid workspace of the cloud context
+   */
+  public void invalidateCachedContext(UUID workspaceUuid) {
+    contextCache.invalidate(workspaceUuid);
   }
 
   /**
@@ -86,9 +120,12 @@ public class GcpCloudContextService {
    * @return optional GCP cloud context
    */
   public Optional<GcpCloudContext> getGcpCloudContext(UUID workspaceUuid) {
-    return workspaceDao
-        .getCloudContext(workspaceUuid, CloudPlatform.GCP)
-        .map(GcpCloudContext::deserialize);
+    return contextCache.get(
+        workspaceUuid,
+        () ->
+            workspaceDao
+                .getCloudContext(workspaceUuid, CloudPlatform.GCP)
+                .map(GcpCloudContext::deserialize));
   }
 
   /**
@@ -112,15 +149,15 @@ public class GcpCloudContextService {
     // policyOwner is a good sentinel for knowing we need to update the cloud context and
     // store the sync'd workspace policies.
     if (context.getSamPolicyOwner().isEmpty()) {
-      context.setSamPolicyOwner(
-          samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.OWNER, userRequest));
-      context.setSamPolicyWriter(
-          samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.WRITER, userRequest));
-      context.setSamPolicyReader(
-          samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.READER, userRequest));
-      context.setSamPolicyApplication(
-          samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.APPLICATION, userRequest));
+      context =
+          new GcpCloudContext(
+              context.getGcpProjectId(),
+              samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.OWNER, userRequest),
+              samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.WRITER, userRequest),
+              samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.READER, userRequest),
+              samService.getWorkspacePolicy(workspaceUuid, WsmIamRole.APPLICATION, userRequest));
       workspaceDao.updateCloudContext(workspaceUuid, CloudPlatform.GCP, context.serialize());
+      contextCache.invalidate(workspaceUuid);
     }
     return context;
   }
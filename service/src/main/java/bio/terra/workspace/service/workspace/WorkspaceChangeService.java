@@ -0,0 +1,191 @@
+package bio.terra.workspace.service.workspace;
+
+import bio.terra.workspace.app.configuration.external.ChangeFeedConfiguration;
+import bio.terra.workspace.db.CacheInvalidationBus;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
+import bio.terra.workspace.db.CronjobDao;
+import bio.terra.workspace.db.WorkspaceChangeDao;
+import bio.terra.workspace.db.model.DbWorkspaceChange;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the workspace change feed. A request for the changes after a sequence number is answered
+ * from the workspace_change table. If there are none, the request waits, holding no thread, until
+ * a change to the workspace is announced on the {@link CacheInvalidationBus} by this or any other
+ * instance, or until its wait expires. These methods do not perform any access control.
+ *
+ * <p>Changes older than the configured retention are deleted periodically by one instance.
+ */
+@Component
+public class WorkspaceChangeService {
+  private static final Logger logger = LoggerFactory.getLogger(WorkspaceChangeService.class);
+  private static final String CLEANUP_JOB_NAME = "workspace_change_cleanup_job";
+  // Threads re-reading the feed for woken requests and running the cleanup
+  private static final int EXECUTOR_THREADS = 4;
+
+  private final WorkspaceChangeDao workspaceChangeDao;
+  private final CronjobDao cronjobDao;
+  private final ChangeFeedConfiguration configuration;
+  private final ScheduledExecutorService executor =
+      Executors.newScheduledThreadPool(
+          EXECUTOR_THREADS,
+          new ThreadFactoryBuilder().setNameFormat("workspace-change-%d").setDaemon(true).build());
+  // Wakeups of the requests waiting on each workspace. Sets are only changed inside map updates.
+  private final Map<UUID, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+  @Autowired
+  public WorkspaceChangeService(
+      WorkspaceChangeDao workspaceChangeDao,
+      CronjobDao cronjobDao,
+      ChangeFeedConfiguration configuration,
+      CacheInvalidationBus cacheInvalidationBus) {
+    this.workspaceChangeDao = workspaceChangeDao;
+    this.cronjobDao = cronjobDao;
+    this.configuration = configuration;
+    cacheInvalidationBus.subscribe(
+        Region.WORKSPACE_CHANGE, workspaceId -> wake(UUID.fromString(workspaceId)), this::wakeAll);
+  }
+
+  @PostConstruct
+  public void scheduleCleanup() {
+    long intervalMillis = configuration.getCleanupInterval().toMillis();
+    executor.scheduleAtFixedRate(
+        this::cleanupSuppressExceptions, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stopCleanup() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * @param workspaceUuid workspace of interest
+   * @return sequence number of the latest change to the workspace, or 0 if there is none
+   */
+  public long getLastChangeId(UUID workspaceUuid) {
+    return workspaceChangeDao.getLastChangeId(workspaceUuid);
+  }
+
+  /**
+   * Get the changes to a workspace after a sequence number, waiting for one if there are none.
+   *
+   * @param workspaceUuid workspace of interest
+   * @param afterChangeId sequence number of the last change already seen
+   * @param limit max number of changes to return
+   * @param waitSeconds if present and positive, wait up to this many seconds (capped by
+   *     configuration) for a change
+   * @return future of up to limit changes, oldest first; empty if the wait expired
+   */
+  public CompletableFuture<List<DbWorkspaceChange>> awaitChanges(
+      UUID workspaceUuid, long afterChangeId, int limit, @Nullable Integer waitSeconds) {
+    Duration wait = Duration.ZERO;
+    if (waitSeconds != null && waitSeconds > 0) {
+      wait = Duration.ofSeconds(waitSeconds);
+      if (wait.compareTo(configuration.getMaxWait()) > 0) {
+        wait = configuration.getMaxWait();
+      }
+    }
+    CompletableFuture<List<DbWorkspaceChange>> result = new CompletableFuture<>();
+    poll(workspaceUuid, afterChangeId, limit, System.nanoTime() + wait.toNanos(), result);
+    return result;
+  }
+
+  private void poll(
+      UUID workspaceUuid,
+      long afterChangeId,
+      int limit,
+      long deadlineNanos,
+      CompletableFuture<List<DbWorkspaceChange>> result) {
+    // Register before reading, so that a change committed after the read still wakes us
+    CompletableFuture<Void> wakeup = new CompletableFuture<>();
+    waiters.compute(
+        workspaceUuid,
+        (key, wakeups) -> {
+          Set<CompletableFuture<Void>> updated = wakeups == null ? new HashSet<>() : wakeups;
+          updated.add(wakeup);
+          return updated;
+        });
+
+    List<DbWorkspaceChange> changes;
+    try {
+      changes = workspaceChangeDao.listChanges(workspaceUuid, afterChangeId, limit);
+    } catch (RuntimeException e) {
+      deregister(workspaceUuid, wakeup);
+      result.completeExceptionally(e);
+      return;
+    }
+    long remainingNanos = deadlineNanos - System.nanoTime();
+    if (!changes.isEmpty() || remainingNanos <= 0) {
+      deregister(workspaceUuid, wakeup);
+      result.complete(changes);
+      return;
+    }
+
+    // Read again when woken or, for a last time, when the wait expires
+    ScheduledFuture<?> timeout =
+        executor.schedule(() -> wakeup.complete(null), remainingNanos, TimeUnit.NANOSECONDS);
+    wakeup.thenRunAsync(
+        () -> {
+          timeout.cancel(false);
+          deregister(workspaceUuid, wakeup);
+          poll(workspaceUuid, afterChangeId, limit, deadlineNanos, result);
+        },
+        executor);
+  }
+
+  private void deregister(UUID workspaceUuid, CompletableFuture<Void> wakeup) {
+    waiters.computeIfPresent(
+        workspaceUuid,
+        (key, wakeups) -> {
+          wakeups.remove(wakeup);
+          return wakeups.isEmpty() ? null : wakeups;
+        });
+  }
+
+  private void wake(UUID workspaceUuid) {
+    Set<CompletableFuture<Void>> wakeups = waiters.remove(workspaceUuid);
+    if (wakeups != null) {
+      wakeups.forEach(wakeup -> wakeup.complete(null));
+    }
+  }
+
+  /** Wake every waiting request, when announcements of changes may have been missed. */
+  private void wakeAll() {
+    waiters.keySet().forEach(this::wake);
+  }
+
+  private void cleanupSuppressExceptions() {
+    try {
+      // Claim the run so that only one instance cleans up each interval
+      Duration claimTime = configuration.getCleanupInterval().minus(Duration.ofSeconds(1));
+      if (!cronjobDao.claimJob(CLEANUP_JOB_NAME, claimTime)) {
+        return;
+      }
+      Duration retention = configuration.getRetention();
+      int deleted = workspaceChangeDao.deleteChangesBefore(Instant.now().minus(retention));
+      logger.info("Deleted {} workspace changes older than {}", deleted, retention);
+    } catch (Exception e) {
+      logger.error("Failed to clean up the workspace change feed", e);
+    }
+  }
+}
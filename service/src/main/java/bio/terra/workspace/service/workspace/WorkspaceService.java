@@ -9,12 +9,14 @@ import bio.terra.workspace.service.iam.SamService;
 import bio.terra.workspace.service.iam.model.SamConstants;
 import bio.terra.workspace.service.iam.model.SamConstants.SamWorkspaceAction;
 import bio.terra.workspace.service.iam.model.WsmIamRole;
+import bio.terra.workspace.service.job.FlightPriority;
 import bio.terra.workspace.service.job.JobBuilder;
 import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.job.JobService;
 import bio.terra.workspace.service.resource.controlled.flight.clone.workspace.CloneGcpWorkspaceFlight;
 import bio.terra.workspace.service.stage.StageService;
 import bio.terra.workspace.service.workspace.exceptions.BufferServiceDisabledException;
+import bio.terra.workspace.service.workspace.exceptions.MissingSpendProfileException;
 import bio.terra.workspace.service.workspace.flight.CreateGcpContextFlightV2;
 import bio.terra.workspace.service.workspace.flight.DeleteAzureContextFlight;
 import bio.terra.workspace.service.workspace.flight.DeleteGcpContextFlight;
@@ -32,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -84,6 +88,15 @@ public class WorkspaceService {
   /** Create a workspace with the specified parameters. Returns workspaceID of the new workspace. */
   @Traced
   public UUID createWorkspace(Workspace workspace, AuthenticatedUserRequest userRequest) {
+    return JobService.awaitResult(createWorkspaceNonBlocking(workspace, userRequest));
+  }
+
+  /**
+   * Start creating a workspace. Returns a future of the workspaceID of the new workspace,
+   * completed when the workspace has been created.
+   */
+  public CompletableFuture<UUID> createWorkspaceNonBlocking(
+      Workspace workspace, AuthenticatedUserRequest userRequest) {
     String workspaceName = workspace.getDisplayName().orElse("");
     String workspaceUuid = workspace.getWorkspaceId().toString();
     String jobDescription =
@@ -109,7 +122,89 @@ public class WorkspaceService {
           WorkspaceFlightMapKeys.SPEND_PROFILE_ID, workspace.getSpendProfileId().get().getId());
     }
     // Skip the access check, which would fail since this workspace doesn't exist yet.
-    return createJob.submitAndWait(UUID.class, false);
+    return createJob.submitAndGetFuture(UUID.class, false);
+  }
+
+  /**
+   * Create a workspace and start creating its GCP cloud context as soon as the workspace exists,
+   * saving the caller a round trip to createCloudContext. Everything the context flight needs is
+   * checked before the workspace is created, and the workspace is deleted if the context flight
+   * cannot be submitted, so a request that cannot get a context does not leave a workspace behind.
+   *
+   * @param workspace workspace to create; must be an MC workspace with a spend profile
+   * @param userRequest user authentication info
+   * @param cloudContextJobId caller-supplied job id of the async cloud context job
+   * @param resultPath optional endpoint where the result of the completed job can be retrieved
+   * @return workspaceID of the new workspace
+   */
+  @Traced
+  public UUID createWorkspaceWithGcpCloudContext(
+      Workspace workspace,
+      AuthenticatedUserRequest userRequest,
+      String cloudContextJobId,
+      @Nullable String resultPath) {
+    return JobService.awaitResult(
+        createWorkspaceWithGcpCloudContextNonBlocking(
+            workspace, userRequest, cloudContextJobId, resultPath));
+  }
+
+  /**
+   * Start creating a workspace with a GCP cloud context. Returns a future of the workspaceID of the
+   * new workspace, completed once the workspace exists and its cloud context job is submitted.
+   * Parameters are as for {@link #createWorkspaceWithGcpCloudContext}.
+   */
+  public CompletableFuture<UUID> createWorkspaceWithGcpCloudContextNonBlocking(
+      Workspace workspace,
+      AuthenticatedUserRequest userRequest,
+      String cloudContextJobId,
+      @Nullable String resultPath) {
+    checkBufferServiceEnabled();
+    stageService.assertMcWorkspace(workspace, "createCloudContext");
+    if (workspace.getSpendProfileId().isEmpty()) {
+      throw MissingSpendProfileException.forWorkspace(workspace.getWorkspaceId());
+    }
+
+    return createWorkspaceNonBlocking(workspace, userRequest)
+        .thenCompose(
+            workspaceUuid -> {
+              // The creating user owns the new workspace, so there is no need to ask Sam whether
+              // they may write to it.
+              try {
+                submitCreateGcpCloudContext(workspace, cloudContextJobId, userRequest, resultPath);
+                return CompletableFuture.completedFuture(workspaceUuid);
+              } catch (RuntimeException e) {
+                return deleteWorkspaceAfterFailure(workspaceUuid, userRequest, e);
+              }
+            });
+  }
+
+  /**
+   * Delete a workspace whose creation could not be completed, then fail with the original error.
+   * A failure to delete is logged and added to that error as suppressed.
+   */
+  private CompletableFuture<UUID> deleteWorkspaceAfterFailure(
+      UUID workspaceUuid, AuthenticatedUserRequest userRequest, RuntimeException failure) {
+    CompletableFuture<Void> delete;
+    try {
+      delete = deleteWorkspaceNonBlocking(workspaceUuid, userRequest);
+    } catch (RuntimeException e) {
+      delete = CompletableFuture.failedFuture(e);
+    }
+    return delete.handle(
+        (unused, deleteException) -> {
+          if (deleteException != null) {
+            Throwable cause =
+                deleteException instanceof CompletionException && deleteException.getCause() != null
+                    ? deleteException.getCause()
+                    : deleteException;
+            logger.error(
+                "Failed to delete workspace {} after its cloud context could not be submitted",
+                workspaceUuid,
+                cause);
+            failure.addSuppressed(cause);
+          }
+          throw failure;
+        });
   }
 
   /**
@@ -169,6 +264,25 @@ public class WorkspaceService {
     return validateWorkspaceAndAction(userRequest, uuid, SamConstants.SamWorkspaceAction.READ);
   }
 
+  /**
+   * Retrieves the version of an existing workspace, which changes whenever its description does.
+   * This reads only the version, so a client holding the current description can be answered
+   * without rebuilding it.
+   */
+  @Traced
+  public long getWorkspaceVersion(UUID uuid, AuthenticatedUserRequest userRequest) {
+    long version = workspaceDao.getWorkspaceVersion(uuid);
+    SamRethrow.onInterrupted(
+        () ->
+            samService.checkAuthz(
+                userRequest,
+                SamConstants.SamResource.WORKSPACE,
+                uuid.toString(),
+                SamWorkspaceAction.READ),
+        "checkAuthz");
+    return version;
+  }
+
   /** Retrieves an existing workspace by userFacingId */
   @Traced
   public Workspace getWorkspaceByUserFacingId(
@@ -214,6 +328,12 @@ public class WorkspaceService {
   /** Delete an existing workspace by ID. */
   @Traced
   public void deleteWorkspace(UUID uuid, AuthenticatedUserRequest userRequest) {
+    JobService.awaitResult(deleteWorkspaceNonBlocking(uuid, userRequest));
+  }
+
+  /** Start deleting a workspace. Returns a future completed when the workspace is deleted. */
+  public CompletableFuture<Void> deleteWorkspaceNonBlocking(
+      UUID uuid, AuthenticatedUserRequest userRequest) {
     Workspace workspace = validateWorkspaceAndAction(userRequest, uuid, SamWorkspaceAction.DELETE);
     String description = "Delete workspace " + uuid;
     JobBuilder deleteJob =
@@ -227,7 +347,7 @@ public class WorkspaceService {
             .addParameter(
                 WorkspaceFlightMapKeys.WORKSPACE_STAGE, workspace.getWorkspaceStage().name());
     // Skip access check, which can't succeed after the workspace is deleted
-    deleteJob.submitAndWait(null, false);
+    return deleteJob.submitAndGetFuture(Void.class, false);
   }
 
   /**
@@ -279,17 +399,28 @@ public class WorkspaceService {
       String jobId,
       AuthenticatedUserRequest userRequest,
       @Nullable String resultPath) {
-
-    if (!bufferServiceConfiguration.getEnabled()) {
-      throw new BufferServiceDisabledException(
-          "Cannot create a GCP context in an environment where buffer service is disabled or not configured.");
-    }
+    checkBufferServiceEnabled();
 
     Workspace workspace =
         validateWorkspaceAndAction(
             userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.WRITE);
     stageService.assertMcWorkspace(workspace, "createCloudContext");
+    submitCreateGcpCloudContext(workspace, jobId, userRequest, resultPath);
+  }
+
+  private void checkBufferServiceEnabled() {
+    if (!bufferServiceConfiguration.getEnabled()) {
+      throw new BufferServiceDisabledException(
+          "Cannot create a GCP context in an environment where buffer service is disabled or not configured.");
+    }
+  }
 
+  private void submitCreateGcpCloudContext(
+      Workspace workspace,
+      String jobId,
+      AuthenticatedUserRequest userRequest,
+      @Nullable String resultPath) {
+    UUID workspaceUuid = workspace.getWorkspaceId();
     String workspaceName = workspace.getDisplayName().orElse("");
     String jobDescription =
         String.format(
@@ -338,6 +469,7 @@ public class WorkspaceService {
         .userRequest(userRequest)
         .request(destinationWorkspace)
         .operationType(OperationType.CLONE)
+        .priority(FlightPriority.LONG_RUNNING)
         // allow UI to watch this job (and sub-flights) from dest workspace page during clone
         .workspaceId(destinationWorkspace.getWorkspaceId().toString())
         .addParameter(
@@ -353,6 +485,15 @@ public class WorkspaceService {
    */
   @Traced
   public void deleteGcpCloudContext(UUID workspaceUuid, AuthenticatedUserRequest userRequest) {
+    JobService.awaitResult(deleteGcpCloudContextNonBlocking(workspaceUuid, userRequest));
+  }
+
+  /**
+   * Start deleting the GCP cloud context for the workspace. Returns a future completed when the
+   * context is deleted.
+   */
+  public CompletableFuture<Void> deleteGcpCloudContextNonBlocking(
+      UUID workspaceUuid, AuthenticatedUserRequest userRequest) {
     Workspace workspace =
         validateWorkspaceAndAction(
             userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.WRITE);
@@ -363,17 +504,26 @@ public class WorkspaceService {
             "Delete GCP cloud context for workspace: name: '%s' id: '%s'  ",
             workspaceName, workspaceUuid);
 
-    jobService
+    return jobService
         .newJob()
         .description(jobDescription)
         .flightClass(DeleteGcpContextFlight.class)
         .userRequest(userRequest)
         .operationType(OperationType.DELETE)
         .workspaceId(workspaceUuid.toString())
-        .submitAndWait(null);
+        .submitAndGetFuture(Void.class);
   }
 
   public void deleteAzureCloudContext(UUID workspaceUuid, AuthenticatedUserRequest userRequest) {
+    JobService.awaitResult(deleteAzureCloudContextNonBlocking(workspaceUuid, userRequest));
+  }
+
+  /**
+   * Start deleting the Azure cloud context for the workspace. Returns a future completed when the
+   * context is deleted.
+   */
+  public CompletableFuture<Void> deleteAzureCloudContextNonBlocking(
+      UUID workspaceUuid, AuthenticatedUserRequest userRequest) {
     Workspace workspace =
         validateWorkspaceAndAction(userRequest, workspaceUuid, SamWorkspaceAction.WRITE);
 
@@ -383,14 +533,14 @@ public class WorkspaceService {
         String.format(
             "Delete Azure cloud context for workspace: name: '%s' id: '%s'  ",
             workspaceName, workspaceUuid);
-    jobService
+    return jobService
         .newJob()
         .description(jobDescription)
         .flightClass(DeleteAzureContextFlight.class)
         .userRequest(userRequest)
         .operationType(OperationType.DELETE)
         .workspaceId(workspaceUuid.toString())
-        .submitAndWait(null);
+        .submitAndGetFuture(Void.class);
   }
 
   /**
@@ -451,6 +601,20 @@ public class WorkspaceService {
       WsmIamRole role,
       String rawUserEmail,
       AuthenticatedUserRequest executingUserRequest) {
+    JobService.awaitResult(
+        removeWorkspaceRoleFromUserNonBlocking(
+            workspaceUuid, role, rawUserEmail, executingUserRequest));
+  }
+
+  /**
+   * Start removing a workspace role from a user. Returns a future completed when the role has been
+   * removed. Parameters are as for {@link #removeWorkspaceRoleFromUser}.
+   */
+  public CompletableFuture<Void> removeWorkspaceRoleFromUserNonBlocking(
+      UUID workspaceUuid,
+      WsmIamRole role,
+      String rawUserEmail,
+      AuthenticatedUserRequest executingUserRequest) {
     Workspace workspace =
         validateWorkspaceAndAction(
             executingUserRequest, workspaceUuid, SamConstants.SamWorkspaceAction.OWN);
@@ -467,9 +631,9 @@ public class WorkspaceService {
             .map(String::toLowerCase)
             .collect(Collectors.toList());
     if (!roleMembers.contains(targetUserEmail)) {
-      return;
+      return CompletableFuture.completedFuture(null);
     }
-    jobService
+    return jobService
         .newJob()
         .description(
             String.format(
@@ -481,6 +645,6 @@ public class WorkspaceService {
         .workspaceId(workspaceUuid.toString())
         .addParameter(WorkspaceFlightMapKeys.USER_TO_REMOVE, targetUserEmail)
         .addParameter(WorkspaceFlightMapKeys.ROLE_TO_REMOVE, role)
-        .submitAndWait(null);
+        .submitAndGetFuture(Void.class);
   }
 }
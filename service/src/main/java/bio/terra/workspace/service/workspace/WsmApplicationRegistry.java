@@ -0,0 +1,126 @@
+package bio.terra.workspace.service.workspace;
+
+import bio.terra.workspace.db.ApplicationDao;
+import bio.terra.workspace.db.CacheInvalidationBus;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
+import bio.terra.workspace.db.exception.ApplicationNotFoundException;
+import bio.terra.workspace.service.workspace.model.WsmApplication;
+import com.google.common.collect.ImmutableMap;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory registry of the WSM applications, indexed by application id and by service account
+ * email.
+ *
+ * <p>The set of applications is small and only changes when {@link WsmApplicationService} applies
+ * the application configuration, so request paths read the registry instead of the application
+ * table. The registry is an immutable snapshot that is replaced whenever the configuration is
+ * applied. Lookups that miss fall back to the database, so an application created by another
+ * instance is still found. Changes to applications made by any instance are announced on the
+ * {@link CacheInvalidationBus}, and drop the snapshot so that it is reloaded on next use.
+ */
+@Component
+public class WsmApplicationRegistry {
+  private static final Logger logger = LoggerFactory.getLogger(WsmApplicationRegistry.class);
+
+  private final ApplicationDao applicationDao;
+  // Bumped by each invalidation, so that a load that overlaps one is not kept
+  private final AtomicLong generation = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  @Autowired
+  public WsmApplicationRegistry(
+      ApplicationDao applicationDao, CacheInvalidationBus cacheInvalidationBus) {
+    this.applicationDao = applicationDao;
+    cacheInvalidationBus.subscribe(
+        Region.APPLICATION, applicationId -> invalidate(), this::invalidate);
+  }
+
+  /** Reload the registry from the application table. */
+  public void rebuild() {
+    load();
+  }
+
+  private Snapshot load() {
+    long loadGeneration = generation.get();
+    Snapshot loaded = new Snapshot(applicationDao.listApplications());
+    snapshot = loaded;
+    // An invalidation bumps the generation before it drops the snapshot, so either it drops what
+    // we stored or we see the bump here
+    if (generation.get() != loadGeneration) {
+      snapshot = null;
+    }
+    logger.info("Loaded {} applications into the application registry", loaded.byId.size());
+    return loaded;
+  }
+
+  private void invalidate() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  /**
+   * Look up an application by id
+   *
+   * @param applicationId id of the application
+   * @return application
+   * @throws ApplicationNotFoundException when the application is not found
+   */
+  public WsmApplication getApplication(String applicationId) {
+    return Optional.ofNullable(getSnapshot().byId.get(applicationId))
+        .orElseGet(() -> applicationDao.getApplication(applicationId));
+  }
+
+  /**
+   * Look up an application by its service account email
+   *
+   * @param email service account email; the match is case-insensitive
+   * @return application
+   * @throws ApplicationNotFoundException when the email is not a configured application
+   */
+  public WsmApplication getApplicationByEmail(String email) {
+    return Optional.ofNullable(getSnapshot().byEmail.get(StringUtils.lowerCase(email)))
+        .orElseGet(() -> applicationDao.getApplicationByEmail(email));
+  }
+
+  /** @return all applications, ordered by application id */
+  public List<WsmApplication> listApplications() {
+    return getSnapshot().byId.values().stream()
+        .sorted(Comparator.comparing(WsmApplication::getApplicationId))
+        .collect(Collectors.toList());
+  }
+
+  private Snapshot getSnapshot() {
+    Snapshot current = snapshot;
+    if (current == null) {
+      // Not loaded yet, or dropped by a change to the applications
+      current = load();
+    }
+    return current;
+  }
+
+  private static class Snapshot {
+    private final ImmutableMap<String, WsmApplication> byId;
+    private final ImmutableMap<String, WsmApplication> byEmail;
+
+    Snapshot(List<WsmApplication> applications) {
+      ImmutableMap.Builder<String, WsmApplication> idBuilder = ImmutableMap.builder();
+      ImmutableMap.Builder<String, WsmApplication> emailBuilder = ImmutableMap.builder();
+      for (WsmApplication application : applications) {
+        idBuilder.put(application.getApplicationId(), application);
+        emailBuilder.put(StringUtils.lowerCase(application.getServiceAccount()), application);
+      }
+      byId = idBuilder.build();
+      byEmail = emailBuilder.build();
+    }
+  }
+}
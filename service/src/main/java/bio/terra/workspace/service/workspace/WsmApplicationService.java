@@ -23,8 +23,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.EmailValidator;
 import org.slf4j.Logger;
@@ -50,6 +53,7 @@ public class WsmApplicationService {
   private final StageService stageService;
   private final WsmApplicationConfiguration wsmApplicationConfiguration;
   private final WorkspaceService workspaceService;
+  private final WsmApplicationRegistry applicationRegistry;
 
   // -- Testing Support --
   // Unlike most code, the configuration code runs at startup time and does not have any output
@@ -66,28 +70,42 @@ public class WsmApplicationService {
       JobService jobService,
       StageService stageService,
       WsmApplicationConfiguration wsmApplicationConfiguration,
-      WorkspaceService workspaceService) {
+      WorkspaceService workspaceService,
+      WsmApplicationRegistry applicationRegistry) {
     this.applicationDao = applicationDao;
     this.jobService = jobService;
     this.stageService = stageService;
     this.wsmApplicationConfiguration = wsmApplicationConfiguration;
     this.workspaceService = workspaceService;
+    this.applicationRegistry = applicationRegistry;
   }
 
   // -- REST API Methods -- //
 
   public WsmWorkspaceApplication disableWorkspaceApplication(
       AuthenticatedUserRequest userRequest, UUID workspaceUuid, String applicationId) {
+    return JobService.awaitResult(
+        commonAbleJob(userRequest, workspaceUuid, applicationId, AbleEnum.DISABLE));
+  }
+
+  public CompletableFuture<WsmWorkspaceApplication> disableWorkspaceApplicationNonBlocking(
+      AuthenticatedUserRequest userRequest, UUID workspaceUuid, String applicationId) {
     return commonAbleJob(userRequest, workspaceUuid, applicationId, AbleEnum.DISABLE);
   }
 
   public WsmWorkspaceApplication enableWorkspaceApplication(
       AuthenticatedUserRequest userRequest, UUID workspaceUuid, String applicationId) {
+    return JobService.awaitResult(
+        commonAbleJob(userRequest, workspaceUuid, applicationId, AbleEnum.ENABLE));
+  }
+
+  public CompletableFuture<WsmWorkspaceApplication> enableWorkspaceApplicationNonBlocking(
+      AuthenticatedUserRequest userRequest, UUID workspaceUuid, String applicationId) {
     return commonAbleJob(userRequest, workspaceUuid, applicationId, AbleEnum.ENABLE);
   }
 
-  // Common method to launch and wait for enable and disable flights.
-  private WsmWorkspaceApplication commonAbleJob(
+  // Common method to launch enable and disable flights, returning a future of the result.
+  private CompletableFuture<WsmWorkspaceApplication> commonAbleJob(
       AuthenticatedUserRequest userRequest,
       UUID workspaceUuid,
       String applicationId,
@@ -115,7 +133,7 @@ public class WsmApplicationService {
             .workspaceId(workspaceUuid.toString())
             .addParameter(WorkspaceFlightMapKeys.APPLICATION_ID, applicationId)
             .addParameter(WsmApplicationKeys.APPLICATION_ABLE_ENUM, ableEnum);
-    return job.submitAndWait(WsmWorkspaceApplication.class);
+    return job.submitAndGetFuture(WsmWorkspaceApplication.class);
   }
 
   public WsmWorkspaceApplication getWorkspaceApplication(
@@ -124,7 +142,11 @@ public class WsmApplicationService {
         workspaceService.validateWorkspaceAndAction(
             userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.READ);
     stageService.assertMcWorkspace(workspace, "getWorkspaceApplication");
-    return applicationDao.getWorkspaceApplication(workspaceUuid, applicationId);
+    WsmApplication application = applicationRegistry.getApplication(applicationId);
+    return new WsmWorkspaceApplication()
+        .application(application)
+        .workspaceUuid(workspaceUuid)
+        .enabled(applicationDao.isApplicationEnabled(workspaceUuid, applicationId));
   }
 
   public List<WsmWorkspaceApplication> listWorkspaceApplications(
@@ -133,7 +155,17 @@ public class WsmApplicationService {
         workspaceService.validateWorkspaceAndAction(
             userRequest, workspaceUuid, SamConstants.SamWorkspaceAction.READ);
     stageService.assertMcWorkspace(workspace, "listWorkspaceApplication");
-    return applicationDao.listWorkspaceApplications(workspaceUuid, offset, limit);
+    Set<String> enabledIds = applicationDao.listEnabledApplicationIds(workspaceUuid);
+    return applicationRegistry.listApplications().stream()
+        .skip(offset)
+        .limit(limit)
+        .map(
+            application ->
+                new WsmWorkspaceApplication()
+                    .application(application)
+                    .workspaceUuid(workspaceUuid)
+                    .enabled(enabledIds.contains(application.getApplicationId())))
+        .collect(Collectors.toList());
   }
 
   // -- Configuration Processing Methods -- //
@@ -156,6 +188,9 @@ public class WsmApplicationService {
 
     // Log any apps in the database that were not in the configuration
     checkMissingConfig(dbAppMap);
+
+    // Load the result into the in-memory registry
+    applicationRegistry.rebuild();
   }
 
   @VisibleForTesting
@@ -187,6 +222,7 @@ public class WsmApplicationService {
     if (dbApp == null) {
       try {
         applicationDao.createApplication(configApp);
+        applicationRegistry.rebuild();
         logInfo("Created application " + configApp.getApplicationId());
       } catch (Exception e) {
         logError("Failed to create application: " + configApp.getApplicationId(), e);
@@ -234,6 +270,7 @@ public class WsmApplicationService {
 
     // Do the update in the database
     applicationDao.updateApplication(configApp);
+    applicationRegistry.rebuild();
     logInfo("Updated application configuration: " + configApp.getApplicationId());
   }
 
@@ -28,7 +28,7 @@ public class CreatePetSaStep implements Step {
   @Override
   public StepResult doStep(FlightContext context) throws InterruptedException, RetryException {
     String projectId = context.getWorkingMap().get(GCP_PROJECT_ID, String.class);
-    samService.getOrCreatePetSaEmail(projectId, userRequest.getRequiredToken());
+    samService.getOrCreatePetSaEmail(projectId, userRequest);
     return StepResult.getStepResultSuccess();
   }
 
@@ -6,6 +6,8 @@ import bio.terra.stairway.StepResult;
 import bio.terra.stairway.exception.RetryException;
 import bio.terra.workspace.common.utils.FlightUtils;
 import bio.terra.workspace.db.WorkspaceDao;
+import bio.terra.workspace.service.workspace.AzureCloudContextService;
+import bio.terra.workspace.service.workspace.GcpCloudContextService;
 import bio.terra.workspace.service.workspace.exceptions.DuplicateWorkspaceException;
 import bio.terra.workspace.service.workspace.model.Workspace;
 import java.util.UUID;
@@ -16,12 +18,20 @@ import org.springframework.http.HttpStatus;
 public class CreateWorkspaceStep implements Step {
 
   private final WorkspaceDao workspaceDao;
+  private final GcpCloudContextService gcpCloudContextService;
+  private final AzureCloudContextService azureCloudContextService;
   private final Workspace workspace;
 
   private final Logger logger = LoggerFactory.getLogger(CreateWorkspaceStep.class);
 
-  public CreateWorkspaceStep(Workspace workspace, WorkspaceDao workspaceDao) {
+  public CreateWorkspaceStep(
+      Workspace workspace,
+      WorkspaceDao workspaceDao,
+      GcpCloudContextService gcpCloudContextService,
+      AzureCloudContextService azureCloudContextService) {
     this.workspaceDao = workspaceDao;
+    this.gcpCloudContextService = gcpCloudContextService;
+    this.azureCloudContextService = azureCloudContextService;
     this.workspace = workspace;
   }
 
@@ -52,6 +62,9 @@ public class CreateWorkspaceStep implements Step {
     UUID workspaceUuid = workspace.getWorkspaceId();
     // Ignore return value, as we don't care whether a workspace was deleted or just not found.
     workspaceDao.deleteWorkspace(workspaceUuid);
+    // The delete cascades to any cloud context. Other instances learn of it by notification.
+    gcpCloudContextService.invalidateCachedContext(workspaceUuid);
+    azureCloudContextService.invalidateCachedContext(workspaceUuid);
     return StepResult.getStepResultSuccess();
   }
 }
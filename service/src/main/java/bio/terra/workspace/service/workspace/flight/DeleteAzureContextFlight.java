@@ -24,9 +24,10 @@ public class DeleteAzureContextFlight extends Flight {
     addStep(
         new DeleteControlledAzureResourcesStep(
             appContext.getResourceDao(),
-            appContext.getControlledResourceService(),
             workspaceUuid,
-            userRequest));
+            userRequest,
+            appContext.getAzureConfig().getMaxConcurrentResourceDeletions()),
+        RetryRules.cloud());
 
     addStep(
         new DeleteAzureContextStep(appContext.getAzureCloudContextService(), workspaceUuid),
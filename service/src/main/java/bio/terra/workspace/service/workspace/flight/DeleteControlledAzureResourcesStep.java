@@ -1,17 +1,37 @@
 package bio.terra.workspace.service.workspace.flight;
 
 import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import bio.terra.stairway.exception.DatabaseOperationException;
+import bio.terra.stairway.exception.DuplicateFlightIdException;
+import bio.terra.stairway.exception.FlightNotFoundException;
+import bio.terra.stairway.exception.FlightWaitTimedOutException;
 import bio.terra.stairway.exception.RetryException;
+import bio.terra.stairway.exception.StairwayExecutionException;
+import bio.terra.workspace.common.utils.FlightUtils;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
-import bio.terra.workspace.service.resource.controlled.ControlledResourceService;
+import bio.terra.workspace.service.job.JobMapKeys;
+import bio.terra.workspace.service.resource.controlled.flight.delete.DeleteControlledResourceFlight;
 import bio.terra.workspace.service.resource.controlled.model.ControlledResource;
 import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ResourceKeys;
 import bio.terra.workspace.service.workspace.model.CloudPlatform;
+import bio.terra.workspace.service.workspace.model.OperationType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -20,64 +40,199 @@ import org.slf4j.LoggerFactory;
 /**
  * A step to delete all controlled Azure resources resources in a workspace. This reads the list of
  * controlled Azure resources in a workspace from the WSM database.
+ *
+ * <p>A resource must be deleted before the resources it uses, so the resources are deleted in
+ * levels: a level holds the resources that nothing remaining in the workspace still uses. Each
+ * resource is deleted by a DeleteControlledResourceFlight subflight. Up to a configured number of
+ * subflights from the first remaining level run at once, and the step waits for them without
+ * holding a Stairway thread. The subflights delete the resource metadata, so each batch is chosen
+ * from what is left in the database, and a retry of the step only deletes what is left.
  */
 public class DeleteControlledAzureResourcesStep implements Step {
 
+  /** Resource types mapped to the resource types they use, which must be deleted after them. */
+  private static final Map<WsmResourceType, Set<WsmResourceType>> DEPENDENCIES =
+      Map.of(
+          WsmResourceType.CONTROLLED_AZURE_VM,
+          Set.of(
+              WsmResourceType.CONTROLLED_AZURE_DISK,
+              WsmResourceType.CONTROLLED_AZURE_IP,
+              WsmResourceType.CONTROLLED_AZURE_NETWORK),
+          // Delete storage containers so that Sam resources are properly deleted (before storage
+          // accounts are deleted).
+          WsmResourceType.CONTROLLED_AZURE_STORAGE_CONTAINER,
+          Set.of(WsmResourceType.CONTROLLED_AZURE_STORAGE_ACCOUNT));
+
   private final Logger logger = LoggerFactory.getLogger(DeleteControlledAzureResourcesStep.class);
   private final ResourceDao resourceDao;
-  private final ControlledResourceService controlledResourceService;
   private final UUID workspaceUuid;
   private final AuthenticatedUserRequest userRequest;
+  private final int maxConcurrentDeletions;
 
   public DeleteControlledAzureResourcesStep(
       ResourceDao resourceDao,
-      ControlledResourceService controlledResourceService,
       UUID workspaceUuid,
-      AuthenticatedUserRequest userRequest) {
+      AuthenticatedUserRequest userRequest,
+      int maxConcurrentDeletions) {
     this.resourceDao = resourceDao;
-    this.controlledResourceService = controlledResourceService;
     this.workspaceUuid = workspaceUuid;
     this.userRequest = userRequest;
-  }
-
-  /** Delete all resources instances of the specified type, returning all remaining resources. */
-  private List<ControlledResource> deleteResourcesOfType(
-      List<ControlledResource> allResources, WsmResourceType type) {
-    Map<Boolean, List<ControlledResource>> partitionedResources =
-        allResources.stream()
-            .collect(Collectors.partitioningBy(cr -> cr.getResourceType() == type));
-
-    for (ControlledResource vm : partitionedResources.get(true)) {
-      controlledResourceService.deleteControlledResourceSync(
-          workspaceUuid, vm.getResourceId(), userRequest, false);
-    }
-
-    return partitionedResources.get(false);
+    this.maxConcurrentDeletions = maxConcurrentDeletions;
   }
 
   @Override
   public StepResult doStep(FlightContext flightContext)
       throws InterruptedException, RetryException {
+    FlightMap workingMap = flightContext.getWorkingMap();
+    while (true) {
+      // Subflights launched by an earlier run of the step, mapped to the resources they delete
+      Map<String, UUID> deletions =
+          Optional.ofNullable(
+                  workingMap.get(
+                      WorkspaceFlightMapKeys.AZURE_RESOURCE_DELETE_FLIGHT_IDS,
+                      new TypeReference<Map<String, UUID>>() {}))
+              .orElseGet(Map::of);
+      if (!deletions.isEmpty()) {
+        Optional<StepResult> result = awaitDeletions(flightContext, deletions);
+        if (result.isPresent()) {
+          return result.get();
+        }
+      }
+
+      List<List<ControlledResource>> levels =
+          deletionLevels(resourceDao.listControlledResources(workspaceUuid, CloudPlatform.AZURE));
+      if (levels.isEmpty()) {
+        return StepResult.getStepResultSuccess();
+      }
+      // Record the subflight IDs first, so a rerun awaits the same subflights rather than
+      // launching a second deletion of the same resources
+      List<ControlledResource> level = levels.get(0);
+      Map<String, ControlledResource> batch = new LinkedHashMap<>();
+      for (ControlledResource resource :
+          level.subList(0, Math.min(maxConcurrentDeletions, level.size()))) {
+        batch.put(flightContext.getStairway().createFlightId(), resource);
+      }
+      workingMap.put(
+          WorkspaceFlightMapKeys.AZURE_RESOURCE_DELETE_FLIGHT_IDS,
+          batch.entrySet().stream()
+              .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getResourceId())));
+      for (Map.Entry<String, ControlledResource> entry : batch.entrySet()) {
+        try {
+          launchDeletion(flightContext, entry.getKey(), entry.getValue());
+        } catch (DatabaseOperationException | StairwayExecutionException e) {
+          return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
+        }
+      }
+    }
+  }
 
-    List<ControlledResource> controlledResourceList =
-        resourceDao.listControlledResources(workspaceUuid, CloudPlatform.AZURE);
+  /**
+   * Wait for the deletion subflights of a batch. Subflights that were never launched, because the
+   * step stopped while launching them, are skipped; their resources are picked up again.
+   *
+   * @return the result of the step if it should wait or fail, or empty if every deletion is done
+   */
+  private Optional<StepResult> awaitDeletions(
+      FlightContext flightContext, Map<String, UUID> deletions) throws InterruptedException {
+    boolean done = true;
+    Exception failure = null;
+    for (Map.Entry<String, UUID> deletion : deletions.entrySet()) {
+      Optional<FlightState> subflightState;
+      try {
+        subflightState = FlightUtils.awaitSubflight(flightContext, deletion.getKey());
+      } catch (FlightNotFoundException e) {
+        continue;
+      } catch (DatabaseOperationException | FlightWaitTimedOutException e) {
+        return Optional.of(new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e));
+      }
+      if (subflightState.isEmpty()) {
+        done = false;
+        continue;
+      }
+      FlightStatus subflightStatus = subflightState.get().getFlightStatus();
+      if (subflightStatus != FlightStatus.SUCCESS) {
+        Exception exception =
+            subflightState
+                .get()
+                .getException()
+                .orElseGet(
+                    () ->
+                        new RuntimeException(
+                            "Delete subflight ended with status "
+                                + subflightStatus
+                                + " and no exception"));
+        logger.warn(
+            "Failed to delete controlled Azure resource {} in workspace {}",
+            deletion.getValue(),
+            workspaceUuid,
+            exception);
+        if (failure == null) {
+          failure = exception;
+        }
+      }
+    }
+    if (!done) {
+      return Optional.of(new StepResult(StepStatus.STEP_RESULT_WAIT));
+    }
+    flightContext
+        .getWorkingMap()
+        .put(WorkspaceFlightMapKeys.AZURE_RESOURCE_DELETE_FLIGHT_IDS, null);
+    // Later levels use resources in this one, so they cannot be deleted yet
+    return Optional.ofNullable(failure)
+        .map(e -> new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e));
+  }
 
-    // Delete VMs first because they use other resources like disks, networks, etc.
-    controlledResourceList =
-        deleteResourcesOfType(controlledResourceList, WsmResourceType.CONTROLLED_AZURE_VM);
+  /** Launch a DeleteControlledResourceFlight for one resource, as the delete endpoint would. */
+  private void launchDeletion(
+      FlightContext flightContext, String subflightId, ControlledResource resource)
+      throws DatabaseOperationException, StairwayExecutionException, InterruptedException {
+    FlightMap subflightInputParameters = new FlightMap();
+    subflightInputParameters.put(WorkspaceFlightMapKeys.WORKSPACE_ID, workspaceUuid.toString());
+    subflightInputParameters.put(JobMapKeys.AUTH_USER_INFO.getKeyName(), userRequest);
+    subflightInputParameters.put(JobMapKeys.SUBJECT_ID.getKeyName(), userRequest.getSubjectId());
+    subflightInputParameters.put(
+        JobMapKeys.DESCRIPTION.getKeyName(),
+        "Delete controlled resource; id: " + resource.getResourceId());
+    subflightInputParameters.put(WorkspaceFlightMapKeys.OPERATION_TYPE, OperationType.DELETE);
+    subflightInputParameters.put(ResourceKeys.RESOURCE, resource);
+    subflightInputParameters.put(ResourceKeys.RESOURCE_ID, resource.getResourceId());
+    subflightInputParameters.put(ResourceKeys.RESOURCE_TYPE, resource.getResourceType());
+    subflightInputParameters.put(ResourceKeys.RESOURCE_NAME, resource.getName());
+    subflightInputParameters.put(ResourceKeys.STEWARDSHIP_TYPE, resource.getStewardshipType());
+    try {
+      flightContext
+          .getStairway()
+          .submit(subflightId, DeleteControlledResourceFlight.class, subflightInputParameters);
+    } catch (DuplicateFlightIdException unused) {
+      // Launched by an earlier run of the step
+    }
+  }
 
-    // Delete storage containers so that Sam resources are properly deleted (before storage accounts
-    // are deleted).
-    controlledResourceList =
-        deleteResourcesOfType(
-            controlledResourceList, WsmResourceType.CONTROLLED_AZURE_STORAGE_CONTAINER);
+  /**
+   * Order resources for deletion. Each level holds the resources whose type is not used by the type
+   * of any resource in a later level, so deleting the levels in order never deletes a resource
+   * still in use.
+   */
+  @VisibleForTesting
+  static List<List<ControlledResource>> deletionLevels(List<ControlledResource> resources) {
+    Map<Integer, List<ControlledResource>> levels = new TreeMap<>();
+    for (ControlledResource resource : resources) {
+      levels
+          .computeIfAbsent(deletionLevel(resource.getResourceType()), level -> new ArrayList<>())
+          .add(resource);
+    }
+    return new ArrayList<>(levels.values());
+  }
 
-    // Delete all remaining resources
-    for (ControlledResource resource : controlledResourceList) {
-      controlledResourceService.deleteControlledResourceSync(
-          workspaceUuid, resource.getResourceId(), userRequest, false);
+  /** One more than the deepest level of any type that uses this type; 0 if no type uses it. */
+  private static int deletionLevel(WsmResourceType type) {
+    int level = 0;
+    for (Map.Entry<WsmResourceType, Set<WsmResourceType>> entry : DEPENDENCIES.entrySet()) {
+      if (entry.getValue().contains(type)) {
+        level = Math.max(level, deletionLevel(entry.getKey()) + 1);
+      }
     }
-    return StepResult.getStepResultSuccess();
+    return level;
   }
 
   @Override
@@ -35,7 +35,9 @@ public class DeleteGcpContextFlight extends Flight {
         retryRule);
     addStep(
         new DeleteGcpProjectStep(
-            appContext.getCrlService(), appContext.getGcpCloudContextService()),
+            appContext.getCrlService(),
+            appContext.getGcpCloudContextService(),
+            appContext.getCloudOperationService()),
         retryRule);
     addStep(
         new DeleteGcpContextStep(appContext.getGcpCloudContextService(), workspaceUuid), retryRule);
@@ -1,16 +1,20 @@
 package bio.terra.workspace.service.workspace.flight;
 
+import bio.terra.cloudres.google.api.services.common.OperationCow;
 import bio.terra.cloudres.google.cloudresourcemanager.CloudResourceManagerCow;
 import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.RetryException;
 import bio.terra.workspace.common.utils.GcpUtils;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.operation.CloudOperationService;
 import bio.terra.workspace.service.workspace.GcpCloudContextService;
 import bio.terra.workspace.service.workspace.model.GcpCloudContext;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -22,16 +26,25 @@ import org.slf4j.LoggerFactory;
  * <p>Note that GCP does not delete projects entirely immediately: they go into a "deleting" state
  * where they exist for up to 30 days.
  *
+ * <p>The step waits for the delete operation through the {@link CloudOperationService}, returning
+ * STEP_RESULT_WAIT while the operation runs and re-reading it by name when the flight resumes. If
+ * the operation fails or times out, the retry starts a new one.
+ *
  * <p>Undo always fails for this step.
  */
 public class DeleteGcpProjectStep implements Step {
   private final CrlService crl;
   private final GcpCloudContextService gcpCloudContextService;
+  private final CloudOperationService cloudOperationService;
   private final Logger logger = LoggerFactory.getLogger(DeleteGcpProjectStep.class);
 
-  public DeleteGcpProjectStep(CrlService crl, GcpCloudContextService gcpCloudContextService) {
+  public DeleteGcpProjectStep(
+      CrlService crl,
+      GcpCloudContextService gcpCloudContextService,
+      CloudOperationService cloudOperationService) {
     this.crl = crl;
     this.gcpCloudContextService = gcpCloudContextService;
+    this.cloudOperationService = cloudOperationService;
   }
 
   @Override
@@ -40,9 +53,39 @@ public class DeleteGcpProjectStep implements Step {
     Optional<GcpCloudContext> cloudContext = getContext(flightContext);
     if (cloudContext.isPresent()) {
       CloudResourceManagerCow resourceManager = crl.getCloudResourceManagerCow();
+      FlightMap workingMap = flightContext.getWorkingMap();
       try {
-        String projectId = cloudContext.get().getGcpProjectId();
-        GcpUtils.deleteProject(projectId, resourceManager);
+        OperationCow<?> deleteOperation;
+        String operationName =
+            workingMap.get(WorkspaceFlightMapKeys.DELETE_PROJECT_OPERATION_NAME, String.class);
+        if (operationName == null) {
+          String projectId = cloudContext.get().getGcpProjectId();
+          Optional<OperationCow<?>> startedOperation =
+              GcpUtils.startProjectDeletion(projectId, resourceManager);
+          if (startedOperation.isEmpty()) {
+            return StepResult.getStepResultSuccess();
+          }
+          deleteOperation = startedOperation.get();
+          workingMap.put(
+              WorkspaceFlightMapKeys.DELETE_PROJECT_OPERATION_NAME,
+              deleteOperation.getOperationAdapter().getName());
+        } else {
+          // Re-run after waiting on the operation
+          deleteOperation =
+              resourceManager
+                  .operations()
+                  .operationCow(resourceManager.operations().get(operationName).execute());
+        }
+        if (cloudOperationService
+            .awaitOperation(
+                flightContext, deleteOperation, Duration.ofSeconds(5), Duration.ofMinutes(5))
+            .isEmpty()) {
+          return new StepResult(StepStatus.STEP_RESULT_WAIT);
+        }
+      } catch (RetryException e) {
+        // Delete the project again on the retry rather than re-reading the failed operation
+        workingMap.put(WorkspaceFlightMapKeys.DELETE_PROJECT_OPERATION_NAME, null);
+        throw e;
       } catch (IOException e) {
         return new StepResult(StepStatus.STEP_RESULT_FAILURE_RETRY, e);
       }
@@ -5,6 +5,8 @@ import bio.terra.stairway.Step;
 import bio.terra.stairway.StepResult;
 import bio.terra.stairway.exception.RetryException;
 import bio.terra.workspace.db.WorkspaceDao;
+import bio.terra.workspace.service.workspace.AzureCloudContextService;
+import bio.terra.workspace.service.workspace.GcpCloudContextService;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,12 +14,20 @@ import org.slf4j.LoggerFactory;
 public class DeleteWorkspaceStateStep implements Step {
 
   private final WorkspaceDao workspaceDao;
+  private final GcpCloudContextService gcpCloudContextService;
+  private final AzureCloudContextService azureCloudContextService;
   private final UUID workspaceUuid;
 
   private final Logger logger = LoggerFactory.getLogger(DeleteWorkspaceStateStep.class);
 
-  public DeleteWorkspaceStateStep(WorkspaceDao workspaceDao, UUID workspaceUuid) {
+  public DeleteWorkspaceStateStep(
+      WorkspaceDao workspaceDao,
+      GcpCloudContextService gcpCloudContextService,
+      AzureCloudContextService azureCloudContextService,
+      UUID workspaceUuid) {
     this.workspaceDao = workspaceDao;
+    this.gcpCloudContextService = gcpCloudContextService;
+    this.azureCloudContextService = azureCloudContextService;
     this.workspaceUuid = workspaceUuid;
   }
 
@@ -25,6 +35,9 @@ public class DeleteWorkspaceStateStep implements Step {
   public StepResult doStep(FlightContext flightContext)
       throws RetryException, InterruptedException {
     workspaceDao.deleteWorkspace(workspaceUuid);
+    // The delete cascades to the cloud contexts. Other instances learn of it by notification.
+    gcpCloudContextService.invalidateCachedContext(workspaceUuid);
+    azureCloudContextService.invalidateCachedContext(workspaceUuid);
     return StepResult.getStepResultSuccess();
   }
 
@@ -39,7 +39,11 @@ public class WorkspaceCreateFlight extends Flight {
             "Unknown workspace stage during creation: " + workspace.getWorkspaceStage().name());
     }
     addStep(
-        new CreateWorkspaceStep(workspace, appContext.getWorkspaceDao()),
+        new CreateWorkspaceStep(
+            workspace,
+            appContext.getWorkspaceDao(),
+            appContext.getGcpCloudContextService(),
+            appContext.getAzureCloudContextService()),
         RetryRules.shortDatabase());
   }
 }
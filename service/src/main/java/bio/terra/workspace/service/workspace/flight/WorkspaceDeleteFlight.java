@@ -39,9 +39,10 @@ public class WorkspaceDeleteFlight extends Flight {
     addStep(
         new DeleteControlledAzureResourcesStep(
             appContext.getResourceDao(),
-            appContext.getControlledResourceService(),
             workspaceUuid,
-            userRequest));
+            userRequest,
+            appContext.getAzureConfig().getMaxConcurrentResourceDeletions()),
+        RetryRules.cloud());
 
     // We delete controlled resources from the Sam, but do not need to explicitly delete the
     // actual cloud objects or entries in WSM DB. GCP handles the cleanup when we delete the
@@ -55,7 +56,9 @@ public class WorkspaceDeleteFlight extends Flight {
         retryRule);
     addStep(
         new DeleteGcpProjectStep(
-            appContext.getCrlService(), appContext.getGcpCloudContextService()),
+            appContext.getCrlService(),
+            appContext.getGcpCloudContextService(),
+            appContext.getCloudOperationService()),
         retryRule);
     addStep(
         new DeleteAzureContextStep(appContext.getAzureCloudContextService(), workspaceUuid),
@@ -75,6 +78,12 @@ public class WorkspaceDeleteFlight extends Flight {
         throw new InternalLogicException(
             "Unknown workspace stage during deletion: " + workspaceStage.name());
     }
-    addStep(new DeleteWorkspaceStateStep(appContext.getWorkspaceDao(), workspaceUuid), retryRule);
+    addStep(
+        new DeleteWorkspaceStateStep(
+            appContext.getWorkspaceDao(),
+            appContext.getGcpCloudContextService(),
+            appContext.getAzureCloudContextService(),
+            workspaceUuid),
+        retryRule);
   }
 }
@@ -14,6 +14,8 @@ public final class WorkspaceFlightMapKeys {
   public static final String ROLE_TO_REMOVE = "roleToRemove";
   public static final String APPLICATION_ID = "applicationId";
   public static final String OPERATION_TYPE = "operationType";
+  public static final String DELETE_PROJECT_OPERATION_NAME = "deleteProjectOperationName";
+  public static final String AZURE_RESOURCE_DELETE_FLIGHT_IDS = "azureResourceDeleteFlightIds";
 
   private WorkspaceFlightMapKeys() {}
 
@@ -34,12 +36,17 @@ public final class WorkspaceFlightMapKeys {
 
     // Notebooks keys
     public static final String CREATE_NOTEBOOK_NETWORK_NAME = "createNotebookNetworkName";
+    public static final String CREATE_NOTEBOOK_OPERATION_NAME = "createNotebookOperationName";
     public static final String CREATE_NOTEBOOK_PARAMETERS = "createNotebookParameters";
     public static final String CREATE_NOTEBOOK_REGION = "createNotebookRegion";
     public static final String CREATE_NOTEBOOK_SUBNETWORK_NAME = "createNotebookSubnetworkName";
+    public static final String DELETE_NOTEBOOK_OPERATION_NAME = "deleteNotebookOperationName";
     public static final String NOTEBOOK_PET_SERVICE_ACCOUNT = "notebookPetServiceAccount";
 
     // Cloning Keys
+    public static final String BUCKET_OBJECTS_COPIED = "bucketObjectsCopied";
+    public static final String BUCKET_SYNC_MODIFIED_SINCE = "bucketSyncModifiedSince";
+    public static final String BUCKET_SYNC_START = "bucketSyncStart";
     public static final String CLONE_ALL_RESOURCES_FLIGHT_ID = "cloneAllResourcesFlightId";
     public static final String CLONE_DEFINITION_RESULT = "cloneDefinitionResult";
     public static final String CLONED_RESOURCE_DEFINITION = "clonedResourceDefinition";
@@ -49,7 +56,6 @@ public final class WorkspaceFlightMapKeys {
     public static final String DESTINATION_BUCKET_NAME = "destinationBucketName";
     public static final String DESTINATION_CLONE_INPUTS = "destinationCloneInputs";
     public static final String DESTINATION_DATASET_NAME = "destinationDatasetName";
-    public static final String DESTINATION_REFERENCED_RESOURCE = "destinationReferencedResource";
     public static final String DESTINATION_WORKSPACE_ID = "destinationWorkspaceId";
     public static final String LOCATION = "location";
     public static final String RESOURCE_ID_TO_CLONE_RESULT = "resourceIdToCloneResult";
@@ -57,6 +63,9 @@ public final class WorkspaceFlightMapKeys {
     public static final String SOURCE_CLONE_INPUTS = "sourceCloneInputs";
     public static final String SOURCE_WORKSPACE_ID = "sourceWorkspaceId";
     public static final String STORAGE_TRANSFER_JOB_NAME = "storageTransferJobName";
+    public static final String STORAGE_TRANSFER_OPERATION_NAME = "storageTransferOperationName";
+    public static final String STORAGE_TRANSFER_POLL_ATTEMPTS = "storageTransferPollAttempts";
+    public static final String STORAGE_TRANSFER_POLL_START = "storageTransferPollStart";
     public static final String STORAGE_TRANSFER_SERVICE_SA_EMAIL = "storageTransferServiceSAEmail";
     public static final String TABLE_TO_JOB_ID_MAP = "tableToJobIdMap";
     public static final String WORKSPACE_CREATE_FLIGHT_ID = "workspaceCreateFlightId";
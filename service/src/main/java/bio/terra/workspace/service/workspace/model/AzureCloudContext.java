@@ -8,6 +8,9 @@ import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+/**
+ * Azure cloud context of a workspace. Instances are immutable, so they may be cached and shared.
+ */
 public class AzureCloudContext {
   private String azureTenantId;
   private String azureSubscriptionId;
@@ -36,18 +39,6 @@ public class AzureCloudContext {
     return azureResourceGroupId;
   }
 
-  public void setAzureTenantId(String azureTenantId) {
-    this.azureTenantId = azureTenantId;
-  }
-
-  public void setAzureSubscriptionId(String azureSubscriptionId) {
-    this.azureSubscriptionId = azureSubscriptionId;
-  }
-
-  public void setAzureResourceGroupId(String azureResourceGroupId) {
-    this.azureResourceGroupId = azureResourceGroupId;
-  }
-
   public ApiAzureContext toApi() {
     return new ApiAzureContext()
         .tenantId(getAzureTenantId())
@@ -1,11 +1,12 @@
 package bio.terra.workspace.service.workspace.model;
 
+import bio.terra.workspace.db.model.DbJobSummary;
 import java.util.List;
 
 public class EnumeratedJobs {
   private int totalResults;
   private String pageToken;
-  private List<EnumeratedJob> results;
+  private List<DbJobSummary> results;
 
   public int getTotalResults() {
     return totalResults;
@@ -25,11 +26,11 @@ public class EnumeratedJobs {
     return this;
   }
 
-  public List<EnumeratedJob> getResults() {
+  public List<DbJobSummary> getResults() {
     return results;
   }
 
-  public EnumeratedJobs results(List<EnumeratedJob> results) {
+  public EnumeratedJobs results(List<DbJobSummary> results) {
     this.results = results;
     return this;
   }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Optional;
 import javax.annotation.Nullable;
 
+/** GCP cloud context of a workspace. Instances are immutable, so they may be cached and shared. */
 public class GcpCloudContext {
   private String gcpProjectId;
   // V2 additions:
@@ -64,22 +65,6 @@ public class GcpCloudContext {
     return Optional.ofNullable(samPolicyApplication);
   }
 
-  public void setSamPolicyOwner(String samPolicyOwner) {
-    this.samPolicyOwner = samPolicyOwner;
-  }
-
-  public void setSamPolicyWriter(String samPolicyWriter) {
-    this.samPolicyWriter = samPolicyWriter;
-  }
-
-  public void setSamPolicyReader(String samPolicyReader) {
-    this.samPolicyReader = samPolicyReader;
-  }
-
-  public void setSamPolicyApplication(String samPolicyApplication) {
-    this.samPolicyApplication = samPolicyApplication;
-  }
-
   public ApiGcpContext toApi() {
     return new ApiGcpContext().projectId(getGcpProjectId());
   }
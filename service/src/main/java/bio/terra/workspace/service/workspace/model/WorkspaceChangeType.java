@@ -0,0 +1,27 @@
+package bio.terra.workspace.service.workspace.model;
+
+import bio.terra.workspace.generated.model.ApiWorkspaceChangeType;
+
+/** Kind of change reported in a workspace change feed - corollary to ApiWorkspaceChangeType. */
+public enum WorkspaceChangeType {
+  WORKSPACE_CREATED(ApiWorkspaceChangeType.WORKSPACE_CREATED),
+  WORKSPACE_UPDATED(ApiWorkspaceChangeType.WORKSPACE_UPDATED),
+  WORKSPACE_DELETED(ApiWorkspaceChangeType.WORKSPACE_DELETED),
+  CLOUD_CONTEXT_CREATED(ApiWorkspaceChangeType.CLOUD_CONTEXT_CREATED),
+  CLOUD_CONTEXT_UPDATED(ApiWorkspaceChangeType.CLOUD_CONTEXT_UPDATED),
+  CLOUD_CONTEXT_DELETED(ApiWorkspaceChangeType.CLOUD_CONTEXT_DELETED),
+  RESOURCE_CREATED(ApiWorkspaceChangeType.RESOURCE_CREATED),
+  RESOURCE_UPDATED(ApiWorkspaceChangeType.RESOURCE_UPDATED),
+  RESOURCE_DELETED(ApiWorkspaceChangeType.RESOURCE_DELETED),
+  JOB_COMPLETED(ApiWorkspaceChangeType.JOB_COMPLETED);
+
+  private final ApiWorkspaceChangeType apiChangeType;
+
+  WorkspaceChangeType(ApiWorkspaceChangeType apiChangeType) {
+    this.apiChangeType = apiChangeType;
+  }
+
+  public ApiWorkspaceChangeType toApiModel() {
+    return apiChangeType;
+  }
+}
@@ -0,0 +1,34 @@
+package bio.terra.workspace.app;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.app.configuration.external.WorkspaceDatabaseConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class SchemaVersionCheckTest extends BaseUnitTest {
+  @Autowired WorkspaceDatabaseConfiguration workspaceDatabaseConfiguration;
+
+  @Test
+  public void migratedDatabase_isCurrent() {
+    assertTrue(
+        SchemaVersionCheck.isCurrent(
+            "db/changelog.xml", workspaceDatabaseConfiguration.getDataSource()));
+  }
+
+  @Test
+  public void unappliedChangeset_isNotCurrent() {
+    assertFalse(
+        SchemaVersionCheck.isCurrent(
+            "schemacheck/changelog.xml", workspaceDatabaseConfiguration.getDataSource()));
+  }
+
+  @Test
+  public void missingChangelog_isNotCurrent() {
+    assertFalse(
+        SchemaVersionCheck.isCurrent(
+            "schemacheck/missing.xml", workspaceDatabaseConfiguration.getDataSource()));
+  }
+}
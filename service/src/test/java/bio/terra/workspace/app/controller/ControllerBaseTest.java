@@ -0,0 +1,72 @@
+package bio.terra.workspace.app.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import bio.terra.common.exception.NotFoundException;
+import bio.terra.workspace.common.BaseUnitTest;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+public class ControllerBaseTest extends BaseUnitTest {
+  private static final String PATH = "/test/respondWhenDone";
+
+  private final JobController controller = new JobController();
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  public void setup() {
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+  }
+
+  @Test
+  public void respondWhenDone_jobSucceeds_respondsWithResult() throws Exception {
+    MvcResult pending = mockMvc.perform(get(PATH)).andExpect(request().asyncStarted()).andReturn();
+
+    controller.job.complete("done");
+    mockMvc
+        .perform(asyncDispatch(pending))
+        .andExpect(status().isCreated())
+        .andExpect(content().string("done"));
+  }
+
+  @Test
+  public void respondWhenDone_jobFails_mapsError() throws Exception {
+    MvcResult pending = mockMvc.perform(get(PATH)).andExpect(request().asyncStarted()).andReturn();
+
+    controller.job.completeExceptionally(new NotFoundException("Job target not found"));
+    mockMvc
+        .perform(asyncDispatch(pending))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Job target not found"))
+        .andExpect(jsonPath("$.statusCode").value(HttpStatus.NOT_FOUND.value()));
+  }
+
+  /** Responds when a job the test completes is done. */
+  @RestController
+  static class JobController {
+    private final CompletableFuture<String> job = new CompletableFuture<>();
+
+    @GetMapping(PATH)
+    public ResponseEntity<String> respond(HttpServletRequest request) {
+      return ControllerBase.respondWhenDone(
+          request, job, result -> new ResponseEntity<>(result, HttpStatus.CREATED));
+    }
+  }
+}
@@ -12,10 +12,9 @@ import bio.terra.stairway.StepStatus;
 import bio.terra.stairway.exception.DatabaseOperationException;
 import bio.terra.stairway.exception.DuplicateFlightIdException;
 import bio.terra.stairway.exception.StairwayExecutionException;
+import bio.terra.workspace.db.model.DbJobSummary;
 import bio.terra.workspace.service.iam.AuthenticatedUserRequest;
-import bio.terra.workspace.service.resource.model.WsmResource;
 import bio.terra.workspace.service.workspace.Alpha1Service;
-import bio.terra.workspace.service.workspace.model.EnumeratedJob;
 import bio.terra.workspace.service.workspace.model.EnumeratedJobs;
 import java.time.Duration;
 import java.time.Instant;
@@ -70,26 +69,23 @@ public class StairwayTestUtils {
     System.out.printf(
         "Enumerated Jobs: total=%d, pageToken=%s%n", jobs.getTotalResults(), jobs.getPageToken());
 
-    for (EnumeratedJob job : jobs.getResults()) {
-      FlightState flightState = job.getFlightState();
-      System.out.printf("  Job %s %s%n", flightState.getFlightId(), flightState.getFlightStatus());
-      System.out.printf("    description: %s%n", job.getJobDescription());
-      System.out.printf("    submitted  : %s%n", flightState.getSubmitted());
+    for (DbJobSummary job : jobs.getResults()) {
+      System.out.printf("  Job %s %s%n", job.getFlightId(), job.getFlightStatus());
+      System.out.printf("    description: %s%n", job.getDescription().orElse(""));
+      System.out.printf("    submitted  : %s%n", job.getSubmitted());
       System.out.printf(
           "    completed  : %s%n",
-          flightState.getCompleted().map(Instant::toString).orElse("<incomplete>"));
-      if (flightState.getException().isPresent()) {
-        System.out.printf("   error       : %s%n", flightState.getException().get().getMessage());
+          job.getCompleted().map(Instant::toString).orElse("<incomplete>"));
+      if (job.getErrorMessage().isPresent()) {
+        System.out.printf("   error       : %s%n", job.getErrorMessage().get());
       }
-      System.out.printf("    operation : %s%n", job.getOperationType());
-      if (job.getResource().isPresent()) {
-        WsmResource resource = job.getResource().get();
+      System.out.printf("    operation : %s%n", job.getOperationType().orElse(null));
+      if (job.getResourceId().isPresent()) {
         System.out.println("    resource:");
-        System.out.printf("      name: %s%n", resource.getName());
-        System.out.printf("      id  : %s%n", resource.getResourceId());
-        System.out.printf("      desc: %s%n", resource.getDescription());
-        System.out.printf("      stew: %s%n", resource.getStewardshipType());
-        System.out.printf("      type: %s%n", resource.getResourceType());
+        System.out.printf("      name: %s%n", job.getResourceName().orElse(null));
+        System.out.printf("      id  : %s%n", job.getResourceId().get());
+        System.out.printf("      stew: %s%n", job.getStewardshipType().orElse(null));
+        System.out.printf("      type: %s%n", job.getResourceType().orElse(null));
       }
     }
   }
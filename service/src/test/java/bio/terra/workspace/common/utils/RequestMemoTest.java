@@ -0,0 +1,63 @@
+package bio.terra.workspace.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestMemoTest extends BaseUnitTest {
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void resetRequest() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  private Integer load() {
+    return loads.incrementAndGet();
+  }
+
+  private static void startRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    RequestMemo.open(request);
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+
+  @Test
+  void get_withinRequest_loadsOnce() {
+    startRequest();
+    Object key = RequestMemo.key("test", "a", 1);
+
+    assertEquals(1, RequestMemo.get(key, this::load));
+    assertEquals(1, RequestMemo.get(RequestMemo.key("test", "a", 1), this::load));
+    assertEquals(2, RequestMemo.get(RequestMemo.key("test", "b", 1), this::load));
+  }
+
+  @Test
+  void get_newRequest_loadsAgain() {
+    startRequest();
+    assertEquals(1, RequestMemo.get(RequestMemo.key("test"), this::load));
+    startRequest();
+    assertEquals(2, RequestMemo.get(RequestMemo.key("test"), this::load));
+  }
+
+  @Test
+  void get_outsideRequest_passesThrough() {
+    RequestContextHolder.resetRequestAttributes();
+    assertEquals(1, RequestMemo.get(RequestMemo.key("test"), this::load));
+    assertEquals(2, RequestMemo.get(RequestMemo.key("test"), this::load));
+  }
+
+  @Test
+  void invalidate_loadsAgain() {
+    startRequest();
+    assertEquals(1, RequestMemo.get(RequestMemo.key("test"), this::load));
+    RequestMemo.invalidate(RequestMemo.key("test"));
+    assertEquals(2, RequestMemo.get(RequestMemo.key("test"), this::load));
+  }
+}
@@ -0,0 +1,76 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.common.fixtures.ControlledResourceFixtures;
+import bio.terra.workspace.common.fixtures.WorkspaceFixtures;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
+import bio.terra.workspace.service.workspace.model.Workspace;
+import bio.terra.workspace.service.workspace.model.WorkspaceStage;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class BucketSyncDaoTest extends BaseUnitTest {
+  private static final String SOURCE_BUCKET_NAME = "source-bucket";
+
+  @Autowired BucketSyncDao bucketSyncDao;
+  @Autowired ResourceDao resourceDao;
+  @Autowired WorkspaceDao workspaceDao;
+
+  private ControlledGcsBucketResource bucket;
+
+  @BeforeEach
+  public void setup() {
+    UUID uuid = UUID.randomUUID();
+    Workspace workspace =
+        Workspace.builder()
+            .workspaceId(uuid)
+            .userFacingId("a" + uuid)
+            .workspaceStage(WorkspaceStage.MC_WORKSPACE)
+            .build();
+    workspaceDao.createWorkspace(workspace);
+    WorkspaceFixtures.createGcpCloudContextInDatabase(workspaceDao, uuid, "my-project-id");
+    bucket = ControlledResourceFixtures.makeDefaultControlledGcsBucketBuilder(uuid).build();
+    resourceDao.createControlledResource(bucket);
+  }
+
+  @Test
+  public void recordSync_replacesWatermark() {
+    assertTrue(bucketSyncDao.getLastSyncTime(bucket.getResourceId(), SOURCE_BUCKET_NAME).isEmpty());
+
+    Instant first = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    bucketSyncDao.recordSync(bucket.getResourceId(), SOURCE_BUCKET_NAME, first);
+    assertEquals(
+        Optional.of(first),
+        bucketSyncDao.getLastSyncTime(bucket.getResourceId(), SOURCE_BUCKET_NAME));
+
+    Instant second = first.plusSeconds(60);
+    bucketSyncDao.recordSync(bucket.getResourceId(), SOURCE_BUCKET_NAME, second);
+    assertEquals(
+        Optional.of(second),
+        bucketSyncDao.getLastSyncTime(bucket.getResourceId(), SOURCE_BUCKET_NAME));
+  }
+
+  @Test
+  public void getLastSyncTime_otherSource_isEmpty() {
+    bucketSyncDao.recordSync(bucket.getResourceId(), SOURCE_BUCKET_NAME, Instant.now());
+
+    assertTrue(bucketSyncDao.getLastSyncTime(bucket.getResourceId(), "other-bucket").isEmpty());
+  }
+
+  @Test
+  public void deleteResource_deletesWatermark() {
+    bucketSyncDao.recordSync(bucket.getResourceId(), SOURCE_BUCKET_NAME, Instant.now());
+
+    resourceDao.deleteResource(bucket.getWorkspaceId(), bucket.getResourceId());
+
+    assertTrue(bucketSyncDao.getLastSyncTime(bucket.getResourceId(), SOURCE_BUCKET_NAME).isEmpty());
+  }
+}
@@ -0,0 +1,67 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.db.CacheInvalidationBus.Region;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class CacheInvalidationBusTest extends BaseUnitTest {
+  @Autowired CacheInvalidationBus cacheInvalidationBus;
+  @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+  @Autowired PlatformTransactionManager transactionManager;
+
+  @Test
+  public void publish_committed_deliversKeyToSubscribers() throws InterruptedException {
+    BlockingQueue<String> invalidated = new LinkedBlockingQueue<>();
+    cacheInvalidationBus.subscribe(Region.APPLICATION, invalidated::add, () -> {});
+    String key = UUID.randomUUID().toString();
+
+    CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, key);
+
+    assertEquals(key, awaitKey(invalidated, key));
+  }
+
+  @Test
+  public void publish_rolledBack_isNotDelivered() throws InterruptedException {
+    BlockingQueue<String> invalidated = new LinkedBlockingQueue<>();
+    cacheInvalidationBus.subscribe(Region.APPLICATION, invalidated::add, () -> {});
+    String rolledBackKey = UUID.randomUUID().toString();
+    String committedKey = UUID.randomUUID().toString();
+
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, rolledBackKey);
+              status.setRollbackOnly();
+            });
+    CacheInvalidationBus.publish(jdbcTemplate, Region.APPLICATION, committedKey);
+
+    // Notifications are delivered in commit order, so the rolled back one would have come first
+    String received;
+    do {
+      received = invalidated.poll(30, TimeUnit.SECONDS);
+      assertNotEquals(rolledBackKey, received);
+    } while (received != null && !received.equals(committedKey));
+    assertEquals(committedKey, received);
+  }
+
+  /** Wait for a key, skipping invalidations published by other tests. */
+  private static String awaitKey(BlockingQueue<String> invalidated, String key)
+      throws InterruptedException {
+    String received;
+    do {
+      received = invalidated.poll(30, TimeUnit.SECONDS);
+    } while (received != null && !received.equals(key));
+    return received;
+  }
+}
@@ -0,0 +1,69 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.job.FlightPriority;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class FlightAdmissionDaoTest extends BaseUnitTest {
+  private static final FlightPriority PRIORITY = FlightPriority.LONG_RUNNING;
+
+  @Autowired FlightAdmissionDao flightAdmissionDao;
+  @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setup() {
+    // Grants count every flight in the table
+    jdbcTemplate.update("DELETE FROM flight_admission", new MapSqlParameterSource());
+  }
+
+  @Test
+  public void grantSlots_grantsUpToBudget() {
+    assertFalse(flightAdmissionDao.admit("a", PRIORITY, "user1"));
+    assertFalse(flightAdmissionDao.admit("b", PRIORITY, "user2"));
+    assertFalse(flightAdmissionDao.admit("c", PRIORITY, "user3"));
+
+    assertEquals(
+        List.of("a", "b"), List.copyOf(flightAdmissionDao.grantSlots(PRIORITY, 2).keySet()));
+    assertTrue(flightAdmissionDao.grantSlots(PRIORITY, 2).isEmpty());
+    assertEquals(1, flightAdmissionDao.countQueued(PRIORITY));
+    assertEquals(2, flightAdmissionDao.countHoldingSlot(PRIORITY));
+    // A granted flight takes up its slot when it asks again
+    assertTrue(flightAdmissionDao.admit("a", PRIORITY, "user1"));
+    assertEquals(List.of("a"), flightAdmissionDao.getAdmittedFlightIds(Instant.now()));
+    assertEquals(List.of("b"), flightAdmissionDao.getGrantedFlightIds(Instant.now()));
+  }
+
+  @Test
+  public void grantSlots_prefersShareKeyHoldingFewestSlots() {
+    assertFalse(flightAdmissionDao.admit("a", PRIORITY, "user1"));
+    assertFalse(flightAdmissionDao.admit("b", PRIORITY, "user1"));
+    assertFalse(flightAdmissionDao.admit("c", PRIORITY, "user2"));
+
+    assertEquals(
+        List.of("a", "c"), List.copyOf(flightAdmissionDao.grantSlots(PRIORITY, 2).keySet()));
+  }
+
+  @Test
+  public void release_returnsPriorityOnlyForSlot() {
+    assertFalse(flightAdmissionDao.admit("a", PRIORITY, "user1"));
+    assertFalse(flightAdmissionDao.admit("b", PRIORITY, "user1"));
+    flightAdmissionDao.grantSlots(PRIORITY, 1);
+
+    assertEquals(Optional.empty(), flightAdmissionDao.release("b"));
+    assertEquals(Optional.of(PRIORITY), flightAdmissionDao.release("a"));
+    assertEquals(Optional.empty(), flightAdmissionDao.release("a"));
+    assertEquals(0, flightAdmissionDao.countQueued(PRIORITY));
+    assertEquals(0, flightAdmissionDao.countHoldingSlot(PRIORITY));
+  }
+}
@@ -0,0 +1,49 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class FlightResumeDaoTest extends BaseUnitTest {
+  @Autowired FlightResumeDao flightResumeDao;
+
+  @Test
+  public void getDueFlightIds_onlyPastDue() {
+    String dueFlightId = UUID.randomUUID().toString();
+    String laterFlightId = UUID.randomUUID().toString();
+    Instant now = Instant.now();
+    flightResumeDao.scheduleResume(dueFlightId, now.minusSeconds(60));
+    flightResumeDao.scheduleResume(laterFlightId, now.plusSeconds(60));
+
+    List<String> due = flightResumeDao.getDueFlightIds(now, 1000);
+    assertTrue(due.contains(dueFlightId));
+    assertFalse(due.contains(laterFlightId));
+  }
+
+  @Test
+  public void scheduleResume_replacesTime() {
+    String flightId = UUID.randomUUID().toString();
+    Instant now = Instant.now();
+    flightResumeDao.scheduleResume(flightId, now.minusSeconds(60));
+    flightResumeDao.scheduleResume(flightId, now.plusSeconds(60));
+
+    assertFalse(flightResumeDao.getDueFlightIds(now, 1000).contains(flightId));
+  }
+
+  @Test
+  public void clearResume_removesFlight() {
+    String flightId = UUID.randomUUID().toString();
+    Instant now = Instant.now();
+    flightResumeDao.scheduleResume(flightId, now.minusSeconds(60));
+
+    flightResumeDao.clearResume(flightId);
+
+    assertFalse(flightResumeDao.getDueFlightIds(now, 1000).contains(flightId));
+  }
+}
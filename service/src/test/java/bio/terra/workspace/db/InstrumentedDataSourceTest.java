@@ -0,0 +1,53 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import bio.terra.workspace.app.configuration.external.WorkspaceDatabaseConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class InstrumentedDataSourceTest extends BaseUnitTest {
+  @Autowired WorkspaceDatabaseConfiguration workspaceDatabaseConfiguration;
+
+  @Test
+  void sqlShape_collapsesWhitespaceAndParameterLists() {
+    assertEquals(
+        "SELECT * FROM resource WHERE workspace_id = ? AND resource_id IN (?, ...)",
+        InstrumentedDataSource.sqlShape(
+            "SELECT *\n  FROM resource\n WHERE workspace_id = ?"
+                + "   AND resource_id IN (?, ?,?)  "));
+  }
+
+  @Test
+  void sqlShape_truncatesLongStatements() {
+    String shape = InstrumentedDataSource.sqlShape("SELECT " + "x".repeat(2000));
+    assertEquals(1003, shape.length());
+  }
+
+  @Test
+  void countParameters_countsPlaceholders() {
+    assertEquals(0, InstrumentedDataSource.countParameters("SELECT 1"));
+    assertEquals(3, InstrumentedDataSource.countParameters("SELECT ? WHERE a IN (?, ?)"));
+  }
+
+  @Test
+  void query_releasesConnection() {
+    var dataSource =
+        new InstrumentedDataSource(workspaceDatabaseConfiguration.getDataSource(), Duration.ZERO);
+    var jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+    List<Integer> values =
+        jdbcTemplate.query(
+            "SELECT :value AS value",
+            new MapSqlParameterSource().addValue("value", 7),
+            (rs, rowNum) -> rs.getInt("value"));
+
+    assertEquals(List.of(7), values);
+    assertEquals(0, dataSource.getActiveConnections());
+  }
+}
@@ -0,0 +1,149 @@
+package bio.terra.workspace.db;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import bio.terra.common.exception.ValidationException;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.db.model.DbJobSummary;
+import bio.terra.workspace.service.resource.model.StewardshipType;
+import bio.terra.workspace.service.resource.model.WsmResourceFamily;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import bio.terra.workspace.service.workspace.model.JobStateFilter;
+import bio.terra.workspace.service.workspace.model.OperationType;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class JobSummaryDaoTest extends BaseUnitTest {
+  @Autowired JobSummaryDao jobSummaryDao;
+
+  @Test
+  public void enumerateJobs_pagesInSubmitOrder() {
+    UUID workspaceUuid = UUID.randomUUID();
+    Instant start = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    for (int i = 0; i < 5; i++) {
+      jobSummaryDao.startJob(makeJob(workspaceUuid, "flight-" + i, start.plusSeconds(i)));
+    }
+
+    List<DbJobSummary> firstPage =
+        jobSummaryDao.enumerateJobs(workspaceUuid, 3, null, null, null, null, null);
+    assertEquals(3, firstPage.size());
+    assertEquals("flight-0", firstPage.get(0).getFlightId());
+
+    String pageToken = JobSummaryDao.encodePageToken(firstPage.get(2));
+    List<DbJobSummary> secondPage =
+        jobSummaryDao.enumerateJobs(workspaceUuid, 3, pageToken, null, null, null, null);
+    assertEquals(2, secondPage.size());
+    assertEquals("flight-3", secondPage.get(0).getFlightId());
+    assertEquals(5, jobSummaryDao.countJobs(workspaceUuid, null, null, null, null));
+  }
+
+  @Test
+  public void enumerateJobs_filtersByFamilyAndState() {
+    UUID workspaceUuid = UUID.randomUUID();
+    Instant start = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    jobSummaryDao.startJob(makeJob(workspaceUuid, UUID.randomUUID().toString(), start));
+    DbJobSummary completedJob = makeJob(workspaceUuid, UUID.randomUUID().toString(), start);
+    jobSummaryDao.startJob(completedJob);
+    jobSummaryDao.endJob(
+        new DbJobSummary()
+            .flightId(completedJob.getFlightId())
+            .flightStatus(FlightStatus.SUCCESS)
+            .completed(Instant.now())
+            .statusCode(200));
+
+    assertEquals(
+        2,
+        jobSummaryDao.countJobs(
+            workspaceUuid, WsmResourceFamily.GCS_BUCKET, StewardshipType.CONTROLLED, null, null));
+    assertEquals(
+        0,
+        jobSummaryDao.countJobs(
+            workspaceUuid, WsmResourceFamily.BIG_QUERY_DATASET, null, null, null));
+    List<DbJobSummary> completed =
+        jobSummaryDao.enumerateJobs(
+            workspaceUuid, 10, null, null, null, null, JobStateFilter.COMPLETED);
+    assertEquals(1, completed.size());
+    assertEquals(completedJob.getFlightId(), completed.get(0).getFlightId());
+  }
+
+  @Test
+  public void endJob_recordsResult() {
+    UUID workspaceUuid = UUID.randomUUID();
+    DbJobSummary job =
+        makeJob(workspaceUuid, UUID.randomUUID().toString(), Instant.now())
+            .description("clone bucket")
+            .resultPath("/api/workspaces/v1/result")
+            .destinationResourceId(UUID.randomUUID());
+    jobSummaryDao.startJob(job);
+    jobSummaryDao.endJob(
+        new DbJobSummary()
+            .flightId(job.getFlightId())
+            .flightStatus(FlightStatus.ERROR)
+            .completed(Instant.now())
+            .statusCode(400)
+            .errorMessage("bad request")
+            .errorCauses(List.of("cause 1", "cause 2")));
+
+    DbJobSummary ended =
+        jobSummaryDao.enumerateJobs(workspaceUuid, 10, null, null, null, null, null).get(0);
+    assertEquals(FlightStatus.ERROR, ended.getFlightStatus());
+    assertEquals(job.getDescription(), ended.getDescription());
+    assertEquals(job.getResultPath(), ended.getResultPath());
+    assertEquals(job.getDestinationResourceId(), ended.getDestinationResourceId());
+    assertEquals(Optional.of(400), ended.getStatusCode());
+    assertEquals(Optional.of("bad request"), ended.getErrorMessage());
+    assertEquals(Optional.of(List.of("cause 1", "cause 2")), ended.getErrorCauses());
+  }
+
+  @Test
+  public void backfillJob_keepsExistingSummary() {
+    UUID workspaceUuid = UUID.randomUUID();
+    Instant submitted = Instant.now().minus(1000, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MILLIS);
+    DbJobSummary oldJob =
+        makeJob(workspaceUuid, UUID.randomUUID().toString(), submitted)
+            .flightStatus(FlightStatus.SUCCESS)
+            .completed(submitted.plusSeconds(60));
+    jobSummaryDao.backfillJob(oldJob);
+    DbJobSummary runningJob = makeJob(workspaceUuid, UUID.randomUUID().toString(), submitted);
+    jobSummaryDao.startJob(runningJob);
+    jobSummaryDao.backfillJob(runningJob.flightStatus(FlightStatus.ERROR));
+
+    List<DbJobSummary> completed =
+        jobSummaryDao.enumerateJobs(
+            workspaceUuid, 10, null, null, null, null, JobStateFilter.COMPLETED);
+    assertEquals(1, completed.size());
+    assertEquals(oldJob.getFlightId(), completed.get(0).getFlightId());
+    assertEquals(oldJob.getCompleted(), completed.get(0).getCompleted());
+    assertFalse(jobSummaryDao.getEarliestSubmitted().orElseThrow().isAfter(submitted));
+  }
+
+  @Test
+  public void enumerateJobs_invalidPageToken_throws() {
+    assertThrows(
+        ValidationException.class,
+        () ->
+            jobSummaryDao.enumerateJobs(
+                UUID.randomUUID(), 10, "not-a-page-token", null, null, null, null));
+  }
+
+  private static DbJobSummary makeJob(UUID workspaceUuid, String flightId, Instant submitted) {
+    return new DbJobSummary()
+        .flightId(flightId)
+        .workspaceUuid(workspaceUuid)
+        .operationType(OperationType.CREATE)
+        .resourceType(WsmResourceType.CONTROLLED_GCP_GCS_BUCKET)
+        .stewardshipType(StewardshipType.CONTROLLED)
+        .resourceId(UUID.randomUUID())
+        .resourceName("bucket")
+        .flightStatus(FlightStatus.RUNNING)
+        .submitted(submitted);
+  }
+}
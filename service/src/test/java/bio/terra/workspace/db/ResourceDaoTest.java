@@ -17,11 +17,17 @@ import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.Contr
 import bio.terra.workspace.service.resource.controlled.model.ControlledResource;
 import bio.terra.workspace.service.resource.controlled.model.ControlledResourceFields;
 import bio.terra.workspace.service.resource.exception.DuplicateResourceException;
+import bio.terra.workspace.service.resource.exception.ResourceNotFoundException;
+import bio.terra.workspace.service.resource.model.CloningInstructions;
+import bio.terra.workspace.service.resource.referenced.cloud.gcp.gcsbucket.ReferencedGcsBucketResource;
 import bio.terra.workspace.service.workspace.GcpCloudContextService;
 import bio.terra.workspace.service.workspace.model.CloudPlatform;
 import bio.terra.workspace.service.workspace.model.Workspace;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
 import bio.terra.workspace.service.workspace.model.WorkspaceStage;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 public class ResourceDaoTest extends BaseUnitTest {
   @Autowired ResourceDao resourceDao;
   @Autowired WorkspaceDao workspaceDao;
+  @Autowired WorkspaceChangeDao workspaceChangeDao;
   @Autowired GcpCloudContextService gcpCloudContextService;
 
   /**
@@ -288,4 +295,64 @@ public class ResourceDaoTest extends BaseUnitTest {
     resourceDao.deleteResource(
         duplicatingResource.getWorkspaceId(), duplicatingResource.getResourceId());
   }
+
+  @Test
+  public void createReferencedResources_reportsNameConflicts() {
+    final UUID workspaceUuid = createGcpWorkspace();
+    final ReferencedGcsBucketResource existing = makeBucketReference(workspaceUuid, "existing");
+    resourceDao.createReferencedResource(existing);
+
+    final ReferencedGcsBucketResource conflicting = makeBucketReference(workspaceUuid, "existing");
+    final ReferencedGcsBucketResource fresh = makeBucketReference(workspaceUuid, "fresh");
+    Set<UUID> notStored = resourceDao.createReferencedResources(List.of(conflicting, fresh));
+
+    assertEquals(Set.of(conflicting.getResourceId()), notStored);
+    assertEquals(fresh, resourceDao.getResource(workspaceUuid, fresh.getResourceId()));
+
+    // Storing the same batch again, as a retried step would, is not a conflict
+    notStored = resourceDao.createReferencedResources(List.of(fresh));
+    assertTrue(notStored.isEmpty());
+    // Only the insert that stored the resource reports its creation
+    assertEquals(1, countResourceCreatedChanges(workspaceUuid, fresh.getResourceId()));
+    assertEquals(0, countResourceCreatedChanges(workspaceUuid, conflicting.getResourceId()));
+
+    resourceDao.deleteResource(workspaceUuid, existing.getResourceId());
+    resourceDao.deleteResource(workspaceUuid, fresh.getResourceId());
+  }
+
+  private long countResourceCreatedChanges(UUID workspaceUuid, UUID resourceId) {
+    return workspaceChangeDao.listChanges(workspaceUuid, 0, 100).stream()
+        .filter(change -> change.getChangeType() == WorkspaceChangeType.RESOURCE_CREATED)
+        .filter(change -> change.getObjectId().equals(Optional.of(resourceId.toString())))
+        .count();
+  }
+
+  @Test
+  public void updateResource_incrementsVersion() {
+    final UUID workspaceUuid = createGcpWorkspace();
+    final ReferencedGcsBucketResource resource = makeBucketReference(workspaceUuid, "versioned");
+    resourceDao.createReferencedResource(resource);
+    final long createdVersion =
+        resourceDao.getResourceVersion(workspaceUuid, resource.getResourceId());
+
+    resourceDao.updateResource(
+        workspaceUuid, resource.getResourceId(), "renamed", null, /*cloningInstructions=*/ null);
+
+    assertTrue(
+        resourceDao.getResourceVersion(workspaceUuid, resource.getResourceId()) > createdVersion);
+    resourceDao.deleteResource(workspaceUuid, resource.getResourceId());
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> resourceDao.getResourceVersion(workspaceUuid, resource.getResourceId()));
+  }
+
+  private static ReferencedGcsBucketResource makeBucketReference(UUID workspaceUuid, String name) {
+    return new ReferencedGcsBucketResource(
+        workspaceUuid,
+        UUID.randomUUID(),
+        name,
+        "description of " + name,
+        CloningInstructions.COPY_REFERENCE,
+        "theres-a-hole-in-the-bottom-of-the");
+  }
 }
@@ -114,6 +114,25 @@ class WorkspaceDaoTest extends BaseUnitTest {
     assertTrue(workspaceDao.deleteWorkspace(workspaceUuid));
   }
 
+  @Test
+  void updateWorkspace_incrementsVersion() {
+    workspaceDao.createWorkspace(defaultWorkspace());
+    long createdVersion = workspaceDao.getWorkspaceVersion(workspaceUuid);
+
+    workspaceDao.updateWorkspace(workspaceUuid, null, "new name", null, null);
+
+    long updatedVersion = workspaceDao.getWorkspaceVersion(workspaceUuid);
+    assertTrue(updatedVersion > createdVersion);
+    assertTrue(workspaceDao.deleteWorkspace(workspaceUuid));
+    assertThrows(
+        WorkspaceNotFoundException.class, () -> workspaceDao.getWorkspaceVersion(workspaceUuid));
+
+    // A workspace recreated with the same ID never gets a version the old one had
+    workspaceDao.createWorkspace(defaultWorkspace());
+    assertTrue(workspaceDao.getWorkspaceVersion(workspaceUuid) > updatedVersion);
+    assertTrue(workspaceDao.deleteWorkspace(workspaceUuid));
+  }
+
   @Test
   void getWorkspacesFromList() {
     Workspace realWorkspace = defaultWorkspace();
@@ -262,6 +281,20 @@ class WorkspaceDaoTest extends BaseUnitTest {
       assertTrue(cloudContext.isEmpty());
     }
 
+    @Test
+    void cloudContextChanges_incrementWorkspaceVersion() {
+      long createdVersion = workspaceDao.getWorkspaceVersion(workspaceUuid);
+      String flightId = "flight-cloudcontextversion";
+      gcpCloudContextService.createGcpCloudContextStart(workspaceUuid, flightId);
+      gcpCloudContextService.createGcpCloudContextFinish(
+          workspaceUuid, makeCloudContext(), flightId);
+      long createdContextVersion = workspaceDao.getWorkspaceVersion(workspaceUuid);
+      assertTrue(createdContextVersion > createdVersion);
+
+      gcpCloudContextService.deleteGcpCloudContext(workspaceUuid);
+      assertTrue(workspaceDao.getWorkspaceVersion(workspaceUuid) > createdContextVersion);
+    }
+
     @Test
     void noSetCloudContextIsNone() {
       assertTrue(gcpCloudContextService.getGcpCloudContext(workspaceUuid).isEmpty());
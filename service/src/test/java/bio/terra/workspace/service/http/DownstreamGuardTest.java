@@ -0,0 +1,190 @@
+package bio.terra.workspace.service.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.app.configuration.external.DownstreamGuardConfiguration;
+import bio.terra.workspace.app.configuration.external.DownstreamGuardConfiguration.GuardSettings;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.http.exception.DownstreamUnavailableException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DownstreamGuardTest extends BaseUnitTest {
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+  private MutableClock clock;
+  private DownstreamGuard downstreamGuard;
+
+  @BeforeEach
+  public void setup() {
+    GuardSettings settings = new GuardSettings();
+    settings.setMaxConcurrentCalls(1);
+    settings.setMaxWait(Duration.ofMillis(10));
+    settings.setFailureRateThreshold(0.5);
+    settings.setSlidingWindowSize(4);
+    settings.setMinimumCalls(4);
+    settings.setOpenDuration(OPEN_DURATION);
+    settings.setHalfOpenCalls(2);
+    DownstreamGuardConfiguration configuration = new DownstreamGuardConfiguration();
+    configuration.setDefaults(settings);
+    clock = new MutableClock();
+    downstreamGuard = new DownstreamGuard(configuration, clock);
+  }
+
+  @Test
+  public void outages_openCircuit_thenProbesCloseIt() {
+    for (int i = 0; i < 4; i++) {
+      assertThrows(IOException.class, this::failingCall);
+    }
+    assertEquals(CircuitBreaker.State.OPEN, downstreamGuard.getCircuitState(Downstream.SAM));
+    assertThrows(DownstreamUnavailableException.class, this::succeedingCall);
+
+    clock.advance(OPEN_DURATION);
+    assertEquals("ok", succeedingCall());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, downstreamGuard.getCircuitState(Downstream.SAM));
+    assertEquals("ok", succeedingCall());
+    assertEquals(CircuitBreaker.State.CLOSED, downstreamGuard.getCircuitState(Downstream.SAM));
+  }
+
+  @Test
+  public void failedProbe_reopensCircuit() {
+    for (int i = 0; i < 4; i++) {
+      assertThrows(IOException.class, this::failingCall);
+    }
+    clock.advance(OPEN_DURATION);
+    assertThrows(IOException.class, this::failingCall);
+    assertEquals(CircuitBreaker.State.OPEN, downstreamGuard.getCircuitState(Downstream.SAM));
+  }
+
+  @Test
+  public void nonOutageFailures_leaveCircuitClosed() {
+    for (int i = 0; i < 10; i++) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              downstreamGuard.call(
+                  Downstream.SAM,
+                  () -> {
+                    throw new IllegalArgumentException("not found");
+                  },
+                  e -> e instanceof IOException));
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, downstreamGuard.getCircuitState(Downstream.SAM));
+  }
+
+  @Test
+  public void fullBulkhead_rejectsCall() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread holder =
+        new Thread(
+            () -> {
+              try {
+                downstreamGuard.callInterruptibly(
+                    Downstream.BUFFER,
+                    () -> {
+                      started.countDown();
+                      return release.await(10, TimeUnit.SECONDS);
+                    },
+                    e -> true);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    holder.start();
+    started.await(10, TimeUnit.SECONDS);
+
+    assertThrows(
+        DownstreamUnavailableException.class,
+        () -> downstreamGuard.call(Downstream.BUFFER, () -> "ok", e -> true));
+
+    release.countDown();
+    holder.join();
+    assertEquals("ok", downstreamGuard.call(Downstream.BUFFER, () -> "ok", e -> true));
+  }
+
+  @Test
+  public void getSettings_configuredDownstream_mergesDefaults() {
+    DownstreamGuardConfiguration configuration = new DownstreamGuardConfiguration();
+    configuration.getDefaults().setOpenDuration(Duration.ofMinutes(2));
+    GuardSettings samSettings = new GuardSettings();
+    samSettings.setMaxConcurrentCalls(100);
+    configuration.getDownstreams().put(Downstream.SAM.getName(), samSettings);
+
+    GuardSettings settings = configuration.getSettings(Downstream.SAM.getName());
+    assertEquals(100, settings.getMaxConcurrentCalls());
+    assertEquals(Duration.ofMinutes(2), settings.getOpenDuration());
+  }
+
+  @Test
+  public void outageOnStatus_countsServerErrorsAndUnreachable() {
+    Predicate<Exception> isOutage =
+        DownstreamGuard.outageOnStatus(StatusException.class, StatusException::getCode);
+
+    assertTrue(isOutage.test(new StatusException(503)));
+    assertTrue(isOutage.test(new StatusException(0)));
+    assertTrue(isOutage.test(new IOException("connection refused")));
+    assertFalse(isOutage.test(new StatusException(404)));
+    assertFalse(isOutage.test(new IllegalArgumentException("bad request")));
+  }
+
+  private String failingCall() throws IOException {
+    return downstreamGuard.call(
+        Downstream.SAM,
+        () -> {
+          throw new IOException("connection refused");
+        },
+        e -> e instanceof IOException);
+  }
+
+  private String succeedingCall() {
+    return downstreamGuard.call(Downstream.SAM, () -> "ok", e -> e instanceof IOException);
+  }
+
+  private static class StatusException extends Exception {
+    private final int code;
+
+    StatusException(int code) {
+      this.code = code;
+    }
+
+    int getCode() {
+      return code;
+    }
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant now = Instant.now();
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
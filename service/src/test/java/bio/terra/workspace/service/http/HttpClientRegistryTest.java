@@ -0,0 +1,63 @@
+package bio.terra.workspace.service.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.app.configuration.external.HttpClientConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import java.time.Duration;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class HttpClientRegistryTest extends BaseUnitTest {
+  @Autowired HttpClientRegistry httpClientRegistry;
+  @Autowired HttpClientConfiguration httpClientConfiguration;
+
+  @Test
+  public void samHttpClient_isSharedAndConfigured() {
+    OkHttpClient samClient = httpClientRegistry.getSamHttpClient();
+    assertSame(samClient, httpClientRegistry.getSamHttpClient());
+
+    HttpClientConfiguration.ClientSettings settings =
+        httpClientConfiguration.getSettings(Downstream.SAM.getName());
+    assertEquals(settings.getConnectTimeout().toMillis(), samClient.connectTimeoutMillis());
+    assertEquals(settings.getReadTimeout().toMillis(), samClient.readTimeoutMillis());
+    assertTrue(samClient.protocols().contains(Protocol.HTTP_2));
+  }
+
+  @Test
+  public void getSettings_unconfiguredClient_usesDefaults() {
+    HttpClientConfiguration configuration = new HttpClientConfiguration();
+    configuration.getDefaults().setReadTimeout(Duration.ofSeconds(5));
+    assertEquals(
+        Duration.ofSeconds(5),
+        configuration.getSettings(Downstream.DATA_REPO.getName()).getReadTimeout());
+  }
+
+  @Test
+  public void getSettings_configuredClient_mergesDefaults() {
+    HttpClientConfiguration configuration = new HttpClientConfiguration();
+    configuration.getDefaults().setReadTimeout(Duration.ofSeconds(5));
+    HttpClientConfiguration.ClientSettings samSettings =
+        new HttpClientConfiguration.ClientSettings();
+    samSettings.setMaxConnections(100);
+    configuration.getClients().put(Downstream.SAM.getName(), samSettings);
+
+    HttpClientConfiguration.ClientSettings settings =
+        configuration.getSettings(Downstream.SAM.getName());
+    assertEquals(100, settings.getMaxConnections());
+    assertEquals(Duration.ofSeconds(5), settings.getReadTimeout());
+  }
+
+  @Test
+  public void finishRequest_restoresInFlightCount() {
+    long before = HttpClientMetrics.getInFlight(Downstream.BUFFER);
+    long start = HttpClientMetrics.startRequest(Downstream.BUFFER);
+    assertEquals(before + 1, HttpClientMetrics.getInFlight(Downstream.BUFFER));
+    HttpClientMetrics.finishRequest(Downstream.BUFFER, start, 200);
+    assertEquals(before, HttpClientMetrics.getInFlight(Downstream.BUFFER));
+  }
+}
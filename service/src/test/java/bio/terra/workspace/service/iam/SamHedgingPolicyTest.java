@@ -0,0 +1,148 @@
+package bio.terra.workspace.service.iam;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import bio.terra.workspace.app.configuration.external.SamConfiguration.HedgingSettings;
+import bio.terra.workspace.common.BaseUnitTest;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.broadinstitute.dsde.workbench.client.sam.ApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SamHedgingPolicyTest extends BaseUnitTest {
+  private ExecutorService executor;
+  private HedgingSettings settings;
+  private CountDownLatch release;
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newCachedThreadPool();
+    settings = new HedgingSettings();
+    settings.setEnabled(true);
+    settings.setMinDelay(Duration.ofMillis(20));
+    settings.setMaxDelay(Duration.ofMillis(20));
+    settings.setBudgetRatio(1.0);
+    settings.setMaxBudget(1);
+    release = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  public void cleanup() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void slowCall_isHedged() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    String result =
+        policy.call(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                release.await(10, TimeUnit.SECONDS);
+                return "first";
+              }
+              return "hedge";
+            });
+
+    assertEquals("hedge", result);
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void noBudget_waitsForFirstCall() throws Exception {
+    settings.setBudgetRatio(0.5);
+    AtomicInteger calls = new AtomicInteger();
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    String result =
+        policy.call(
+            () -> {
+              calls.incrementAndGet();
+              TimeUnit.MILLISECONDS.sleep(100);
+              return "first";
+            });
+
+    assertEquals("first", result);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void fastFailure_isNotHedged() {
+    AtomicInteger calls = new AtomicInteger();
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    ApiException thrown =
+        assertThrows(
+            ApiException.class,
+            () ->
+                policy.call(
+                    () -> {
+                      calls.incrementAndGet();
+                      throw new ApiException(403, "forbidden");
+                    }));
+
+    assertEquals(403, thrown.getCode());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void allCallsFail_throwsFirstFailure() {
+    AtomicInteger calls = new AtomicInteger();
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    ApiException thrown =
+        assertThrows(
+            ApiException.class,
+            () ->
+                policy.call(
+                    () -> {
+                      if (calls.incrementAndGet() == 1) {
+                        TimeUnit.MILLISECONDS.sleep(200);
+                        throw new ApiException(500, "first");
+                      }
+                      throw new ApiException(503, "hedge");
+                    }));
+
+    assertEquals(503, thrown.getCode());
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void busyPool_callsOnCallerThread() throws Exception {
+    executor.shutdownNow();
+    executor = new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new SynchronousQueue<>());
+    executor.execute(
+        () -> {
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    Thread caller = Thread.currentThread();
+    assertEquals(caller, policy.call(Thread::currentThread));
+  }
+
+  @Test
+  public void disabled_callsOnCallerThread() throws Exception {
+    settings.setEnabled(false);
+    SamHedgingPolicy policy = new SamHedgingPolicy(settings, executor);
+
+    Thread caller = Thread.currentThread();
+    assertEquals(caller, policy.call(Thread::currentThread));
+  }
+}
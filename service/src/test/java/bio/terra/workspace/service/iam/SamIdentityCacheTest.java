@@ -0,0 +1,50 @@
+package bio.terra.workspace.service.iam;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.iam.SamService.SamCall;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.broadinstitute.dsde.workbench.client.sam.ApiException;
+import org.junit.jupiter.api.Test;
+
+public class SamIdentityCacheTest extends BaseUnitTest {
+  private final SamIdentityCache cache = new SamIdentityCache(100);
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  public void get_callsSamOncePerKey() throws Exception {
+    assertEquals("subject-a", cache.get("a", samReturning("subject-a")));
+    assertEquals("subject-a", cache.get("a", samReturning("other")));
+    assertEquals("subject-b", cache.get("b", samReturning("subject-b")));
+
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void get_failureIsNotCached() throws Exception {
+    assertThrows(
+        ApiException.class,
+        () ->
+            cache.get(
+                "a",
+                () -> {
+                  calls.incrementAndGet();
+                  throw new ApiException(503, "unavailable");
+                }));
+    assertNull(cache.get("a", samReturning(null)));
+    assertEquals("subject-a", cache.get("a", samReturning("subject-a")));
+
+    assertEquals(3, calls.get());
+  }
+
+  private SamCall<String> samReturning(@Nullable String value) {
+    return () -> {
+      calls.incrementAndGet();
+      return value;
+    };
+  }
+}
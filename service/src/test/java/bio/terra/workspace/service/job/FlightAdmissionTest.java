@@ -0,0 +1,159 @@
+package bio.terra.workspace.service.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.common.stairway.StairwayComponent;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.FlightState;
+import bio.terra.stairway.FlightStatus;
+import bio.terra.stairway.Stairway;
+import bio.terra.stairway.exception.FlightNotFoundException;
+import bio.terra.workspace.app.configuration.external.JobConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.db.CronjobDao;
+import bio.terra.workspace.db.FlightAdmissionDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class FlightAdmissionTest extends BaseUnitTest {
+  private static final long RESUME_TIMEOUT_MS = 5000;
+
+  @Autowired FlightAdmissionDao flightAdmissionDao;
+  @Autowired CronjobDao cronjobDao;
+  @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+
+  private Stairway stairway;
+  private FlightAdmission flightAdmission;
+
+  @BeforeEach
+  void setup() throws Exception {
+    // The class budget counts every flight in the table
+    jdbcTemplate.update("DELETE FROM flight_admission", new MapSqlParameterSource());
+    stairway = mock(Stairway.class);
+    when(stairway.resume(anyString())).thenReturn(true);
+    StairwayComponent stairwayComponent = mock(StairwayComponent.class);
+    when(stairwayComponent.get()).thenReturn(stairway);
+    JobConfiguration jobConfig = new JobConfiguration();
+    jobConfig.setLongRunningMaxParallelFlights(1);
+    jobConfig.setAdmissionRecheckSeconds(0);
+    flightAdmission =
+        new FlightAdmission(jobConfig, stairwayComponent, flightAdmissionDao, cronjobDao);
+  }
+
+  @Test
+  void admit_overBudget_queuesUntilRelease() throws Exception {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+    // Asking again keeps the flight queued rather than queuing it twice
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+    assertEquals(1, flightAdmission.getQueued(FlightPriority.LONG_RUNNING));
+
+    flightAdmission.release("a");
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("b");
+    assertEquals(0, flightAdmission.getQueued(FlightPriority.LONG_RUNNING));
+    assertEquals(1, flightAdmission.getAdmitted(FlightPriority.LONG_RUNNING));
+    // The resumed flight takes up the slot granted to it
+    assertTrue(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+    assertEquals(1, flightAdmission.getAdmitted(FlightPriority.LONG_RUNNING));
+  }
+
+  @Test
+  void admit_interactive_isNotLimited() {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertTrue(flightAdmission.admit("b", FlightPriority.INTERACTIVE, "user1"));
+    assertTrue(flightAdmission.admit("c", FlightPriority.INTERACTIVE, "user1"));
+  }
+
+  @Test
+  void release_grantsRoundRobinAcrossShareKeys() throws Exception {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("c", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("d", FlightPriority.LONG_RUNNING, "user2"));
+
+    // user1 just had a slot, so user2's flight goes first although it queued last
+    flightAdmission.release("a");
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("d");
+    assertTrue(flightAdmission.admit("d", FlightPriority.LONG_RUNNING, "user2"));
+    flightAdmission.release("d");
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("b");
+    verify(stairway, never()).resume("c");
+  }
+
+  @Test
+  void release_queuedFlight_leavesQueue() {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+
+    flightAdmission.release("b");
+    assertEquals(0, flightAdmission.getQueued(FlightPriority.LONG_RUNNING));
+    assertEquals(1, flightAdmission.getAdmitted(FlightPriority.LONG_RUNNING));
+  }
+
+  @Test
+  void endFlight_releasesOnlyCompletedAdmittedFlights() throws Exception {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user1"));
+
+    // A flight that is only stepping out to be resumed keeps its slot
+    flightAdmission.endFlight(mockContext("a", FlightStatus.READY, FlightPriority.LONG_RUNNING));
+    // An interactive flight never held a slot
+    flightAdmission.endFlight(mockContext("c", FlightStatus.SUCCESS, FlightPriority.INTERACTIVE));
+    verify(stairway, never()).resume("b");
+    assertEquals(1, flightAdmission.getAdmitted(FlightPriority.LONG_RUNNING));
+
+    flightAdmission.endFlight(mockContext("a", FlightStatus.SUCCESS, FlightPriority.LONG_RUNNING));
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("b");
+  }
+
+  @Test
+  void reconcile_releasesSlotsOfEndedFlights() throws Exception {
+    assertTrue(flightAdmission.admit("a", FlightPriority.LONG_RUNNING, "user1"));
+    assertFalse(flightAdmission.admit("b", FlightPriority.LONG_RUNNING, "user2"));
+    FlightState running = mock(FlightState.class);
+    when(running.isActive()).thenReturn(true);
+    when(running.getFlightStatus()).thenReturn(FlightStatus.RUNNING);
+    when(stairway.getFlightState("b")).thenReturn(running);
+    // The admitted flight ended without releasing its slot, for example in an instance that died
+    when(stairway.getFlightState("a")).thenThrow(new FlightNotFoundException("gone"));
+
+    flightAdmission.reconcile();
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("b");
+    assertEquals(0, flightAdmission.getQueued(FlightPriority.LONG_RUNNING));
+
+    // The granted flight ended before taking up its slot, so its grant goes to the next flight
+    assertFalse(flightAdmission.admit("c", FlightPriority.LONG_RUNNING, "user1"));
+    when(stairway.getFlightState("b")).thenThrow(new FlightNotFoundException("gone"));
+    flightAdmission.reconcile();
+    verify(stairway, timeout(RESUME_TIMEOUT_MS)).resume("c");
+    assertEquals(1, flightAdmission.getAdmitted(FlightPriority.LONG_RUNNING));
+  }
+
+  private static FlightContext mockContext(
+      String flightId, FlightStatus flightStatus, FlightPriority priority) {
+    FlightMap inputParameters = new FlightMap();
+    inputParameters.put(JobMapKeys.PRIORITY.getKeyName(), priority);
+    FlightMap workingMap = new FlightMap();
+    if (priority != FlightPriority.INTERACTIVE) {
+      workingMap.put(JobMapKeys.ADMISSION_QUEUED.getKeyName(), false);
+    }
+    FlightContext context = mock(FlightContext.class);
+    when(context.getFlightId()).thenReturn(flightId);
+    when(context.getFlightStatus()).thenReturn(flightStatus);
+    when(context.getInputParameters()).thenReturn(inputParameters);
+    when(context.getWorkingMap()).thenReturn(workingMap);
+    return context;
+  }
+}
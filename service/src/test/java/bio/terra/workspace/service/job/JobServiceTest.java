@@ -23,6 +23,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -153,6 +155,62 @@ class JobServiceTest extends BaseUnitTest {
     assertThat(jobList.size(), equalTo(count));
   }
 
+  @Test
+  void retrieveWithWaitTest() throws Exception {
+    String jobId =
+        jobService
+            .newJob()
+            .description(makeDescription(0))
+            .flightClass(JobServiceTestFlight.class)
+            .userRequest(testUser)
+            .workspaceId(createWorkspaceForJob(makeDescription(0)).toString())
+            .submit();
+
+    // Waiting completes as soon as the flight completes, well before the requested wait expires
+    ApiJobReport report =
+        jobService.retrieveJobNonBlocking(jobId, testUser, 30).get(10, TimeUnit.SECONDS);
+    assertThat(report.getStatus(), equalTo(ApiJobReport.StatusEnum.SUCCEEDED));
+
+    // Completed flights are served from the cache and come back the same
+    JobService.AsyncJobResult<String> asyncResult =
+        jobService
+            .retrieveAsyncJobResultNonBlocking(jobId, String.class, testUser, 30)
+            .get(10, TimeUnit.SECONDS);
+    assertThat(asyncResult.getJobReport().getStatus(), equalTo(ApiJobReport.StatusEnum.SUCCEEDED));
+    assertThat(asyncResult.getResult(), equalTo(makeDescription(0)));
+  }
+
+  @Test
+  void submitAndGetFutureTest() throws Exception {
+    CompletableFuture<String> result =
+        jobService
+            .newJob()
+            .description(makeDescription(0))
+            .flightClass(JobServiceTestFlight.class)
+            .userRequest(testUser)
+            .workspaceId(createWorkspaceForJob(makeDescription(0)).toString())
+            .submitAndGetFuture(String.class);
+
+    assertThat(result.get(30, TimeUnit.SECONDS), equalTo(makeDescription(0)));
+  }
+
+  @Test
+  void submitAndGetFuture_failedFlight_throwsFlightException() {
+    jobService.setFlightDebugInfoForTest(
+        FlightDebugInfo.newBuilder().lastStepFailure(true).build());
+
+    CompletableFuture<String> result =
+        jobService
+            .newJob()
+            .description("fail for FlightDebugInfo")
+            .flightClass(JobServiceTestFlight.class)
+            .userRequest(testUser)
+            .workspaceId(createWorkspaceForJob("fail for FlightDebugInfo").toString())
+            .submitAndGetFuture(String.class);
+
+    assertThrows(InvalidResultStateException.class, () -> JobService.awaitResult(result));
+  }
+
   @Test
   void testBadIdRetrieveJob() {
     assertThrows(JobNotFoundException.class, () -> jobService.retrieveJob("abcdef", testUser));
@@ -187,16 +245,7 @@ class JobServiceTest extends BaseUnitTest {
   // Submit a flight; wait for it to finish; return the flight id
   // Use the jobId defaulting in the JobBuilder
   private String runFlight(String description) {
-    // workspace must exist in the Dao for authorization check to pass
-    UUID workspaceUuid = UUID.randomUUID();
-    Workspace workspace =
-        Workspace.builder()
-            .workspaceId(workspaceUuid)
-            .userFacingId("a" + workspaceUuid)
-            .workspaceStage(WorkspaceStage.MC_WORKSPACE)
-            .description("Workspace for runFlight: " + description)
-            .build();
-    workspaceDao.createWorkspace(workspace);
+    UUID workspaceUuid = createWorkspaceForJob(description);
     String jobId =
         jobService
             .newJob()
@@ -209,6 +258,20 @@ class JobServiceTest extends BaseUnitTest {
     return jobId;
   }
 
+  // workspace must exist in the Dao for authorization check to pass
+  private UUID createWorkspaceForJob(String description) {
+    UUID workspaceUuid = UUID.randomUUID();
+    Workspace workspace =
+        Workspace.builder()
+            .workspaceId(workspaceUuid)
+            .userFacingId("a" + workspaceUuid)
+            .workspaceStage(WorkspaceStage.MC_WORKSPACE)
+            .description("Workspace for runFlight: " + description)
+            .build();
+    workspaceDao.createWorkspace(workspace);
+    return workspaceUuid;
+  }
+
   private String makeDescription(int ii) {
     return String.format("flight%d", ii);
   }
@@ -0,0 +1,128 @@
+package bio.terra.workspace.service.operation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.cloudres.google.api.services.common.OperationCow;
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.Stairway;
+import bio.terra.workspace.app.configuration.external.OperationPollingConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.job.JobMapKeys;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+public class CloudOperationServiceTest extends BaseUnitTest {
+
+  private CloudOperationService cloudOperationService;
+
+  @BeforeEach
+  public void setup() {
+    OperationPollingConfiguration configuration = new OperationPollingConfiguration();
+    configuration.setTickInterval(Duration.ofMillis(50));
+    configuration.setBatchSize(10);
+    configuration.setThreads(2);
+    cloudOperationService = new CloudOperationService(configuration);
+    cloudOperationService.startPolling();
+  }
+
+  @AfterEach
+  public void teardown() {
+    cloudOperationService.stopPolling();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void trackedOperationCompletes() throws Exception {
+    OperationCow<Object> running = mock(OperationCow.class, RETURNS_DEEP_STUBS);
+    OperationCow<Object> done = mock(OperationCow.class, RETURNS_DEEP_STUBS);
+    when(running.getOperationAdapter().getName()).thenReturn("operations/complete");
+    when(running.getOperationAdapter().getDone()).thenReturn(false);
+    when(done.getOperationAdapter().getName()).thenReturn("operations/complete");
+    when(done.getOperationAdapter().getDone()).thenReturn(true);
+    when(running.getOperation()).thenReturn(done);
+
+    CompletableFuture<OperationCow<?>> future =
+        cloudOperationService.trackOperation(
+            running, Duration.ofMillis(10), Duration.ofMinutes(1));
+
+    assertSame(done, future.get(10, TimeUnit.SECONDS));
+    // Tracking the same operation again returns the same future
+    assertSame(
+        future,
+        cloudOperationService.trackOperation(
+            running, Duration.ofMillis(10), Duration.ofMinutes(1)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void trackedOperationTimesOut() throws Exception {
+    OperationCow<Object> running = mock(OperationCow.class, RETURNS_DEEP_STUBS);
+    when(running.getOperationAdapter().getName()).thenReturn("operations/timeout");
+    when(running.getOperationAdapter().getDone()).thenReturn(false);
+    when(running.getOperation()).thenReturn(running);
+
+    CompletableFuture<OperationCow<?>> future =
+        cloudOperationService.trackOperation(running, Duration.ofMillis(10), Duration.ZERO);
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertTrue(exception.getCause() instanceof TimeoutException);
+  }
+
+  @Test
+  public void azureOperationResumesFlightAndRunsOnce() throws Exception {
+    Stairway stairway = mock(Stairway.class);
+    when(stairway.resume(anyString())).thenReturn(true);
+    FlightContext flightContext = mock(FlightContext.class);
+    FlightMap workingMap = new FlightMap();
+    when(flightContext.getFlightId()).thenReturn("flight");
+    when(flightContext.getStairway()).thenReturn(stairway);
+    when(flightContext.getWorkingMap()).thenReturn(workingMap);
+    AtomicInteger started = new AtomicInteger();
+
+    assertFalse(
+        cloudOperationService.awaitAzureOperation(
+            flightContext,
+            "delete resource",
+            () -> Mono.fromRunnable(started::incrementAndGet),
+            Duration.ofMinutes(1)));
+    // The step is asked to re-run in case the resume is lost
+    assertNotNull(workingMap.get(JobMapKeys.RESUME_TIME.getKeyName(), Long.class));
+    verify(stairway, timeout(10000)).resume("flight");
+
+    assertTrue(
+        cloudOperationService.awaitAzureOperation(
+            flightContext,
+            "delete resource",
+            () -> Mono.fromRunnable(started::incrementAndGet),
+            Duration.ofMinutes(1)));
+    // Once it has succeeded, the operation is not started again
+    assertTrue(
+        cloudOperationService.awaitAzureOperation(
+            flightContext,
+            "delete resource",
+            () -> Mono.fromRunnable(started::incrementAndGet),
+            Duration.ofMinutes(1)));
+    assertEquals(1, started.get());
+  }
+}
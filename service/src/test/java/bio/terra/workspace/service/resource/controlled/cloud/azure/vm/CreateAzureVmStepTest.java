@@ -3,14 +3,18 @@ package bio.terra.workspace.service.resource.controlled.cloud.azure.vm;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import bio.terra.cloudres.azure.resourcemanager.compute.data.CreateVirtualMachineRequestData;
 import bio.terra.stairway.FlightContext;
 import bio.terra.stairway.FlightMap;
 import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
 import bio.terra.workspace.app.configuration.external.AzureConfiguration;
 import bio.terra.workspace.common.BaseAzureTest;
 import bio.terra.workspace.common.fixtures.ControlledResourceFixtures;
@@ -18,6 +22,7 @@ import bio.terra.workspace.common.utils.AzureVmUtils;
 import bio.terra.workspace.db.ResourceDao;
 import bio.terra.workspace.generated.model.ApiAzureVmCreationParameters;
 import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.job.JobMapKeys;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.disk.ControlledAzureDiskResource;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.ip.ControlledAzureIpResource;
 import bio.terra.workspace.service.resource.controlled.cloud.azure.network.ControlledAzureNetworkResource;
@@ -48,13 +53,16 @@ import com.azure.resourcemanager.network.models.PublicIpAddress;
 import com.azure.resourcemanager.network.models.PublicIpAddresses;
 import com.azure.resourcemanager.network.models.SecurityRuleProtocol;
 import com.azure.resourcemanager.network.models.Subnet;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
 
 @ActiveProfiles("azure")
 public class CreateAzureVmStepTest extends BaseAzureTest {
@@ -195,18 +203,25 @@ public class CreateAzureVmStepTest extends BaseAzureTest {
     // get disk mocks
     when(mockComputeManager.disks()).thenReturn(mockDisks);
     when(mockDisks.getByResourceGroup(anyString(), anyString())).thenReturn(mockDisk);
+    when(mockDisks.getByResourceGroupAsync(anyString(), anyString()))
+        .thenReturn(Mono.just(mockDisk));
 
     // get ip mocks
     when(mockComputeManager.networkManager()).thenReturn(mockNetworkManager);
     when(mockNetworkManager.publicIpAddresses()).thenReturn(mockPublicIpAddresses);
     when(mockPublicIpAddresses.getByResourceGroup(anyString(), anyString()))
         .thenReturn(mockPublicIpAddress);
+    when(mockPublicIpAddresses.getByResourceGroupAsync(anyString(), anyString()))
+        .thenReturn(Mono.just(mockPublicIpAddress));
 
     // get network mocks
     when(mockNetworkManager.networks()).thenReturn(mockNetworks);
     when(mockNetworks.getByResourceGroup(anyString(), anyString())).thenReturn(mockNetwork);
     when(mockNetworkManager.networkInterfaces()).thenReturn(mockNis);
     when(mockNis.getByResourceGroup(anyString(), anyString())).thenReturn(mockNi);
+    when(mockNetworks.getByResourceGroupAsync(anyString(), anyString()))
+        .thenReturn(Mono.just(mockNetwork));
+    when(mockNis.getByResourceGroupAsync(anyString(), anyString())).thenReturn(Mono.just(mockNi));
 
     // create network security group mocks
     when(mockNetworkManager.networkSecurityGroups()).thenReturn(mockNsgs);
@@ -264,8 +279,17 @@ public class CreateAzureVmStepTest extends BaseAzureTest {
     when(mockVmStage16.attach()).thenReturn(mockVmStage12);
     when(mockVmStage12.create(any(Context.class))).thenReturn(mockVm);
 
+    // Provisioning state mocks
+    when(mockVms.getByResourceGroup(anyString(), anyString())).thenReturn(mockVm);
+    when(mockVm.provisioningState()).thenReturn("Succeeded");
+
     // Resource dao mocks
     when(mockResourceDao.getResource(any(UUID.class), any(UUID.class))).thenReturn(mockWsmResource);
+    when(mockResourceDao.getResources(any(UUID.class), anyCollection()))
+        .thenAnswer(
+            invocation ->
+                invocation.<Collection<UUID>>getArgument(1).stream()
+                    .collect(Collectors.toMap(id -> id, id -> mockWsmResource)));
     when(mockWsmResource.castByEnum(WsmResourceType.CONTROLLED_AZURE_DISK))
         .thenReturn(mockAzureDiskResource);
     when(mockWsmResource.castByEnum(WsmResourceType.CONTROLLED_AZURE_IP))
@@ -315,7 +339,7 @@ public class CreateAzureVmStepTest extends BaseAzureTest {
     assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
 
     // Verify Azure create call was made correctly
-    verify(mockVmStage12).create(contextCaptor.capture());
+    verify(mockVmStage12).beginCreate(contextCaptor.capture());
     Context context = contextCaptor.getValue();
 
     Optional<CreateVirtualMachineRequestData> requestDataOpt =
@@ -361,7 +385,7 @@ public class CreateAzureVmStepTest extends BaseAzureTest {
             mockResourceDao);
 
     // Stub creation to throw Conflict exception.
-    when(mockVmStage12.create(any(Context.class))).thenThrow(mockException);
+    when(mockVmStage12.beginCreate(any(Context.class))).thenThrow(mockException);
 
     final StepResult stepResult = createAzureVmStep.doStep(mockFlightContext);
 
@@ -369,6 +393,53 @@ public class CreateAzureVmStepTest extends BaseAzureTest {
     assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
   }
 
+  @Test
+  public void createVm_stillProvisioning_releasesThread() throws InterruptedException {
+    final ApiAzureVmCreationParameters creationParameters =
+        ControlledResourceFixtures.getAzureVmCreationParameters();
+
+    final FlightMap creationParametersFlightMap = new FlightMap();
+    creationParametersFlightMap.put(ControlledResourceKeys.CREATION_PARAMETERS, creationParameters);
+    creationParametersFlightMap.makeImmutable();
+    when(mockFlightContext.getInputParameters()).thenReturn(creationParametersFlightMap);
+    when(mockVm.provisioningState()).thenReturn("Creating");
+
+    var createAzureVmStep =
+        new CreateAzureVmStep(
+            mockAzureConfig,
+            mockCrlService,
+            ControlledResourceFixtures.getAzureVm(creationParameters),
+            mockResourceDao);
+
+    final StepResult stepResult = createAzureVmStep.doStep(mockFlightContext);
+
+    // Verify the step waits, recording that creation started and when to check again
+    assertThat(stepResult.getStepStatus(), equalTo(StepStatus.STEP_RESULT_WAIT));
+    verify(mockVmStage12).beginCreate(any(Context.class));
+    verify(mockWorkingMap).put(eq(AzureVmHelper.WORKING_MAP_VM_POLL_START_KEY), anyLong());
+    verify(mockWorkingMap).put(eq(JobMapKeys.RESUME_TIME.getKeyName()), anyLong());
+  }
+
+  @Test
+  public void createVm_resumed_doesNotCreateAgain() throws InterruptedException {
+    final ApiAzureVmCreationParameters creationParameters =
+        ControlledResourceFixtures.getAzureVmCreationParameters();
+    when(mockWorkingMap.get(AzureVmHelper.WORKING_MAP_VM_POLL_START_KEY, Long.class))
+        .thenReturn(System.currentTimeMillis());
+
+    var createAzureVmStep =
+        new CreateAzureVmStep(
+            mockAzureConfig,
+            mockCrlService,
+            ControlledResourceFixtures.getAzureVm(creationParameters),
+            mockResourceDao);
+
+    final StepResult stepResult = createAzureVmStep.doStep(mockFlightContext);
+
+    assertThat(stepResult, equalTo(StepResult.getStepResultSuccess()));
+    verify(mockVmStage12, never()).beginCreate(any(Context.class));
+  }
+
   @Test
   public void deleteVm() throws InterruptedException {
     final ApiAzureVmCreationParameters creationParameters =
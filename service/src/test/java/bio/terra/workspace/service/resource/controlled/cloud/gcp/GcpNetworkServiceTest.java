@@ -0,0 +1,99 @@
+package bio.terra.workspace.service.resource.controlled.cloud.gcp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.cloudres.google.compute.CloudComputeCow;
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.resource.controlled.cloud.gcp.GcpNetworkService.NetworkNames;
+import com.google.api.services.compute.model.Subnetwork;
+import com.google.api.services.compute.model.SubnetworkList;
+import com.google.api.services.compute.model.Zone;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GcpNetworkServiceTest extends BaseUnitTest {
+  private static final String PROJECT_ID = "my-project";
+  private static final String ZONE = "us-west1-b";
+  private static final String REGION = "us-west1";
+
+  private CloudComputeCow mockCompute;
+  private GcpNetworkService gcpNetworkService;
+
+  @BeforeEach
+  public void setup() {
+    mockCompute = mock(CloudComputeCow.class, RETURNS_DEEP_STUBS);
+    CrlService mockCrlService = mock(CrlService.class);
+    when(mockCrlService.getCloudComputeCow()).thenReturn(mockCompute);
+    CacheConfiguration cacheConfiguration = new CacheConfiguration();
+    cacheConfiguration.setGcpNetworkMaxSize(100);
+    cacheConfiguration.setGcpNetworkTtl(Duration.ofHours(1));
+    gcpNetworkService = new GcpNetworkService(mockCrlService, cacheConfiguration);
+  }
+
+  @Test
+  public void getRegionForZone_cachesLookup() throws Exception {
+    when(mockCompute.zones().get(PROJECT_ID, ZONE).execute())
+        .thenReturn(
+            new Zone()
+                .setRegion("https://www.googleapis.com/compute/v1/projects/p/regions/" + REGION));
+
+    assertEquals(REGION, gcpNetworkService.getRegionForZone(PROJECT_ID, ZONE));
+    assertEquals(REGION, gcpNetworkService.getRegionForZone(PROJECT_ID, ZONE));
+
+    verify(mockCompute.zones().get(PROJECT_ID, ZONE), times(1)).execute();
+  }
+
+  @Test
+  public void getRegionForZone_failure_isRethrownAndNotCached() throws Exception {
+    when(mockCompute.zones().get(PROJECT_ID, ZONE).execute())
+        .thenThrow(new IOException("unreachable"))
+        .thenReturn(
+            new Zone()
+                .setRegion("https://www.googleapis.com/compute/v1/projects/p/regions/" + REGION));
+
+    assertThrows(IOException.class, () -> gcpNetworkService.getRegionForZone(PROJECT_ID, ZONE));
+    assertEquals(REGION, gcpNetworkService.getRegionForZone(PROJECT_ID, ZONE));
+
+    verify(mockCompute.zones().get(PROJECT_ID, ZONE), times(2)).execute();
+  }
+
+  @Test
+  public void getNetworkNames_cachesFirstSubnetwork() throws Exception {
+    Subnetwork subnetwork =
+        new Subnetwork()
+            .setName("subnet")
+            .setNetwork("https://www.googleapis.com/compute/v1/projects/p/global/networks/net");
+    when(mockCompute.subnetworks().list(PROJECT_ID, REGION).execute())
+        .thenReturn(new SubnetworkList().setItems(List.of(subnetwork)));
+
+    NetworkNames networkNames = gcpNetworkService.getNetworkNames(PROJECT_ID, REGION).get();
+    assertEquals("net", networkNames.getNetworkName());
+    assertEquals("subnet", networkNames.getSubnetworkName());
+    gcpNetworkService.getNetworkNames(PROJECT_ID, REGION);
+
+    verify(mockCompute.subnetworks().list(PROJECT_ID, REGION), times(1)).execute();
+  }
+
+  @Test
+  public void getNetworkNames_noSubnetworks_isEmptyAndNotCached() throws Exception {
+    when(mockCompute.subnetworks().list(PROJECT_ID, REGION).execute())
+        .thenReturn(new SubnetworkList().setItems(List.of()));
+
+    assertTrue(gcpNetworkService.getNetworkNames(PROJECT_ID, REGION).isEmpty());
+    assertTrue(gcpNetworkService.getNetworkNames(PROJECT_ID, REGION).isEmpty());
+
+    verify(mockCompute.subnetworks().list(PROJECT_ID, REGION), times(2)).execute();
+  }
+}
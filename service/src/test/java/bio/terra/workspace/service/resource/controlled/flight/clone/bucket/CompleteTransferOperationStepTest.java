@@ -0,0 +1,125 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import static bio.terra.workspace.service.resource.controlled.flight.clone.bucket.GcsBucketCloneTestFixtures.CONTROL_PLANE_PROJECT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.StepResult;
+import bio.terra.stairway.StepStatus;
+import bio.terra.stairway.exception.RetryException;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.generated.model.ApiClonedControlledGcpGcsBucket;
+import bio.terra.workspace.service.job.JobMapKeys;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import com.google.api.services.storagetransfer.v1.Storagetransfer;
+import com.google.api.services.storagetransfer.v1.model.Operation;
+import com.google.api.services.storagetransfer.v1.model.TransferJob;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+public class CompleteTransferOperationStepTest extends BaseUnitTest {
+
+  private static final String TRANSFER_JOB_NAME = "transferJobs/wsm-asdf-jkl";
+  private static final String OPERATION_NAME = "transferOperations/wsm-asdf-jkl-1";
+  @Mock Storagetransfer mockStoragetransfer;
+  @Mock Storagetransfer.TransferJobs mockTransferJobs;
+  @Mock Storagetransfer.TransferJobs.Get mockTransferJobsGet;
+  @Mock Storagetransfer.TransferOperations mockTransferOperations;
+  @Mock Storagetransfer.TransferOperations.Get mockTransferOperationsGet;
+  private CompleteTransferOperationStep completeTransferOperationStep;
+  private FlightMap workingMap;
+  private FlightContext mockFlightContext;
+
+  @BeforeEach
+  @SuppressFBWarnings(
+      value = "RV",
+      justification = "False positive for Mockito doReturn() statement")
+  public void setup() throws IOException {
+    completeTransferOperationStep = new CompleteTransferOperationStep(mockStoragetransfer);
+    doReturn(mockTransferJobs).when(mockStoragetransfer).transferJobs();
+    doReturn(mockTransferJobsGet).when(mockTransferJobs).get(anyString(), anyString());
+    doReturn(mockTransferOperations).when(mockStoragetransfer).transferOperations();
+    doReturn(mockTransferOperationsGet).when(mockTransferOperations).get(anyString());
+
+    workingMap = new FlightMap();
+    workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_JOB_NAME, TRANSFER_JOB_NAME);
+    workingMap.put(ControlledResourceKeys.CONTROL_PLANE_PROJECT_ID, CONTROL_PLANE_PROJECT_ID);
+    workingMap.put(
+        ControlledResourceKeys.CLONE_DEFINITION_RESULT, new ApiClonedControlledGcpGcsBucket());
+    mockFlightContext = mock(FlightContext.class);
+    doReturn(workingMap).when(mockFlightContext).getWorkingMap();
+  }
+
+  @Test
+  public void testPollIntervalBacksOffToCap() {
+    assertEquals(Duration.ofSeconds(1), CompleteTransferOperationStep.getPollInterval(0));
+    assertEquals(Duration.ofSeconds(2), CompleteTransferOperationStep.getPollInterval(1));
+    assertEquals(Duration.ofSeconds(32), CompleteTransferOperationStep.getPollInterval(5));
+    assertEquals(Duration.ofSeconds(60), CompleteTransferOperationStep.getPollInterval(6));
+    assertEquals(Duration.ofSeconds(60), CompleteTransferOperationStep.getPollInterval(1000));
+  }
+
+  @Test
+  public void testCompletedOperationReportsCounters()
+      throws InterruptedException, RetryException, IOException {
+    doReturn(new TransferJob().setLatestOperationName(OPERATION_NAME))
+        .when(mockTransferJobsGet)
+        .execute();
+    doReturn(
+            new Operation()
+                .setName(OPERATION_NAME)
+                .setDone(true)
+                .setMetadata(
+                    Map.of(
+                        "counters",
+                        Map.of("bytesCopiedToSink", "4096", "objectsCopiedToSink", "3"))))
+        .when(mockTransferOperationsGet)
+        .execute();
+
+    final StepResult stepResult = completeTransferOperationStep.doStep(mockFlightContext);
+
+    assertEquals(StepStatus.STEP_RESULT_SUCCESS, stepResult.getStepStatus());
+    final ApiClonedControlledGcpGcsBucket response =
+        workingMap.get(JobMapKeys.RESPONSE.getKeyName(), ApiClonedControlledGcpGcsBucket.class);
+    assertEquals(Long.valueOf(4096), response.getBytesCopied());
+    assertEquals(Long.valueOf(3), response.getObjectsCopied());
+  }
+
+  @Test
+  public void testLongRunningOperationReleasesThread()
+      throws InterruptedException, RetryException, IOException {
+    // Past the inline checks, the step should wait rather than sleep
+    workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_OPERATION_NAME, OPERATION_NAME);
+    workingMap.put(ControlledResourceKeys.STORAGE_TRANSFER_POLL_ATTEMPTS, 5);
+    doReturn(new Operation().setName(OPERATION_NAME).setDone(false))
+        .when(mockTransferOperationsGet)
+        .execute();
+
+    final StepResult stepResult = completeTransferOperationStep.doStep(mockFlightContext);
+
+    assertEquals(StepStatus.STEP_RESULT_WAIT, stepResult.getStepStatus());
+    assertEquals(
+        Integer.valueOf(6),
+        workingMap.get(ControlledResourceKeys.STORAGE_TRANSFER_POLL_ATTEMPTS, Integer.class));
+    assertNotNull(workingMap.get(JobMapKeys.RESUME_TIME.getKeyName(), Long.class));
+    verify(mockTransferJobsGet, never()).execute();
+  }
+
+  @Test
+  public void testMissingCountersAreZero() {
+    assertEquals(
+        0L, CompleteTransferOperationStep.getCounter(new Operation(), "bytesCopiedToSink"));
+  }
+}
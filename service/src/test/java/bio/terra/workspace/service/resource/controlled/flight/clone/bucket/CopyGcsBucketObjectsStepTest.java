@@ -0,0 +1,140 @@
+package bio.terra.workspace.service.resource.controlled.flight.clone.bucket;
+
+import static bio.terra.workspace.service.resource.controlled.flight.clone.bucket.GcsBucketCloneTestFixtures.DESTINATION_BUCKET_NAME;
+import static bio.terra.workspace.service.resource.controlled.flight.clone.bucket.GcsBucketCloneTestFixtures.SOURCE_BUCKET_NAME;
+import static bio.terra.workspace.service.resource.controlled.flight.clone.bucket.GcsBucketCloneTestFixtures.SOURCE_BUCKET_RESOURCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import bio.terra.stairway.FlightContext;
+import bio.terra.stairway.FlightMap;
+import bio.terra.stairway.StepResult;
+import bio.terra.workspace.app.configuration.external.BucketCloneConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.crl.CrlService;
+import bio.terra.workspace.service.workspace.flight.WorkspaceFlightMapKeys.ControlledResourceKeys;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.storage.Storage;
+import com.google.api.services.storage.model.Objects;
+import com.google.api.services.storage.model.RewriteResponse;
+import com.google.api.services.storage.model.StorageObject;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+public class CopyGcsBucketObjectsStepTest extends BaseUnitTest {
+
+  private Storage mockStorage;
+  private FlightMap workingMap;
+  private FlightContext mockFlightContext;
+  private CopyGcsBucketObjectsStep copyGcsBucketObjectsStep;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    mockStorage = mock(Storage.class, RETURNS_DEEP_STUBS);
+    CrlService mockCrlService = mock(CrlService.class);
+    doReturn(mockStorage).when(mockCrlService).createWsmSaNakedStorageClient();
+    when(mockStorage
+            .objects()
+            .rewrite(
+                eq(SOURCE_BUCKET_NAME),
+                anyString(),
+                eq(DESTINATION_BUCKET_NAME),
+                anyString(),
+                isNull())
+            .execute())
+        .thenReturn(new RewriteResponse().setDone(true));
+
+    workingMap = new FlightMap();
+    workingMap.put(ControlledResourceKeys.DESTINATION_BUCKET_NAME, DESTINATION_BUCKET_NAME);
+    mockFlightContext = mock(FlightContext.class);
+    doReturn(workingMap).when(mockFlightContext).getWorkingMap();
+
+    BucketCloneConfiguration configuration = new BucketCloneConfiguration();
+    configuration.setDirectCopyMaxObjects(2);
+    configuration.setDirectCopyMaxSize(DataSize.ofMegabytes(1));
+    configuration.setDirectCopyThreads(2);
+    copyGcsBucketObjectsStep =
+        new CopyGcsBucketObjectsStep(SOURCE_BUCKET_RESOURCE, mockCrlService, configuration);
+  }
+
+  @Test
+  public void smallBucket_copiesObjectsDirectly() throws Exception {
+    givenSourceObjects(object("a", 10), object("b", 20));
+
+    StepResult stepResult = copyGcsBucketObjectsStep.doStep(mockFlightContext);
+
+    assertEquals(StepResult.getStepResultSuccess(), stepResult);
+    assertTrue(workingMap.get(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, Boolean.class));
+    verify(mockStorage.objects())
+        .rewrite(SOURCE_BUCKET_NAME, "a", DESTINATION_BUCKET_NAME, "a", null);
+    verify(mockStorage.objects())
+        .rewrite(SOURCE_BUCKET_NAME, "b", DESTINATION_BUCKET_NAME, "b", null);
+  }
+
+  @Test
+  public void tooManyObjects_leavesCopyToTransferJob() throws Exception {
+    givenSourceObjects(object("a", 10), object("b", 20), object("c", 30));
+
+    StepResult stepResult = copyGcsBucketObjectsStep.doStep(mockFlightContext);
+
+    assertEquals(StepResult.getStepResultSuccess(), stepResult);
+    assertFalse(workingMap.get(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, Boolean.class));
+    verify(mockStorage.objects(), never())
+        .rewrite(anyString(), anyString(), anyString(), anyString(), any());
+  }
+
+  @Test
+  public void tooManyBytes_leavesCopyToTransferJob() throws Exception {
+    givenSourceObjects(object("a", DataSize.ofMegabytes(2).toBytes()));
+
+    copyGcsBucketObjectsStep.doStep(mockFlightContext);
+
+    assertFalse(workingMap.get(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, Boolean.class));
+  }
+
+  @Test
+  public void modifiedSince_copiesOnlyModifiedObjects() throws Exception {
+    workingMap.put(ControlledResourceKeys.BUCKET_SYNC_MODIFIED_SINCE, 2000L);
+    givenSourceObjects(
+        object("a", 10).setUpdated(new DateTime(1000L)),
+        object("b", 20).setUpdated(new DateTime(2000L)));
+
+    copyGcsBucketObjectsStep.doStep(mockFlightContext);
+
+    assertTrue(workingMap.get(ControlledResourceKeys.BUCKET_OBJECTS_COPIED, Boolean.class));
+    verify(mockStorage.objects(), never())
+        .rewrite(SOURCE_BUCKET_NAME, "a", DESTINATION_BUCKET_NAME, "a", null);
+    verify(mockStorage.objects())
+        .rewrite(SOURCE_BUCKET_NAME, "b", DESTINATION_BUCKET_NAME, "b", null);
+  }
+
+  private void givenSourceObjects(StorageObject... objects) throws Exception {
+    when(mockStorage
+            .objects()
+            .list(SOURCE_BUCKET_NAME)
+            .setFields(anyString())
+            .setMaxResults(anyLong())
+            .setPageToken(any())
+            .execute())
+        .thenReturn(new Objects().setItems(List.of(objects)));
+  }
+
+  private static StorageObject object(String name, long size) {
+    return new StorageObject().setName(name).setSize(BigInteger.valueOf(size));
+  }
+}
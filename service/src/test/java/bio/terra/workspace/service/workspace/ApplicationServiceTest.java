@@ -107,6 +107,7 @@ public class ApplicationServiceTest extends BaseUnitTest {
 
   @Autowired ApplicationDao appDao;
   @Autowired WsmApplicationService appService;
+  @Autowired WsmApplicationRegistry appRegistry;
   @Autowired WorkspaceService workspaceService;
   @Autowired JobService jobService;
   @Autowired RawDaoTestFixture rawDaoTestFixture;
@@ -293,6 +294,21 @@ public class ApplicationServiceTest extends BaseUnitTest {
     return resourceId;
   }
 
+  @Test
+  public void applicationRegistryTest() {
+    // processApp in setup rebuilds the registry, so the configured apps are visible
+    assertEquals(LEO_ID, appRegistry.getApplication(LEO_ID).getApplicationId());
+    // Email lookups are case-insensitive
+    assertEquals(
+        CARMEN_ID,
+        appRegistry
+            .getApplicationByEmail("Carmen@terra-dev.iam.gserviceaccount.com")
+            .getApplicationId());
+    assertThrows(
+        ApplicationNotFoundException.class,
+        () -> appRegistry.getApplicationByEmail("nobody@terra-dev.iam.gserviceaccount.com"));
+  }
+
   private void enumerateCheck(boolean leoEnabled, boolean carmenEnabled, boolean normEnabled) {
     List<WsmWorkspaceApplication> wsmAppList =
         appService.listWorkspaceApplications(USER_REQUEST, workspaceUuid, 0, 10);
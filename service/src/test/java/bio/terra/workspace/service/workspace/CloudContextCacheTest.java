@@ -0,0 +1,76 @@
+package bio.terra.workspace.service.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import bio.terra.workspace.app.configuration.external.CacheConfiguration;
+import bio.terra.workspace.common.BaseUnitTest;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CloudContextCacheTest extends BaseUnitTest {
+  private final UUID workspaceUuid = UUID.randomUUID();
+  private final AtomicInteger loads = new AtomicInteger();
+  private CloudContextCache<String> cache;
+
+  @BeforeEach
+  public void setup() {
+    CacheConfiguration cacheConfiguration = new CacheConfiguration();
+    cacheConfiguration.setCloudContextMaxSize(100);
+    cacheConfiguration.setCloudContextTtl(Duration.ofMinutes(5));
+    cache = new CloudContextCache<>(cacheConfiguration);
+  }
+
+  @Test
+  public void get_loadsOncePerWorkspace() {
+    assertEquals(Optional.of("context"), cache.get(workspaceUuid, loading("context")));
+    assertEquals(Optional.of("context"), cache.get(workspaceUuid, loading("other")));
+    assertEquals(1, loads.get());
+
+    cache.invalidate(workspaceUuid);
+    assertEquals(Optional.of("other"), cache.get(workspaceUuid, loading("other")));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void get_missingContextIsNotCached() {
+    assertEquals(Optional.empty(), cache.get(workspaceUuid, Optional::empty));
+    assertEquals(Optional.of("context"), cache.get(workspaceUuid, loading("context")));
+  }
+
+  @Test
+  public void get_invalidatedDuringLoad_isNotCached() {
+    Optional<String> stale =
+        cache.get(
+            workspaceUuid,
+            () -> {
+              // The context changes and is invalidated after we read it
+              cache.invalidate(workspaceUuid);
+              return Optional.of("stale");
+            });
+    assertEquals(Optional.of("stale"), stale);
+    assertEquals(Optional.of("fresh"), cache.get(workspaceUuid, loading("fresh")));
+
+    cache.invalidate(workspaceUuid);
+    Optional<String> flushed =
+        cache.get(
+            workspaceUuid,
+            () -> {
+              cache.invalidateAll();
+              return Optional.of("stale");
+            });
+    assertEquals(Optional.of("stale"), flushed);
+    assertEquals(Optional.of("fresh"), cache.get(workspaceUuid, loading("fresh")));
+  }
+
+  private Supplier<Optional<String>> loading(String context) {
+    return () -> {
+      loads.incrementAndGet();
+      return Optional.of(context);
+    };
+  }
+}
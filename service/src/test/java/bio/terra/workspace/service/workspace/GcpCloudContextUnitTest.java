@@ -148,5 +148,39 @@ public class GcpCloudContextUnitTest extends BaseUnitTest {
     assertEquals(updatedContext.getSamPolicyWriter().orElse(null), POLICY_WRITER);
     assertEquals(updatedContext.getSamPolicyReader().orElse(null), POLICY_READER);
     assertEquals(updatedContext.getSamPolicyApplication().orElse(null), POLICY_APPLICATION);
+
+    // The upgrade must not leave the V1 context in the cache
+    GcpCloudContext rereadContext =
+        gcpCloudContextService.getGcpCloudContext(workspaceUuid).orElseThrow();
+    assertEquals(rereadContext.getSamPolicyOwner().orElse(null), POLICY_OWNER);
+  }
+
+  @Test
+  public void cacheInvalidatedOnDeleteTest() {
+    UUID workspaceUuid = UUID.randomUUID();
+    var workspace =
+        new Workspace(
+            workspaceUuid,
+            "cloud-context-cache-user-facing-id",
+            "gcpCloudContextCacheTest",
+            "cloud context description",
+            new SpendProfileId("spend-profile"),
+            Collections.emptyMap(),
+            WorkspaceStage.MC_WORKSPACE);
+    workspaceDao.createWorkspace(workspace);
+
+    // A context that is still being created is not visible and not cached
+    final String flightId = UUID.randomUUID().toString();
+    gcpCloudContextService.createGcpCloudContextStart(workspaceUuid, flightId);
+    assertTrue(gcpCloudContextService.getGcpCloudContext(workspaceUuid).isEmpty());
+
+    gcpCloudContextService.createGcpCloudContextFinish(
+        workspaceUuid, GcpCloudContext.deserialize(V1_JSON), flightId);
+    assertEquals(GCP_PROJECT_ID, gcpCloudContextService.getRequiredGcpProject(workspaceUuid));
+    // Second read is served from the cache
+    assertEquals(GCP_PROJECT_ID, gcpCloudContextService.getRequiredGcpProject(workspaceUuid));
+
+    gcpCloudContextService.deleteGcpCloudContext(workspaceUuid);
+    assertTrue(gcpCloudContextService.getGcpCloudContext(workspaceUuid).isEmpty());
   }
 }
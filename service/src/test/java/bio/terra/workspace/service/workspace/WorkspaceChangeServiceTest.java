@@ -0,0 +1,69 @@
+package bio.terra.workspace.service.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.db.WorkspaceChangeDao;
+import bio.terra.workspace.db.model.DbWorkspaceChange;
+import bio.terra.workspace.service.workspace.model.WorkspaceChangeType;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class WorkspaceChangeServiceTest extends BaseUnitTest {
+  @Autowired WorkspaceChangeService workspaceChangeService;
+  @Autowired NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Test
+  public void awaitChanges_returnsChangesAfterSequenceInOrder() throws Exception {
+    UUID workspaceUuid = UUID.randomUUID();
+    assertEquals(0, workspaceChangeService.getLastChangeId(workspaceUuid));
+    String resourceId = UUID.randomUUID().toString();
+    WorkspaceChangeDao.recordChange(
+        jdbcTemplate, workspaceUuid, WorkspaceChangeType.WORKSPACE_CREATED, null);
+    WorkspaceChangeDao.recordChange(
+        jdbcTemplate, workspaceUuid, WorkspaceChangeType.RESOURCE_CREATED, resourceId);
+
+    List<DbWorkspaceChange> all =
+        workspaceChangeService.awaitChanges(workspaceUuid, 0, 10, null).get(5, TimeUnit.SECONDS);
+    assertEquals(2, all.size());
+    assertEquals(WorkspaceChangeType.WORKSPACE_CREATED, all.get(0).getChangeType());
+    assertEquals(resourceId, all.get(1).getObjectId().orElseThrow());
+    assertEquals(all.get(1).getChangeId(), workspaceChangeService.getLastChangeId(workspaceUuid));
+
+    List<DbWorkspaceChange> rest =
+        workspaceChangeService
+            .awaitChanges(workspaceUuid, all.get(0).getChangeId(), 10, null)
+            .get(5, TimeUnit.SECONDS);
+    assertEquals(1, rest.size());
+    assertEquals(WorkspaceChangeType.RESOURCE_CREATED, rest.get(0).getChangeType());
+  }
+
+  @Test
+  public void awaitChanges_waiting_completesWhenChangeRecorded() throws Exception {
+    UUID workspaceUuid = UUID.randomUUID();
+    CompletableFuture<List<DbWorkspaceChange>> future =
+        workspaceChangeService.awaitChanges(workspaceUuid, 0, 10, 30);
+    assertFalse(future.isDone());
+
+    WorkspaceChangeDao.recordChange(
+        jdbcTemplate, workspaceUuid, WorkspaceChangeType.WORKSPACE_UPDATED, null);
+
+    List<DbWorkspaceChange> changes = future.get(20, TimeUnit.SECONDS);
+    assertEquals(1, changes.size());
+    assertEquals(WorkspaceChangeType.WORKSPACE_UPDATED, changes.get(0).getChangeType());
+  }
+
+  @Test
+  public void awaitChanges_noChanges_returnsEmptyWhenWaitExpires() throws Exception {
+    List<DbWorkspaceChange> changes =
+        workspaceChangeService.awaitChanges(UUID.randomUUID(), 0, 10, 1).get(10, TimeUnit.SECONDS);
+    assertTrue(changes.isEmpty());
+  }
+}
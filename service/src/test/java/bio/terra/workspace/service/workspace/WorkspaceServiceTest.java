@@ -44,6 +44,7 @@ import bio.terra.workspace.service.iam.model.SamConstants.SamSpendProfileAction;
 import bio.terra.workspace.service.iam.model.SamConstants.SamWorkspaceAction;
 import bio.terra.workspace.service.job.JobService;
 import bio.terra.workspace.service.job.JobService.JobResultOrException;
+import bio.terra.workspace.service.job.exception.InvalidJobIdException;
 import bio.terra.workspace.service.job.exception.InvalidResultStateException;
 import bio.terra.workspace.service.resource.controlled.ControlledResourceService;
 import bio.terra.workspace.service.resource.controlled.cloud.gcp.gcsbucket.ControlledGcsBucketResource;
@@ -61,6 +62,7 @@ import bio.terra.workspace.service.spendprofile.SpendConnectedTestUtils;
 import bio.terra.workspace.service.spendprofile.SpendProfileId;
 import bio.terra.workspace.service.workspace.exceptions.DuplicateUserFacingIdException;
 import bio.terra.workspace.service.workspace.exceptions.DuplicateWorkspaceException;
+import bio.terra.workspace.service.workspace.exceptions.MissingSpendProfileException;
 import bio.terra.workspace.service.workspace.exceptions.StageDisabledException;
 import bio.terra.workspace.service.workspace.flight.CheckSamWorkspaceAuthzStep;
 import bio.terra.workspace.service.workspace.flight.CreateWorkspaceAuthzStep;
@@ -612,6 +614,41 @@ class WorkspaceServiceTest extends BaseConnectedTest {
                 request.getWorkspaceId(), jobId, USER_REQUEST, "/fake/value"));
   }
 
+  @Test
+  void createWorkspaceWithGcpCloudContextWithoutSpendProfileThrows() {
+    Workspace request = defaultRequestBuilder(UUID.randomUUID()).build();
+    String jobId = UUID.randomUUID().toString();
+
+    assertThrows(
+        MissingSpendProfileException.class,
+        () ->
+            workspaceService.createWorkspaceWithGcpCloudContext(
+                request, USER_REQUEST, jobId, "/fake/value"));
+    // The checks run before the workspace is created, so nothing is left behind
+    assertThrows(
+        WorkspaceNotFoundException.class,
+        () -> workspaceService.getWorkspace(request.getWorkspaceId(), USER_REQUEST));
+  }
+
+  @Test
+  void createWorkspaceWithGcpCloudContextSubmitFailureDeletesWorkspace() {
+    Workspace request =
+        defaultRequestBuilder(UUID.randomUUID())
+            .spendProfileId(new SpendProfileId(SPEND_PROFILE_ID))
+            .build();
+
+    // An empty job id is only rejected when the cloud context job is built, after the workspace
+    // has been created
+    assertThrows(
+        InvalidJobIdException.class,
+        () ->
+            workspaceService.createWorkspaceWithGcpCloudContext(
+                request, USER_REQUEST, "", "/fake/value"));
+    assertThrows(
+        WorkspaceNotFoundException.class,
+        () -> workspaceService.getWorkspace(request.getWorkspaceId(), USER_REQUEST));
+  }
+
   @Test
   public void cloneGcpWorkspace() {
     // Create a workspace
@@ -0,0 +1,52 @@
+package bio.terra.workspace.service.workspace.flight;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import bio.terra.workspace.common.BaseUnitTest;
+import bio.terra.workspace.service.resource.controlled.model.ControlledResource;
+import bio.terra.workspace.service.resource.model.WsmResourceType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class DeleteControlledAzureResourcesStepTest extends BaseUnitTest {
+
+  private static ControlledResource makeResource(WsmResourceType type) {
+    ControlledResource resource = mock(ControlledResource.class);
+    when(resource.getResourceType()).thenReturn(type);
+    return resource;
+  }
+
+  @Test
+  public void deletionLevels_usersBeforeWhatTheyUse() {
+    ControlledResource vm = makeResource(WsmResourceType.CONTROLLED_AZURE_VM);
+    ControlledResource disk = makeResource(WsmResourceType.CONTROLLED_AZURE_DISK);
+    ControlledResource network = makeResource(WsmResourceType.CONTROLLED_AZURE_NETWORK);
+    ControlledResource container = makeResource(WsmResourceType.CONTROLLED_AZURE_STORAGE_CONTAINER);
+    ControlledResource account = makeResource(WsmResourceType.CONTROLLED_AZURE_STORAGE_ACCOUNT);
+    ControlledResource relay = makeResource(WsmResourceType.CONTROLLED_AZURE_RELAY_NAMESPACE);
+
+    List<List<ControlledResource>> levels =
+        DeleteControlledAzureResourcesStep.deletionLevels(
+            List.of(disk, account, vm, relay, network, container));
+
+    assertEquals(2, levels.size());
+    assertThat(levels.get(0), containsInAnyOrder(vm, container, relay));
+    assertThat(levels.get(1), containsInAnyOrder(disk, network, account));
+  }
+
+  @Test
+  public void deletionLevels_noUsersIsOneLevel() {
+    ControlledResource disk = makeResource(WsmResourceType.CONTROLLED_AZURE_DISK);
+    ControlledResource account = makeResource(WsmResourceType.CONTROLLED_AZURE_STORAGE_ACCOUNT);
+
+    List<List<ControlledResource>> levels =
+        DeleteControlledAzureResourcesStep.deletionLevels(List.of(disk, account));
+
+    assertEquals(1, levels.size());
+    assertThat(levels.get(0), containsInAnyOrder(disk, account));
+  }
+}